@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.rest.api.model.CategoryEntity;
+import io.gravitee.rest.api.model.MemberEntity;
+import io.gravitee.rest.api.model.MembershipMemberType;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.RoleEntity;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.service.CategoryService;
+import io.gravitee.rest.api.service.GroupService;
+import io.gravitee.rest.api.service.MembershipService;
+import io.gravitee.rest.api.service.ParameterService;
+import io.gravitee.rest.api.service.RoleService;
+import io.gravitee.rest.api.service.UserService;
+import io.gravitee.rest.api.service.WorkflowService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Conversion of the repository APIs into {@link ApiEntity}, as done by every API list of the console and the portal:
+ * primary owners resolution, definition parsing and categories mapping.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Thread)
+public class ApiConvertBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    private int size;
+
+    @Mock(stubOnly = true)
+    private ApiRepository apiRepository;
+
+    @Mock(stubOnly = true)
+    private RoleService roleService;
+
+    @Mock(stubOnly = true)
+    private MembershipService membershipService;
+
+    @Mock(stubOnly = true)
+    private UserService userService;
+
+    @Mock(stubOnly = true)
+    private GroupService groupService;
+
+    @Mock(stubOnly = true)
+    private CategoryService categoryService;
+
+    @Mock(stubOnly = true)
+    private ParameterService parameterService;
+
+    @Mock(stubOnly = true)
+    private WorkflowService workflowService;
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Setup
+    public void setup() throws TechnicalException {
+        MockitoAnnotations.openMocks(this);
+        Fixtures.inject(apiService, "objectMapper", new GraviteeMapper());
+        GraviteeContext.setCurrentEnvironment(Fixtures.ENVIRONMENT);
+        GraviteeContext.setCurrentOrganization(Fixtures.ORGANIZATION);
+
+        final List<Api> apis = Fixtures.apis(size);
+        when(apiRepository.search(any(ApiCriteria.class))).thenReturn(apis);
+
+        final RoleEntity primaryOwnerRole = new RoleEntity();
+        primaryOwnerRole.setId("API_PRIMARY_OWNER");
+        primaryOwnerRole.setName("PRIMARY_OWNER");
+        primaryOwnerRole.setScope(RoleScope.API);
+        when(roleService.findPrimaryOwnerRoleByOrganization(anyString(), eq(RoleScope.API))).thenReturn(primaryOwnerRole);
+
+        final Set<MemberEntity> primaryOwners = new HashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            MemberEntity member = new MemberEntity();
+            member.setId(Fixtures.primaryOwnerId(i));
+            member.setReferenceType(MembershipReferenceType.API);
+            member.setReferenceId(Fixtures.apiId(i));
+            member.setType(MembershipMemberType.USER);
+            primaryOwners.add(member);
+        }
+        when(membershipService.getMembersByReferencesAndRole(eq(MembershipReferenceType.API), anyList(), eq(primaryOwnerRole.getId())))
+            .thenReturn(primaryOwners);
+
+        final Set<UserEntity> users = new HashSet<>(Fixtures.PRIMARY_OWNERS);
+        for (int i = 0; i < Fixtures.PRIMARY_OWNERS; i++) {
+            UserEntity user = new UserEntity();
+            user.setId(Fixtures.primaryOwnerId(i));
+            user.setFirstname("John");
+            user.setLastname("Doe " + i);
+            user.setEmail("john.doe." + i + "@gravitee.io");
+            users.add(user);
+        }
+        when(userService.findByIds(anyList())).thenReturn(users);
+
+        final List<CategoryEntity> categories = new ArrayList<>(Fixtures.CATEGORIES);
+        for (int i = 0; i < Fixtures.CATEGORIES; i++) {
+            CategoryEntity category = new CategoryEntity();
+            category.setId(Fixtures.categoryId(i));
+            category.setKey("key-" + i);
+            category.setName("Category " + i);
+            categories.add(category);
+        }
+        when(categoryService.findAll()).thenReturn(categories);
+
+        final Collection<ApiEntity> converted = search();
+        if (converted.size() != size || converted.iterator().next().getProxy() == null) {
+            throw new IllegalStateException("The API fixtures are not converted as expected");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        GraviteeContext.cleanContext();
+    }
+
+    @Benchmark
+    public Collection<ApiEntity> search() {
+        return apiService.search(new ApiQuery());
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.rest.api.model.*;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.*;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.jackson.filter.ApiPermissionFilter;
+import io.gravitee.rest.api.service.jackson.ser.api.ApiCompositeSerializer;
+import io.gravitee.rest.api.service.jackson.ser.api.ApiSerializer;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Export of an API definition, as done by the console export and by the API duplication, for each of the export
+ * versions. The members, pages, plans and metadata are all part of the export.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Thread)
+public class ApiExportBenchmark {
+
+    @Param({ "default", "1.15", "1.20", "1.25", "3.0", "3.7" })
+    private String exportVersion;
+
+    @Mock(stubOnly = true)
+    private ApplicationContext applicationContext;
+
+    @Mock(stubOnly = true)
+    private GroupService groupService;
+
+    @Mock(stubOnly = true)
+    private MembershipService membershipService;
+
+    @Mock(stubOnly = true)
+    private UserService userService;
+
+    @Mock(stubOnly = true)
+    private PageService pageService;
+
+    @Mock(stubOnly = true)
+    private MediaService mediaService;
+
+    @Mock(stubOnly = true)
+    private PlanService planService;
+
+    @Mock(stubOnly = true)
+    private ApiMetadataService apiMetadataService;
+
+    private ObjectMapper objectMapper;
+
+    private ApiEntity apiEntity;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        MockitoAnnotations.openMocks(this);
+        GraviteeContext.setCurrentEnvironment(Fixtures.ENVIRONMENT);
+        GraviteeContext.setCurrentOrganization(Fixtures.ORGANIZATION);
+
+        when(applicationContext.getBean(GroupService.class)).thenReturn(groupService);
+        when(applicationContext.getBean(MembershipService.class)).thenReturn(membershipService);
+        when(applicationContext.getBean(UserService.class)).thenReturn(userService);
+        when(applicationContext.getBean(PageService.class)).thenReturn(pageService);
+        when(applicationContext.getBean(MediaService.class)).thenReturn(mediaService);
+        when(applicationContext.getBean(PlanService.class)).thenReturn(planService);
+        when(applicationContext.getBean(ApiMetadataService.class)).thenReturn(apiMetadataService);
+
+        // same mapper as the one of the service configuration
+        final ApiCompositeSerializer apiSerializer = new ApiCompositeSerializer();
+        Fixtures.inject(apiSerializer, "applicationContext", applicationContext);
+        apiSerializer.afterPropertiesSet();
+        objectMapper = new GraviteeMapper();
+        objectMapper.setFilterProvider(
+            new SimpleFilterProvider(Collections.singletonMap("apiMembershipTypeFilter", new ApiPermissionFilter()))
+        );
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ApiEntity.class, apiSerializer);
+        objectMapper.registerModule(module);
+
+        apiEntity = Fixtures.apiEntity(0);
+        apiEntity.setGroups(Collections.singleton("group-0"));
+
+        GroupEntity group = new GroupEntity();
+        group.setId("group-0");
+        group.setName("Group 0");
+        when(groupService.findByIds(apiEntity.getGroups())).thenReturn(Collections.singleton(group));
+
+        final Set<MemberEntity> members = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            RoleEntity role = new RoleEntity();
+            role.setId(i == 0 ? "API_PRIMARY_OWNER" : "API_USER");
+            role.setName(i == 0 ? "PRIMARY_OWNER" : "USER");
+            MemberEntity member = new MemberEntity();
+            member.setId(Fixtures.primaryOwnerId(i));
+            member.setType(MembershipMemberType.USER);
+            member.setRoles(Collections.singletonList(role));
+            members.add(member);
+
+            UserEntity user = new UserEntity();
+            user.setId(member.getId());
+            user.setSource("gravitee");
+            user.setSourceId(member.getId() + "@gravitee.io");
+            when(userService.findById(member.getId())).thenReturn(user);
+        }
+        when(membershipService.getMembersByReference(MembershipReferenceType.API, apiEntity.getId())).thenReturn(members);
+
+        final List<PageEntity> pages = new ArrayList<>();
+        PageEntity folder = page("folder", PageType.FOLDER, null, null);
+        pages.add(folder);
+        for (int i = 0; i < 5; i++) {
+            pages.add(
+                page("markdown-" + i, PageType.MARKDOWN, folder.getId(), "# Page " + i + "\n\nRead the doc of " + apiEntity.getName())
+            );
+        }
+        pages.add(page("openapi", PageType.SWAGGER, folder.getId(), Fixtures.resource("openapi.json")));
+        when(pageService.search(any(), anyBoolean(), anyString())).thenReturn(pages);
+        when(mediaService.findAllByApiId(apiEntity.getId())).thenReturn(Collections.emptyList());
+
+        final Set<PlanEntity> plans = new HashSet<>();
+        for (PlanSecurityType security : Arrays.asList(PlanSecurityType.KEY_LESS, PlanSecurityType.API_KEY, PlanSecurityType.JWT)) {
+            PlanEntity plan = new PlanEntity();
+            plan.setId("plan-" + security.name().toLowerCase());
+            plan.setApi(apiEntity.getId());
+            plan.setName(security.name());
+            plan.setDescription("The " + security.name() + " plan");
+            plan.setType(PlanType.API);
+            plan.setSecurity(security);
+            plan.setValidation(PlanValidationType.AUTO);
+            plan.setStatus(PlanStatus.PUBLISHED);
+            plan.setPaths(Collections.emptyMap());
+            plan.setFlows(apiEntity.getFlows());
+            plans.add(plan);
+        }
+        when(planService.findByApi(apiEntity.getId())).thenReturn(plans);
+
+        final List<ApiMetadataEntity> metadata = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ApiMetadataEntity apiMetadata = new ApiMetadataEntity();
+            apiMetadata.setApiId(apiEntity.getId());
+            apiMetadata.setKey("key-" + i);
+            apiMetadata.setName("Metadata " + i);
+            apiMetadata.setValue("value-" + i);
+            apiMetadata.setFormat(MetadataFormat.STRING);
+            metadata.add(apiMetadata);
+        }
+        when(apiMetadataService.findAllByApi(apiEntity.getId())).thenReturn(metadata);
+
+        final Map<String, Object> exportMetadata = new HashMap<>();
+        exportMetadata.put(ApiSerializer.METADATA_EXPORT_VERSION, exportVersion);
+        exportMetadata.put(ApiSerializer.METADATA_FILTERED_FIELDS_LIST, Collections.emptyList());
+        apiEntity.setMetadata(exportMetadata);
+
+        if (!export().contains("\"plans\"")) {
+            throw new IllegalStateException("The API is not exported as expected");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        GraviteeContext.cleanContext();
+    }
+
+    @Benchmark
+    public String export() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(apiEntity);
+    }
+
+    private static PageEntity page(String id, PageType type, String parentId, String content) {
+        PageEntity page = new PageEntity();
+        page.setId(id);
+        page.setName(id);
+        page.setType(type.name());
+        page.setParentId(parentId);
+        page.setContent(content);
+        page.setPublished(true);
+        page.setVisibility(Visibility.PUBLIC);
+        return page;
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.benchmarks;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.impl.search.SearchResult;
+import io.gravitee.rest.api.service.impl.search.lucene.searcher.ApiDocumentSearcher;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.ApiDocumentTransformer;
+import io.gravitee.rest.api.service.search.query.Query;
+import io.gravitee.rest.api.service.search.query.QueryBuilder;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.RAMDirectory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Full text search of the APIs, as done by the portal and console search boxes, on an index generated with the same
+ * transformer as the one of the search indexer.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Thread)
+public class ApiSearchBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    @Param({ "payment", "pay", "catalog-42" })
+    private String text;
+
+    private IndexWriter indexWriter;
+
+    private ApiDocumentSearcher searcher;
+
+    private Query<ApiEntity> query;
+
+    @Setup
+    public void setup() throws IOException, TechnicalException {
+        GraviteeContext.setCurrentEnvironment(Fixtures.ENVIRONMENT);
+        GraviteeContext.setCurrentOrganization(Fixtures.ORGANIZATION);
+
+        // same writer as the one of the search engine configuration, in memory
+        indexWriter = new IndexWriter(new RAMDirectory(), new IndexWriterConfig(new StandardAnalyzer()));
+        final ApiDocumentTransformer transformer = new ApiDocumentTransformer();
+        for (int i = 0; i < size; i++) {
+            indexWriter.addDocument(transformer.transform(Fixtures.apiEntity(i)));
+        }
+        indexWriter.commit();
+
+        searcher = new ApiDocumentSearcher();
+        Fixtures.inject(searcher, "indexWriter", indexWriter);
+        query = QueryBuilder.create(ApiEntity.class).setQuery(text).setFilters(new HashMap<>()).build();
+
+        if (!search().hasResults()) {
+            throw new IllegalStateException("No API found for " + text);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        indexWriter.close();
+        GraviteeContext.cleanContext();
+    }
+
+    @Benchmark
+    public SearchResult search() throws TechnicalException {
+        return searcher.search(query);
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.benchmarks;
+
+import static io.gravitee.repository.management.model.Api.AuditEvent.API_UPDATED;
+
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.impl.AuditServiceImpl;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Creation of the audit log of an API update, which computes the JSON patch between the previous and the updated API.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Thread)
+public class AuditBenchmark {
+
+    @Param({ "none", "description", "definition" })
+    private String change;
+
+    @Mock(stubOnly = true)
+    private AuditRepository auditRepository;
+
+    @InjectMocks
+    private AuditServiceImpl auditService = new AuditServiceImpl();
+
+    private Api previousApi;
+
+    private Api updatedApi;
+
+    @Setup
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        Fixtures.inject(auditService, "mapper", new GraviteeMapper());
+        GraviteeContext.setCurrentEnvironment(Fixtures.ENVIRONMENT);
+        GraviteeContext.setCurrentOrganization(Fixtures.ORGANIZATION);
+
+        previousApi = Fixtures.apis(1).get(0);
+        updatedApi = new Api(previousApi);
+        updatedApi.setUpdatedAt(new Date(previousApi.getUpdatedAt().getTime() + 1000));
+        if ("description".equals(change)) {
+            updatedApi.setDescription(previousApi.getDescription() + " (updated)");
+        } else if ("definition".equals(change)) {
+            updatedApi.setDefinition(previousApi.getDefinition().replace("\"limit\":10", "\"limit\":20"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        GraviteeContext.cleanContext();
+    }
+
+    @Benchmark
+    public void createApiAuditLog() {
+        auditService.createApiAuditLog(
+            previousApi.getId(),
+            Collections.emptyMap(),
+            API_UPDATED,
+            updatedApi.getUpdatedAt(),
+            previousApi,
+            updatedApi
+        );
+    }
+}
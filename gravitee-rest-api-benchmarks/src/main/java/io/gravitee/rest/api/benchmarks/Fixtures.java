@@ -0,0 +1,194 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.ApiLifecycleState;
+import io.gravitee.repository.management.model.LifecycleState;
+import io.gravitee.repository.management.model.Visibility;
+import io.gravitee.rest.api.model.PrimaryOwnerEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * In-memory data sets shared by the benchmarks. Everything is generated from a fixed seed so that two runs work on the
+ * same data.
+ *
+ * @author GraviteeSource Team
+ */
+final class Fixtures {
+
+    static final String ENVIRONMENT = "DEFAULT";
+    static final String ORGANIZATION = "DEFAULT";
+
+    static final int CATEGORIES = 20;
+    static final int PRIMARY_OWNERS = 50;
+
+    private static final String[] WORDS = {
+        "payment",
+        "order",
+        "customer",
+        "invoice",
+        "catalog",
+        "shipping",
+        "loyalty",
+        "weather",
+        "geocoding",
+        "notification",
+        "inventory",
+        "pricing",
+    };
+
+    private static final String DEFINITION =
+        "{" +
+        "\"id\":\"%1$s\",\"name\":\"%2$s\",\"version\":\"1.0\",\"gravitee\":\"2.0.0\",\"flow_mode\":\"DEFAULT\"," +
+        "\"proxy\":{\"virtual_hosts\":[{\"path\":\"/%2$s\"}],\"strip_context_path\":false," +
+        "\"groups\":[{\"name\":\"default-group\",\"endpoints\":[{\"name\":\"default\",\"target\":\"https://%2$s.backend.internal\"," +
+        "\"type\":\"http\"}],\"load_balancing\":{\"type\":\"ROUND_ROBIN\"}}]}," +
+        "\"flows\":[{\"name\":\"\",\"path-operator\":{\"path\":\"/\",\"operator\":\"STARTS_WITH\"},\"condition\":\"\",\"methods\":[]," +
+        "\"pre\":[{\"name\":\"Rate Limiting\",\"policy\":\"rate-limit\",\"enabled\":true,\"configuration\":{\"rate\":" +
+        "{\"limit\":10,\"periodTime\":1,\"periodTimeUnit\":\"SECONDS\"}}}],\"post\":[],\"enabled\":true}]," +
+        "\"plans\":[],\"properties\":[{\"key\":\"backend\",\"value\":\"%2$s\"}],\"resources\":[]," +
+        "\"response_templates\":{}" +
+        "}";
+
+    private static final ObjectMapper MAPPER = new GraviteeMapper();
+
+    private Fixtures() {}
+
+    /**
+     * Sets an injected field of a service, for the dependencies which must be real objects rather than stubs.
+     */
+    static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("No field " + fieldName + " in " + target.getClass());
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    static String name(int index) {
+        return WORDS[index % WORDS.length] + "-" + index;
+    }
+
+    static String apiId(int index) {
+        return "api-" + index;
+    }
+
+    static String primaryOwnerId(int apiIndex) {
+        return "user-" + (apiIndex % PRIMARY_OWNERS);
+    }
+
+    static String categoryId(int index) {
+        return "category-" + (index % CATEGORIES);
+    }
+
+    static String definition(int index) {
+        return String.format(DEFINITION, apiId(index), name(index));
+    }
+
+    /**
+     * APIs as they are read from the repository, with a v2 definition.
+     */
+    static List<Api> apis(int size) {
+        final List<Api> apis = new ArrayList<>(size);
+        final Date now = new Date(1_600_000_000_000L);
+        for (int i = 0; i < size; i++) {
+            Api api = new Api();
+            api.setId(apiId(i));
+            api.setName(name(i));
+            api.setVersion("1.0");
+            api.setDescription("The " + name(i) + " API, exposing the " + WORDS[(i + 3) % WORDS.length] + " operations");
+            api.setEnvironmentId(ENVIRONMENT);
+            api.setDefinition(definition(i));
+            api.setVisibility(i % 3 == 0 ? Visibility.PRIVATE : Visibility.PUBLIC);
+            api.setLifecycleState(LifecycleState.STARTED);
+            api.setApiLifecycleState(ApiLifecycleState.PUBLISHED);
+            api.setLabels(Arrays.asList(WORDS[i % WORDS.length], "v1"));
+            api.setCategories(new HashSet<>(Arrays.asList(categoryId(i), categoryId(i + 7))));
+            api.setCreatedAt(now);
+            api.setUpdatedAt(now);
+            apis.add(api);
+        }
+        return apis;
+    }
+
+    /**
+     * The API of the given index, as converted by the API service.
+     */
+    static ApiEntity apiEntity(int index) {
+        final io.gravitee.definition.model.Api definition;
+        try {
+            definition = MAPPER.readValue(definition(index), io.gravitee.definition.model.Api.class);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        ApiEntity apiEntity = new ApiEntity();
+        apiEntity.setId(apiId(index));
+        apiEntity.setName(name(index));
+        apiEntity.setVersion("1.0");
+        apiEntity.setDescription("The " + name(index) + " API, exposing the " + WORDS[(index + 3) % WORDS.length] + " operations");
+        apiEntity.setReferenceType("ENVIRONMENT");
+        apiEntity.setReferenceId(ENVIRONMENT);
+        apiEntity.setGraviteeDefinitionVersion(definition.getDefinitionVersion().getLabel());
+        apiEntity.setFlowMode(definition.getFlowMode());
+        apiEntity.setProxy(definition.getProxy());
+        apiEntity.setFlows(definition.getFlows());
+        apiEntity.setProperties(definition.getProperties());
+        apiEntity.setResources(definition.getResources());
+        apiEntity.setResponseTemplates(definition.getResponseTemplates());
+        apiEntity.setVisibility(
+            index % 3 == 0 ? io.gravitee.rest.api.model.Visibility.PRIVATE : io.gravitee.rest.api.model.Visibility.PUBLIC
+        );
+        apiEntity.setLabels(Arrays.asList(WORDS[index % WORDS.length], "v1"));
+        apiEntity.setCategories(new HashSet<>(Arrays.asList(categoryId(index), categoryId(index + 7))));
+        apiEntity.setTags(Collections.singleton("public"));
+
+        PrimaryOwnerEntity primaryOwner = new PrimaryOwnerEntity();
+        primaryOwner.setId(primaryOwnerId(index));
+        primaryOwner.setDisplayName("John Doe " + (index % PRIMARY_OWNERS));
+        primaryOwner.setEmail(primaryOwnerId(index) + "@gravitee.io");
+        primaryOwner.setType("USER");
+        apiEntity.setPrimaryOwner(primaryOwner);
+
+        final Date now = new Date(1_600_000_000_000L);
+        apiEntity.setCreatedAt(now);
+        apiEntity.setUpdatedAt(now);
+        return apiEntity;
+    }
+
+    static String resource(String name) {
+        try {
+            return Resources.toString(Resources.getResource(name), StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+}
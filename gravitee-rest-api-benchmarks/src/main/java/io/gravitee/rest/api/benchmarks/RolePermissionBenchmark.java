@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.benchmarks;
+
+import io.gravitee.rest.api.model.permissions.ApiPermission;
+import io.gravitee.rest.api.model.permissions.RolePermissionAction;
+import io.gravitee.rest.api.service.impl.RoleServiceImpl;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Permission check done by the permission filters for every secured resource of the console and the portal, against the
+ * permissions of an API role.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Thread)
+public class RolePermissionBenchmark {
+
+    private static final RolePermissionAction[] GRANTED = { RolePermissionAction.UPDATE };
+    private static final RolePermissionAction[] DENIED = { RolePermissionAction.DELETE };
+
+    @Param({ "DEFINITION", "QUALITY_RULE" })
+    private ApiPermission permission;
+
+    private final RoleServiceImpl roleService = new RoleServiceImpl();
+
+    private Map<String, char[]> userPermissions;
+
+    @Setup
+    public void setup() {
+        userPermissions = new HashMap<>();
+        for (ApiPermission apiPermission : ApiPermission.values()) {
+            userPermissions.put(apiPermission.getName(), new char[] { 'C', 'R', 'U' });
+        }
+    }
+
+    @Benchmark
+    public boolean granted() {
+        return roleService.hasPermission(userPermissions, permission, GRANTED);
+    }
+
+    @Benchmark
+    public boolean denied() {
+        return roleService.hasPermission(userPermissions, permission, DENIED);
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.gravitee.common.http.MediaType;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.model.api.ApiEntrypointEntity;
+import io.gravitee.rest.api.service.impl.SwaggerServiceImpl;
+import io.gravitee.rest.api.service.impl.swagger.SwaggerProperties;
+import io.gravitee.rest.api.service.impl.swagger.transformer.SwaggerTransformer;
+import io.gravitee.rest.api.service.impl.swagger.transformer.entrypoints.EntrypointsOAITransformer;
+import io.gravitee.rest.api.service.impl.swagger.transformer.page.PageConfigurationOAITransformer;
+import io.gravitee.rest.api.service.swagger.OAIDescriptor;
+import io.gravitee.rest.api.service.swagger.SwaggerDescriptor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parsing and rendering of an OpenAPI or Swagger v2 documentation page, as done by the page service when a swagger
+ * page is read and its rendering is not cached yet.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Thread)
+public class SwaggerBenchmark {
+
+    @Param({ "openapi.json", "swagger-v2.json" })
+    private String descriptor;
+
+    private final SwaggerServiceImpl swaggerService = new SwaggerServiceImpl();
+
+    private PageEntity page;
+
+    private ApiEntity api;
+
+    @Setup
+    public void setup() {
+        page = new PageEntity();
+        page.setId("swagger");
+        page.setName("swagger");
+        page.setType(PageType.SWAGGER.name());
+        page.setContentType(MediaType.APPLICATION_JSON);
+        page.setContent(Fixtures.resource(descriptor));
+        page.setConfiguration(Collections.singletonMap(SwaggerProperties.TRY_IT, "https://api.company.com/try-it"));
+
+        api = Fixtures.apiEntity(0);
+        api.setEntrypoints(
+            Arrays.asList(
+                new ApiEntrypointEntity("https://api.company.com/" + api.getName()),
+                new ApiEntrypointEntity(Collections.singleton("internal"), "https://internal.company.com/" + api.getName())
+            )
+        );
+    }
+
+    @Benchmark
+    public SwaggerDescriptor<?> parse() {
+        return swaggerService.parse(page.getContent());
+    }
+
+    @Benchmark
+    public String render() throws JsonProcessingException {
+        final OAIDescriptor oaiDescriptor = (OAIDescriptor) swaggerService.parse(page.getContent());
+        final List<SwaggerTransformer<OAIDescriptor>> transformers = Arrays.asList(
+            new PageConfigurationOAITransformer(page),
+            new EntrypointsOAITransformer(page, api)
+        );
+        swaggerService.transform(oaiDescriptor, transformers);
+        return oaiDescriptor.toJson();
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository;
+
+import io.gravitee.repository.Repository;
+import io.gravitee.repository.Scope;
+import io.gravitee.rest.api.gatling.repository.analytics.MemoryAnalyticsRepositoryConfiguration;
+import io.gravitee.rest.api.gatling.repository.management.MemoryManagementRepositoryConfiguration;
+
+/**
+ * Repository plugin keeping the management data in memory, seeded with a generated data set, and answering the
+ * analytics queries with synthetic values. It only exists to run the load tests without any database.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryRepository implements Repository {
+
+    public static final String TYPE = "memory";
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public Scope[] scopes() {
+        return new Scope[] { Scope.MANAGEMENT, Scope.ANALYTICS };
+    }
+
+    @Override
+    public Class<?> configuration(Scope scope) {
+        switch (scope) {
+            case MANAGEMENT:
+                return MemoryManagementRepositoryConfiguration.class;
+            case ANALYTICS:
+                return MemoryAnalyticsRepositoryConfiguration.class;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository;
+
+import java.lang.reflect.Proxy;
+import org.springframework.beans.factory.FactoryBean;
+
+/**
+ * Creates the in-memory implementation of a repository interface.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryRepositoryFactoryBean<T> implements FactoryBean<T> {
+
+    private final Class<T> repositoryInterface;
+    private final MemoryStore store;
+
+    public MemoryRepositoryFactoryBean(Class<T> repositoryInterface, MemoryStore store) {
+        this.repositoryInterface = repositoryInterface;
+        this.store = store;
+    }
+
+    @Override
+    public T getObject() {
+        return repositoryInterface.cast(
+            Proxy.newProxyInstance(
+                repositoryInterface.getClassLoader(),
+                new Class<?>[] { repositoryInterface },
+                new MemoryRepositoryHandler(repositoryInterface, store)
+            )
+        );
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return repositoryInterface;
+    }
+}
@@ -0,0 +1,580 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.search.Pageable;
+import io.gravitee.repository.management.api.search.Sortable;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implements a repository interface over a {@link MemoryStore}, from the names and the parameters of its methods:
+ * <ul>
+ *     <li><code>create</code>, <code>update</code>, <code>delete</code> and <code>findById</code> work on the model
+ *     identity;</li>
+ *     <li>the other finders, <code>search</code> and the other deletions keep the models having a distinct property equal
+ *     to each parameter, preferably among the properties named by the method (<code>findByReferenceAndRoleId</code> looks
+ *     in <code>referenceId</code>, <code>referenceType</code> and <code>roleId</code>), and matching the fields of the
+ *     criteria parameter, the <code>from</code>, <code>to</code>, <code>*After</code> and <code>*Before</code> fields of
+ *     which bound the matching dates;</li>
+ *     <li>the results are then shaped as the method returns them: optional, set, list, page or count.</li>
+ * </ul>
+ *
+ * This is enough for the load tests, which only need the repositories to behave consistently, not to be complete: sorts
+ * and map criteria are ignored.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryRepositoryHandler implements InvocationHandler {
+
+    private static final Pattern AND = Pattern.compile("And(?=[A-Z])");
+    private static final List<String> FINDER_PREFIXES = Arrays.asList(
+        "findAllBy",
+        "findLastBy",
+        "findBy",
+        "deleteAllBy",
+        "deleteBy",
+        "findAll",
+        "deleteAll",
+        "search",
+        "delete"
+    );
+
+    private final Class<?> repositoryInterface;
+    private final Class<?> modelType;
+    private final MemoryStore store;
+    private final ConcurrentMap<Method, Finder> finders = new ConcurrentHashMap<>();
+
+    public MemoryRepositoryHandler(Class<?> repositoryInterface, MemoryStore store) {
+        this.repositoryInterface = repositoryInterface;
+        this.modelType = modelType(repositoryInterface);
+        this.store = store;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "MemoryRepository[" + repositoryInterface.getSimpleName() + "]";
+            }
+        } else if (method.isDefault()) {
+            return MethodHandles
+                .privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                .unreflectSpecial(method, method.getDeclaringClass())
+                .bindTo(proxy)
+                .invokeWithArguments(args == null ? new Object[0] : args);
+        }
+
+        final Object[] parameters = args == null ? new Object[0] : args;
+        switch (method.getName()) {
+            case "create":
+                return create(parameters[0]);
+            case "update":
+                return update(parameters[0]);
+            case "findById":
+                return shape(method, byIdentity(parameters), null);
+            case "delete":
+                if (parameters.length == 1 && modelType.isInstance(parameters[0])) {
+                    store.remove(parameters[0]);
+                } else {
+                    byIdentity(parameters).forEach(store::remove);
+                }
+                return null;
+            case "find":
+                return shape(method, store.list(modelType), null);
+            case "count":
+                return (long) store.size(modelType);
+            default:
+                return finders.computeIfAbsent(method, Finder::new).invoke(parameters);
+        }
+    }
+
+    private Object create(Object model) {
+        if (model instanceof Collection) {
+            ((Collection<?>) model).forEach(this::create);
+            return null;
+        }
+        return Models.copy(store.create(Models.copy(model)));
+    }
+
+    private Object update(Object model) {
+        if (model == null || !store.contains(model)) {
+            throw new IllegalStateException("Unable to update the " + modelType.getSimpleName() + ", it does not exist");
+        }
+        store.save(Models.copy(model));
+        return Models.copy(model);
+    }
+
+    private List<Object> byIdentity(Object[] parameters) {
+        final List<String> identity = store.identity(modelType);
+        if (parameters.length == identity.size()) {
+            final Object model = store.get(modelType, Arrays.asList(parameters));
+            return model == null ? Collections.emptyList() : Collections.singletonList(model);
+        }
+        final List<Object> values = Arrays.stream(parameters).map(MemoryRepositoryHandler::prepare).collect(Collectors.toList());
+        final List<List<String>> candidates = values.stream().map(value -> identity).collect(Collectors.toList());
+        return store.stream(modelType).filter(model -> assign(model, values, candidates, 0, new HashSet<>())).collect(Collectors.toList());
+    }
+
+    private Object shape(Method method, List<?> results, Pageable pageable) {
+        final Class<?> returnType = method.getReturnType();
+        if (returnType == void.class) {
+            return null;
+        } else if (returnType == Optional.class) {
+            return results.stream().findFirst().map(Models::copy);
+        } else if (Set.class.isAssignableFrom(returnType)) {
+            return results.stream().map(Models::copy).collect(Collectors.toCollection(LinkedHashSet::new));
+        } else if (Collection.class.isAssignableFrom(returnType)) {
+            return results.stream().map(Models::copy).collect(Collectors.toList());
+        } else if (returnType == Page.class) {
+            if (pageable == null) {
+                return new Page<>(shape(results), 0, results.size(), results.size());
+            }
+            List<?> content = results.subList(
+                Math.min(pageable.from(), results.size()),
+                Math.min(pageable.from() + pageable.pageSize(), results.size())
+            );
+            return new Page<>(shape(content), pageable.pageNumber(), content.size(), results.size());
+        } else if (returnType == Long.class || returnType == long.class) {
+            return (long) results.size();
+        } else if (returnType == boolean.class || returnType == Boolean.class) {
+            return !results.isEmpty();
+        } else if (returnType.isAssignableFrom(modelType)) {
+            return results.isEmpty() ? null : Models.copy(results.get(0));
+        }
+        throw new UnsupportedOperationException(repositoryInterface.getSimpleName() + "." + method.getName() + " is not supported");
+    }
+
+    private static List<Object> shape(List<?> results) {
+        return results.stream().map(Models::copy).collect(Collectors.toList());
+    }
+
+    /**
+     * Whether each value, from the given one, can be matched with a distinct property of the model among its candidates,
+     * the values being {@link #prepare prepared}.
+     */
+    private static boolean assign(Object model, List<Object> values, List<List<String>> candidates, int index, Set<String> assigned) {
+        if (index == values.size()) {
+            return true;
+        }
+        final Object value = values.get(index);
+        for (String property : candidates.get(index)) {
+            if (!assigned.contains(property) && matches(Models.value(model, property), value)) {
+                assigned.add(property);
+                if (assign(model, values, candidates, index + 1, assigned)) {
+                    return true;
+                }
+                assigned.remove(property);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Prepares a parameter value to be matched against the properties of many models: collections and arrays become
+     * sets and enums their names, as they may be compared to <code>String</code> properties.
+     */
+    private static Object prepare(Object value) {
+        if (value instanceof Collection || (value != null && value.getClass().isArray())) {
+            return new AnyOf(asCollection(value));
+        }
+        return normalize(value);
+    }
+
+    private static Object normalize(Object value) {
+        return value instanceof Enum ? ((Enum<?>) value).name() : value;
+    }
+
+    private static boolean matches(Object property, Object value) {
+        if (value instanceof AnyOf) {
+            final AnyOf values = (AnyOf) value;
+            return property instanceof Collection
+                ? ((Collection<?>) property).stream().anyMatch(values::contains)
+                : values.contains(property);
+        }
+        return property instanceof Collection
+            ? ((Collection<?>) property).stream().anyMatch(element -> Objects.equals(normalize(element), value))
+            : Objects.equals(normalize(property), value);
+    }
+
+    private static Collection<?> asCollection(Object value) {
+        if (value instanceof Collection) {
+            return (Collection<?>) value;
+        }
+        final List<Object> values = new ArrayList<>();
+        for (int i = 0; i < Array.getLength(value); i++) {
+            values.add(Array.get(value, i));
+        }
+        return values;
+    }
+
+    private static boolean isEmpty(Object value) {
+        return (
+            (value instanceof Collection && ((Collection<?>) value).isEmpty()) ||
+            (value instanceof Map && ((Map<?, ?>) value).isEmpty()) ||
+            (value.getClass().isArray() && Array.getLength(value) == 0)
+        );
+    }
+
+    /**
+     * The type of the elements of a collection or an array type, else the type itself, boxed.
+     */
+    private static Class<?> elementType(Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (Collection.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+                Type argument = parameterizedType.getActualTypeArguments()[0];
+                return argument instanceof Class ? (Class<?>) argument : Object.class;
+            }
+            return (Class<?>) parameterizedType.getRawType();
+        } else if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                return elementType(clazz.getComponentType());
+            } else if (clazz.isPrimitive()) {
+                return clazz == boolean.class
+                    ? Boolean.class
+                    : clazz == int.class ? Integer.class : clazz == long.class ? Long.class : clazz;
+            }
+            return Collection.class.isAssignableFrom(clazz) ? Object.class : clazz;
+        }
+        return Object.class;
+    }
+
+    private static boolean compatible(Class<?> left, Class<?> right) {
+        return (
+            left == Object.class ||
+            right == Object.class ||
+            left.equals(right) ||
+            (left == String.class && right.isEnum()) ||
+            (left.isEnum() && right == String.class)
+        );
+    }
+
+    private static String singular(String word) {
+        if (word.endsWith("ies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        } else if (word.endsWith("ses")) {
+            return word.substring(0, word.length() - 2);
+        } else if (word.endsWith("s")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    private static String plural(String word) {
+        if (word.endsWith("y")) {
+            return word.substring(0, word.length() - 1) + "ies";
+        } else if (word.endsWith("s")) {
+            return word + "es";
+        }
+        return word + "s";
+    }
+
+    private static String decapitalize(String word) {
+        return word.isEmpty() ? word : Character.toLowerCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static Class<?> modelType(Class<?> repositoryInterface) {
+        for (Type type : repositoryInterface.getGenericInterfaces()) {
+            if (
+                type instanceof ParameterizedType &&
+                "CrudRepository".equals(((Class<?>) ((ParameterizedType) type).getRawType()).getSimpleName())
+            ) {
+                return (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0];
+            }
+        }
+        for (Method method : repositoryInterface.getMethods()) {
+            if ("create".equals(method.getName()) && !Collection.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                return method.getParameterTypes()[0];
+            }
+        }
+        throw new IllegalArgumentException("Unable to find the model type of " + repositoryInterface.getName());
+    }
+
+    /**
+     * The parameters of a finder, the properties each of them is compared to, and what is done with the results.
+     */
+    private class Finder {
+
+        private final Method method;
+        private final boolean deletion;
+        private final boolean last;
+        private final boolean maxOrder;
+        private final List<Integer> constraints = new ArrayList<>();
+        private final List<List<String>> candidates = new ArrayList<>();
+        private int pageable = -1;
+        private int criteria = -1;
+
+        Finder(Method method) {
+            this.method = method;
+            this.deletion = method.getName().startsWith("delete");
+            this.last = method.getName().startsWith("findLast");
+            this.maxOrder = method.getName().startsWith("findMax") && method.getName().endsWith("Order");
+
+            final Set<String> named = namedProperties(method.getName());
+            final Map<String, Method> properties = Models.properties(modelType);
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            final Type[] genericParameterTypes = method.getGenericParameterTypes();
+            final List<List<String>> compatibleNamed = new ArrayList<>();
+            final List<List<String>> compatibleAll = new ArrayList<>();
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                final Class<?> parameterType = parameterTypes[i];
+                if (Pageable.class.isAssignableFrom(parameterType)) {
+                    pageable = i;
+                } else if (parameterType.getSimpleName().endsWith("Criteria")) {
+                    criteria = i;
+                } else if (
+                    !Sortable.class.isAssignableFrom(parameterType) &&
+                    !parameterType.getSimpleName().endsWith("Filter") &&
+                    parameterType != boolean.class &&
+                    parameterType != Boolean.class
+                ) {
+                    final Class<?> elementType = elementType(genericParameterTypes[i]);
+                    final List<String> compatible = properties
+                        .entrySet()
+                        .stream()
+                        .filter(property -> compatible(elementType(property.getValue().getGenericReturnType()), elementType))
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toList());
+                    constraints.add(i);
+                    compatibleAll.add(compatible);
+                    compatibleNamed.add(compatible.stream().filter(named::contains).collect(Collectors.toList()));
+                }
+            }
+
+            // Only look in the properties named by the method when they can hold all the parameters
+            final boolean strict = constraints.size() <= named.size() && compatibleNamed.stream().noneMatch(List::isEmpty);
+            candidates.addAll(strict ? compatibleNamed : compatibleAll);
+        }
+
+        Object invoke(Object[] parameters) {
+            final List<Object> values = new ArrayList<>();
+            final List<List<String>> valueCandidates = new ArrayList<>();
+            for (int i = 0; i < constraints.size(); i++) {
+                Object value = parameters[constraints.get(i)];
+                if (value instanceof Collection && ((Collection<?>) value).isEmpty()) {
+                    // Nothing can be found among no values
+                    return shape(method, Collections.emptyList(), null);
+                } else if (value != null && !isEmpty(value)) {
+                    values.add(prepare(value));
+                    valueCandidates.add(candidates.get(i));
+                }
+            }
+            final Predicate<Object> criteriaFilter = criteria < 0 || parameters[criteria] == null
+                ? model -> true
+                : criteriaFilter(parameters[criteria]);
+
+            List<Object> results = store
+                .stream(modelType)
+                .filter(model -> assign(model, values, valueCandidates, 0, new HashSet<>()))
+                .filter(criteriaFilter)
+                .collect(Collectors.toList());
+
+            if (deletion) {
+                results.forEach(store::remove);
+                return null;
+            } else if (maxOrder) {
+                return results.stream().map(model -> (Integer) Models.value(model, "order")).max(Integer::compare).orElse(null);
+            } else if (last && !results.isEmpty()) {
+                final Object lastResult = Models.properties(modelType).containsKey("revision")
+                    ? results.stream().max(Comparator.comparing(model -> (Integer) Models.value(model, "revision"))).get()
+                    : results.get(results.size() - 1);
+                results = Collections.singletonList(lastResult);
+            }
+            return shape(method, results, pageable < 0 ? null : (Pageable) parameters[pageable]);
+        }
+
+        /**
+         * The properties named in the method name, <code>findByReferenceAndRoleId</code> naming <code>referenceId</code>,
+         * <code>referenceType</code> and <code>roleId</code>.
+         */
+        private Set<String> namedProperties(String name) {
+            String selector = name;
+            if (maxOrder) {
+                selector = selector.substring("findMax".length(), selector.length() - "Order".length());
+                if (selector.startsWith(modelType.getSimpleName())) {
+                    selector = selector.substring(modelType.getSimpleName().length());
+                }
+            } else {
+                for (String prefix : FINDER_PREFIXES) {
+                    if (selector.startsWith(prefix)) {
+                        selector = selector.substring(prefix.length());
+                        break;
+                    }
+                }
+            }
+            if (selector.endsWith("Pageable")) {
+                selector = selector.substring(0, selector.length() - "Pageable".length());
+            }
+
+            final Set<String> properties = Models.properties(modelType).keySet();
+            final Set<String> named = new LinkedHashSet<>();
+            for (String token : AND.split(selector)) {
+                if (!token.isEmpty()) {
+                    named.addAll(propertiesNamed(decapitalize(token), properties));
+                }
+            }
+            return named;
+        }
+
+        private Set<String> propertiesNamed(String word, Set<String> properties) {
+            final List<String> variants = Arrays.asList(word, word + "Id", plural(word), singular(word), singular(word) + "Id");
+            final Set<String> named = variants.stream().filter(properties::contains).collect(Collectors.toCollection(LinkedHashSet::new));
+            if (named.isEmpty()) {
+                properties.stream().filter(property -> property.startsWith(word)).forEach(named::add);
+            }
+            return named;
+        }
+
+        /**
+         * The conjunction of the fields of a criteria, read once for all the models.
+         */
+        private Predicate<Object> criteriaFilter(Object criteria) {
+            Predicate<Object> filter = model -> true;
+            for (Class<?> type = criteria.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    final Object value;
+                    try {
+                        value = field.get(criteria);
+                    } catch (IllegalAccessException iae) {
+                        throw new IllegalStateException("Unable to read the criteria " + field.getName(), iae);
+                    }
+                    if (
+                        value == null ||
+                        value instanceof Map ||
+                        isEmpty(value) ||
+                        (field.getType().isPrimitive() && (Boolean.FALSE.equals(value) || Long.valueOf(0).equals(toLong(value))))
+                    ) {
+                        continue;
+                    }
+                    final String name = field.getName();
+                    if (value instanceof Number && isBound(name)) {
+                        final long bound = ((Number) value).longValue();
+                        filter = filter.and(model -> withinBound(model, name, bound));
+                        continue;
+                    }
+                    final String property = criterionProperty(field);
+                    if (property != null) {
+                        final Object prepared = prepare(value);
+                        filter = filter.and(model -> matches(Models.value(model, property), prepared));
+                    }
+                }
+            }
+            return filter;
+        }
+
+        private boolean isBound(String name) {
+            return "from".equals(name) || "to".equals(name) || name.endsWith("After") || name.endsWith("Before");
+        }
+
+        /**
+         * Whether a date of the model is within a bound: <code>from</code> and <code>to</code> bound its last update,
+         * <code>endingAtBefore</code> its <code>endingAt</code>, <code>expireAfter</code> its <code>expireAt</code>...
+         * A missing date is after any bound, as an open-ended subscription or key.
+         */
+        private boolean withinBound(Object model, String name, long bound) {
+            if (bound <= 0) {
+                return true;
+            }
+            final boolean lower = "from".equals(name) || name.endsWith("After");
+            final Set<String> properties = Models.properties(modelType).keySet();
+            final Stream<String> candidates;
+            if ("from".equals(name) || "to".equals(name)) {
+                candidates = Stream.of("updatedAt", "createdAt");
+            } else {
+                final String prefix = name.substring(0, name.length() - (lower ? "After" : "Before").length());
+                candidates = Stream.of(prefix, prefix + "At");
+            }
+            final String property = candidates.filter(properties::contains).findFirst().orElse(null);
+            if (property == null) {
+                return true;
+            }
+            final Object date = Models.value(model, property);
+            if (!(date instanceof Date)) {
+                return lower || "to".equals(name);
+            }
+            final long time = ((Date) date).getTime();
+            return lower ? time >= bound : time <= bound;
+        }
+
+        private Long toLong(Object value) {
+            return value instanceof Number ? ((Number) value).longValue() : null;
+        }
+
+        /**
+         * The model property a criteria field applies to: <code>environments</code> applies to
+         * <code>environmentId</code>, <code>category</code> to <code>categories</code>, <code>lifecycleStates</code> to
+         * <code>apiLifecycleState</code>...
+         */
+        private String criterionProperty(Field field) {
+            final Map<String, Method> properties = Models.properties(modelType);
+            final Class<?> elementType = elementType(field.getGenericType());
+            final String word = field.getName();
+            final String singular = singular(word);
+            final String suffix = Character.toUpperCase(singular.charAt(0)) + singular.substring(1);
+
+            return Stream
+                .concat(
+                    Stream.of(word, plural(word), word + "Id", singular, singular + "Id").filter(properties::containsKey),
+                    properties.keySet().stream().filter(property -> property.endsWith(suffix))
+                )
+                .filter(property -> compatible(elementType(properties.get(property).getGenericReturnType()), elementType))
+                .findFirst()
+                .orElse(null);
+        }
+    }
+
+    /**
+     * The values of a collection parameter, any of which matches.
+     */
+    private static final class AnyOf {
+
+        private final Set<Object> values = new HashSet<>();
+
+        AnyOf(Collection<?> values) {
+            values.forEach(value -> this.values.add(normalize(value)));
+        }
+
+        boolean contains(Object value) {
+            return values.contains(normalize(value));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Holds the repository models, one table per model type, each model being keyed by its identity: its <code>id</code>
+ * when it has one, else the properties which identify it (a key and a reference, an API and a quality rule, ...).
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryStore {
+
+    private static final List<String> IDENTITY_PROPERTIES = Arrays.asList(
+        "key",
+        "pageId",
+        "revision",
+        "api",
+        "qualityRule",
+        "user",
+        "identityProviderId",
+        "referenceId",
+        "referenceType"
+    );
+
+    private final ConcurrentMap<Class<?>, ConcurrentSkipListMap<String, Object>> tables = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, List<String>> identities = new ConcurrentHashMap<>();
+    private final List<UnaryOperator<Object>> preparers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Object>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a step applied to the models before they are created, for instance to give them a predictable id.
+     */
+    public void beforeCreate(UnaryOperator<Object> preparer) {
+        preparers.add(preparer);
+    }
+
+    /**
+     * Registers a listener notified of each created model.
+     */
+    public void afterCreate(Consumer<Object> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * The properties identifying the models of the given type.
+     */
+    public List<String> identity(Class<?> type) {
+        return identities.computeIfAbsent(
+            type,
+            t -> {
+                Set<String> properties = Models.properties(t).keySet();
+                if (properties.contains("id")) {
+                    return properties.contains("revision") ? Arrays.asList("id", "revision") : Collections.singletonList("id");
+                }
+                return IDENTITY_PROPERTIES.stream().filter(properties::contains).collect(Collectors.toList());
+            }
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> list(Class<T> type) {
+        return new ArrayList<>((Collection<T>) table(type).values());
+    }
+
+    /**
+     * The models of the given type, as they are stored.
+     */
+    public Stream<Object> stream(Class<?> type) {
+        return table(type).values().stream();
+    }
+
+    /**
+     * The model of the given type having the given identity values, in the order of its {@link #identity(Class)}.
+     */
+    public Object get(Class<?> type, List<?> identity) {
+        return table(type).get(identity.stream().map(String::valueOf).collect(Collectors.joining("\u0000")));
+    }
+
+    public boolean contains(Object model) {
+        return table(model.getClass()).containsKey(key(model));
+    }
+
+    public Object create(Object model) {
+        Object prepared = model;
+        for (UnaryOperator<Object> preparer : preparers) {
+            prepared = preparer.apply(prepared);
+        }
+        save(prepared);
+        for (Consumer<Object> listener : listeners) {
+            listener.accept(prepared);
+        }
+        return prepared;
+    }
+
+    public void save(Object model) {
+        table(model.getClass()).put(key(model), model);
+    }
+
+    public void remove(Object model) {
+        table(model.getClass()).remove(key(model));
+    }
+
+    public int size(Class<?> type) {
+        return table(type).size();
+    }
+
+    private ConcurrentSkipListMap<String, Object> table(Class<?> type) {
+        return tables.computeIfAbsent(type, t -> new ConcurrentSkipListMap<>());
+    }
+
+    private String key(Object model) {
+        return identity(model.getClass())
+            .stream()
+            .map(property -> String.valueOf(Models.value(model, property)))
+            .collect(Collectors.joining("\u0000"));
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reflective access to the repository models: their readable properties, and copies of them so that the callers never
+ * share an instance with the store.
+ *
+ * @author GraviteeSource Team
+ */
+final class Models {
+
+    private static final ConcurrentMap<Class<?>, Map<String, Method>> PROPERTIES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private Models() {}
+
+    /**
+     * The getters of a model, by property name, in a stable order.
+     */
+    static Map<String, Method> properties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, Models::introspect);
+    }
+
+    static Class<?> propertyType(Class<?> type, String property) {
+        Method getter = properties(type).get(property);
+        return getter == null ? null : getter.getReturnType();
+    }
+
+    static Object value(Object model, String property) {
+        Method getter = properties(model.getClass()).get(property);
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return getter.invoke(model);
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Unable to read " + property + " of " + model.getClass().getName(), ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T model) {
+        if (model == null) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = model.getClass().getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Object copy = constructor.newInstance();
+            for (Field field : FIELDS.computeIfAbsent(model.getClass(), Models::fields)) {
+                field.set(copy, copyValue(field.get(model)));
+            }
+            return (T) copy;
+        } catch (ReflectiveOperationException roe) {
+            throw new IllegalStateException("Unable to copy " + model.getClass().getName(), roe);
+        }
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Date) {
+            return new Date(((Date) value).getTime());
+        } else if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        } else if (value instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) value);
+        } else if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        } else if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        return value;
+    }
+
+    private static Map<String, Method> introspect(Class<?> type) {
+        try {
+            Map<String, Method> properties = new LinkedHashMap<>();
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+                if (descriptor.getReadMethod() != null) {
+                    properties.put(descriptor.getName(), descriptor.getReadMethod());
+                }
+            }
+            return properties;
+        } catch (IntrospectionException ie) {
+            throw new IllegalStateException("Unable to introspect " + type.getName(), ie);
+        }
+    }
+
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+}
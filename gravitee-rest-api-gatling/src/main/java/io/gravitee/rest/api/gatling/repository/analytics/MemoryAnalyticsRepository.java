@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository.analytics;
+
+import io.gravitee.repository.analytics.AnalyticsException;
+import io.gravitee.repository.analytics.api.AnalyticsRepository;
+import io.gravitee.repository.analytics.query.AbstractQuery;
+import io.gravitee.repository.analytics.query.Aggregation;
+import io.gravitee.repository.analytics.query.AggregationType;
+import io.gravitee.repository.analytics.query.DateHistogramQuery;
+import io.gravitee.repository.analytics.query.Query;
+import io.gravitee.repository.analytics.query.Range;
+import io.gravitee.repository.analytics.query.TimeRangeFilter;
+import io.gravitee.repository.analytics.query.count.CountQuery;
+import io.gravitee.repository.analytics.query.count.CountResponse;
+import io.gravitee.repository.analytics.query.groupby.GroupByQuery;
+import io.gravitee.repository.analytics.query.groupby.GroupByResponse;
+import io.gravitee.repository.analytics.query.response.Response;
+import io.gravitee.repository.analytics.query.response.histogram.Bucket;
+import io.gravitee.repository.analytics.query.response.histogram.Data;
+import io.gravitee.repository.analytics.query.response.histogram.DateHistogramResponse;
+import io.gravitee.repository.analytics.query.stats.StatsQuery;
+import io.gravitee.repository.analytics.query.stats.StatsResponse;
+import io.gravitee.repository.analytics.query.tabular.TabularQuery;
+import io.gravitee.repository.analytics.query.tabular.TabularResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers the analytics queries as if the gateways handled one request per second, spread over ten values of each
+ * field, so that the analytics endpoints have something to convert.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryAnalyticsRepository implements AnalyticsRepository {
+
+    private static final int TERMS = 10;
+    private static final int MAX_TIMESTAMPS = 1000;
+    private static final float AVERAGE_RESPONSE_TIME = 42;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> T query(Query<T> query) throws AnalyticsException {
+        if (query instanceof CountQuery) {
+            CountResponse response = new CountResponse();
+            response.setCount(hits((AbstractQuery<?>) query));
+            return (T) response;
+        } else if (query instanceof StatsQuery) {
+            return (T) stats((StatsQuery) query);
+        } else if (query instanceof GroupByQuery) {
+            return (T) groupBy((GroupByQuery) query);
+        } else if (query instanceof DateHistogramQuery) {
+            return (T) dateHistogram((DateHistogramQuery) query);
+        } else if (query instanceof TabularQuery) {
+            TabularResponse response = new TabularResponse(0);
+            response.setLogs(Collections.emptyList());
+            return (T) response;
+        }
+        throw new AnalyticsException("Unsupported query " + query.getClass().getName());
+    }
+
+    private StatsResponse stats(StatsQuery query) {
+        final long hits = hits(query);
+        StatsResponse response = new StatsResponse();
+        response.setCount((float) hits);
+        response.setMin(5f);
+        response.setMax(500f);
+        response.setAvg(AVERAGE_RESPONSE_TIME);
+        response.setSum(AVERAGE_RESPONSE_TIME * hits);
+        return response;
+    }
+
+    private GroupByResponse groupBy(GroupByQuery query) {
+        final long hits = hits(query);
+        GroupByResponse response = new GroupByResponse();
+        response.setField(query.field());
+        if (query.groups() != null && !query.groups().isEmpty()) {
+            for (Range<Double> range : query.groups()) {
+                response.getValues().add(new GroupByResponse.Bucket(range.from() + "-" + range.to(), hits / query.groups().size()));
+            }
+        } else {
+            final List<String> terms = terms(query.field());
+            for (int i = 0; i < terms.size(); i++) {
+                response.getValues().add(new GroupByResponse.Bucket(terms.get(i), hits / (i + 2)));
+            }
+        }
+        return response;
+    }
+
+    private DateHistogramResponse dateHistogram(DateHistogramQuery query) {
+        final long[] range = range(query.timeRange());
+        final long interval = Math.max(
+            query.timeRange() == null || query.timeRange().interval() == null ? 0 : query.timeRange().interval().toMillis(),
+            (range[1] - range[0]) / MAX_TIMESTAMPS + 1
+        );
+        final long hitsPerInterval = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(interval));
+
+        DateHistogramResponse response = new DateHistogramResponse();
+        for (long timestamp = range[0] - range[0] % interval; timestamp <= range[1]; timestamp += interval) {
+            response.timestamps().add(timestamp);
+        }
+        if (query.aggregations() == null) {
+            return response;
+        }
+        for (Aggregation aggregation : query.aggregations()) {
+            final String name = aggregation.type().name().toLowerCase() + '_' + aggregation.field();
+            Bucket bucket = new Bucket(name, aggregation.field());
+            if (aggregation.type() == AggregationType.FIELD) {
+                final List<String> terms = terms(aggregation.field());
+                for (int i = 0; i < terms.size(); i++) {
+                    bucket.data().put(terms.get(i), data(response.timestamps(), hitsPerInterval / (i + 2)));
+                }
+            } else {
+                bucket.data().put(name, data(response.timestamps(), (long) AVERAGE_RESPONSE_TIME));
+            }
+            response.values().add(bucket);
+        }
+        return response;
+    }
+
+    private static List<Data> data(List<Long> timestamps, long value) {
+        final List<Data> data = new ArrayList<>(timestamps.size());
+        timestamps.forEach(timestamp -> data.add(new Data(timestamp, value)));
+        return data;
+    }
+
+    /**
+     * Values of a field, named as the data set of the memory repository names them.
+     */
+    private static List<String> terms(String field) {
+        final List<String> terms = new ArrayList<>(TERMS);
+        for (int i = 0; i < TERMS; i++) {
+            switch (field == null ? "" : field) {
+                case "api":
+                    terms.add("api-" + i);
+                    break;
+                case "application":
+                    terms.add("application-" + i);
+                    break;
+                case "plan":
+                    terms.add("api-" + i + "-api-key");
+                    break;
+                case "status":
+                    terms.add(String.valueOf(i < 5 ? 200 + i : 400 + i));
+                    break;
+                default:
+                    terms.add(field + '-' + i);
+            }
+        }
+        return terms;
+    }
+
+    private static long hits(AbstractQuery<?> query) {
+        final long[] range = range(query.timeRange());
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(range[1] - range[0]));
+    }
+
+    private static long[] range(TimeRangeFilter timeRange) {
+        final long now = System.currentTimeMillis();
+        if (timeRange == null || timeRange.range() == null) {
+            return new long[] { now - TimeUnit.HOURS.toMillis(1), now };
+        }
+        final Long from = timeRange.range().from();
+        final Long to = timeRange.range().to();
+        return new long[] { from == null ? now - TimeUnit.HOURS.toMillis(1) : from, to == null ? now : to };
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository.analytics;
+
+import io.gravitee.repository.analytics.AnalyticsException;
+import io.gravitee.repository.healthcheck.api.HealthCheckRepository;
+import io.gravitee.repository.healthcheck.query.Query;
+import io.gravitee.repository.healthcheck.query.Response;
+import io.gravitee.repository.healthcheck.query.availability.AvailabilityQuery;
+import io.gravitee.repository.healthcheck.query.availability.AvailabilityResponse;
+import io.gravitee.repository.healthcheck.query.log.ExtendedLog;
+import io.gravitee.repository.healthcheck.query.log.LogsQuery;
+import io.gravitee.repository.healthcheck.query.log.LogsResponse;
+import io.gravitee.repository.healthcheck.query.responsetime.AverageResponseTimeQuery;
+import io.gravitee.repository.healthcheck.query.responsetime.AverageResponseTimeResponse;
+import java.util.Collections;
+
+/**
+ * No endpoint is health-checked.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryHealthCheckRepository implements HealthCheckRepository {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> T query(Query<T> query) throws AnalyticsException {
+        if (query instanceof AvailabilityQuery) {
+            AvailabilityResponse response = new AvailabilityResponse();
+            response.setEndpointAvailabilities(Collections.emptyList());
+            return (T) response;
+        } else if (query instanceof AverageResponseTimeQuery) {
+            AverageResponseTimeResponse response = new AverageResponseTimeResponse();
+            response.setEndpointResponseTimes(Collections.emptyList());
+            return (T) response;
+        } else if (query instanceof LogsQuery) {
+            LogsResponse response = new LogsResponse(0);
+            response.setLogs(Collections.emptyList());
+            return (T) response;
+        }
+        throw new AnalyticsException("Unsupported query " + query.getClass().getName());
+    }
+
+    @Override
+    public ExtendedLog findById(String id) {
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository.analytics;
+
+import io.gravitee.repository.analytics.query.tabular.TabularQuery;
+import io.gravitee.repository.analytics.query.tabular.TabularResponse;
+import io.gravitee.repository.log.api.LogRepository;
+import io.gravitee.repository.log.model.ExtendedLog;
+import java.util.Collections;
+
+/**
+ * No request is logged.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryLogRepository implements LogRepository {
+
+    @Override
+    public TabularResponse query(TabularQuery query) {
+        TabularResponse response = new TabularResponse(0);
+        response.setLogs(Collections.emptyList());
+        return response;
+    }
+
+    @Override
+    public ExtendedLog findById(String id, Long timestamp) {
+        return null;
+    }
+}
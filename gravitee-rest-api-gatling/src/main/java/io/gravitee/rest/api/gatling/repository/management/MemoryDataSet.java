@@ -0,0 +1,393 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository.management;
+
+import io.gravitee.repository.management.model.*;
+import io.gravitee.rest.api.gatling.repository.MemoryStore;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Seeds the store with the data set the load tests run on. Its size is read from the <code>management.memory</code>
+ * settings:
+ * <ul>
+ *     <li><code>users</code>: users of the repository identity provider, each one owning an application;</li>
+ *     <li><code>groups</code>: groups of users, the applications and the APIs being spread over them;</li>
+ *     <li><code>apis</code>: published APIs, with a keyless and an API key plans, one out of four being private;</li>
+ *     <li><code>pages</code>: published pages of each API;</li>
+ *     <li><code>categories</code>: categories the APIs are spread over;</li>
+ *     <li><code>subscriptions</code>: subscriptions of each application to the API key plans.</li>
+ * </ul>
+ *
+ * Everything is identified by its type and its index (<code>api-42</code>, <code>user-7</code>, ...) so that the
+ * simulations can address it, and the users log in with their id and the <code>management.memory.password</code>.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryDataSet implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryDataSet.class);
+
+    private static final String ORGANIZATION = "DEFAULT";
+    private static final String ENVIRONMENT = "DEFAULT";
+    private static final String SOURCE = "gravitee";
+
+    private static final String[] WORDS = {
+        "payment",
+        "order",
+        "customer",
+        "invoice",
+        "catalog",
+        "shipping",
+        "loyalty",
+        "weather",
+        "geocoding",
+        "notification",
+        "inventory",
+        "pricing",
+    };
+
+    private static final String DEFINITION =
+        "{" +
+        "\"id\":\"%1$s\",\"name\":\"%2$s\",\"version\":\"1.0\",\"gravitee\":\"2.0.0\",\"flow_mode\":\"DEFAULT\"," +
+        "\"proxy\":{\"virtual_hosts\":[{\"path\":\"/%1$s\"}],\"strip_context_path\":false," +
+        "\"groups\":[{\"name\":\"default-group\",\"endpoints\":[{\"name\":\"default\",\"target\":\"https://%2$s.backend.internal\"," +
+        "\"type\":\"http\"}],\"load_balancing\":{\"type\":\"ROUND_ROBIN\"}}]}," +
+        "\"flows\":[],\"plans\":[],\"properties\":[],\"resources\":[],\"response_templates\":{}" +
+        "}";
+
+    private final MemoryStore store;
+    private final int users;
+    private final int groups;
+    private final int apis;
+    private final int pages;
+    private final int categories;
+    private final int subscriptions;
+    private final String password;
+    private final AtomicBoolean seeded = new AtomicBoolean();
+
+    public MemoryDataSet(MemoryStore store, Environment environment) {
+        this.store = store;
+        this.users = environment.getProperty("management.memory.users", Integer.class, 100);
+        this.groups = environment.getProperty("management.memory.groups", Integer.class, 10);
+        this.apis = environment.getProperty("management.memory.apis", Integer.class, 500);
+        this.pages = environment.getProperty("management.memory.pages", Integer.class, 5);
+        this.categories = environment.getProperty("management.memory.categories", Integer.class, 10);
+        this.subscriptions = environment.getProperty("management.memory.subscriptions", Integer.class, 5);
+        this.password = environment.getProperty("management.memory.password", "password");
+    }
+
+    /**
+     * The roles are created at startup by the upgraders: they get a predictable id, their scope and their name, for the
+     * memberships of the data set to reference them.
+     */
+    public static String roleId(RoleScope scope, String name) {
+        return scope.name() + '_' + name;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        store.beforeCreate(
+            model -> {
+                if (model instanceof Role) {
+                    Role role = (Role) model;
+                    role.setId(roleId(role.getScope(), role.getName()));
+                }
+                return model;
+            }
+        );
+        // The upgraders expect the APIs of an installation to be created after its roles: the data set is seeded once
+        // the last system role is.
+        store.afterCreate(
+            model -> {
+                if (
+                    model instanceof Role &&
+                    ((Role) model).getScope() == RoleScope.GROUP &&
+                    "ADMIN".equals(((Role) model).getName()) &&
+                    seeded.compareAndSet(false, true)
+                ) {
+                    seed();
+                }
+            }
+        );
+    }
+
+    private void seed() {
+        LOGGER.info(
+            "Seeding the memory repository with {} users, {} groups, {} APIs, {} pages per API, {} categories and {} subscriptions per application",
+            users,
+            groups,
+            apis,
+            pages,
+            categories,
+            subscriptions
+        );
+        final Date now = new Date();
+        seedCategories(now);
+        seedGroups(now);
+        seedUsers(now);
+        seedApis(now);
+        seedApplications(now);
+    }
+
+    private void seedCategories(Date now) {
+        for (int i = 0; i < categories; i++) {
+            Category category = new Category();
+            category.setId("category-" + i);
+            category.setKey("category-" + i);
+            category.setName(capitalize(word(i)) + " category");
+            category.setDescription("APIs about " + word(i));
+            category.setEnvironmentId(ENVIRONMENT);
+            category.setOrder(i);
+            category.setCreatedAt(now);
+            category.setUpdatedAt(now);
+            store.save(category);
+        }
+    }
+
+    private void seedGroups(Date now) {
+        for (int i = 0; i < groups; i++) {
+            Group group = new Group();
+            group.setId(groupId(i));
+            group.setName("Group " + i);
+            group.setEnvironmentId(ENVIRONMENT);
+            group.setCreatedAt(now);
+            group.setUpdatedAt(now);
+            store.save(group);
+        }
+    }
+
+    private void seedUsers(Date now) {
+        // The administrator of the in-memory identity provider is registered as on its first login, so that the first
+        // concurrent logins of the console simulation do not all try to register it
+        User admin = new User();
+        admin.setId("admin");
+        admin.setSource("memory");
+        admin.setSourceId("admin");
+        admin.setOrganizationId(ORGANIZATION);
+        admin.setStatus(UserStatus.ACTIVE);
+        admin.setCreatedAt(now);
+        admin.setUpdatedAt(now);
+        store.save(admin);
+        membership("admin", MembershipReferenceType.ORGANIZATION, ORGANIZATION, roleId(RoleScope.ORGANIZATION, "ADMIN"), now);
+        membership("admin", MembershipReferenceType.ENVIRONMENT, ENVIRONMENT, roleId(RoleScope.ENVIRONMENT, "ADMIN"), now);
+
+        final String hashedPassword = new BCryptPasswordEncoder().encode(password);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setId(userId(i));
+            user.setSource(SOURCE);
+            user.setSourceId(userId(i));
+            user.setOrganizationId(ORGANIZATION);
+            user.setFirstname("User");
+            user.setLastname(String.valueOf(i));
+            user.setEmail(userId(i) + "@gravitee.io");
+            user.setPassword(hashedPassword);
+            user.setStatus(UserStatus.ACTIVE);
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            store.save(user);
+
+            membership(userId(i), MembershipReferenceType.ORGANIZATION, ORGANIZATION, roleId(RoleScope.ORGANIZATION, "USER"), now);
+            membership(userId(i), MembershipReferenceType.ENVIRONMENT, ENVIRONMENT, roleId(RoleScope.ENVIRONMENT, "USER"), now);
+            if (groups > 0) {
+                membership(userId(i), MembershipReferenceType.GROUP, groupId(i), roleId(RoleScope.API, "USER"), now);
+            }
+        }
+    }
+
+    private void seedApis(Date now) {
+        for (int i = 0; i < apis; i++) {
+            final String id = apiId(i);
+            Api api = new Api();
+            api.setId(id);
+            api.setName(capitalize(word(i)) + " " + i);
+            api.setVersion("1.0");
+            api.setDescription("The " + word(i) + " API, exposing the " + word(i + 3) + " operations");
+            api.setEnvironmentId(ENVIRONMENT);
+            api.setDefinition(String.format(DEFINITION, id, word(i)));
+            api.setVisibility(i % 4 == 3 ? Visibility.PRIVATE : Visibility.PUBLIC);
+            api.setLifecycleState(LifecycleState.STARTED);
+            api.setApiLifecycleState(ApiLifecycleState.PUBLISHED);
+            api.setLabels(Arrays.asList(word(i), "v1"));
+            if (categories > 0) {
+                api.setCategories(Collections.singleton("category-" + (i % categories)));
+            }
+            if (groups > 0) {
+                api.setGroups(Collections.singleton(groupId(i)));
+            }
+            api.setCreatedAt(now);
+            api.setUpdatedAt(now);
+            api.setDeployedAt(now);
+            store.save(api);
+
+            if (users > 0) {
+                membership(userId(i), MembershipReferenceType.API, id, roleId(RoleScope.API, "PRIMARY_OWNER"), now);
+            }
+            plan(id, keylessPlanId(i), "Free", Plan.PlanSecurityType.KEY_LESS, 0, now);
+            plan(id, apiKeyPlanId(i), "Premium", Plan.PlanSecurityType.API_KEY, 1, now);
+
+            for (int j = 0; j < pages; j++) {
+                Page page = new Page();
+                page.setId(id + "-page-" + j);
+                page.setReferenceId(id);
+                page.setReferenceType(PageReferenceType.API);
+                page.setName(j == 0 ? "Overview" : "Chapter " + j);
+                page.setType("MARKDOWN");
+                page.setContent(markdown(i, j));
+                page.setOrder(j);
+                page.setPublished(true);
+                page.setHomepage(j == 0);
+                page.setVisibility("PUBLIC");
+                page.setLastContributor(userId(i));
+                page.setCreatedAt(now);
+                page.setUpdatedAt(now);
+                store.save(page);
+            }
+        }
+    }
+
+    private void plan(String api, String id, String name, Plan.PlanSecurityType security, int order, Date now) {
+        Plan plan = new Plan();
+        plan.setId(id);
+        plan.setApi(api);
+        plan.setName(name);
+        plan.setDescription(name + " plan");
+        plan.setType(Plan.PlanType.API);
+        plan.setSecurity(security);
+        plan.setValidation(Plan.PlanValidationType.AUTO);
+        plan.setStatus(Plan.Status.PUBLISHED);
+        plan.setOrder(order);
+        plan.setCharacteristics(Collections.emptyList());
+        plan.setCreatedAt(now);
+        plan.setUpdatedAt(now);
+        plan.setPublishedAt(now);
+        store.save(plan);
+    }
+
+    private void seedApplications(Date now) {
+        for (int i = 0; i < users; i++) {
+            final String id = "application-" + i;
+            Application application = new Application();
+            application.setId(id);
+            application.setName("Application " + i);
+            application.setDescription("Application of " + userId(i));
+            application.setEnvironmentId(ENVIRONMENT);
+            application.setType(ApplicationType.SIMPLE);
+            application.setStatus(ApplicationStatus.ACTIVE);
+            application.setMetadata(new HashMap<>());
+            if (groups > 0) {
+                application.setGroups(Collections.singleton(groupId(i)));
+            }
+            application.setCreatedAt(now);
+            application.setUpdatedAt(now);
+            store.save(application);
+
+            membership(userId(i), MembershipReferenceType.APPLICATION, id, roleId(RoleScope.APPLICATION, "PRIMARY_OWNER"), now);
+
+            for (int j = 0; apis > 0 && j < Math.min(subscriptions, apis); j++) {
+                final int apiIndex = (i * subscriptions + j) % apis;
+                final String subscriptionId = id + "-subscription-" + j;
+                Subscription subscription = new Subscription();
+                subscription.setId(subscriptionId);
+                subscription.setApi(apiId(apiIndex));
+                subscription.setPlan(apiKeyPlanId(apiIndex));
+                subscription.setApplication(id);
+                subscription.setStatus(Subscription.Status.ACCEPTED);
+                subscription.setSubscribedBy(userId(i));
+                subscription.setProcessedBy(userId(apiIndex));
+                subscription.setProcessedAt(now);
+                subscription.setStartingAt(now);
+                subscription.setCreatedAt(now);
+                subscription.setUpdatedAt(now);
+                store.save(subscription);
+
+                ApiKey apiKey = new ApiKey();
+                apiKey.setKey(subscriptionId + "-key");
+                apiKey.setSubscription(subscriptionId);
+                apiKey.setApplication(id);
+                apiKey.setPlan(apiKeyPlanId(apiIndex));
+                apiKey.setCreatedAt(now);
+                apiKey.setUpdatedAt(now);
+                store.save(apiKey);
+            }
+        }
+    }
+
+    private void membership(String userId, MembershipReferenceType referenceType, String referenceId, String roleId, Date now) {
+        Membership membership = new Membership();
+        membership.setId(referenceType.name().toLowerCase() + '-' + referenceId + '-' + userId + '-' + roleId);
+        membership.setMemberId(userId);
+        membership.setMemberType(MembershipMemberType.USER);
+        membership.setReferenceType(referenceType);
+        membership.setReferenceId(referenceId);
+        membership.setRoleId(roleId);
+        membership.setSource("system");
+        membership.setCreatedAt(now);
+        membership.setUpdatedAt(now);
+        store.save(membership);
+    }
+
+    private String markdown(int api, int page) {
+        StringBuilder markdown = new StringBuilder("# ").append(capitalize(word(api))).append(" API\n\n");
+        for (int i = 0; i < 10; i++) {
+            markdown
+                .append("## ")
+                .append(capitalize(word(api + page + i)))
+                .append("\n\nThe `")
+                .append(word(api + i))
+                .append("` resource exposes the ")
+                .append(word(page + i))
+                .append(" operations of the *")
+                .append(word(api))
+                .append("* domain.\n\n");
+        }
+        return markdown.toString();
+    }
+
+    private String userId(int index) {
+        return "user-" + (users == 0 ? 0 : index % users);
+    }
+
+    private String groupId(int index) {
+        return "group-" + (index % groups);
+    }
+
+    private static String apiId(int index) {
+        return "api-" + index;
+    }
+
+    private static String keylessPlanId(int apiIndex) {
+        return apiId(apiIndex) + "-keyless";
+    }
+
+    private static String apiKeyPlanId(int apiIndex) {
+        return apiId(apiIndex) + "-api-key";
+    }
+
+    private static String word(int index) {
+        return WORDS[index % WORDS.length];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository.management;
+
+import io.gravitee.repository.management.api.*;
+import io.gravitee.repository.media.api.MediaRepository;
+import io.gravitee.rest.api.gatling.repository.MemoryRepositoryFactoryBean;
+import io.gravitee.rest.api.gatling.repository.MemoryStore;
+import java.beans.Introspector;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class MemoryManagementRepositoryConfiguration {
+
+    static final List<Class<?>> REPOSITORIES = Arrays.asList(
+        AlertEventRepository.class,
+        AlertTriggerRepository.class,
+        ApiHeaderRepository.class,
+        ApiKeyRepository.class,
+        ApiQualityRuleRepository.class,
+        ApiRepository.class,
+        ApplicationRepository.class,
+        AuditRepository.class,
+        CategoryRepository.class,
+        ClientRegistrationProviderRepository.class,
+        CommandRepository.class,
+        CustomUserFieldsRepository.class,
+        DashboardRepository.class,
+        DictionaryRepository.class,
+        EntrypointRepository.class,
+        EnvironmentRepository.class,
+        EventRepository.class,
+        FlowRepository.class,
+        GenericNotificationConfigRepository.class,
+        GroupRepository.class,
+        IdentityProviderActivationRepository.class,
+        IdentityProviderRepository.class,
+        InstallationRepository.class,
+        InvitationRepository.class,
+        MediaRepository.class,
+        MembershipRepository.class,
+        MetadataRepository.class,
+        NotificationTemplateRepository.class,
+        OrganizationRepository.class,
+        PageRepository.class,
+        PageRevisionRepository.class,
+        ParameterRepository.class,
+        PlanRepository.class,
+        PortalNotificationConfigRepository.class,
+        PortalNotificationRepository.class,
+        PromotionRepository.class,
+        QualityRuleRepository.class,
+        RatingAnswerRepository.class,
+        RatingRepository.class,
+        RoleRepository.class,
+        SubscriptionRepository.class,
+        TagRepository.class,
+        TenantRepository.class,
+        ThemeRepository.class,
+        TicketRepository.class,
+        TokenRepository.class,
+        UserRepository.class,
+        WorkflowRepository.class
+    );
+
+    @Bean
+    public MemoryStore memoryStore() {
+        return new MemoryStore();
+    }
+
+    @Bean
+    public MemoryDataSet memoryDataSet(MemoryStore memoryStore, Environment environment) {
+        return new MemoryDataSet(memoryStore, environment);
+    }
+
+    @Bean
+    public MemoryNodeMonitoringRepository nodeMonitoringRepository() {
+        return new MemoryNodeMonitoringRepository();
+    }
+
+    @Bean
+    public MemoryTransactionManager graviteeTransactionManager() {
+        return new MemoryTransactionManager();
+    }
+
+    /**
+     * Registers an in-memory implementation of each repository, named as the interface so that the plugin handler binds
+     * it to the matching proxy.
+     */
+    @Bean
+    public static BeanDefinitionRegistryPostProcessor memoryRepositoriesRegistrar() {
+        return new BeanDefinitionRegistryPostProcessor() {
+            @Override
+            public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+                for (Class<?> repository : REPOSITORIES) {
+                    registry.registerBeanDefinition(
+                        Introspector.decapitalize(repository.getSimpleName()),
+                        BeanDefinitionBuilder
+                            .rootBeanDefinition(MemoryRepositoryFactoryBean.class)
+                            .addConstructorArgValue(repository)
+                            .addConstructorArgReference("memoryStore")
+                            .addDependsOn("memoryDataSet")
+                            .getBeanDefinition()
+                    );
+                }
+            }
+
+            @Override
+            public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {}
+        };
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository.management;
+
+import io.gravitee.node.api.Monitoring;
+import io.gravitee.node.api.NodeMonitoringRepository;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the last monitoring data of each node and type.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryNodeMonitoringRepository implements NodeMonitoringRepository {
+
+    private final Map<String, Monitoring> monitorings = new ConcurrentHashMap<>();
+
+    @Override
+    public Maybe<Monitoring> findByNodeIdAndType(String nodeId, String type) {
+        Monitoring monitoring = monitorings.get(key(nodeId, type));
+        return monitoring == null ? Maybe.empty() : Maybe.just(monitoring);
+    }
+
+    @Override
+    public Single<Monitoring> create(Monitoring monitoring) {
+        monitorings.put(key(monitoring.getNodeId(), monitoring.getType()), monitoring);
+        return Single.just(monitoring);
+    }
+
+    @Override
+    public Single<Monitoring> update(Monitoring monitoring) {
+        return create(monitoring);
+    }
+
+    @Override
+    public Flowable<Monitoring> findByTypeAndTimeFrame(String type, long from, long to) {
+        return Flowable
+            .fromIterable(monitorings.values())
+            .filter(
+                monitoring ->
+                    type.equals(monitoring.getType()) &&
+                    monitoring.getUpdatedAt() != null &&
+                    monitoring.getUpdatedAt().getTime() >= from &&
+                    (to == 0 || monitoring.getUpdatedAt().getTime() <= to)
+            );
+    }
+
+    private static String key(String nodeId, String type) {
+        return nodeId + ':' + type;
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling.repository;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.api.SubscriptionRepository;
+import io.gravitee.repository.management.api.search.SubscriptionCriteria;
+import io.gravitee.repository.management.api.search.builder.PageableBuilder;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipMemberType;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.repository.management.model.Subscription;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Smoke tests of the repository methods the load tests rely on, through the proxies the plugin registers.
+ *
+ * @author GraviteeSource Team
+ */
+public class MemoryRepositoryHandlerTest {
+
+    private MemoryStore store;
+
+    @Before
+    public void setUp() {
+        store = new MemoryStore();
+    }
+
+    @Test
+    public void shouldCreateFindUpdateAndDeleteByIdentity() throws TechnicalException {
+        ApiRepository apiRepository = repository(ApiRepository.class);
+
+        Api created = apiRepository.create(api("api-1", "My API"));
+        created.setName("changed outside of the repository");
+
+        Optional<Api> found = apiRepository.findById("api-1");
+        assertTrue(found.isPresent());
+        assertEquals("My API", found.get().getName());
+
+        found.get().setName("My updated API");
+        apiRepository.update(found.get());
+        assertEquals("My updated API", apiRepository.findById("api-1").get().getName());
+
+        apiRepository.delete("api-1");
+        assertFalse(apiRepository.findById("api-1").isPresent());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotUpdateUnknownModel() throws TechnicalException {
+        repository(ApiRepository.class).update(api("unknown", "Unknown API"));
+    }
+
+    @Test
+    public void shouldFindByThePropertiesNamedByTheMethod() throws TechnicalException {
+        MembershipRepository membershipRepository = repository(MembershipRepository.class);
+        membershipRepository.create(membership("membership-1", "user-1", MembershipReferenceType.API, "api-1"));
+        membershipRepository.create(membership("membership-2", "user-1", MembershipReferenceType.APPLICATION, "application-1"));
+        membershipRepository.create(membership("membership-3", "user-2", MembershipReferenceType.API, "api-1"));
+
+        Set<Membership> memberships = membershipRepository.findByMemberIdAndMemberTypeAndReferenceType(
+            "user-1",
+            MembershipMemberType.USER,
+            MembershipReferenceType.API
+        );
+
+        assertEquals(1, memberships.size());
+        assertEquals("membership-1", memberships.iterator().next().getId());
+        assertEquals(2, membershipRepository.findByReferencesAndRoleId(MembershipReferenceType.API, asList("api-1"), "role").size());
+        assertTrue(membershipRepository.findByIds(Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void shouldSearchWithCriteriaAndPage() throws TechnicalException {
+        SubscriptionRepository subscriptionRepository = repository(SubscriptionRepository.class);
+        for (int i = 0; i < 5; i++) {
+            subscriptionRepository.create(subscription("subscription-" + i, "api-1", Subscription.Status.ACCEPTED, new Date(i * 1000L)));
+        }
+        subscriptionRepository.create(subscription("subscription-5", "api-1", Subscription.Status.CLOSED, new Date(0)));
+        subscriptionRepository.create(subscription("subscription-6", "api-2", Subscription.Status.ACCEPTED, new Date(0)));
+
+        SubscriptionCriteria criteria = new SubscriptionCriteria.Builder()
+            .apis(Collections.singleton("api-1"))
+            .statuses(Collections.singleton(Subscription.Status.ACCEPTED))
+            .build();
+        Page<Subscription> page = subscriptionRepository.search(criteria, new PageableBuilder().pageNumber(1).pageSize(2).build());
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(2, page.getPageElements());
+        assertEquals(1, page.getPageNumber());
+
+        SubscriptionCriteria recent = new SubscriptionCriteria.Builder().apis(Collections.singleton("api-1")).from(3000).build();
+        assertEquals(2, subscriptionRepository.search(recent).size());
+    }
+
+    private <T> T repository(Class<T> repositoryInterface) {
+        return new MemoryRepositoryFactoryBean<>(repositoryInterface, store).getObject();
+    }
+
+    private Api api(String id, String name) {
+        Api api = new Api();
+        api.setId(id);
+        api.setName(name);
+        return api;
+    }
+
+    private Membership membership(String id, String memberId, MembershipReferenceType referenceType, String referenceId) {
+        Membership membership = new Membership();
+        membership.setId(id);
+        membership.setMemberId(memberId);
+        membership.setMemberType(MembershipMemberType.USER);
+        membership.setReferenceType(referenceType);
+        membership.setReferenceId(referenceId);
+        membership.setRoleId("role");
+        return membership;
+    }
+
+    private Subscription subscription(String id, String api, Subscription.Status status, Date updatedAt) {
+        Subscription subscription = new Subscription();
+        subscription.setId(id);
+        subscription.setApi(api);
+        subscription.setStatus(status);
+        subscription.setUpdatedAt(updatedAt);
+        return subscription;
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling
+
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import io.gravitee.rest.api.gatling.DataSet._
+
+/**
+ * What the administrators do in the console: list and search the APIs, then look at the subscriptions and the analytics
+ * of one of them and of the whole environment. As the console, each virtual user logs in first and is then authenticated
+ * by the cookie the login sets.
+ */
+class ConsoleSimulation extends Simulation {
+
+  val httpProtocol = http
+    .baseUrl(managementUrl)
+    .acceptHeader("application/json")
+    .acceptEncodingHeader("gzip, deflate")
+    .userAgentHeader("Gatling Simulator")
+    .disableFollowRedirect
+
+  val login = exec(
+    http("Log in")
+      .post(s"$baseUrl/management/organizations/DEFAULT/user/login")
+      .basicAuth("admin", "admin")
+      .check(status.is(200), header("X-Xsrf-Token").saveAs("xsrf"))
+  )
+
+  val apis = scenario("List the APIs")
+    .feed(feeder)
+    .exec(login)
+    .exec(http("List APIs").get("/apis").check(status.is(200)))
+    .exec(http("List APIs paged").get("/apis/_paged").queryParam("page", "${page}").queryParam("size", 10).check(status.is(200)))
+    .exec(
+      http("Search APIs").post("/apis/_search").header("X-Xsrf-Token", "${xsrf}").queryParam("q", "${word}").check(status.is(200))
+    )
+
+  val api = scenario("Look at an API")
+    .feed(feeder)
+    .exec(login)
+    .exec(http("Get API").get("/apis/${api}").check(status.is(200)))
+    .exec(http("List API plans").get("/apis/${api}/plans").queryParam("status", "published").check(status.is(200)))
+    .exec(
+      http("List API subscriptions").get("/apis/${api}/subscriptions").queryParam("status", "accepted").check(status.is(200))
+    )
+
+  val analytics = scenario("Look at the analytics")
+    .feed(feeder)
+    .exec(login)
+    .exec(lastDay)
+    .exec(
+      http("Get API analytics")
+        .get("/apis/${api}/analytics")
+        .queryParam("type", "date_histo")
+        .queryParam("from", "${from}")
+        .queryParam("to", "${to}")
+        .queryParam("interval", 3600000)
+        .queryParam("aggs", "field:status")
+        .check(status.is(200))
+    )
+    .exec(
+      http("Get top APIs")
+        .get("/platform/analytics")
+        .queryParam("type", "group_by")
+        .queryParam("field", "api")
+        .queryParam("from", "${from}")
+        .queryParam("to", "${to}")
+        .queryParam("interval", 3600000)
+        .check(status.is(200))
+    )
+    .exec(
+      http("Count hits")
+        .get("/analytics")
+        .queryParam("type", "count")
+        .queryParam("field", "api")
+        .queryParam("from", "${from}")
+        .queryParam("to", "${to}")
+        .queryParam("interval", 3600000)
+        .check(status.is(200))
+    )
+
+  setUp(
+    apis.inject(constantUsersPerSec(usersPerSecond).during(duration)),
+    api.inject(constantUsersPerSec(usersPerSecond).during(duration)),
+    analytics.inject(constantUsersPerSec(usersPerSecond).during(duration))
+  ).protocols(httpProtocol)
+    .assertions(global.failedRequests.percent.lt(1))
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling
+
+import io.gatling.core.Predef._
+import io.gatling.core.structure.ChainBuilder
+
+import scala.concurrent.duration._
+import scala.util.Random
+
+/**
+ * The data set seeded by the memory repository plugin and the load to run against it, both set by the
+ * <code>dataset.*</code> and <code>load.*</code> system properties the Maven build passes.
+ */
+object DataSet {
+
+  val baseUrl: String = System.getProperty("gravitee.url", "http://localhost:8083")
+  val portalUrl = s"$baseUrl/portal/environments/DEFAULT"
+  val managementUrl = s"$baseUrl/management/organizations/DEFAULT/environments/DEFAULT"
+
+  val users: Int = Integer.getInteger("dataset.users", 100)
+  val apis: Int = Integer.getInteger("dataset.apis", 500)
+  val pages: Int = Integer.getInteger("dataset.pages", 5)
+  val categories: Int = Integer.getInteger("dataset.categories", 10)
+  val password: String = System.getProperty("dataset.password", "password")
+
+  val usersPerSecond: Int = Integer.getInteger("load.users", 10)
+  val duration: FiniteDuration = Integer.getInteger("load.duration", 60).toInt.seconds
+
+  // The words the names of the APIs are made of
+  val words = Seq(
+    "payment",
+    "order",
+    "customer",
+    "invoice",
+    "catalog",
+    "shipping",
+    "loyalty",
+    "weather",
+    "geocoding",
+    "notification",
+    "inventory",
+    "pricing"
+  )
+
+  /**
+   * A random API, page, category, search and user for each virtual user. One API out of four being private, only the
+   * public ones are picked.
+   */
+  val feeder: Iterator[Map[String, Any]] = Iterator.continually {
+    val user = Random.nextInt(users)
+    Map(
+      "api" -> s"api-${Random.nextInt(apis / 4) * 4 + Random.nextInt(3)}",
+      "page" -> (Random.nextInt(math.max(apis * 3 / 4 / 12, 1)) + 1),
+      "category" -> s"category-${Random.nextInt(categories)}",
+      "word" -> words(Random.nextInt(words.size)),
+      "user" -> s"user-$user",
+      "application" -> s"application-$user"
+    )
+  }
+
+  /** Sets the last day as the range of the analytics queries. */
+  val lastDay: ChainBuilder = exec { session =>
+    val now = System.currentTimeMillis()
+    session.set("from", now - 1.day.toMillis).set("to", now)
+  }
+}
@@ -17,6 +17,7 @@ package io.gravitee.rest.api.gatling
 
 import io.gatling.core.Predef._
 import io.gatling.http.Predef._
+import io.gravitee.rest.api.gatling.DataSet.managementUrl
 
 import scala.concurrent.duration._
 
@@ -30,11 +31,10 @@ class Apis3xSimulation extends Simulation {
   val scn = scenario("Management Scenario") // A scenario is a chain of requests and pauses
     .exec(
       http("get APIs")
-        .get("http://localhost:8083/management/organizations/DEFAULT/environments/DEFAULT/apis")
+        .get(s"$managementUrl/apis")
         .basicAuth("admin", "admin")
         .check(status.is(200))
     )
-    
 
   setUp(scn.inject(constantUsersPerSec(3).during(20.seconds)).protocols(httpProtocol))
 }
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.gatling
+
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import io.gravitee.rest.api.gatling.DataSet._
+
+/**
+ * What the visitors and the users of the portal do: browse and search the catalog, then log in to look at their
+ * applications, subscriptions and analytics.
+ */
+class PortalSimulation extends Simulation {
+
+  val httpProtocol = http
+    .baseUrl(portalUrl)
+    .acceptHeader("application/json")
+    .acceptEncodingHeader("gzip, deflate")
+    .userAgentHeader("Gatling Simulator")
+    .disableFollowRedirect
+
+  val browse = scenario("Browse the catalog")
+    .feed(feeder)
+    .exec(http("Get configuration").get("/configuration").check(status.is(200)))
+    .exec(http("List APIs").get("/apis").queryParam("page", "${page}").queryParam("size", 12).check(status.is(200)))
+    .exec(http("List categories").get("/categories").check(status.is(200)))
+    .exec(
+      http("List APIs of a category").get("/apis").queryParam("category", "${category}").queryParam("size", 12).check(status.is(200))
+    )
+    .exec(http("Get API").get("/apis/${api}").check(status.is(200)))
+    .exec(http("List API pages").get("/apis/${api}/pages").queryParam("homepage", true).check(status.is(200)))
+    .exec(http("List API plans").get("/apis/${api}/plans").check(status.is(200)))
+
+  val search = scenario("Search the catalog")
+    .feed(feeder)
+    .exec(http("Search APIs").post("/apis/_search").queryParam("q", "${word}").queryParam("size", 12).check(status.is(200)))
+
+  val subscriptions = scenario("Log in and look at the subscriptions")
+    .feed(feeder)
+    .exec(
+      http("Log in")
+        .post("/auth/login")
+        .basicAuth("${user}", password)
+        .check(status.is(200), jsonPath("$.token").saveAs("token"))
+    )
+    .exec(http("Get current user").get("/user").header("Authorization", "Bearer ${token}").check(status.is(200)))
+    .exec(http("List applications").get("/applications").header("Authorization", "Bearer ${token}").check(status.is(200)))
+    .exec(http("List subscriptions").get("/subscriptions").header("Authorization", "Bearer ${token}").check(status.is(200)))
+    .exec(lastDay)
+    .exec(
+      http("Get application analytics")
+        .get("/applications/${application}/analytics")
+        .header("Authorization", "Bearer ${token}")
+        .queryParam("type", "DATE_HISTO")
+        .queryParam("from", "${from}")
+        .queryParam("to", "${to}")
+        .queryParam("interval", 3600000)
+        .queryParam("aggs", "field:api")
+        .check(status.is(200))
+    )
+
+  setUp(
+    browse.inject(constantUsersPerSec(usersPerSecond).during(duration)),
+    search.inject(constantUsersPerSec(usersPerSecond).during(duration)),
+    subscriptions.inject(constantUsersPerSec(usersPerSecond).during(duration))
+  ).protocols(httpProtocol)
+    .assertions(global.failedRequests.percent.lt(1))
+}
@@ -17,6 +17,8 @@ package io.gravitee.rest.api.idp.ldap.lookup;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.springframework.core.env.Environment;
@@ -32,6 +34,9 @@ import org.springframework.security.ldap.server.ApacheDSContainer;
  */
 public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSource> {
 
+    private static final String JNDI_LDAP_CONNECT_TIMEOUT = "com.sun.jndi.ldap.connect.timeout";
+    private static final String JNDI_LDAP_READ_TIMEOUT = "com.sun.jndi.ldap.read.timeout";
+
     @Autowired
     private Environment environment;
 
@@ -60,6 +65,15 @@ public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSou
         }
 
         ldapContextSource = contextSourceBuilder.build();
+
+        // Lookups are done with the manager credentials: keep their connections in the JNDI pool and bound the time spent
+        // waiting for a slow directory.
+        ldapContextSource.setPooled(environment.getProperty("context.pool.enabled", boolean.class, true));
+        Map<String, Object> baseEnvironment = new HashMap<>();
+        baseEnvironment.put(JNDI_LDAP_CONNECT_TIMEOUT, environment.getProperty("context.connect-timeout", "5000"));
+        baseEnvironment.put(JNDI_LDAP_READ_TIMEOUT, environment.getProperty("context.read-timeout", "10000"));
+        ldapContextSource.setBaseEnvironmentProperties(baseEnvironment);
+
         return ldapContextSource;
     }
 
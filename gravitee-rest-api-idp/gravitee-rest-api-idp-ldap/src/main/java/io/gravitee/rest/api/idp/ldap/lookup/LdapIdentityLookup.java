@@ -21,8 +21,12 @@ import io.gravitee.rest.api.idp.api.identity.User;
 import io.gravitee.rest.api.idp.ldap.LdapIdentityProvider;
 import io.gravitee.rest.api.idp.ldap.lookup.spring.LdapIdentityLookupConfiguration;
 import io.gravitee.rest.api.idp.ldap.utils.LdapUtils;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.naming.directory.SearchControls;
 import javax.naming.ldap.LdapName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,10 +37,12 @@ import org.springframework.core.env.Environment;
 import org.springframework.ldap.CommunicationException;
 import org.springframework.ldap.LimitExceededException;
 import org.springframework.ldap.NameNotFoundException;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
 import org.springframework.ldap.core.ContextMapper;
 import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.core.support.AbstractContextMapper;
+import org.springframework.ldap.core.support.SingleContextSource;
 import org.springframework.ldap.filter.HardcodedFilter;
 import org.springframework.ldap.query.LdapQuery;
 import org.springframework.ldap.query.LdapQueryBuilder;
@@ -58,6 +64,10 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
     private static final String LDAP_ATTRIBUTE_MAIL = "mail";
     private static final String LDAP_ATTRIBUTE_DISPLAYNAME = "displayName";
     private static final String LDAP_DEFAULT_LOOKUP_FILTER = "(&(objectClass=Person)(|(cn=*{0}*)(uid={0})))";
+    private static final int LDAP_DEFAULT_COUNT_LIMIT = 20;
+    private static final int LDAP_DEFAULT_TIME_LIMIT = 5000;
+    private static final int LDAP_DEFAULT_CACHE_MAX_SIZE = 1000;
+    private static final long LDAP_DEFAULT_CACHE_TTL = 300;
 
     @Autowired
     private LdapTemplate ldapTemplate;
@@ -71,6 +81,16 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
 
     private String[] userAttributes;
 
+    private int countLimit;
+
+    private int timeLimit;
+
+    private int pageSize;
+
+    private LdapLookupCache<String, User> usersCache;
+
+    private LdapLookupCache<String, List<User>> searchesCache;
+
     @Override
     public void afterPropertiesSet() throws Exception {
         String searchFilter = environment.getProperty("lookup.user.filter");
@@ -102,37 +122,84 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
                 .build();
 
         LOGGER.info("User search is based on DN [{}]", baseDn);
+
+        countLimit = environment.getProperty("lookup.user.count-limit", Integer.class, LDAP_DEFAULT_COUNT_LIMIT);
+        timeLimit = environment.getProperty("lookup.user.time-limit", Integer.class, LDAP_DEFAULT_TIME_LIMIT);
+        pageSize = environment.getProperty("lookup.user.page-size", Integer.class, 0);
+
+        final int cacheMaxSize = environment.getProperty("lookup.cache.max-size", Integer.class, LDAP_DEFAULT_CACHE_MAX_SIZE);
+        final long cacheTtl = TimeUnit.SECONDS.toMillis(environment.getProperty("lookup.cache.ttl", Long.class, LDAP_DEFAULT_CACHE_TTL));
+        usersCache = new LdapLookupCache<>(cacheMaxSize, cacheTtl);
+        searchesCache = new LdapLookupCache<>(cacheMaxSize, cacheTtl);
+
+        LOGGER.debug("LDAP lookups are cached for {} ms (max {} entries)", cacheTtl, cacheMaxSize);
     }
 
     @Override
     public Collection<User> search(String query) {
+        final List<User> users = searchesCache.get(query, () -> doSearch(query));
+        return users == null ? Collections.emptyList() : users;
+    }
+
+    private List<User> doSearch(String query) {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
             String usersSearchFilter = environment.getProperty("lookup.user.filter", LDAP_DEFAULT_LOOKUP_FILTER);
             String hardcodedFilter = usersSearchFilter.replaceAll("\\{0}", LdapUtils.addWhitespaceWildcards(query));
 
+            if (pageSize > 0) {
+                return Collections.unmodifiableList(searchByPage(hardcodedFilter));
+            }
+
             LdapQuery ldapQuery = LdapQueryBuilder
                 .query()
                 .base(baseDn)
-                .countLimit(20)
-                .timeLimit(5000)
+                .countLimit(countLimit)
+                .timeLimit(timeLimit)
                 .searchScope(SearchScope.SUBTREE)
                 .attributes(LDAP_ATTRIBUTE_GIVENNAME, LDAP_ATTRIBUTE_SURNAME, LDAP_ATTRIBUTE_MAIL, LDAP_ATTRIBUTE_DISPLAYNAME)
                 .filter(new HardcodedFilter(hardcodedFilter));
 
-            return ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER);
+            return Collections.unmodifiableList(ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER));
         } catch (LimitExceededException lee) {
             LOGGER.info("Too much results while searching for [{}]. Returns an empty list.", query);
-            return Collections.emptyList();
+            return null;
         } catch (CommunicationException ce) {
             LOGGER.error("LDAP server is not reachable.");
-            return Collections.emptyList();
+            return null;
         } finally {
             Thread.currentThread().setContextClassLoader(classLoader);
         }
     }
 
+    /**
+     * Use the paged results control so that directories enforcing a server side size limit (like Active Directory) return
+     * the first <code>countLimit</code> entries instead of failing. All the pages must be read from the same connection.
+     */
+    private List<User> searchByPage(String filter) {
+        final SearchControls searchControls = new SearchControls();
+        searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+        searchControls.setTimeLimit(timeLimit);
+        searchControls.setReturningAttributes(
+            new String[] { LDAP_ATTRIBUTE_GIVENNAME, LDAP_ATTRIBUTE_SURNAME, LDAP_ATTRIBUTE_MAIL, LDAP_ATTRIBUTE_DISPLAYNAME }
+        );
+
+        return SingleContextSource.doWithSingleContext(
+            ldapTemplate.getContextSource(),
+            operations -> {
+                final int limit = countLimit > 0 ? countLimit : Integer.MAX_VALUE;
+                final List<User> users = new ArrayList<>();
+                final PagedResultsDirContextProcessor processor = new PagedResultsDirContextProcessor(Math.min(pageSize, limit));
+                do {
+                    users.addAll(operations.search(baseDn, filter, searchControls, USER_CONTEXT_MAPPER, processor));
+                } while (processor.hasMore() && users.size() < limit);
+
+                return users.size() > limit ? new ArrayList<>(users.subList(0, limit)) : users;
+            }
+        );
+    }
+
     @Override
     public boolean canHandle(IdentityReference identityReference) {
         return LdapIdentityProvider.PROVIDER_TYPE.equalsIgnoreCase(identityReference.getSource());
@@ -140,6 +207,10 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
 
     @Override
     public User retrieve(IdentityReference identityReference) {
+        return usersCache.get(identityReference.getReference(), () -> doRetrieve(identityReference));
+    }
+
+    private User doRetrieve(IdentityReference identityReference) {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
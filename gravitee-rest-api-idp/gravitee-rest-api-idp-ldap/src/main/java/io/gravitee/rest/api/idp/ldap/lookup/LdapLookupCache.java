@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.lookup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A small bounded cache with a time-to-live used to avoid hitting the directory for identities and searches which have
+ * been resolved recently. The least recently used entries are evicted first once the maximum size is reached.
+ *
+ * @author GraviteeSource Team
+ */
+final class LdapLookupCache<K, V> {
+
+    private final long ttl;
+    private final Map<K, Entry<V>> entries;
+
+    LdapLookupCache(final int maxSize, final long ttlInMillis) {
+        this.ttl = ttlInMillis;
+        this.entries =
+            new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+    }
+
+    boolean isEnabled() {
+        return ttl > 0;
+    }
+
+    /**
+     * Returns the cached value for the key or computes it. <code>null</code> values are never cached, so that an identity
+     * created in the directory in the meantime can be found.
+     */
+    V get(final K key, final Supplier<V> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+
+        final long now = System.currentTimeMillis();
+        synchronized (entries) {
+            final Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expireAt > now) {
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+
+        final V value = loader.get();
+        if (value != null) {
+            synchronized (entries) {
+                entries.put(key, new Entry<>(value, now + ttl));
+            }
+        }
+        return value;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expireAt;
+
+        private Entry(final V value, final long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+}
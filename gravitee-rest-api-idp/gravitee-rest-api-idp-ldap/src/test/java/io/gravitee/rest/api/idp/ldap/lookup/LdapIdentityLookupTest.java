@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.lookup;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.rest.api.idp.api.identity.IdentityReference;
+import io.gravitee.rest.api.idp.api.identity.User;
+import java.util.Collection;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.ldap.LimitExceededException;
+import org.springframework.ldap.NameNotFoundException;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LdapIdentityLookupTest {
+
+    private static final String USER_DN = "uid=jdoe,ou=people,dc=gravitee,dc=io";
+
+    @Mock
+    private LdapTemplate ldapTemplate;
+
+    private MockEnvironment environment;
+
+    private LdapIdentityLookup identityLookup;
+
+    @Before
+    public void setUp() {
+        environment = new MockEnvironment().withProperty("context.base", "dc=gravitee,dc=io").withProperty("lookup.user.base", "ou=people");
+    }
+
+    private void initLookup() throws Exception {
+        identityLookup = new LdapIdentityLookup();
+        ReflectionTestUtils.setField(identityLookup, "ldapTemplate", ldapTemplate);
+        ReflectionTestUtils.setField(identityLookup, "environment", environment);
+        identityLookup.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldRetrieveFromCache() throws Exception {
+        initLookup();
+        when(ldapTemplate.lookup(eq(USER_DN), any(String[].class), any(ContextMapper.class))).thenReturn(new LdapUser(USER_DN));
+
+        User first = identityLookup.retrieve(new IdentityReference("ldap", USER_DN));
+        User second = identityLookup.retrieve(new IdentityReference("ldap", USER_DN));
+
+        assertNotNull(first);
+        assertSame(first, second);
+        verify(ldapTemplate, times(1)).lookup(eq(USER_DN), any(String[].class), any(ContextMapper.class));
+    }
+
+    @Test
+    public void shouldNotCacheUnknownIdentity() throws Exception {
+        initLookup();
+        when(ldapTemplate.lookup(eq(USER_DN), any(String[].class), any(ContextMapper.class)))
+            .thenThrow(new NameNotFoundException("unknown"));
+
+        assertNull(identityLookup.retrieve(new IdentityReference("ldap", USER_DN)));
+        assertNull(identityLookup.retrieve(new IdentityReference("ldap", USER_DN)));
+
+        verify(ldapTemplate, times(2)).lookup(eq(USER_DN), any(String[].class), any(ContextMapper.class));
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() throws Exception {
+        environment.setProperty("lookup.cache.ttl", "0");
+        initLookup();
+        when(ldapTemplate.lookup(eq(USER_DN), any(String[].class), any(ContextMapper.class))).thenReturn(new LdapUser(USER_DN));
+
+        identityLookup.retrieve(new IdentityReference("ldap", USER_DN));
+        identityLookup.retrieve(new IdentityReference("ldap", USER_DN));
+
+        verify(ldapTemplate, times(2)).lookup(eq(USER_DN), any(String[].class), any(ContextMapper.class));
+    }
+
+    @Test
+    public void shouldSearchFromCache() throws Exception {
+        initLookup();
+        when(ldapTemplate.search(any(LdapQuery.class), any(ContextMapper.class)))
+            .thenReturn(Collections.singletonList(new LdapUser(USER_DN)));
+
+        Collection<User> first = identityLookup.search("jdoe");
+        Collection<User> second = identityLookup.search("jdoe");
+        identityLookup.search("jdo");
+
+        assertEquals(1, first.size());
+        assertEquals(first, second);
+        verify(ldapTemplate, times(2)).search(any(LdapQuery.class), any(ContextMapper.class));
+    }
+
+    @Test
+    public void shouldNotCacheFailedSearch() throws Exception {
+        initLookup();
+        when(ldapTemplate.search(any(LdapQuery.class), any(ContextMapper.class)))
+            .thenThrow(new LimitExceededException(new javax.naming.SizeLimitExceededException()))
+            .thenReturn(Collections.singletonList(new LdapUser(USER_DN)));
+
+        assertTrue(identityLookup.search("j").isEmpty());
+        assertEquals(1, identityLookup.search("j").size());
+    }
+
+    @Test
+    public void shouldSearchWithConfiguredLimits() throws Exception {
+        environment.setProperty("lookup.user.count-limit", "50");
+        environment.setProperty("lookup.user.time-limit", "1000");
+        initLookup();
+        when(ldapTemplate.search(any(LdapQuery.class), any(ContextMapper.class))).thenReturn(Collections.emptyList());
+
+        identityLookup.search("jdoe");
+
+        ArgumentCaptor<LdapQuery> queryCaptor = ArgumentCaptor.forClass(LdapQuery.class);
+        verify(ldapTemplate).search(queryCaptor.capture(), any(ContextMapper.class));
+        assertEquals(Integer.valueOf(50), queryCaptor.getValue().countLimit());
+        assertEquals(Integer.valueOf(1000), queryCaptor.getValue().timeLimit());
+    }
+}
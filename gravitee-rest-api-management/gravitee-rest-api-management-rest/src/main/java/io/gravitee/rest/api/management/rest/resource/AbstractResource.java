@@ -26,6 +26,7 @@ import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
+import io.gravitee.rest.api.rest.utils.ListResponses;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.exceptions.ForbiddenAccessException;
 import java.net.URI;
@@ -34,6 +35,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
@@ -165,4 +167,11 @@ public abstract class AbstractResource {
         }
         return requestUriBuilder.build();
     }
+
+    /**
+     * @see ListResponses#entityTag(URI, String, Stream)
+     */
+    protected EntityTag computeListEntityTag(Stream<?> versions) {
+        return ListResponses.entityTag(uriInfo.getRequestUri(), getAuthenticatedUserOrNull(), versions);
+    }
 }
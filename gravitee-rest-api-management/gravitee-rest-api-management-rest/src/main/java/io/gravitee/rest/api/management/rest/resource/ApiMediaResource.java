@@ -98,26 +98,27 @@ public class ApiMediaResource extends AbstractResource {
     @Path("/{hash}")
     @ApiOperation(value = "Retrieve a media for an API")
     public Response getApiMediaImage(@Context Request request, @PathParam("hash") String hash) {
-        MediaEntity mediaEntity = mediaService.findByHashAndApiId(hash, api);
-
-        if (mediaEntity == null) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
-
         CacheControl cc = new CacheControl();
         cc.setNoTransform(true);
         cc.setMustRevalidate(false);
         cc.setNoCache(false);
         cc.setMaxAge(86400);
 
+        // The hash is the digest of the media content, preconditions are evaluated before loading it
         EntityTag etag = new EntityTag(hash);
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
-        if (builder != null) {
+        if (builder != null && mediaService.exists(hash, api, false)) {
             // Preconditions are not met, returning HTTP 304 'not-modified'
             return builder.cacheControl(cc).build();
         }
 
+        MediaEntity mediaEntity = mediaService.findByHashAndApiId(hash, api);
+
+        if (mediaEntity == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+
         return Response.ok(mediaEntity.getData()).type(mediaEntity.getMimeType()).cacheControl(cc).tag(etag).build();
     }
 }
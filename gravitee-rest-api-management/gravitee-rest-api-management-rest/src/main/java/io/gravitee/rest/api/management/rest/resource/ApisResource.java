@@ -33,6 +33,7 @@ import io.gravitee.rest.api.management.rest.resource.param.VerifyApiParam;
 import io.gravitee.rest.api.management.rest.security.Permission;
 import io.gravitee.rest.api.management.rest.security.Permissions;
 import io.gravitee.rest.api.model.ImportSwaggerDescriptorEntity;
+import io.gravitee.rest.api.model.PrimaryOwnerEntity;
 import io.gravitee.rest.api.model.RatingSummaryEntity;
 import io.gravitee.rest.api.model.WorkflowState;
 import io.gravitee.rest.api.model.api.*;
@@ -40,6 +41,7 @@ import io.gravitee.rest.api.model.common.Sortable;
 import io.gravitee.rest.api.model.common.SortableImpl;
 import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
+import io.gravitee.rest.api.rest.utils.ListResponses;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.configuration.flow.FlowService;
@@ -50,12 +52,15 @@ import io.gravitee.rest.api.service.notification.Hook;
 import io.swagger.annotations.*;
 import java.net.URI;
 import java.util.*;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import org.springframework.util.StringUtils;
@@ -109,8 +114,22 @@ public class ApisResource extends AbstractResource {
             @ApiResponse(code = 500, message = "Internal server error"),
         }
     )
-    public Collection<ApiListItem> getApis(@BeanParam final ApisParam apisParam) {
-        return getApis(apisParam, null).getData();
+    public Response getApis(@BeanParam final ApisParam apisParam, @Context Request request) {
+        final Page<ApiEntity> apis = findApis(apisParam, null);
+        final List<ApiEntity> items = listItems(apisParam, apis);
+        final Map<String, RatingSummaryEntity> ratingSummaries = findRatingSummaries(items);
+
+        final EntityTag etag = computeListEntityTag(items.stream().map(api -> computeVersion(api, ratingSummaries.get(api.getId()))));
+        Response.ResponseBuilder notModified = ListResponses.evaluatePreconditions(request, etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        return Response
+            .ok(items.stream().map(api -> this.convert(api, ratingSummaries.get(api.getId()))).collect(toList()))
+            .tag(etag)
+            .cacheControl(ListResponses.cacheControl())
+            .build();
     }
 
     @GET
@@ -127,7 +146,37 @@ public class ApisResource extends AbstractResource {
             @ApiResponse(code = 500, message = "Internal server error"),
         }
     )
-    public PagedResult<ApiListItem> getApis(@BeanParam final ApisParam apisParam, @Valid @BeanParam Pageable pageable) {
+    public Response getApis(@BeanParam final ApisParam apisParam, @Valid @BeanParam Pageable pageable, @Context Request request) {
+        final Page<ApiEntity> apis = findApis(apisParam, pageable);
+        final List<ApiEntity> items = listItems(apisParam, apis);
+        final Map<String, RatingSummaryEntity> ratingSummaries = findRatingSummaries(items);
+
+        final EntityTag etag = computeListEntityTag(
+            Stream.concat(
+                Stream.of(apis.getPageNumber() + "|" + apis.getPageElements() + "|" + apis.getTotalElements()),
+                items.stream().map(api -> computeVersion(api, ratingSummaries.get(api.getId())))
+            )
+        );
+        Response.ResponseBuilder notModified = ListResponses.evaluatePreconditions(request, etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        return Response
+            .ok(
+                new PagedResult<>(
+                    items.stream().map(api -> this.convert(api, ratingSummaries.get(api.getId()))).collect(toList()),
+                    apis.getPageNumber(),
+                    (int) apis.getPageElements(),
+                    (int) apis.getTotalElements()
+                )
+            )
+            .tag(etag)
+            .cacheControl(ListResponses.cacheControl())
+            .build();
+    }
+
+    private Page<ApiEntity> findApis(final ApisParam apisParam, final Pageable pageable) {
         final ApiQuery apiQuery = new ApiQuery();
         if (apisParam.getGroup() != null) {
             apiQuery.setGroups(singletonList(apisParam.getGroup()));
@@ -168,30 +217,55 @@ public class ApisResource extends AbstractResource {
             }
         }
 
-        final boolean isRatingServiceEnabled = ratingService.isEnabled();
+        return apis;
+    }
 
+    /**
+     * The top APIs are listed in the order of the top, among the ones visible to the current user.
+     */
+    private List<ApiEntity> listItems(final ApisParam apisParam, final Page<ApiEntity> apis) {
         if (apisParam.isTop()) {
             final List<String> visibleApis = apis.getContent().stream().map(ApiEntity::getId).collect(toList());
-            return new PagedResult<>(
-                topApiService
-                    .findAll()
-                    .stream()
-                    .filter(topApi -> visibleApis.contains(topApi.getApi()))
-                    .map(topApiEntity -> apiService.findById(topApiEntity.getApi()))
-                    .map(apiEntity -> this.convert(apiEntity, isRatingServiceEnabled))
-                    .collect(toList()),
-                apis.getPageNumber(),
-                (int) apis.getPageElements(),
-                (int) apis.getTotalElements()
-            );
+            return topApiService
+                .findAll()
+                .stream()
+                .filter(topApi -> visibleApis.contains(topApi.getApi()))
+                .map(topApiEntity -> apiService.findById(topApiEntity.getApi()))
+                .collect(toList());
+        }
+        return apis.getContent();
+    }
+
+    /**
+     * Ratings have no update date: their summaries are read once, to both tag and convert the list.
+     */
+    private Map<String, RatingSummaryEntity> findRatingSummaries(final List<ApiEntity> apis) {
+        if (!ratingService.isEnabled()) {
+            return Collections.emptyMap();
         }
+        final Map<String, RatingSummaryEntity> ratingSummaries = new HashMap<>();
+        apis.forEach(api -> ratingSummaries.put(api.getId(), ratingService.findSummaryByApi(api.getId())));
+        return ratingSummaries;
+    }
 
-        return new PagedResult<>(
-            apis.getContent().stream().map(apiEntity -> this.convert(apiEntity, isRatingServiceEnabled)).collect(toList()),
-            apis.getPageNumber(),
-            (int) apis.getPageElements(),
-            (int) apis.getTotalElements()
-        );
+    /**
+     * Covers what {@link #convert(ApiEntity, RatingSummaryEntity)} reads: the API itself through its update date, and
+     * its primary owner and ratings which are maintained apart.
+     */
+    private String computeVersion(ApiEntity api, RatingSummaryEntity ratingSummary) {
+        final StringJoiner version = new StringJoiner("|")
+            .add(api.getId())
+            .add(api.getUpdatedAt() == null ? "" : Long.toString(api.getUpdatedAt().getTime()))
+            // a review transition only records a workflow, the API itself is not updated
+            .add(String.valueOf(api.getWorkflowState()));
+        final PrimaryOwnerEntity primaryOwner = api.getPrimaryOwner();
+        if (primaryOwner != null) {
+            version.add(primaryOwner.getId()).add(primaryOwner.getDisplayName()).add(primaryOwner.getEmail());
+        }
+        if (ratingSummary != null) {
+            version.add(String.valueOf(ratingSummary.getAverageRate())).add(Integer.toString(ratingSummary.getNumberOfRatings()));
+        }
+        return version.toString();
     }
 
     /**
@@ -362,12 +436,11 @@ public class ApisResource extends AbstractResource {
             filters.put("api", apiService.findIdsByUser(getAuthenticatedUser(), apiQuery, false));
         }
 
-        final boolean isRatingServiceEnabled = ratingService.isEnabled();
-
         final Page<ApiEntity> apis = apiService.search(query, filters, sortable, commonPageable);
+        final Map<String, RatingSummaryEntity> ratingSummaries = findRatingSummaries(apis.getContent());
 
         return new PagedResult<>(
-            apis.getContent().stream().map(apiEntity -> this.convert(apiEntity, isRatingServiceEnabled)).collect(toList()),
+            apis.getContent().stream().map(api -> this.convert(api, ratingSummaries.get(api.getId()))).collect(toList()),
             apis.getPageNumber(),
             (int) apis.getPageElements(),
             (int) apis.getTotalElements()
@@ -384,7 +457,7 @@ public class ApisResource extends AbstractResource {
         return resourceContext.getResource(ApiMediaResource.class);
     }
 
-    private ApiListItem convert(ApiEntity api, boolean isRatingServiceEnabled) {
+    private ApiListItem convert(ApiEntity api, RatingSummaryEntity ratingSummary) {
         final ApiListItem apiItem = new ApiListItem();
 
         apiItem.setId(api.getId());
@@ -426,8 +499,7 @@ public class ApisResource extends AbstractResource {
             apiItem.setVirtualHosts(api.getProxy().getVirtualHosts());
         }
 
-        if (isRatingServiceEnabled) {
-            final RatingSummaryEntity ratingSummary = ratingService.findSummaryByApi(api.getId());
+        if (ratingSummary != null) {
             apiItem.setRate(ratingSummary.getAverageRate());
             apiItem.setNumberOfRatings(ratingSummary.getNumberOfRatings());
         }
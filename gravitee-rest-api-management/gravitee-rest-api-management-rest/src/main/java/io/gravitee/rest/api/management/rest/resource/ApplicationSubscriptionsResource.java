@@ -34,7 +34,9 @@ import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.service.*;
 import io.swagger.annotations.*;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.validation.Valid;
@@ -135,12 +137,15 @@ public class ApplicationSubscriptionsResource extends AbstractResource {
             for (String e : expand) {
                 switch (e) {
                     case "keys":
+                        final Map<String, List<ApiKeyEntity>> keysBySubscription = apiKeyService.findBySubscriptions(
+                            subscriptions.getContent().stream().map(SubscriptionEntity::getId).collect(Collectors.toList())
+                        );
                         subscriptions
                             .getContent()
                             .forEach(
                                 subscriptionEntity -> {
-                                    final List<String> keys = apiKeyService
-                                        .findBySubscription(subscriptionEntity.getId())
+                                    final List<String> keys = keysBySubscription
+                                        .getOrDefault(subscriptionEntity.getId(), Collections.emptyList())
                                         .stream()
                                         .filter(apiKeyEntity -> !apiKeyEntity.isExpired() && !apiKeyEntity.isRevoked())
                                         .map(ApiKeyEntity::getKey)
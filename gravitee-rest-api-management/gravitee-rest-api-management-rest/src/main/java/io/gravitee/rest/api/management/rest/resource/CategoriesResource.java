@@ -21,8 +21,6 @@ import io.gravitee.rest.api.management.rest.security.Permissions;
 import io.gravitee.rest.api.model.CategoryEntity;
 import io.gravitee.rest.api.model.NewCategoryEntity;
 import io.gravitee.rest.api.model.UpdateCategoryEntity;
-import io.gravitee.rest.api.model.Visibility;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.service.CategoryService;
@@ -30,7 +28,7 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.validation.Valid;
@@ -58,13 +56,12 @@ public class CategoriesResource extends AbstractCategoryResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Retrieve list of categories")
     public List<CategoryEntity> getCategories() {
-        Set<ApiEntity> apis;
+        Map<String, Long> totalApisByCategory;
         if (isAdmin()) {
-            apis = apiService.findAll();
-        } else if (isAuthenticated()) {
-            apis = apiService.findByUser(getAuthenticatedUser(), null, true);
+            totalApisByCategory = apiService.countAllGroupedByCategories();
         } else {
-            apis = apiService.findByVisibility(Visibility.PUBLIC);
+            // anonymous users only count the public APIs
+            totalApisByCategory = apiService.countByUserGroupedByCategories(isAuthenticated() ? getAuthenticatedUser() : null);
         }
 
         boolean All = hasPermission(
@@ -83,7 +80,7 @@ public class CategoriesResource extends AbstractCategoryResource {
             .map(c -> setPictures(c, true))
             .map(
                 c -> {
-                    c.setTotalApis(categoryService.getTotalApisByCategory(apis, c));
+                    c.setTotalApis(totalApisByCategory.getOrDefault(c.getId(), 0L));
                     return c;
                 }
             )
@@ -22,6 +22,8 @@ import io.gravitee.rest.api.management.rest.mapper.ObjectMapperResolver;
 import io.gravitee.rest.api.management.rest.provider.*;
 import io.gravitee.rest.api.management.rest.resource.auth.CockpitAuthenticationResource;
 import io.gravitee.rest.api.management.rest.resource.organization.OrganizationsResource;
+import io.gravitee.rest.api.rest.filter.RepositoryCallContextFilter;
+import io.gravitee.rest.api.rest.provider.RequestMetricsListener;
 import io.gravitee.rest.api.security.authentication.AuthenticationProviderManager;
 import io.swagger.converter.ModelConverter;
 import io.swagger.converter.ModelConverterContext;
@@ -112,6 +114,8 @@ public class GraviteeManagementApplication extends ResourceConfig {
         register(PermissionsFilter.class);
         register(GraviteeContextRequestFilter.class);
         register(GraviteeContextResponseFilter.class);
+        register(RepositoryCallContextFilter.class);
+        register(new RequestMetricsListener("management"));
         register(UriBuilderRequestFilter.class);
         register(MaintenanceFilter.class);
         register(ByteArrayOutputStreamWriter.class);
@@ -25,10 +25,10 @@ import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.model.theme.ThemeEntity;
 import io.gravitee.rest.api.model.theme.UpdateThemeEntity;
+import io.gravitee.rest.api.rest.utils.PictureResponses;
 import io.gravitee.rest.api.service.ThemeService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiParam;
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import javax.inject.Inject;
 import javax.validation.Valid;
@@ -114,25 +114,7 @@ public class ThemeResource extends AbstractResource {
             return Response.temporaryRedirect(URI.create(((UrlPictureEntity) picture).getUrl())).build();
         }
 
-        CacheControl cc = new CacheControl();
-        cc.setNoTransform(true);
-        cc.setMustRevalidate(false);
-        cc.setNoCache(false);
-        cc.setMaxAge(86400);
-
         InlinePictureEntity image = (InlinePictureEntity) picture;
-
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
-        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
-
-        if (builder != null) {
-            // Preconditions are not met, returning HTTP 304 'not-modified'
-            return builder.cacheControl(cc).build();
-        }
-
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
-        return Response.ok().entity(baos).cacheControl(cc).tag(etag).type(image.getType()).build();
+        return PictureResponses.build(request, image);
     }
 }
@@ -36,6 +36,7 @@ import io.gravitee.rest.api.management.rest.model.TokenEntity;
 import io.gravitee.rest.api.management.rest.resource.AbstractResource;
 import io.gravitee.rest.api.management.rest.resource.TokensResource;
 import io.gravitee.rest.api.model.*;
+import io.gravitee.rest.api.rest.utils.PictureResponses;
 import io.gravitee.rest.api.security.cookies.CookieGenerator;
 import io.gravitee.rest.api.security.filter.TokenAuthenticationFilter;
 import io.gravitee.rest.api.security.utils.ImageUtils;
@@ -48,7 +49,6 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
@@ -306,17 +306,14 @@ public class CurrentUserResource extends AbstractResource {
             return Response.ok().build();
         }
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = PictureResponses.entityTag(image);
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
             return builder.build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
-        return ok().entity(baos).tag(etag).type(image.getType()).build();
+        return ok().entity(image.getContent()).tag(etag).type(image.getType()).build();
     }
 
     @POST
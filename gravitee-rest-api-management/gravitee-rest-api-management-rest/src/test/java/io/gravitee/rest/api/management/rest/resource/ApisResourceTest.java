@@ -15,17 +15,25 @@
  */
 package io.gravitee.rest.api.management.rest.resource;
 
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.definition.model.DefinitionVersion;
+import io.gravitee.definition.model.Proxy;
 import io.gravitee.rest.api.model.ImportSwaggerDescriptorEntity;
+import io.gravitee.rest.api.model.RatingSummaryEntity;
+import io.gravitee.rest.api.model.WorkflowState;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.NewApiEntity;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import java.util.Date;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.junit.Test;
@@ -192,4 +200,77 @@ public class ApisResourceTest extends AbstractResourceTest {
 
         verify(apiService, times(1)).migrate(any());
     }
+
+    @Test
+    public void shouldNotConvertApisIfNotModified() {
+        reset(apiService, ratingService);
+        doReturn(new Page<>(singletonList(createListedApi()), 1, 1, 1)).when(apiService).search(any(), any(), any());
+
+        final Response response = envTarget().request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final EntityTag etag = response.getEntityTag();
+
+        final Response notModified = envTarget().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.NOT_MODIFIED_304, notModified.getStatus());
+        assertEquals(etag, notModified.getEntityTag());
+
+        verify(apiService, times(1)).hasHealthCheckEnabled(any(), anyBoolean());
+    }
+
+    @Test
+    public void shouldSendApisIfRatingsChanged() {
+        reset(apiService, ratingService);
+        doReturn(new Page<>(singletonList(createListedApi()), 1, 1, 1)).when(apiService).search(any(), any(), any());
+        when(ratingService.isEnabled()).thenReturn(true);
+        final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
+        ratingSummary.setAverageRate(4.0);
+        ratingSummary.setNumberOfRatings(1);
+        when(ratingService.findSummaryByApi("my-beautiful-api")).thenReturn(ratingSummary);
+
+        final Response response = envTarget().path("_paged").request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final EntityTag etag = response.getEntityTag();
+
+        final RatingSummaryEntity newRatingSummary = new RatingSummaryEntity();
+        newRatingSummary.setAverageRate(3.0);
+        newRatingSummary.setNumberOfRatings(2);
+        when(ratingService.findSummaryByApi("my-beautiful-api")).thenReturn(newRatingSummary);
+
+        final Response modified = envTarget().path("_paged").request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, modified.getStatus());
+        assertNotEquals(etag, modified.getEntityTag());
+        verify(ratingService, times(2)).findSummaryByApi("my-beautiful-api");
+    }
+
+    @Test
+    public void shouldSendApisIfReviewStateChanged() {
+        reset(apiService, ratingService);
+        final ApiEntity inReview = createListedApi();
+        inReview.setWorkflowState(WorkflowState.IN_REVIEW);
+        doReturn(new Page<>(singletonList(inReview), 1, 1, 1)).when(apiService).search(any(), any(), any());
+
+        final Response response = envTarget().request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final EntityTag etag = response.getEntityTag();
+
+        final Response notModified = envTarget().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.NOT_MODIFIED_304, notModified.getStatus());
+
+        final ApiEntity reviewed = createListedApi();
+        reviewed.setWorkflowState(WorkflowState.REVIEW_OK);
+        doReturn(new Page<>(singletonList(reviewed), 1, 1, 1)).when(apiService).search(any(), any(), any());
+
+        final Response modified = envTarget().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, modified.getStatus());
+        assertNotEquals(etag, modified.getEntityTag());
+    }
+
+    private ApiEntity createListedApi() {
+        ApiEntity api = new ApiEntity();
+        api.setId("my-beautiful-api");
+        api.setName("My beautiful api");
+        api.setUpdatedAt(new Date(1600000000000L));
+        api.setProxy(new Proxy());
+        return api;
+    }
 }
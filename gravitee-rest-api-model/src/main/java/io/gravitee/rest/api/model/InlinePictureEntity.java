@@ -23,6 +23,7 @@ public class InlinePictureEntity implements PictureEntity {
 
     private byte[] content;
     private String type;
+    private String hash;
 
     public byte[] getContent() {
         return content;
@@ -39,4 +40,15 @@ public class InlinePictureEntity implements PictureEntity {
     public void setType(String type) {
         this.type = type;
     }
+
+    /**
+     * @return a digest of the content when it is known, <code>null</code> otherwise
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
 }
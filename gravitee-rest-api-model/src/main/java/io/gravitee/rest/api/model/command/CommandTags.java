@@ -22,4 +22,5 @@ package io.gravitee.rest.api.model.command;
 
 public enum CommandTags {
     DATA_TO_INDEX,
+    REPOSITORY_CACHE_INVALIDATION,
 }
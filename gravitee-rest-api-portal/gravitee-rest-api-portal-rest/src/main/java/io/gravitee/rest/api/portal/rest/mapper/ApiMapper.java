@@ -35,8 +35,10 @@ import io.gravitee.rest.api.service.exceptions.CategoryNotFoundException;
 import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -58,6 +60,21 @@ public class ApiMapper {
     private ParameterService parameterService;
 
     public Api convert(ApiEntity api) {
+        return convert(api, ratingService.isEnabled() ? ratingService.findSummaryByApi(api.getId()) : null);
+    }
+
+    /**
+     * @param ratingSummaryEntity the rating summary of the API, or <code>null</code> when the ratings are disabled
+     */
+    public Api convert(ApiEntity api, RatingSummaryEntity ratingSummaryEntity) {
+        return convert(api, ratingSummaryEntity, findDisplayedCategories(api));
+    }
+
+    /**
+     * @param ratingSummaryEntity the rating summary of the API, or <code>null</code> when the ratings are disabled
+     * @param displayedCategories the categories the portal displays, so that lists look them up once for all their APIs
+     */
+    public Api convert(ApiEntity api, RatingSummaryEntity ratingSummaryEntity, Set<String> displayedCategories) {
         final Api apiItem = new Api();
         apiItem.setDescription(api.getDescription());
 
@@ -92,8 +109,7 @@ public class ApiMapper {
         apiItem.setPages(null);
         apiItem.setPlans(null);
 
-        if (ratingService.isEnabled()) {
-            final RatingSummaryEntity ratingSummaryEntity = ratingService.findSummaryByApi(api.getId());
+        if (ratingSummaryEntity != null) {
             RatingSummary ratingSummary = new RatingSummary()
                 .average(ratingSummaryEntity.getAverageRate())
                 .count(BigDecimal.valueOf(ratingSummaryEntity.getNumberOfRatings()));
@@ -106,25 +122,8 @@ public class ApiMapper {
 
         apiItem.setVersion(api.getVersion());
 
-        boolean isCategoryModeEnabled =
-            this.parameterService.findAsBoolean(Key.PORTAL_APIS_CATEGORY_ENABLED, ParameterReferenceType.ENVIRONMENT);
-        if (isCategoryModeEnabled && api.getCategories() != null) {
-            apiItem.setCategories(
-                api
-                    .getCategories()
-                    .stream()
-                    .filter(
-                        categoryId -> {
-                            try {
-                                categoryService.findNotHiddenById(categoryId);
-                                return true;
-                            } catch (CategoryNotFoundException v) {
-                                return false;
-                            }
-                        }
-                    )
-                    .collect(Collectors.toList())
-            );
+        if (api.getCategories() != null) {
+            apiItem.setCategories(api.getCategories().stream().filter(displayedCategories::contains).collect(Collectors.toList()));
         } else {
             apiItem.setCategories(new ArrayList<>());
         }
@@ -132,6 +131,31 @@ public class ApiMapper {
         return apiItem;
     }
 
+    /**
+     * The categories are only displayed when the category mode is enabled, and if they are not hidden.
+     */
+    private Set<String> findDisplayedCategories(ApiEntity api) {
+        boolean isCategoryModeEnabled =
+            this.parameterService.findAsBoolean(Key.PORTAL_APIS_CATEGORY_ENABLED, ParameterReferenceType.ENVIRONMENT);
+        if (!isCategoryModeEnabled || api.getCategories() == null) {
+            return Collections.emptySet();
+        }
+        return api
+            .getCategories()
+            .stream()
+            .filter(
+                categoryId -> {
+                    try {
+                        categoryService.findNotHiddenById(categoryId);
+                        return true;
+                    } catch (CategoryNotFoundException v) {
+                        return false;
+                    }
+                }
+            )
+            .collect(Collectors.toSet());
+    }
+
     public ApiLinks computeApiLinks(String basePath, Date updateDate) {
         ApiLinks apiLinks = new ApiLinks();
         apiLinks.setLinks(basePath + "/links");
@@ -25,6 +25,8 @@ import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.portal.rest.model.Links;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
+import io.gravitee.rest.api.rest.utils.ListResponses;
+import io.gravitee.rest.api.rest.utils.PictureResponses;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PermissionService;
@@ -38,6 +40,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.*;
 import java.util.List;
+import java.util.stream.Stream;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
@@ -361,17 +364,28 @@ public abstract class AbstractResource {
     }
 
     protected Response createPictureResponse(Request request, InlinePictureEntity image) {
-        CacheControl cc = new CacheControl();
-        cc.setNoTransform(true);
-        cc.setMustRevalidate(false);
-        cc.setNoCache(false);
-        cc.setMaxAge(86400);
+        return PictureResponses.build(request, image);
+    }
+
+    /**
+     * Media are addressed by the hash of their content, so a matching <code>If-None-Match</code> can be answered
+     * before the media is loaded.
+     *
+     * @return a 'not-modified' response builder, or <code>null</code> if the media has to be sent
+     */
+    protected Response.ResponseBuilder evaluateMediaPreconditions(Request request, String hashMedia) {
+        Response.ResponseBuilder builder = request.evaluatePreconditions(new EntityTag(hashMedia));
+        return builder == null ? null : builder.cacheControl(createMediaCacheControl());
+    }
 
-        if (image == null || image.getContent() == null) {
+    protected Response createMediaResponse(Request request, String hashMedia, MediaEntity media) {
+        CacheControl cc = createMediaCacheControl();
+
+        if (media == null || media.getData() == null) {
             return Response.ok().cacheControl(cc).build();
         }
 
-        EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
+        EntityTag etag = new EntityTag(hashMedia);
         Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
 
         if (builder != null) {
@@ -379,32 +393,36 @@ public abstract class AbstractResource {
             return builder.cacheControl(cc).build();
         }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        baos.write(image.getContent(), 0, image.getContent().length);
-
-        return Response.ok(baos).cacheControl(cc).tag(etag).type(image.getType()).build();
+        return Response.ok(media.getData()).cacheControl(cc).tag(etag).type(media.getType() + "/" + media.getSubType()).build();
     }
 
-    protected Response createMediaResponse(Request request, String hashMedia, MediaEntity media) {
+    private CacheControl createMediaCacheControl() {
         CacheControl cc = new CacheControl();
         cc.setNoTransform(true);
         cc.setMustRevalidate(false);
         cc.setNoCache(false);
         cc.setMaxAge(86400);
+        return cc;
+    }
 
-        if (media == null || media.getData() == null) {
-            return Response.ok().cacheControl(cc).build();
-        }
-
-        EntityTag etag = new EntityTag(hashMedia);
-        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
-
-        if (builder != null) {
-            // Preconditions are not met, returning HTTP 304 'not-modified'
-            return builder.cacheControl(cc).build();
-        }
+    /**
+     * @see ListResponses#entityTag(URI, String, Stream)
+     */
+    protected EntityTag computeListEntityTag(Stream<?> versions) {
+        return ListResponses.entityTag(uriInfo.getRequestUri(), getAuthenticatedUserOrNull(), versions);
+    }
 
-        return Response.ok(media.getData()).cacheControl(cc).tag(etag).type(media.getType() + "/" + media.getSubType()).build();
+    protected Response createListResponse(
+        List dataList,
+        PaginationParam paginationParam,
+        Map<String, Map<String, Object>> metadata,
+        EntityTag etag
+    ) {
+        return Response
+            .ok(createDataResponse(dataList, paginationParam, metadata, true))
+            .tag(etag)
+            .cacheControl(ListResponses.cacheControl())
+            .build();
     }
 
     private class DataResponse {
@@ -49,6 +49,11 @@ public class ApiMediaResource extends AbstractResource {
         apiQuery.setIds(Collections.singletonList(apiId));
         Collection<ApiEntity> userApis = apiService.findPublishedByUser(getAuthenticatedUserOrNull(), apiQuery);
         if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
+            Response.ResponseBuilder notModified = evaluateMediaPreconditions(request, mediaHash);
+            if (notModified != null && mediaService.exists(mediaHash, apiId, true)) {
+                return notModified.build();
+            }
+
             MediaEntity mediaEntity = mediaService.findByHashAndApi(mediaHash, apiId, true);
 
             if (mediaEntity == null) {
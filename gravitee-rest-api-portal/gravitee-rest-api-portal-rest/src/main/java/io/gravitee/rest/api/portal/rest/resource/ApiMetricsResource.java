@@ -17,7 +17,6 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
 import io.gravitee.repository.healthcheck.query.availability.AvailabilityQuery.Field;
-import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.SubscriptionStatus;
 import io.gravitee.rest.api.model.analytics.query.StatsAnalytics;
 import io.gravitee.rest.api.model.analytics.query.StatsQuery;
@@ -38,7 +37,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.ws.rs.GET;
 import javax.ws.rs.PathParam;
@@ -125,16 +123,11 @@ public class ApiMetricsResource extends AbstractResource {
     }
 
     private Number getApiNbSubscribers(String apiId) {
-        // find all subscribed apis
+        // count subscriptions of the api
         SubscriptionQuery subscriptionQuery = new SubscriptionQuery();
         subscriptionQuery.setApi(apiId);
         subscriptionQuery.setStatuses(Arrays.asList(SubscriptionStatus.ACCEPTED, SubscriptionStatus.PAUSED));
 
-        // group by apis
-        Collection<SubscriptionEntity> searchResult = subscriptionService.search(subscriptionQuery);
-        if (searchResult != null) {
-            return searchResult.stream().collect(Collectors.groupingBy(SubscriptionEntity::getApi, Collectors.counting())).get(apiId);
-        }
-        return null;
+        return subscriptionService.countGroupedByApi(subscriptionQuery).get(apiId);
     }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
+import io.gravitee.rest.api.model.PageEntity;
 import io.gravitee.rest.api.model.api.ApiQuery;
 import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.portal.rest.mapper.PageMapper;
@@ -24,6 +25,7 @@ import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.security.RequirePortalAuth;
 import io.gravitee.rest.api.portal.rest.utils.HttpHeadersUtil;
 import io.gravitee.rest.api.portal.rest.utils.PortalApiLinkHelper;
+import io.gravitee.rest.api.rest.utils.ListResponses;
 import io.gravitee.rest.api.service.AccessControlService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
@@ -32,12 +34,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 /**
@@ -66,14 +71,15 @@ public class ApiPagesResource extends AbstractResource {
         @PathParam("apiId") String apiId,
         @BeanParam PaginationParam paginationParam,
         @QueryParam("homepage") Boolean homepage,
-        @QueryParam("parent") String parent
+        @QueryParam("parent") String parent,
+        @Context Request request
     ) {
         final ApiQuery apiQuery = new ApiQuery();
         apiQuery.setIds(Collections.singletonList(apiId));
         if (accessControlService.canAccessApiFromPortal(apiId)) {
             final String acceptedLocale = HttpHeadersUtil.getFirstAcceptedLocaleName(acceptLang);
 
-            Stream<Page> pageStream = pageService
+            List<PageEntity> pageEntities = pageService
                 .search(
                     new PageQuery.Builder().api(apiId).homepage(homepage).published(true).build(),
                     acceptedLocale,
@@ -81,8 +87,17 @@ public class ApiPagesResource extends AbstractResource {
                 )
                 .stream()
                 .filter(page -> accessControlService.canAccessPageFromPortal(apiId, page))
-                .map(pageMapper::convert)
-                .map(page -> this.addPageLink(apiId, page));
+                .collect(Collectors.toList());
+
+            final EntityTag etag = computeListEntityTag(
+                Stream.concat(Stream.of(acceptedLocale), pageEntities.stream().map(this::computeVersion))
+            );
+            Response.ResponseBuilder notModified = ListResponses.evaluatePreconditions(request, etag);
+            if (notModified != null) {
+                return notModified.build();
+            }
+
+            Stream<Page> pageStream = pageEntities.stream().map(pageMapper::convert).map(page -> this.addPageLink(apiId, page));
 
             List<Page> pages;
             if (parent != null) {
@@ -103,11 +118,29 @@ public class ApiPagesResource extends AbstractResource {
                 pages = pageStream.collect(Collectors.toList());
             }
 
-            return createListResponse(pages, paginationParam);
+            return createListResponse(pages, paginationParam, null, etag);
         }
         throw new ApiNotFoundException(apiId);
     }
 
+    /**
+     * Covers what {@link PageMapper#convert(PageEntity)} reads: the page may be a translation, whose fields replace the
+     * ones of the page without changing its modification date.
+     */
+    private String computeVersion(PageEntity page) {
+        return new StringJoiner("|")
+            .add(page.getId())
+            .add(page.getLastModificationDate() == null ? "" : Long.toString(page.getLastModificationDate().getTime()))
+            .add(page.getName())
+            .add(page.getType())
+            .add(page.getParentId())
+            .add(Integer.toString(page.getOrder()))
+            .add(String.valueOf(page.getConfiguration()))
+            .add(String.valueOf(page.getMetadata()))
+            .add(String.valueOf(page.getContentRevisionId()))
+            .toString();
+    }
+
     private List<String> getAncestors(Map<String, Page> pages, Page page) {
         List<String> ancestors = new ArrayList<>();
         String parentId = page.getParent();
@@ -17,16 +17,24 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
 import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.rest.api.model.CategoryEntity;
+import io.gravitee.rest.api.model.PrimaryOwnerEntity;
+import io.gravitee.rest.api.model.RatingSummaryEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiQuery;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
+import io.gravitee.rest.api.model.parameters.Key;
+import io.gravitee.rest.api.model.parameters.ParameterReferenceType;
 import io.gravitee.rest.api.portal.rest.mapper.ApiMapper;
 import io.gravitee.rest.api.portal.rest.model.Api;
 import io.gravitee.rest.api.portal.rest.resource.param.ApisParam;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.security.RequirePortalAuth;
 import io.gravitee.rest.api.portal.rest.utils.PortalApiLinkHelper;
+import io.gravitee.rest.api.rest.utils.ListResponses;
 import io.gravitee.rest.api.service.CategoryService;
+import io.gravitee.rest.api.service.ParameterService;
+import io.gravitee.rest.api.service.RatingService;
 import io.gravitee.rest.api.service.filtering.FilteringService;
 import java.time.OffsetDateTime;
 import java.util.*;
@@ -37,6 +45,8 @@ import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 /**
@@ -57,10 +67,16 @@ public class ApisResource extends AbstractResource {
     @Inject
     private CategoryService categoryService;
 
+    @Inject
+    private RatingService ratingService;
+
+    @Inject
+    private ParameterService parameterService;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @RequirePortalAuth
-    public Response getApis(@BeanParam PaginationParam paginationParam, @BeanParam ApisParam apisParam) {
+    public Response getApis(@BeanParam PaginationParam paginationParam, @BeanParam ApisParam apisParam, @Context Request request) {
         boolean isCategoryMode = (apisParam.getCategory() != null && apisParam.getFilter() == null);
 
         String categoryFilter = apisParam.getCategory();
@@ -113,9 +129,74 @@ public class ApisResource extends AbstractResource {
             }
         }
 
-        List<Api> apisList = resultStream.map(apiMapper::convert).map(this::addApiLinks).collect(Collectors.toList());
+        final List<ApiEntity> resultList = resultStream.collect(Collectors.toList());
+        final Map<String, RatingSummaryEntity> ratingSummaries = ratingService.isEnabled()
+            ? resultList.stream().collect(Collectors.toMap(ApiEntity::getId, api -> ratingService.findSummaryByApi(api.getId())))
+            : Collections.emptyMap();
+
+        final Set<String> displayedCategories = findDisplayedCategories(resultList);
 
-        return createListResponse(apisList, paginationParam, filteredApis.getMetadata());
+        final EntityTag etag = computeListEntityTag(
+            Stream.concat(
+                Stream.of(filteredApis.getMetadata()),
+                resultList.stream().map(api -> computeVersion(api, ratingSummaries.get(api.getId()), displayedCategories))
+            )
+        );
+        Response.ResponseBuilder notModified = ListResponses.evaluatePreconditions(request, etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        List<Api> apisList = resultList
+            .stream()
+            .map(api -> apiMapper.convert(api, ratingSummaries.get(api.getId()), displayedCategories))
+            .map(this::addApiLinks)
+            .collect(Collectors.toList());
+
+        return createListResponse(apisList, paginationParam, filteredApis.getMetadata(), etag);
+    }
+
+    /**
+     * The categories are only displayed when the category mode is enabled, and if they are not hidden. They are looked
+     * up once for the tag and the conversion of the whole list, and only when one of the listed APIs has some.
+     */
+    private Set<String> findDisplayedCategories(List<ApiEntity> apis) {
+        if (
+            apis.stream().allMatch(api -> api.getCategories() == null || api.getCategories().isEmpty()) ||
+            !parameterService.findAsBoolean(Key.PORTAL_APIS_CATEGORY_ENABLED, ParameterReferenceType.ENVIRONMENT)
+        ) {
+            return Collections.emptySet();
+        }
+        return categoryService
+            .findAll()
+            .stream()
+            .filter(category -> !category.isHidden())
+            .map(CategoryEntity::getId)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Covers what {@link ApiMapper#convert(ApiEntity, RatingSummaryEntity, Set)} reads: the API itself through its update
+     * date, and its primary owner, entrypoints, ratings and displayed categories which are maintained apart.
+     */
+    private String computeVersion(ApiEntity api, RatingSummaryEntity ratingSummary, Set<String> displayedCategories) {
+        final StringJoiner version = new StringJoiner("|")
+            .add(api.getId())
+            .add(api.getUpdatedAt() == null ? "" : Long.toString(api.getUpdatedAt().getTime()));
+        final PrimaryOwnerEntity primaryOwner = api.getPrimaryOwner();
+        if (primaryOwner != null) {
+            version.add(primaryOwner.getId()).add(primaryOwner.getDisplayName()).add(primaryOwner.getEmail());
+        }
+        if (api.getEntrypoints() != null) {
+            api.getEntrypoints().forEach(entrypoint -> version.add(entrypoint.getTarget()));
+        }
+        if (ratingSummary != null) {
+            version.add(String.valueOf(ratingSummary.getAverageRate())).add(Integer.toString(ratingSummary.getNumberOfRatings()));
+        }
+        if (api.getCategories() != null) {
+            version.add(api.getCategories().stream().filter(displayedCategories::contains).collect(Collectors.joining(",")));
+        }
+        return version.toString();
     }
 
     @POST
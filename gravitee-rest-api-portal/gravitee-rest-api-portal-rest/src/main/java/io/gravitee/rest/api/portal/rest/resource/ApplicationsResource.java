@@ -31,6 +31,7 @@ import io.gravitee.rest.api.portal.rest.model.ApplicationInput;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.security.Permission;
 import io.gravitee.rest.api.portal.rest.security.Permissions;
+import io.gravitee.rest.api.rest.utils.ListResponses;
 import io.gravitee.rest.api.service.ApplicationService;
 import io.gravitee.rest.api.service.filtering.FilteringService;
 import io.gravitee.rest.api.service.notification.ApplicationHook;
@@ -44,6 +45,8 @@ import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 /**
@@ -121,7 +124,8 @@ public class ApplicationsResource extends AbstractResource {
     public Response getApplications(
         @BeanParam PaginationParam paginationParam,
         @QueryParam("forSubscription") final boolean forSubscription,
-        @QueryParam("order") @DefaultValue("name") final String order
+        @QueryParam("order") @DefaultValue("name") final String order,
+        @Context Request request
     ) {
         Stream<ApplicationListItem> applicationStream = applicationService.findByUser(getAuthenticatedUser()).stream();
 
@@ -147,7 +151,7 @@ public class ApplicationsResource extends AbstractResource {
                 .map(this::addApplicationLinks)
                 .collect(Collectors.toList());
 
-            return createListResponse(applicationsList, paginationParam, filteredApplications.getMetadata());
+            return createApplicationsResponse(applicationsList, paginationParam, filteredApplications.getMetadata(), request);
         }
 
         Comparator<Application> applicationNameComparator = Comparator.comparing(Application::getName, String.CASE_INSENSITIVE_ORDER);
@@ -160,7 +164,25 @@ public class ApplicationsResource extends AbstractResource {
             .sorted(applicationNameComparator)
             .collect(Collectors.toList());
 
-        return createListResponse(applicationsList, paginationParam);
+        return createApplicationsResponse(applicationsList, paginationParam, null, request);
+    }
+
+    /**
+     * Applications are converted with the groups and the primary owner they reference, which change on their own: they
+     * are tagged after their conversion, only sparing the transfer of an unchanged list.
+     */
+    private Response createApplicationsResponse(
+        List<Application> applicationsList,
+        PaginationParam paginationParam,
+        Map<String, Map<String, Object>> metadata,
+        Request request
+    ) {
+        final EntityTag etag = computeListEntityTag(Stream.concat(Stream.of(metadata), applicationsList.stream()));
+        Response.ResponseBuilder notModified = ListResponses.evaluatePreconditions(request, etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return createListResponse(applicationsList, paginationParam, metadata, etag);
     }
 
     private Application addApplicationLinks(Application application) {
@@ -17,15 +17,15 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.mapper.CategoryMapper;
 import io.gravitee.rest.api.portal.rest.model.Category;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.security.RequirePortalAuth;
+import io.gravitee.rest.api.rest.utils.ListResponses;
 import io.gravitee.rest.api.service.CategoryService;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.ws.rs.BeanParam;
 import javax.ws.rs.GET;
@@ -33,6 +33,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -54,26 +56,39 @@ public class CategoriesResource extends AbstractResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @RequirePortalAuth
-    public Response getCategories(@BeanParam PaginationParam paginationParam) {
-        // FIXME: retrieve all the apis of the user can be heavy because it involves a lot of data fetching. Find a way to just retrieve only necessary data.
-        Set<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull());
+    public Response getCategories(@BeanParam PaginationParam paginationParam, @Context Request request) {
+        Map<String, Long> totalApisByCategory = apiService.countPublishedByUserGroupedByCategories(getAuthenticatedUserOrNull());
 
-        List<Category> categoriesList = categoryService
+        List<CategoryEntity> categories = categoryService
             .findAll()
             .stream()
             .filter(c -> !c.isHidden())
             .sorted(Comparator.comparingInt(CategoryEntity::getOrder))
             .map(
                 c -> {
-                    c.setTotalApis(categoryService.getTotalApisByCategory(apis, c));
+                    c.setTotalApis(totalApisByCategory.getOrDefault(c.getId(), 0L));
                     return c;
                 }
             )
             .filter(c -> c.getTotalApis() > 0)
+            .collect(Collectors.toList());
+
+        final EntityTag etag = computeListEntityTag(
+            categories
+                .stream()
+                .map(c -> c.getId() + '|' + (c.getUpdatedAt() == null ? "" : c.getUpdatedAt().getTime()) + '|' + c.getTotalApis())
+        );
+        Response.ResponseBuilder notModified = ListResponses.evaluatePreconditions(request, etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        List<Category> categoriesList = categories
+            .stream()
             .map(c -> categoryMapper.convert(c, uriInfo.getBaseUriBuilder()))
             .collect(Collectors.toList());
 
-        return createListResponse(categoriesList, paginationParam);
+        return createListResponse(categoriesList, paginationParam, null, etag);
     }
 
     @Path("{categoryId}")
@@ -31,6 +31,7 @@ import io.gravitee.rest.api.portal.rest.model.*;
 import io.gravitee.rest.api.portal.rest.model.Link.ResourceTypeEnum;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.utils.HttpHeadersUtil;
+import io.gravitee.rest.api.rest.utils.ListResponses;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.configuration.application.ApplicationTypeService;
@@ -40,8 +41,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -77,8 +82,18 @@ public class ConfigurationResource extends AbstractResource {
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getPortalConfiguration() {
-        return Response.ok(configMapper.convert(configService.getPortalSettings(), configService.getConsoleSettings())).build();
+    public Response getPortalConfiguration(@Context Request request) {
+        // The settings are read from parameters which have no update date: the configuration is tagged once converted
+        final ConfigurationResponse configuration = configMapper.convert(
+            configService.getPortalSettings(),
+            configService.getConsoleSettings()
+        );
+        final EntityTag etag = computeListEntityTag(Stream.of(configuration));
+        Response.ResponseBuilder notModified = ListResponses.evaluatePreconditions(request, etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(configuration).tag(etag).cacheControl(ListResponses.cacheControl()).build();
     }
 
     @GET
@@ -21,6 +21,8 @@ import io.gravitee.rest.api.portal.rest.filter.PermissionsFilter;
 import io.gravitee.rest.api.portal.rest.filter.SecurityContextFilter;
 import io.gravitee.rest.api.portal.rest.mapper.ObjectMapperResolver;
 import io.gravitee.rest.api.portal.rest.provider.*;
+import io.gravitee.rest.api.rest.filter.RepositoryCallContextFilter;
+import io.gravitee.rest.api.rest.provider.RequestMetricsListener;
 import io.gravitee.rest.api.security.authentication.AuthenticationProviderManager;
 import javax.inject.Inject;
 import org.glassfish.jersey.jackson.JacksonFeature;
@@ -59,6 +61,8 @@ public class GraviteePortalApplication extends ResourceConfig {
         register(SecurityContextFilter.class);
         register(GraviteeContextRequestFilter.class);
         register(GraviteeContextResponseFilter.class);
+        register(RepositoryCallContextFilter.class);
+        register(new RequestMetricsListener("portal"));
         register(PermissionsFilter.class);
         register(UriBuilderRequestFilter.class);
         register(ByteArrayOutputStreamWriter.class);
@@ -40,6 +40,11 @@ public class MediaResource extends AbstractResource {
     @Path("{mediaHash}")
     @Produces({ MediaType.WILDCARD, MediaType.APPLICATION_JSON })
     public Response getPortalMedia(@Context Request request, @PathParam("mediaHash") String mediaHash) {
+        Response.ResponseBuilder notModified = evaluateMediaPreconditions(request, mediaHash);
+        if (notModified != null && mediaService.exists(mediaHash, null, true)) {
+            return notModified.build();
+        }
+
         MediaEntity mediaEntity = mediaService.findByHash(mediaHash, true);
 
         if (mediaEntity == null) {
@@ -18,6 +18,7 @@ package io.gravitee.rest.api.portal.rest.mapper;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import io.gravitee.definition.model.Proxy;
 import io.gravitee.definition.model.VirtualHost;
@@ -215,6 +216,18 @@ public class ApiMapperTest {
         assertNull(ratingSummary);
     }
 
+    @Test
+    public void testConvertWithDisplayedCategories() {
+        apiEntity = new ApiEntity();
+        apiEntity.setId(API_ID);
+        apiEntity.setCategories(new HashSet<>(Arrays.asList(API_CATEGORY, API_CATEGORY_HIDDEN)));
+
+        Api responseApi = apiMapper.convert(apiEntity, null, Collections.singleton(API_CATEGORY));
+
+        assertEquals(Collections.singletonList(API_CATEGORY), responseApi.getCategories());
+        verifyNoInteractions(parameterService, categoryService);
+    }
+
     @Test
     public void testApiLinks() {
         String basePath = "/" + API;
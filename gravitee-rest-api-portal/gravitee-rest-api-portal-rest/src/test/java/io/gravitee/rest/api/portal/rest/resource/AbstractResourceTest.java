@@ -114,6 +114,7 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
         reset(authenticationProvider);
         reset(environmentService);
         reset(accessControlService);
+        reset(mediaService);
     }
 
     public AbstractResourceTest() {
@@ -239,6 +240,9 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
     @Autowired
     protected CategoryService categoryService;
 
+    @Autowired
+    protected MediaService mediaService;
+
     @Autowired
     protected TicketService ticketService;
 
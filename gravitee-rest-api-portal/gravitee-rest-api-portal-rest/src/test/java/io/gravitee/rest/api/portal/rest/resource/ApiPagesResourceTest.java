@@ -16,8 +16,10 @@
 package io.gravitee.rest.api.portal.rest.resource;
 
 import static io.gravitee.common.http.HttpStatusCode.NOT_FOUND_404;
+import static io.gravitee.common.http.HttpStatusCode.NOT_MODIFIED_304;
 import static io.gravitee.common.http.HttpStatusCode.OK_200;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doReturn;
@@ -33,6 +35,8 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import javax.ws.rs.client.Invocation.Builder;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.junit.Before;
 import org.junit.Test;
@@ -127,4 +131,30 @@ public class ApiPagesResourceTest extends AbstractResourceTest {
         assertNotNull(pages);
         assertEquals(0, pages.size());
     }
+
+    @Test
+    public void shouldSendApiPagesIfAccessChanged() {
+        when(accessControlService.canAccessApiFromPortal(API)).thenReturn(true);
+        PageEntity publicPage = new PageEntity();
+        publicPage.setId("public");
+        PageEntity restrictedPage = new PageEntity();
+        restrictedPage.setId("restricted");
+        doReturn(Arrays.asList(publicPage, restrictedPage))
+            .when(pageService)
+            .search(any(), isNull(), eq(GraviteeContext.getCurrentEnvironment()));
+        when(accessControlService.canAccessPageFromPortal(API, restrictedPage)).thenReturn(false);
+
+        final Response response = target(API).path("pages").request().get();
+        assertEquals(OK_200, response.getStatus());
+        final EntityTag etag = response.getEntityTag();
+        assertEquals(NOT_MODIFIED_304, target(API).path("pages").request().header(HttpHeaders.IF_NONE_MATCH, etag).get().getStatus());
+
+        // The user joined the group the restricted page is reserved to
+        when(accessControlService.canAccessPageFromPortal(API, restrictedPage)).thenReturn(true);
+
+        final Response modified = target(API).path("pages").request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(OK_200, modified.getStatus());
+        assertNotEquals(etag, modified.getEntityTag());
+        assertEquals(2, modified.readEntity(PagesResponse.class).getData().size());
+    }
 }
@@ -17,6 +17,8 @@ package io.gravitee.rest.api.portal.rest.resource;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 
@@ -115,9 +117,9 @@ public class ApisResourceNotAuthenticatedTest extends AbstractResourceTest {
 
         doReturn(false).when(ratingService).isEnabled();
 
-        doReturn(new Api().name("A").id("A")).when(apiMapper).convert(publishedApi);
-        doReturn(new Api().name("B").id("B")).when(apiMapper).convert(unpublishedApi);
-        doReturn(new Api().name("C").id("C")).when(apiMapper).convert(anotherPublishedApi);
+        doReturn(new Api().name("A").id("A")).when(apiMapper).convert(eq(publishedApi), isNull(), anySet());
+        doReturn(new Api().name("B").id("B")).when(apiMapper).convert(eq(unpublishedApi), isNull(), anySet());
+        doReturn(new Api().name("C").id("C")).when(apiMapper).convert(eq(anotherPublishedApi), isNull(), anySet());
     }
 
     @Test
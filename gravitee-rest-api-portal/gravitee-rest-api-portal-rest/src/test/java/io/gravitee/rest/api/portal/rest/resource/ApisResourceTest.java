@@ -22,15 +22,20 @@ import static org.mockito.Mockito.doReturn;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.rest.api.model.CategoryEntity;
+import io.gravitee.rest.api.model.RatingSummaryEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.api.ApiQuery;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
+import io.gravitee.rest.api.model.parameters.Key;
+import io.gravitee.rest.api.model.parameters.ParameterReferenceType;
 import io.gravitee.rest.api.portal.rest.model.*;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.junit.Before;
 import org.junit.Test;
@@ -48,6 +53,8 @@ public class ApisResourceTest extends AbstractResourceTest {
         return "apis";
     }
 
+    private Set<ApiEntity> mockApis;
+
     @Before
     public void init() {
         resetAllMocks();
@@ -82,7 +89,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         publishedApi5.setName("6");
         publishedApi5.setId("6");
 
-        Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(publishedApi5, publishedApi2, publishedApi1, publishedApi3, publishedApi4));
+        mockApis = new HashSet<>(Arrays.asList(publishedApi5, publishedApi2, publishedApi1, publishedApi3, publishedApi4));
         doReturn(mockApis).when(apiService).findPublishedByUser(any(), any());
 
         doReturn(false).when(ratingService).isEnabled();
@@ -95,6 +102,14 @@ public class ApisResourceTest extends AbstractResourceTest {
         doReturn(new Api().name("4").id("4")).when(apiMapper).convert(publishedApi3);
         doReturn(new Api().name("5").id("5")).when(apiMapper).convert(publishedApi4);
         doReturn(new Api().name("6").id("6")).when(apiMapper).convert(publishedApi5);
+
+        // The list converts the APIs with their rating summary, disabled here
+        doReturn(new Api().name("1").id("1")).when(apiMapper).convert(eq(publishedApi1), isNull(), anySet());
+        doReturn(new Api().name("2").id("2")).when(apiMapper).convert(eq(unpublishedApi), isNull(), anySet());
+        doReturn(new Api().name("3").id("3")).when(apiMapper).convert(eq(publishedApi2), isNull(), anySet());
+        doReturn(new Api().name("4").id("4")).when(apiMapper).convert(eq(publishedApi3), isNull(), anySet());
+        doReturn(new Api().name("5").id("5")).when(apiMapper).convert(eq(publishedApi4), isNull(), anySet());
+        doReturn(new Api().name("6").id("6")).when(apiMapper).convert(eq(publishedApi5), isNull(), anySet());
     }
 
     @Test
@@ -131,7 +146,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertTrue(bastPathList.contains(expectedBasePath + "/6"));
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(5, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "4", "5", "6")));
@@ -146,7 +161,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(5, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "4", "5", "6")));
@@ -164,7 +179,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(5, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "4", "5", "6")));
@@ -179,7 +194,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(5, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "4", "5", "6")));
@@ -274,7 +289,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(4, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
@@ -296,7 +311,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(4, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
@@ -320,7 +335,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(4, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "5", "6")));
@@ -344,7 +359,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(4, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
@@ -359,7 +374,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1")));
@@ -381,7 +396,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1")));
@@ -405,7 +420,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("4")));
@@ -429,7 +444,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture(), isNull(), anySet());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName()).collect(Collectors.toList());
         assertEquals(1, allNameValues.size());
         assertTrue(allNameValues.containsAll(Arrays.asList("1")));
@@ -437,4 +452,86 @@ public class ApisResourceTest extends AbstractResourceTest {
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(1, apiResponse.getData().size());
     }
+
+    @Test
+    public void shouldNotConvertApisIfNotModified() {
+        final Response response = target().request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final EntityTag etag = response.getEntityTag();
+        assertNotNull(etag);
+
+        Mockito.clearInvocations(apiMapper);
+        final Response notModified = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.NOT_MODIFIED_304, notModified.getStatus());
+        assertEquals(etag, notModified.getEntityTag());
+        Mockito.verify(apiMapper, Mockito.never()).convert(any(), any(), any());
+    }
+
+    @Test
+    public void shouldSendApisIfVisibilityChanged() {
+        final EntityTag etag = target().request().get().getEntityTag();
+
+        // The user joined a group to which a private API is restricted
+        ApiEntity privateApi = new ApiEntity();
+        privateApi.setLifecycleState(ApiLifecycleState.PUBLISHED);
+        privateApi.setName("7");
+        privateApi.setId("7");
+        doReturn(new Api().name("7").id("7")).when(apiMapper).convert(eq(privateApi), isNull(), anySet());
+        List<ApiEntity> visibleApis = new ArrayList<>(mockApis);
+        visibleApis.add(privateApi);
+        doReturn(new HashSet<>(visibleApis)).when(apiService).findPublishedByUser(any(), any());
+        doReturn(new FilteredEntities<>(visibleApis, null)).when(filteringService).filterApis(any(), any(), any());
+
+        final Response response = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertNotEquals(etag, response.getEntityTag());
+        assertEquals(6, response.readEntity(ApisResponse.class).getData().size());
+    }
+
+    @Test
+    public void shouldSendApisIfRatingsChanged() {
+        doReturn(true).when(ratingService).isEnabled();
+        doReturn(new RatingSummaryEntity()).when(ratingService).findSummaryByApi(any());
+        doReturn(new Api().name("1").id("1")).when(apiMapper).convert(any(), any(), any());
+        final EntityTag etag = target().request().get().getEntityTag();
+
+        RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
+        ratingSummary.setAverageRate(4.0);
+        ratingSummary.setNumberOfRatings(1);
+        doReturn(ratingSummary).when(ratingService).findSummaryByApi("1");
+
+        final Response response = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertNotEquals(etag, response.getEntityTag());
+        Mockito.verify(apiMapper).convert(argThat(api -> "1".equals(api.getId())), eq(ratingSummary), anySet());
+    }
+
+    @Test
+    public void shouldNotFindCategoriesIfNoApiHasSome() {
+        doReturn(true).when(parameterService).findAsBoolean(Key.PORTAL_APIS_CATEGORY_ENABLED, ParameterReferenceType.ENVIRONMENT);
+
+        final Response response = target().request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        Mockito.verify(categoryService, Mockito.never()).findAll();
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(any(), isNull(), eq(Collections.emptySet()));
+    }
+
+    @Test
+    public void shouldSendApisIfCategoryHidden() {
+        mockApis.forEach(api -> api.setCategories(Collections.singleton("myCat")));
+        doReturn(true).when(parameterService).findAsBoolean(Key.PORTAL_APIS_CATEGORY_ENABLED, ParameterReferenceType.ENVIRONMENT);
+        CategoryEntity myCat = new CategoryEntity();
+        myCat.setId("myCat");
+        doReturn(Collections.singletonList(myCat)).when(categoryService).findAll();
+        final EntityTag etag = target().request().get().getEntityTag();
+        Mockito.verify(categoryService, Mockito.times(1)).findAll();
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(any(), isNull(), eq(Collections.singleton("myCat")));
+
+        myCat.setHidden(true);
+
+        final Response response = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        assertNotEquals(etag, response.getEntityTag());
+        Mockito.verify(apiMapper, Mockito.times(5)).convert(any(), isNull(), eq(Collections.emptySet()));
+    }
 }
@@ -21,14 +21,13 @@ import static org.mockito.Mockito.doReturn;
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.CategoriesResponse;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import javax.annotation.Priority;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
@@ -89,9 +88,6 @@ public class CategoriesResourceNotAuthenticatedTest extends AbstractResourceTest
     public void init() {
         resetAllMocks();
 
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
-
         CategoryEntity category1 = new CategoryEntity();
         category1.setId("1");
         category1.setHidden(false);
@@ -109,7 +105,11 @@ public class CategoriesResourceNotAuthenticatedTest extends AbstractResourceTest
 
         List<CategoryEntity> mockCategories = Arrays.asList(category1, category2, category3);
         doReturn(mockCategories).when(categoryService).findAll();
-        doReturn(1L).when(categoryService).getTotalApisByCategory(any(), any());
+        Map<String, Long> totalApisByCategory = new HashMap<>();
+        totalApisByCategory.put("1", 1L);
+        totalApisByCategory.put("2", 1L);
+        totalApisByCategory.put("3", 1L);
+        doReturn(totalApisByCategory).when(apiService).countPublishedByUserGroupedByCategories(any());
 
         doReturn(false).when(ratingService).isEnabled();
 
@@ -121,7 +121,7 @@ public class CategoriesResourceNotAuthenticatedTest extends AbstractResourceTest
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        Mockito.verify(apiService).findPublishedByUser(any());
+        Mockito.verify(apiService).countPublishedByUserGroupedByCategories(any());
         CategoriesResponse categoriesResponse = response.readEntity(CategoriesResponse.class);
         assertEquals(2, categoriesResponse.getData().size());
     }
@@ -21,12 +21,13 @@ import static org.mockito.Mockito.doReturn;
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.CategoriesResponse;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import io.gravitee.rest.api.portal.rest.model.ErrorResponse;
 import io.gravitee.rest.api.portal.rest.model.Links;
 import java.util.*;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.junit.Before;
 import org.junit.Test;
@@ -49,29 +50,29 @@ public class CategoriesResourceTest extends AbstractResourceTest {
     public void init() {
         resetAllMocks();
 
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
-
         CategoryEntity category1 = new CategoryEntity();
         category1.setId("1");
         category1.setHidden(false);
         category1.setOrder(2);
-        doReturn(1L).when(categoryService).getTotalApisByCategory(mockApis, category1);
 
         CategoryEntity category2 = new CategoryEntity();
         category2.setId("2");
         category2.setHidden(false);
         category2.setOrder(3);
-        doReturn(0L).when(categoryService).getTotalApisByCategory(mockApis, category2);
 
         CategoryEntity category3 = new CategoryEntity();
         category3.setId("3");
         category3.setHidden(true);
         category3.setOrder(1);
-        doReturn(2L).when(categoryService).getTotalApisByCategory(mockApis, category3);
 
         existingCategories = Arrays.asList(category1, category2, category3);
 
+        Map<String, Long> totalApisByCategory = new HashMap<>();
+        totalApisByCategory.put("1", 1L);
+        totalApisByCategory.put("2", 0L);
+        totalApisByCategory.put("3", 2L);
+        doReturn(totalApisByCategory).when(apiService).countPublishedByUserGroupedByCategories(any());
+
         doReturn(existingCategories).when(categoryService).findAll();
 
         Mockito.when(categoryMapper.convert(any(), any())).thenCallRealMethod();
@@ -80,12 +81,16 @@ public class CategoriesResourceTest extends AbstractResourceTest {
     @Test
     public void shouldGetNotHiddenCategories() {
         // every category contains one API
-        doReturn(1L).when(categoryService).getTotalApisByCategory(any(), any());
+        Map<String, Long> totalApisByCategory = new HashMap<>();
+        totalApisByCategory.put("1", 1L);
+        totalApisByCategory.put("2", 1L);
+        totalApisByCategory.put("3", 1L);
+        doReturn(totalApisByCategory).when(apiService).countPublishedByUserGroupedByCategories(any());
 
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        Mockito.verify(apiService).findPublishedByUser(any());
+        Mockito.verify(apiService).countPublishedByUserGroupedByCategories(any());
         CategoriesResponse categoriesResponse = response.readEntity(CategoriesResponse.class);
         assertEquals(2, categoriesResponse.getData().size());
     }
@@ -133,12 +138,12 @@ public class CategoriesResourceTest extends AbstractResourceTest {
     @Test
     public void shouldGetNothingIfAllCategoriesEmpty() {
         // 0 APIs returned for user in any categories
-        doReturn(0L).when(categoryService).getTotalApisByCategory(any(), any());
+        doReturn(Collections.emptyMap()).when(apiService).countPublishedByUserGroupedByCategories(any());
 
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        Mockito.verify(apiService).findPublishedByUser(any());
+        Mockito.verify(apiService).countPublishedByUserGroupedByCategories(any());
 
         CategoriesResponse categoriesResponse = response.readEntity(CategoriesResponse.class);
 
@@ -150,10 +155,29 @@ public class CategoriesResourceTest extends AbstractResourceTest {
         final Response response = target().request().get();
 
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
-        Mockito.verify(apiService).findPublishedByUser(any());
+        Mockito.verify(apiService).countPublishedByUserGroupedByCategories(any());
 
         CategoriesResponse categoriesResponse = response.readEntity(CategoriesResponse.class);
         // only C1 is returned
         assertEquals(1, categoriesResponse.getData().size());
     }
+
+    @Test
+    public void shouldSendCategoriesIfVisibleApisChanged() {
+        final Response response = target().request().get();
+        assertEquals(HttpStatusCode.OK_200, response.getStatus());
+        final EntityTag etag = response.getEntityTag();
+        assertEquals(HttpStatusCode.NOT_MODIFIED_304, target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get().getStatus());
+
+        // An API of the second category became visible to the user
+        Map<String, Long> totalApisByCategory = new HashMap<>();
+        totalApisByCategory.put("1", 1L);
+        totalApisByCategory.put("2", 1L);
+        doReturn(totalApisByCategory).when(apiService).countPublishedByUserGroupedByCategories(any());
+
+        final Response modified = target().request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(HttpStatusCode.OK_200, modified.getStatus());
+        assertNotEquals(etag, modified.getEntityTag());
+        assertEquals(2, modified.readEntity(CategoriesResponse.class).getData().size());
+    }
 }
@@ -22,13 +22,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 
 import io.gravitee.rest.api.model.CategoryEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.Category;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.security.Principal;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collections;
 import javax.annotation.Priority;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
@@ -96,8 +94,7 @@ public class CategoryResourceNotAuthenticatedTest extends AbstractResourceTest {
         categoryEntity.setHidden(false);
         doReturn(categoryEntity).when(categoryService).findNotHiddenById(CATEGORY_ID);
 
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doReturn(Collections.singletonMap(CATEGORY_ID, 2L)).when(apiService).countPublishedByUserGroupedByCategories(any());
 
         Mockito.when(categoryMapper.convert(any(), any())).thenCallRealMethod();
     }
@@ -108,8 +105,7 @@ public class CategoryResourceNotAuthenticatedTest extends AbstractResourceTest {
         assertEquals(OK_200, response.getStatus());
 
         Mockito.verify(categoryService).findNotHiddenById(CATEGORY_ID);
-        Mockito.verify(apiService).findPublishedByUser(null);
-        Mockito.verify(categoryService).getTotalApisByCategory(any(), any());
+        Mockito.verify(apiService).countPublishedByUserGroupedByCategories(null);
         Mockito.verify(categoryMapper).convert(any(), any());
 
         final Category responseCategory = response.readEntity(Category.class);
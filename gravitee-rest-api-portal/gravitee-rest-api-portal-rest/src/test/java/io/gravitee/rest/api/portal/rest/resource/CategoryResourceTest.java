@@ -23,7 +23,6 @@ import static org.mockito.Mockito.doThrow;
 
 import io.gravitee.rest.api.model.CategoryEntity;
 import io.gravitee.rest.api.model.InlinePictureEntity;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.portal.rest.model.Category;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import io.gravitee.rest.api.portal.rest.model.ErrorResponse;
@@ -34,9 +33,8 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import org.eclipse.jetty.http.HttpHeader;
@@ -70,8 +68,7 @@ public class CategoryResourceTest extends AbstractResourceTest {
         categoryEntity.setHidden(false);
         doReturn(categoryEntity).when(categoryService).findNotHiddenById(CATEGORY_ID);
 
-        Set<ApiEntity> mockApis = new HashSet<>();
-        doReturn(mockApis).when(apiService).findPublishedByUser(any());
+        doReturn(Collections.singletonMap(CATEGORY_ID, 2L)).when(apiService).countPublishedByUserGroupedByCategories(any());
 
         Mockito.when(categoryMapper.convert(any(), any())).thenCallRealMethod();
 
@@ -88,12 +85,12 @@ public class CategoryResourceTest extends AbstractResourceTest {
         assertEquals(OK_200, response.getStatus());
 
         Mockito.verify(categoryService).findNotHiddenById(CATEGORY_ID);
-        Mockito.verify(apiService).findPublishedByUser(USER_NAME);
-        Mockito.verify(categoryService).getTotalApisByCategory(any(), any());
+        Mockito.verify(apiService).countPublishedByUserGroupedByCategories(USER_NAME);
         Mockito.verify(categoryMapper).convert(any(), any());
 
         final Category responseCategory = response.readEntity(Category.class);
         assertNotNull(responseCategory);
+        assertEquals(Long.valueOf(2), responseCategory.getTotalApis());
     }
 
     @Test
@@ -140,4 +137,20 @@ public class CategoryResourceTest extends AbstractResourceTest {
             .get();
         assertEquals(NOT_MODIFIED_304, cachedResponse.getStatus());
     }
+
+    @Test
+    public void shouldTagCategoryPictureWithItsDigest() {
+        mockImage.setHash("picture-digest");
+
+        final Response response = target(CATEGORY_ID).path("picture").request().get();
+        assertEquals(OK_200, response.getStatus());
+        assertEquals("\"picture-digest\"", response.getHeaderString("ETag"));
+
+        final Response cachedResponse = target(CATEGORY_ID)
+            .path("picture")
+            .request()
+            .header(HttpHeader.IF_NONE_MATCH.asString(), "\"picture-digest\"")
+            .get();
+        assertEquals(NOT_MODIFIED_304, cachedResponse.getStatus());
+    }
 }
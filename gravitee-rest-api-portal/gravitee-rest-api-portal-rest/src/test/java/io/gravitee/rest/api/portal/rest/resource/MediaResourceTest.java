@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.portal.rest.resource;
+
+import static io.gravitee.common.http.HttpStatusCode.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.rest.api.model.MediaEntity;
+import javax.ws.rs.core.Response;
+import org.eclipse.jetty.http.HttpHeader;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class MediaResourceTest extends AbstractResourceTest {
+
+    private static final String MEDIA_HASH = "my-media-hash";
+
+    @Override
+    protected String contextPath() {
+        return "media/";
+    }
+
+    @Before
+    public void init() {
+        resetAllMocks();
+    }
+
+    @Test
+    public void shouldGetMedia() {
+        MediaEntity mediaEntity = new MediaEntity();
+        mediaEntity.setHash(MEDIA_HASH);
+        mediaEntity.setType("image");
+        mediaEntity.setSubType("png");
+        mediaEntity.setData(new byte[] { 1, 2, 3 });
+        doReturn(mediaEntity).when(mediaService).findByHash(MEDIA_HASH, true);
+
+        final Response response = target(MEDIA_HASH).request().get();
+
+        assertEquals(OK_200, response.getStatus());
+        assertEquals('"' + MEDIA_HASH + '"', response.getHeaderString(HttpHeader.ETAG.asString()));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, response.readEntity(byte[].class));
+        verify(mediaService, never()).exists(anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    public void shouldNotLoadMediaContentWhenNotModified() {
+        doReturn(true).when(mediaService).exists(MEDIA_HASH, null, true);
+
+        final Response response = target(MEDIA_HASH).request().header(HttpHeader.IF_NONE_MATCH.asString(), '"' + MEDIA_HASH + '"').get();
+
+        assertEquals(NOT_MODIFIED_304, response.getStatus());
+        verify(mediaService, never()).findByHash(anyString(), anyBoolean());
+    }
+
+    @Test
+    public void shouldNotGetUnknownMedia() {
+        final Response response = target(MEDIA_HASH).request().header(HttpHeader.IF_NONE_MATCH.asString(), '"' + MEDIA_HASH + '"').get();
+
+        assertEquals(NOT_FOUND_404, response.getStatus());
+        verify(mediaService).exists(MEDIA_HASH, null, true);
+    }
+}
@@ -23,7 +23,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 
 import io.gravitee.rest.api.model.InlinePictureEntity;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
@@ -63,8 +62,7 @@ public class PictureManagementTest {
 
         assertEquals(mockImage.getType(), mediaType.toString());
 
-        ByteArrayOutputStream baos = (ByteArrayOutputStream) response.getEntity();
-        byte[] fileContent = baos.toByteArray();
+        byte[] fileContent = (byte[]) response.getEntity();
         assertTrue(Arrays.equals(fileContent, imageContent));
 
         String expectedTag = Integer.toString(new String(fileContent).hashCode());
@@ -77,4 +75,20 @@ public class PictureManagementTest {
         final Response cachedResponse = pictureResourceForTest.createPictureResponse(request, mockImage);
         assertEquals(NOT_MODIFIED_304, cachedResponse.getStatus());
     }
+
+    @Test
+    public void testPictureResponseTaggedWithDigest() {
+        Request request = Mockito.mock(Request.class);
+        doReturn(null).when(request).evaluatePreconditions(any(EntityTag.class));
+
+        InlinePictureEntity mockImage = new InlinePictureEntity();
+        mockImage.setContent(new byte[] { 1, 2, 3 });
+        mockImage.setType("image/png");
+        mockImage.setHash("picture-digest");
+
+        Response response = pictureResourceForTest.createPictureResponse(request, mockImage);
+
+        assertEquals(OK_200, response.getStatus());
+        assertEquals("picture-digest", ((EntityTag) response.getHeaders().getFirst("ETag")).getValue());
+    }
 }
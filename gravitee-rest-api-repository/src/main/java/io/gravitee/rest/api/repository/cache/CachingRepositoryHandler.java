@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.cache;
+
+import com.google.common.cache.Cache;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves the read methods of a repository from a cache, and empties this cache whenever a write method is called.
+ *
+ * @author GraviteeSource Team
+ */
+class CachingRepositoryHandler implements InvocationHandler {
+
+    private static final List<String> READ_METHOD_PREFIXES = Arrays.asList("find", "search", "count", "get");
+
+    private final Object target;
+    private final Cache<List<Object>, Object> cache;
+    private final Runnable onWrite;
+
+    /**
+     * Incremented on each invalidation, so that a read started before a write doesn't put its stale result in the cache.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    CachingRepositoryHandler(Object target, Cache<List<Object>, Object> cache, Runnable onWrite) {
+        this.target = target;
+        this.cache = cache;
+        this.onWrite = onWrite;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeTarget(method, args);
+        }
+
+        if (!isRead(method)) {
+            try {
+                return invokeTarget(method, args);
+            } finally {
+                invalidate();
+                onWrite.run();
+            }
+        }
+
+        List<Object> key = Arrays.asList(method, args == null ? Collections.emptyList() : ModelCopier.copy(Arrays.asList(args)));
+        long readGeneration = generation.get();
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return ModelCopier.copy(cached);
+        }
+
+        Object value = invokeTarget(method, args);
+        if (value != null) {
+            Object copy = ModelCopier.copy(value);
+            synchronized (this) {
+                if (generation.get() == readGeneration) {
+                    cache.put(key, copy);
+                }
+            }
+        }
+        return value;
+    }
+
+    synchronized void invalidate() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            // Methods inherited from package-private interfaces, such as CrudRepository, are not accessible otherwise
+            method.setAccessible(true);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ite) {
+            throw ite.getCause();
+        }
+    }
+
+    private static boolean isRead(Method method) {
+        return READ_METHOD_PREFIXES.stream().anyMatch(method.getName()::startsWith);
+    }
+}
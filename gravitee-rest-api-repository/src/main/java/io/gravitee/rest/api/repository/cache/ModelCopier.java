@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Copies repository models, and the collections holding them, so that callers can't alter cached values.
+ *
+ * @author GraviteeSource Team
+ */
+final class ModelCopier {
+
+    private static final String MODEL_PACKAGE_PREFIX = "io.gravitee.repository.";
+
+    private static final ConcurrentMap<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private ModelCopier() {}
+
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof Optional) {
+            return (T) ((Optional<?>) value).map(ModelCopier::copy);
+        } else if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            ((List<?>) value).forEach(element -> copy.add(copy(element)));
+            return (T) copy;
+        } else if (value instanceof Set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            ((Set<?>) value).forEach(element -> copy.add(copy(element)));
+            return (T) copy;
+        } else if (value instanceof Collection) {
+            List<Object> copy = new ArrayList<>(((Collection<?>) value).size());
+            ((Collection<?>) value).forEach(element -> copy.add(copy(element)));
+            return (T) copy;
+        } else if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, element) -> copy.put(key, copy(element)));
+            return (T) copy;
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            for (int i = 0; i < length; i++) {
+                Array.set(copy, i, copy(Array.get(value, i)));
+            }
+            return (T) copy;
+        } else if (!value.getClass().isEnum() && value.getClass().getName().startsWith(MODEL_PACKAGE_PREFIX)) {
+            return (T) copyModel(value);
+        }
+        // Strings, numbers, dates and enums
+        return value;
+    }
+
+    private static Object copyModel(Object model) {
+        try {
+            Constructor<?> constructor = model.getClass().getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Object copy = constructor.newInstance();
+            for (Field field : FIELDS.computeIfAbsent(model.getClass(), ModelCopier::fields)) {
+                Object value = field.get(model);
+                field.set(copy, value instanceof Date ? new Date(((Date) value).getTime()) : copy(value));
+            }
+            return copy;
+        } catch (ReflectiveOperationException roe) {
+            throw new IllegalStateException("Unable to copy repository model " + model.getClass().getName(), roe);
+        }
+    }
+
+    private static List<Field> fields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,238 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.node.api.Node;
+import io.gravitee.repository.management.api.*;
+import io.gravitee.repository.management.api.search.CommandCriteria;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the reads of the reference data repositories, which change rarely but are read on almost every request.
+ *
+ * A write to one of these repositories empties its cache on the current node, and sends a command so that the other
+ * nodes empty theirs at their next poll. The time to live of cached reads bounds how long a node may serve stale data
+ * if such a command is lost.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RepositoryCacheManager implements InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryCacheManager.class);
+
+    static final String INVALIDATION_TAG = "REPOSITORY_CACHE_INVALIDATION";
+
+    private static final String PROPERTY_PREFIX = "cache.repositories.";
+    private static final long INVALIDATION_TTL = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Map<Class<?>, String> CACHEABLE_REPOSITORIES = new LinkedHashMap<>();
+
+    static {
+        CACHEABLE_REPOSITORIES.put(RoleRepository.class, "role");
+        CACHEABLE_REPOSITORIES.put(EnvironmentRepository.class, "environment");
+        CACHEABLE_REPOSITORIES.put(OrganizationRepository.class, "organization");
+        CACHEABLE_REPOSITORIES.put(IdentityProviderRepository.class, "identity_provider");
+        CACHEABLE_REPOSITORIES.put(TenantRepository.class, "tenant");
+        CACHEABLE_REPOSITORIES.put(TagRepository.class, "tag");
+        CACHEABLE_REPOSITORIES.put(EntrypointRepository.class, "entrypoint");
+        CACHEABLE_REPOSITORIES.put(CategoryRepository.class, "category");
+        CACHEABLE_REPOSITORIES.put(DashboardRepository.class, "dashboard");
+    }
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private CommandRepository commandRepository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private Node node;
+
+    private String nodeId;
+    private boolean enabled;
+    private long invalidationInterval;
+
+    private final Map<String, CachingRepositoryHandler> handlers = new ConcurrentHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    public RepositoryCacheManager() {}
+
+    RepositoryCacheManager(Environment environment, CommandRepository commandRepository, MeterRegistry meterRegistry, String nodeId) {
+        this.environment = environment;
+        this.commandRepository = commandRepository;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        enabled = environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, true);
+        invalidationInterval = environment.getProperty(PROPERTY_PREFIX + "invalidation_interval", Long.class, 5L);
+        if (meterRegistry == null) {
+            meterRegistry = Metrics.globalRegistry;
+        }
+        if (nodeId == null) {
+            nodeId = node != null ? node.id() : UUID.randomUUID().toString();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Wraps the given repository with a read-through cache if it holds reference data and its cache is enabled.
+     *
+     * @param repositoryInterface the repository interface exposed by the proxy
+     * @param target the repository to read from on cache misses
+     * @return the caching repository, or the target itself
+     */
+    public <T> T cache(Class<T> repositoryInterface, T target) {
+        String name = CACHEABLE_REPOSITORIES.get(repositoryInterface);
+        if (name == null || !enabled || !environment.getProperty(PROPERTY_PREFIX + name + ".enabled", Boolean.class, true)) {
+            return target;
+        }
+
+        long ttl = getProperty(name, "ttl", 30L);
+        long maxSize = getProperty(name, "max_size", 1000L);
+        Cache<List<Object>, Object> cache = CacheBuilder
+            .newBuilder()
+            .expireAfterWrite(ttl, TimeUnit.SECONDS)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "repository." + name);
+
+        CachingRepositoryHandler handler = new CachingRepositoryHandler(target, cache, () -> sendInvalidation(name));
+        handlers.put(name, handler);
+        startPolling();
+
+        LOGGER.debug("Reads of {} are cached for {} seconds (max size {})", repositoryInterface.getSimpleName(), ttl, maxSize);
+        return repositoryInterface.cast(
+            Proxy.newProxyInstance(repositoryInterface.getClassLoader(), new Class<?>[] { repositoryInterface }, handler)
+        );
+    }
+
+    /**
+     * Empties the caches written to by other nodes.
+     */
+    void poll() {
+        List<Command> commands = commandRepository.search(
+            new CommandCriteria.Builder().to(MessageRecipient.MANAGEMENT_APIS.name()).tags(INVALIDATION_TAG).notAckBy(nodeId).build()
+        );
+        long now = System.currentTimeMillis();
+        for (Command command : commands) {
+            try {
+                if (command.getExpiredAt() != null && command.getExpiredAt().getTime() < now) {
+                    commandRepository.delete(command.getId());
+                } else if (!nodeId.equals(command.getFrom())) {
+                    CachingRepositoryHandler handler = handlers.get(command.getContent());
+                    if (handler != null) {
+                        handler.invalidate();
+                    }
+                    List<String> acknowledgments = new ArrayList<>();
+                    if (command.getAcknowledgments() != null) {
+                        acknowledgments.addAll(command.getAcknowledgments());
+                    }
+                    acknowledgments.add(nodeId);
+                    command.setAcknowledgments(acknowledgments);
+                    commandRepository.update(command);
+                }
+            } catch (Exception ex) {
+                LOGGER.error("An error occurs while processing repository cache invalidation {}", command.getId(), ex);
+            }
+        }
+    }
+
+    private void sendInvalidation(String name) {
+        Command command = new Command();
+        command.setId(UUID.randomUUID().toString());
+        // Invalidations are not bound to an environment
+        command.setEnvironmentId("DEFAULT");
+        command.setFrom(nodeId);
+        command.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+        command.setTags(Collections.singletonList(INVALIDATION_TAG));
+        command.setContent(name);
+        long now = System.currentTimeMillis();
+        command.setCreatedAt(new Date(now));
+        command.setUpdatedAt(command.getCreatedAt());
+        command.setExpiredAt(new Date(now + INVALIDATION_TTL));
+
+        try {
+            commandRepository.create(command);
+        } catch (Exception ex) {
+            LOGGER.error("An error occurs while sending the invalidation of the {} repository cache to other nodes", name, ex);
+        }
+    }
+
+    private void startPolling() {
+        if (invalidationInterval > 0 && polling.compareAndSet(false, true)) {
+            executor =
+                Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "gio-repository-cache-invalidation");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                );
+            executor.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        poll();
+                    } catch (Exception ex) {
+                        LOGGER.error("An error occurs while polling repository cache invalidations", ex);
+                    }
+                },
+                invalidationInterval,
+                invalidationInterval,
+                TimeUnit.SECONDS
+            );
+        }
+    }
+
+    private long getProperty(String name, String property, long defaultValue) {
+        Long defaultProperty = environment.getProperty(PROPERTY_PREFIX + property, Long.class, defaultValue);
+        return environment.getProperty(PROPERTY_PREFIX + name + "." + property, Long.class, defaultProperty);
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track, for the current thread, of the REST resource being served and of the repository calls it makes.
+ *
+ * @author GraviteeSource Team
+ */
+public final class RepositoryCallContext {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryCallContext.class);
+
+    private static final ThreadLocal<RequestCalls> contextThread = new ThreadLocal<>();
+
+    private static volatile long slowRequestThreshold = -1;
+
+    private RepositoryCallContext() {}
+
+    public static void start(String resource) {
+        contextThread.set(new RequestCalls(resource));
+    }
+
+    public static String getCurrentResource() {
+        RequestCalls requestCalls = contextThread.get();
+        return requestCalls == null ? null : requestCalls.resource;
+    }
+
+    /**
+     * Ends the current request and logs a summary of its repository calls if they took longer than the configured
+     * threshold.
+     */
+    public static void end() {
+        RequestCalls requestCalls = contextThread.get();
+        contextThread.remove();
+
+        if (requestCalls != null && slowRequestThreshold >= 0) {
+            long totalMillis = TimeUnit.NANOSECONDS.toMillis(requestCalls.totalNanos);
+            if (totalMillis >= slowRequestThreshold) {
+                LOGGER.warn(
+                    "{} spent {} ms in {} repository calls: {}",
+                    requestCalls.resource,
+                    totalMillis,
+                    requestCalls.count,
+                    requestCalls.summary()
+                );
+            }
+        }
+    }
+
+    static void record(String call, long durationNanos) {
+        RequestCalls requestCalls = contextThread.get();
+        if (requestCalls != null) {
+            requestCalls.record(call, durationNanos);
+        }
+    }
+
+    static void setSlowRequestThreshold(long slowRequestThreshold) {
+        RepositoryCallContext.slowRequestThreshold = slowRequestThreshold;
+    }
+
+    private static class RequestCalls {
+
+        private final String resource;
+        private final Map<String, long[]> calls = new HashMap<>();
+        private int count;
+        private long totalNanos;
+
+        private RequestCalls(String resource) {
+            this.resource = resource;
+        }
+
+        private void record(String call, long durationNanos) {
+            // [number of calls, total duration]
+            long[] stats = calls.computeIfAbsent(call, k -> new long[2]);
+            stats[0]++;
+            stats[1] += durationNanos;
+            count++;
+            totalNanos += durationNanos;
+        }
+
+        private String summary() {
+            return calls
+                .entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1]).reversed())
+                .map(
+                    entry ->
+                        entry.getKey() + " x" + entry.getValue()[0] + " (" + TimeUnit.NANOSECONDS.toMillis(entry.getValue()[1]) + " ms)"
+                )
+                .collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the latency and the number of calls of every repository method, per REST resource which made the calls. Calls
+ * made outside of a REST request are tagged with the <code>none</code> resource. The percentile histogram of the timers
+ * is only published on demand, as it multiplies the number of series by the number of buckets.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RepositoryMetrics implements InitializingBean {
+
+    static final String METRIC_NAME = "gravitee.repository.calls";
+
+    private static final String NO_RESOURCE = "none";
+
+    @Value("${services.metrics.repositories.enabled:${services.metrics.enabled:false}}")
+    private boolean enabled;
+
+    @Value("${services.metrics.repositories.histogram:false}")
+    private boolean histogram;
+
+    @Value("${services.metrics.repositories.slow_request_threshold:-1}")
+    private long slowRequestThreshold = -1;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    public RepositoryMetrics() {}
+
+    RepositoryMetrics(MeterRegistry meterRegistry, boolean enabled, boolean histogram, long slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.histogram = histogram;
+        this.slowRequestThreshold = slowRequestThreshold;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (meterRegistry == null) {
+            meterRegistry = Metrics.globalRegistry;
+        }
+        RepositoryCallContext.setSlowRequestThreshold(slowRequestThreshold);
+    }
+
+    /**
+     * Wraps the given repository so that each of its calls is timed.
+     *
+     * @param repositoryInterface the repository interface exposed by the proxy
+     * @param target the repository implementation provided by the plugin
+     * @return the instrumented repository, or the target itself if neither the repository metrics nor the slow request
+     * log are enabled
+     */
+    public <T> T instrument(Class<T> repositoryInterface, T target) {
+        if (!enabled && slowRequestThreshold < 0) {
+            return target;
+        }
+
+        String repository = repositoryInterface.getSimpleName();
+        ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+        return repositoryInterface.cast(
+            Proxy.newProxyInstance(
+                repositoryInterface.getClassLoader(),
+                new Class<?>[] { repositoryInterface },
+                (proxy, method, args) -> invoke(repository, timers, target, method, args)
+            )
+        );
+    }
+
+    private Object invoke(String repository, ConcurrentMap<String, Timer> timers, Object target, Method method, Object[] args)
+        throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(target, args);
+        }
+
+        if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            // Methods inherited from package-private interfaces, such as CrudRepository, are not accessible otherwise
+            method.setAccessible(true);
+        }
+
+        String outcome = "success";
+        long start = System.nanoTime();
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ite) {
+            outcome = "error";
+            throw ite.getCause();
+        } finally {
+            long duration = System.nanoTime() - start;
+            if (enabled) {
+                timer(repository, timers, method.getName(), outcome).record(duration, TimeUnit.NANOSECONDS);
+            }
+
+            RepositoryCallContext.record(repository + '.' + method.getName(), duration);
+        }
+    }
+
+    private Timer timer(String repository, ConcurrentMap<String, Timer> timers, String method, String outcome) {
+        String currentResource = RepositoryCallContext.getCurrentResource();
+        String resource = currentResource == null ? NO_RESOURCE : currentResource;
+        return timers.computeIfAbsent(
+            method + ':' + outcome + ':' + resource,
+            key ->
+                Timer
+                    .builder(METRIC_NAME)
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .tag("resource", resource)
+                    .publishPercentileHistogram(histogram)
+                    .register(meterRegistry)
+        );
+    }
+}
@@ -19,6 +19,8 @@ import io.gravitee.plugin.core.api.*;
 import io.gravitee.plugin.core.internal.AnnotationBasedPluginContextConfigurer;
 import io.gravitee.repository.Repository;
 import io.gravitee.repository.Scope;
+import io.gravitee.rest.api.repository.cache.RepositoryCacheManager;
+import io.gravitee.rest.api.repository.metrics.RepositoryMetrics;
 import io.gravitee.rest.api.repository.proxy.AbstractProxy;
 import java.util.*;
 import org.slf4j.Logger;
@@ -56,6 +58,12 @@ public class RepositoryPluginHandler implements PluginHandler, InitializingBean
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private RepositoryMetrics repositoryMetrics;
+
+    @Autowired
+    private RepositoryCacheManager repositoryCacheManager;
+
     private final Map<Scope, Repository> repositories = new HashMap<>();
     private final Map<Scope, String> repositoryTypeByScope = new HashMap<>();
     private final Map<String, Collection<Scope>> scopeByRepositoryType = new HashMap<>();
@@ -158,7 +166,13 @@ public class RepositoryPluginHandler implements PluginHandler, InitializingBean
                         Object proxyRepository = beanFactory.getBean(repositoryItfClass);
                         if (proxyRepository instanceof AbstractProxy) {
                             AbstractProxy proxy = (AbstractProxy) proxyRepository;
-                            proxy.setTarget(repositoryClassInstance);
+                            Class<Object> repositoryInterface = (Class<Object>) repositoryItfClass;
+                            proxy.setTarget(
+                                repositoryCacheManager.cache(
+                                    repositoryInterface,
+                                    repositoryMetrics.instrument(repositoryInterface, repositoryClassInstance)
+                                )
+                            );
                         }
                     } catch (NoSuchBeanDefinitionException nsbde) {
                         LOGGER.debug("Unable to proxify {} [{}]", beanName, repositoryItfClass);
@@ -23,5 +23,9 @@ import org.springframework.context.annotation.Configuration;
  * @author GraviteeSource Team
  */
 @Configuration
-@ComponentScan(basePackages = "io.gravitee.rest.api.repository.proxy")
+@ComponentScan(
+    basePackages = {
+        "io.gravitee.rest.api.repository.proxy", "io.gravitee.rest.api.repository.metrics", "io.gravitee.rest.api.repository.cache",
+    }
+)
 public class RepositoryConfiguration {}
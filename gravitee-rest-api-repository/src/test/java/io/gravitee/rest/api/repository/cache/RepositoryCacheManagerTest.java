@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.CommandRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.TagRepository;
+import io.gravitee.repository.management.model.Command;
+import io.gravitee.repository.management.model.Tag;
+import io.gravitee.repository.management.model.TagReferenceType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryCacheManagerTest {
+
+    private static final String NODE_ID = "node";
+
+    private MockEnvironment environment;
+    private CommandRepository commandRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private RepositoryCacheManager cacheManager;
+    private InMemoryTagRepository tagRepository;
+
+    @Before
+    public void setUp() {
+        environment = new MockEnvironment();
+        // invalidations are polled manually by the tests
+        environment.setProperty("cache.repositories.invalidation_interval", "0");
+        commandRepository = mock(CommandRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new RepositoryCacheManager(environment, commandRepository, meterRegistry, NODE_ID);
+        tagRepository = new InMemoryTagRepository();
+        tagRepository.tags.put("tag", tag("tag", "Tag"));
+    }
+
+    @After
+    public void tearDown() {
+        cacheManager.destroy();
+    }
+
+    @Test
+    public void shouldReadThroughCache() throws TechnicalException {
+        cacheManager.afterPropertiesSet();
+        TagRepository cached = cacheManager.cache(TagRepository.class, tagRepository);
+
+        assertEquals("Tag", cached.findById("tag").get().getName());
+        assertEquals("Tag", cached.findById("tag").get().getName());
+        assertEquals(1, cached.findByReference("DEFAULT", TagReferenceType.ORGANIZATION).size());
+        assertEquals(1, cached.findByReference("DEFAULT", TagReferenceType.ORGANIZATION).size());
+
+        assertEquals(2, tagRepository.reads.get());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tags("cache", "repository.tag", "result", "hit").functionCounter().count(), 0);
+    }
+
+    @Test
+    public void shouldNotExposeCachedValues() throws TechnicalException {
+        cacheManager.afterPropertiesSet();
+        TagRepository cached = cacheManager.cache(TagRepository.class, tagRepository);
+
+        cached.findById("tag").get().setName("Altered");
+        cached.findById("tag").get().getRestrictedGroups().add("group");
+
+        Tag tag = cached.findById("tag").get();
+        assertEquals("Tag", tag.getName());
+        assertTrue(tag.getRestrictedGroups().isEmpty());
+    }
+
+    @Test
+    public void shouldInvalidateOnWriteAndNotifyOtherNodes() throws TechnicalException {
+        cacheManager.afterPropertiesSet();
+        TagRepository cached = cacheManager.cache(TagRepository.class, tagRepository);
+        cached.findById("tag");
+
+        Tag updated = tag("tag", "Updated");
+        cached.update(updated);
+
+        assertEquals("Updated", cached.findById("tag").get().getName());
+        assertEquals(2, tagRepository.reads.get());
+
+        ArgumentCaptor<Command> command = ArgumentCaptor.forClass(Command.class);
+        verify(commandRepository).create(command.capture());
+        assertEquals("tag", command.getValue().getContent());
+        assertEquals(NODE_ID, command.getValue().getFrom());
+        assertEquals(Collections.singletonList(RepositoryCacheManager.INVALIDATION_TAG), command.getValue().getTags());
+    }
+
+    @Test
+    public void shouldInvalidateOnCommandFromOtherNode() throws TechnicalException {
+        cacheManager.afterPropertiesSet();
+        TagRepository cached = cacheManager.cache(TagRepository.class, tagRepository);
+        cached.findById("tag");
+        tagRepository.tags.put("tag", tag("tag", "Updated elsewhere"));
+
+        Command command = new Command();
+        command.setId("command");
+        command.setFrom("other-node");
+        command.setContent("tag");
+        command.setExpiredAt(new Date(System.currentTimeMillis() + 60000));
+        when(commandRepository.search(any())).thenReturn(Collections.singletonList(command));
+
+        cacheManager.poll();
+
+        assertEquals("Updated elsewhere", cached.findById("tag").get().getName());
+        assertEquals(Collections.singletonList(NODE_ID), command.getAcknowledgments());
+        verify(commandRepository).update(command);
+    }
+
+    @Test
+    public void shouldDeleteExpiredInvalidations() throws TechnicalException {
+        cacheManager.afterPropertiesSet();
+        Command command = new Command();
+        command.setId("command");
+        command.setFrom(NODE_ID);
+        command.setContent("tag");
+        command.setExpiredAt(new Date(System.currentTimeMillis() - 1000));
+        when(commandRepository.search(any())).thenReturn(Collections.singletonList(command));
+
+        cacheManager.poll();
+
+        verify(commandRepository).delete("command");
+        verify(commandRepository, never()).update(any());
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() throws TechnicalException {
+        environment.setProperty("cache.repositories.tag.enabled", "false");
+        cacheManager.afterPropertiesSet();
+
+        assertSame(tagRepository, cacheManager.cache(TagRepository.class, tagRepository));
+    }
+
+    @Test
+    public void shouldNotCacheOtherRepositories() {
+        cacheManager.afterPropertiesSet();
+        PlanRepository planRepository = mock(PlanRepository.class);
+
+        assertSame(planRepository, cacheManager.cache(PlanRepository.class, planRepository));
+    }
+
+    private static Tag tag(String id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        tag.setReferenceId("DEFAULT");
+        tag.setReferenceType(TagReferenceType.ORGANIZATION);
+        tag.setRestrictedGroups(new ArrayList<>());
+        return tag;
+    }
+
+    private static class InMemoryTagRepository implements TagRepository {
+
+        private final Map<String, Tag> tags = new ConcurrentHashMap<>();
+        private final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public Optional<Tag> findById(String id) {
+            reads.incrementAndGet();
+            return Optional.ofNullable(tags.get(id));
+        }
+
+        @Override
+        public Tag create(Tag tag) {
+            tags.put(tag.getId(), tag);
+            return tag;
+        }
+
+        @Override
+        public Tag update(Tag tag) {
+            return create(tag);
+        }
+
+        @Override
+        public void delete(String id) {
+            tags.remove(id);
+        }
+
+        @Override
+        public Set<Tag> findByReference(String referenceId, TagReferenceType referenceType) {
+            reads.incrementAndGet();
+            return tags
+                .values()
+                .stream()
+                .filter(tag -> referenceId.equals(tag.getReferenceId()) && referenceType == tag.getReferenceType())
+                .collect(Collectors.toSet());
+        }
+
+        @Override
+        public Optional<Tag> findByIdAndReference(String id, String referenceId, TagReferenceType referenceType) {
+            return findById(id).filter(tag -> referenceId.equals(tag.getReferenceId()) && referenceType == tag.getReferenceType());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.repository.metrics;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.TagRepository;
+import io.gravitee.repository.management.model.Tag;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RepositoryMetrics repositoryMetrics;
+    private TagRepository tagRepository;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repositoryMetrics = new RepositoryMetrics(meterRegistry, true, false, -1);
+        repositoryMetrics.afterPropertiesSet();
+        tagRepository = mock(TagRepository.class);
+    }
+
+    @After
+    public void tearDown() {
+        RepositoryCallContext.end();
+    }
+
+    @Test
+    public void shouldRecordCallsPerRepositoryMethod() throws TechnicalException {
+        Tag tag = new Tag();
+        when(tagRepository.findById("tag")).thenReturn(Optional.of(tag));
+        TagRepository instrumented = repositoryMetrics.instrument(TagRepository.class, tagRepository);
+
+        RepositoryCallContext.start("TagResource.get");
+        assertSame(tag, instrumented.findById("tag").get());
+        instrumented.findById("tag");
+        RepositoryCallContext.end();
+        instrumented.findById("tag");
+
+        Timer timer = meterRegistry
+            .find(RepositoryMetrics.METRIC_NAME)
+            .tags("repository", "TagRepository", "method", "findById", "outcome", "success", "resource", "TagResource.get")
+            .timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+        Timer outsideRequest = meterRegistry.find(RepositoryMetrics.METRIC_NAME).tags("method", "findById", "resource", "none").timer();
+        assertNotNull(outsideRequest);
+        assertEquals(1, outsideRequest.count());
+        assertEquals(2, meterRegistry.find(RepositoryMetrics.METRIC_NAME).timers().size());
+    }
+
+    @Test
+    public void shouldPublishHistogramOnDemand() throws TechnicalException {
+        assertFalse(timerConfig(false).isPercentileHistogram());
+        assertTrue(timerConfig(true).isPercentileHistogram());
+    }
+
+    @Test
+    public void shouldNotInstrumentWhenDisabled() {
+        RepositoryMetrics disabled = new RepositoryMetrics(meterRegistry, false, false, -1);
+        disabled.afterPropertiesSet();
+
+        assertSame(tagRepository, disabled.instrument(TagRepository.class, tagRepository));
+    }
+
+    @Test
+    public void shouldOnlyTrackCallsForSlowRequestLogWhenMetricsDisabled() throws TechnicalException {
+        RepositoryMetrics slowRequestLogOnly = new RepositoryMetrics(meterRegistry, false, false, 0);
+        slowRequestLogOnly.afterPropertiesSet();
+        TagRepository instrumented = slowRequestLogOnly.instrument(TagRepository.class, tagRepository);
+
+        assertNotSame(tagRepository, instrumented);
+        instrumented.findById("tag");
+        verify(tagRepository).findById("tag");
+        assertTrue(meterRegistry.find(RepositoryMetrics.METRIC_NAME).timers().isEmpty());
+    }
+
+    @Test
+    public void shouldRecordFailedCallsAndRethrowTheirException() throws TechnicalException {
+        TechnicalException exception = new TechnicalException("error");
+        when(tagRepository.findById("tag")).thenThrow(exception);
+        TagRepository instrumented = repositoryMetrics.instrument(TagRepository.class, tagRepository);
+
+        try {
+            instrumented.findById("tag");
+            fail("The repository exception should be rethrown");
+        } catch (TechnicalException te) {
+            assertSame(exception, te);
+        }
+
+        Timer failed = meterRegistry.find(RepositoryMetrics.METRIC_NAME).tags("method", "findById", "outcome", "error").timer();
+        assertNotNull(failed);
+        assertEquals(1, failed.count());
+    }
+
+    private DistributionStatisticConfig timerConfig(boolean histogram) throws TechnicalException {
+        List<DistributionStatisticConfig> configs = new ArrayList<>();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry
+            .config()
+            .meterFilter(
+                new MeterFilter() {
+                    @Override
+                    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                        configs.add(config);
+                        return config;
+                    }
+                }
+            );
+        RepositoryMetrics metrics = new RepositoryMetrics(registry, true, histogram, -1);
+        metrics.afterPropertiesSet();
+
+        metrics.instrument(TagRepository.class, tagRepository).findById("tag");
+
+        assertEquals(1, configs.size());
+        return configs.get(0);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.rest.provider;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.jersey2.server.DefaultJerseyTagsProvider;
+import io.micrometer.jersey2.server.JerseyTagsProvider;
+import io.micrometer.jersey2.server.MetricsApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+
+/**
+ * Times every request as the <code>http.server.requests</code> timer, tagged with the matched resource template, the
+ * HTTP method, the status, the outcome and the REST application. Meters go to the global registry, which the node binds to its Prometheus
+ * registry when <code>services.metrics.enabled</code> is set.
+ *
+ * @author GraviteeSource Team
+ */
+public class RequestMetricsListener extends MetricsApplicationEventListener {
+
+    static final String METRIC_NAME = "http.server.requests";
+
+    /**
+     * @param application the name of the REST application (management, portal), used as <code>application</code> tag
+     */
+    public RequestMetricsListener(String application) {
+        super(Metrics.globalRegistry, new ApplicationTagsProvider(application), METRIC_NAME, true);
+    }
+
+    private static class ApplicationTagsProvider implements JerseyTagsProvider {
+
+        private final Tag application;
+
+        private final JerseyTagsProvider delegate = new DefaultJerseyTagsProvider();
+
+        private ApplicationTagsProvider(String application) {
+            this.application = Tag.of("application", application);
+        }
+
+        @Override
+        public Iterable<Tag> httpRequestTags(RequestEvent event) {
+            return Tags.of(delegate.httpRequestTags(event)).and(application);
+        }
+
+        @Override
+        public Iterable<Tag> httpLongRequestTags(RequestEvent event) {
+            return Tags.of(delegate.httpLongRequestTags(event)).and(application);
+        }
+    }
+}
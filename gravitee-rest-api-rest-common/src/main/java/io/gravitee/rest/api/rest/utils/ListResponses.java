@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.rest.utils;
+
+import com.google.common.hash.Hashing;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+/**
+ * Build the conditional responses of the endpoints serving lists (APIs, applications, categories and pages).
+ *
+ * @author GraviteeSource Team
+ */
+public final class ListResponses {
+
+    private ListResponses() {}
+
+    /**
+     * Lists depend on the caller: only its own client may keep them, and it has to revalidate them.
+     */
+    public static CacheControl cacheControl() {
+        CacheControl cc = new CacheControl();
+        cc.setPrivate(true);
+        cc.setNoCache(true);
+        return cc;
+    }
+
+    /**
+     * Lists are tagged with a digest of the request, of the caller and of a version of each of their items. The versions
+     * have to cover everything the representation is built from, so that a matching <code>If-None-Match</code> can be
+     * answered before the items are mapped to their REST representation.
+     */
+    public static EntityTag entityTag(URI requestUri, String user, Stream<?> versions) {
+        final StringBuilder key = new StringBuilder().append(requestUri).append('\n').append(user);
+        versions.forEach(version -> key.append('\n').append(version));
+        return new EntityTag(Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString(), true);
+    }
+
+    /**
+     * @return a 'not-modified' response builder, or <code>null</code> if the list has to be sent
+     */
+    public static Response.ResponseBuilder evaluatePreconditions(Request request, EntityTag etag) {
+        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+        return builder == null ? null : builder.cacheControl(cacheControl());
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.rest.utils;
+
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+/**
+ * Build the responses of the endpoints serving inline pictures (API, application, category, user and theme images).
+ *
+ * @author GraviteeSource Team
+ */
+public final class PictureResponses {
+
+    private static final int MAX_AGE = 86400;
+
+    private PictureResponses() {}
+
+    public static CacheControl cacheControl() {
+        CacheControl cc = new CacheControl();
+        cc.setNoTransform(true);
+        cc.setMustRevalidate(false);
+        cc.setNoCache(false);
+        cc.setMaxAge(MAX_AGE);
+        return cc;
+    }
+
+    /**
+     * Pictures decoded by the services carry the digest of their content. The hash of the content is only computed for
+     * pictures built elsewhere.
+     */
+    public static EntityTag entityTag(InlinePictureEntity image) {
+        return new EntityTag(image.getHash() != null ? image.getHash() : Integer.toString(new String(image.getContent()).hashCode()));
+    }
+
+    /**
+     * @return a 304 when the picture matches the <code>If-None-Match</code> header of the request, the picture otherwise.
+     * An empty response is returned when there is no picture.
+     */
+    public static Response build(Request request, InlinePictureEntity image) {
+        CacheControl cc = cacheControl();
+        if (image == null || image.getContent() == null) {
+            return Response.ok().cacheControl(cc).build();
+        }
+
+        EntityTag etag = entityTag(image);
+        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+
+        if (builder != null) {
+            // Preconditions are not met, returning HTTP 304 'not-modified'
+            return builder.cacheControl(cc).build();
+        }
+
+        return Response.ok(image.getContent()).cacheControl(cc).tag(etag).type(image.getType()).build();
+    }
+}
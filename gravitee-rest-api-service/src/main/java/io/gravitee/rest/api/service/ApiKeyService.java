@@ -19,7 +19,9 @@ import io.gravitee.rest.api.model.ApiKeyEntity;
 import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.key.ApiKeyQuery;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -36,10 +38,26 @@ public interface ApiKeyService {
 
     void revoke(String apiKey, boolean notify);
 
+    /**
+     * Revoke all the active API keys of a subscription, without notifying.
+     */
+    void revokeBySubscription(String subscription);
+
+    /**
+     * Make all the active API keys of a subscription expire at the latest at the given date.
+     */
+    void expireBySubscription(String subscription, Date expireAt);
+
     ApiKeyEntity reactivate(String apiKey);
 
     List<ApiKeyEntity> findBySubscription(String subscription);
 
+    /**
+     * Find the API keys of the given subscriptions, without checking that the subscriptions exist.
+     * @return the API keys by subscription id, most recent first
+     */
+    Map<String, List<ApiKeyEntity>> findBySubscriptions(Collection<String> subscriptions);
+
     ApiKeyEntity findByKey(String apiKey);
 
     void delete(String apiKey);
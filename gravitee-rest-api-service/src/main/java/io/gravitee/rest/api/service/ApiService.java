@@ -56,6 +56,21 @@ public interface ApiService {
 
     Set<ApiEntity> findByVisibility(Visibility visibility);
 
+    /**
+     * Count the published APIs the user can access, grouped by category id.
+     */
+    Map<String, Long> countPublishedByUserGroupedByCategories(String userId);
+
+    /**
+     * Count the APIs the user can access, grouped by category id.
+     */
+    Map<String, Long> countByUserGroupedByCategories(String userId);
+
+    /**
+     * Count the APIs of the current environment, grouped by category id.
+     */
+    Map<String, Long> countAllGroupedByCategories();
+
     ApiEntity create(NewApiEntity api, String userId);
     ApiEntity createFromSwagger(SwaggerApiEntity api, String userId, ImportSwaggerDescriptorEntity swaggerDescriptor);
     ApiEntity createWithApiDefinition(UpdateApiEntity api, String userId, JsonNode apiDefinition);
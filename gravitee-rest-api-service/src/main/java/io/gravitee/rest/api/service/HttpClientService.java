@@ -18,6 +18,7 @@ package io.gravitee.rest.api.service;
 import io.gravitee.common.http.HttpMethod;
 import io.vertx.core.buffer.Buffer;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Florent CHAMFROY (florent.chamfroy at graviteesource.com)
@@ -25,4 +26,16 @@ import java.util.Map;
  */
 public interface HttpClientService {
     Buffer request(HttpMethod method, final String uri, final Map<String, String> headers, String body, Boolean useSystemProxy);
+
+    /**
+     * Sends the request without blocking the caller. The returned future completes with the response body, or
+     * exceptionally when the call fails, times out, answers with a non 2xx status or exceeds the concurrency limit.
+     */
+    CompletableFuture<Buffer> requestAsync(
+        HttpMethod method,
+        final String uri,
+        final Map<String, String> headers,
+        String body,
+        Boolean useSystemProxy
+    );
 }
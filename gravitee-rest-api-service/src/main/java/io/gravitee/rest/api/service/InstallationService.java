@@ -26,6 +26,8 @@ import java.util.Map;
 public interface InstallationService {
     String COCKPIT_INSTALLATION_ID = "COCKPIT_INSTALLATION_ID";
     String COCKPIT_INSTALLATION_STATUS = "COCKPIT_INSTALLATION_STATUS";
+    String UPGRADER_VERSION_PREFIX = "UPGRADER_VERSION_";
+    String UPGRADER_CHECKPOINT_PREFIX = "UPGRADER_CHECKPOINT_";
 
     /**
      * Get the current installation.
@@ -50,6 +52,16 @@ public interface InstallationService {
      */
     InstallationEntity setAdditionalInformation(Map<String, String> additionalInformation);
 
+    /**
+     * Set a single additional information of the current installation, keeping the other ones.
+     *
+     * @param key the key of the information.
+     * @param value the value of the information, or <code>null</code> to remove it.
+     *
+     * @return the updated installation
+     */
+    InstallationEntity putAdditionalInformation(String key, String value);
+
     /**
      * Get installation status, regarding cockpit.
      *
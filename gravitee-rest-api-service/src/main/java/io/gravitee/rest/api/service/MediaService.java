@@ -32,6 +32,15 @@ public interface MediaService {
     MediaEntity findByHash(String id, boolean ignoreType);
     MediaEntity findByHashAndApi(String id, String api, boolean ignoreType);
 
+    /**
+     * Check a media exists without loading its content, so that conditional requests can be answered cheaply.
+     *
+     * @param hash the media hash
+     * @param api the api the media belongs to, or <code>null</code> for a portal media
+     * @param ignoreType <code>false</code> to only consider images
+     */
+    boolean exists(String hash, String api, boolean ignoreType);
+
     List<MediaEntity> findAllWithoutContent(List<PageMediaEntity> pageMediaEntities);
     List<MediaEntity> findAllWithoutContent(List<PageMediaEntity> pageMediaEntities, String api);
 
@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import java.util.Set;
+
+/**
+ * Tracks the initialization of the subsystems a node needs before serving requests, for its readiness probe.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ReadinessService {
+    String UPGRADERS = "upgraders";
+    String SEARCH_INDEX = "search-index";
+    String SYNC = "sync";
+    String HTTP = "http";
+
+    /**
+     * Mark a subsystem as initialized.
+     *
+     * @param subsystem the initialized subsystem.
+     */
+    void ready(String subsystem);
+
+    /**
+     * @return the subsystems expected by the node which are not initialized yet.
+     */
+    Set<String> getPendingSubsystems();
+}
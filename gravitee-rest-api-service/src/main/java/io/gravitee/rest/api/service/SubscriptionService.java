@@ -68,6 +68,30 @@ public interface SubscriptionService {
 
     Page<SubscriptionEntity> search(SubscriptionQuery query, Pageable pageable);
 
+    /**
+     * Count the subscriptions matching the query, grouped by API.
+     * Only APIs with at least one subscription are part of the result.
+     */
+    Map<String, Long> countGroupedByApi(SubscriptionQuery query);
+
+    /**
+     * Count the subscriptions matching the query, grouped by application.
+     * Only applications with at least one subscription are part of the result.
+     */
+    Map<String, Long> countGroupedByApplication(SubscriptionQuery query);
+
+    /**
+     * Count the subscriptions matching the query, grouped by plan.
+     * Only plans with at least one subscription are part of the result.
+     */
+    Map<String, Long> countGroupedByPlan(SubscriptionQuery query);
+
+    /**
+     * Count the subscriptions matching the query, grouped by status.
+     * Only statuses with at least one subscription are part of the result.
+     */
+    Map<SubscriptionStatus, Long> countGroupedByStatus(SubscriptionQuery query);
+
     Metadata getMetadata(List<SubscriptionEntity> subscriptions);
     SubscriptionEntity transfer(TransferSubscriptionEntity transferSubscription, String userId);
     String exportAsCsv(Collection<SubscriptionEntity> subscriptions, Map<String, Map<String, Object>> metadata);
@@ -18,7 +18,9 @@ package io.gravitee.rest.api.service;
 import io.gravitee.repository.management.model.Token;
 import io.gravitee.rest.api.model.NewTokenEntity;
 import io.gravitee.rest.api.model.TokenEntity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -26,6 +28,7 @@ import java.util.List;
  */
 public interface TokenService {
     List<TokenEntity> findByUser(String userId);
+    Map<String, Integer> countByUsers(Collection<String> userIds);
     Token findByToken(String token);
     TokenEntity create(NewTokenEntity token);
     void revokeByUser(String userId);
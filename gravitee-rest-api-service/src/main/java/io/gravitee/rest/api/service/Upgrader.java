@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.service;
 
+import java.util.Set;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -23,4 +25,23 @@ public interface Upgrader {
     boolean upgrade();
 
     int getOrder();
+
+    /**
+     * Upgraders returning a version are one-shot migrations: once an upgrade succeeded, its version is recorded with the
+     * installation and the upgrader is skipped at next startups, until its version changes.
+     *
+     * @return the version of the upgrade, or <code>null</code> if the upgrader has to run at every startup.
+     */
+    default String getVersion() {
+        return null;
+    }
+
+    /**
+     * Upgraders are run concurrently once the upgraders they depend on are completed.
+     *
+     * @return the upgraders this one depends on, or <code>null</code> to depend on all the upgraders of a lower order.
+     */
+    default Set<Class<? extends Upgrader>> getDependencies() {
+        return null;
+    }
 }
@@ -62,6 +62,12 @@ public interface UserService {
 
     Page<UserEntity> search(UserCriteria criteria, Pageable pageable);
 
+    /**
+     * Same as {@link #search(UserCriteria, Pageable)}, but allows callers that only need the user attributes to skip
+     * the computation of the primary owner and active tokens flags.
+     */
+    Page<UserEntity> search(UserCriteria criteria, Pageable pageable, boolean withFlags);
+
     UserEntity register(NewExternalUserEntity newExternalUserEntity);
 
     UserEntity register(NewExternalUserEntity newExternalUserEntity, String confirmationPageUrl);
@@ -36,6 +36,8 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.AlertEventRepository;
 import io.gravitee.repository.management.api.AlertTriggerRepository;
 import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
 import io.gravitee.repository.management.api.search.AlertEventCriteria;
 import io.gravitee.repository.management.api.search.builder.PageableBuilder;
 import io.gravitee.repository.management.model.*;
@@ -46,6 +48,8 @@ import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.parameters.ParameterReferenceType;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.alert.AlertEventCounters;
+import io.gravitee.rest.api.service.impl.alert.AlertMetadataCache;
 import io.gravitee.rest.api.service.impl.alert.EmailNotifierConfiguration;
 import java.io.IOException;
 import java.time.Duration;
@@ -87,6 +91,11 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
     private static final String METADATA_DELETED_APPLICATION_NAME = "Deleted application";
     private static final String METADATA_DELETED_TENANT_NAME = "Deleted tenant";
     private static final String METADATA_DELETED_PLAN_NAME = "Deleted plan";
+    private static final Duration EVENT_COUNTERS_REFRESH = Duration.ofSeconds(10);
+    private static final int EVENT_COUNTERS_PAGE_SIZE = 1_000;
+    private static final long ALERT_METADATA_MAX_ENTRIES = 10_000;
+    private static final Duration ALERT_METADATA_CHECK_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration ALERT_METADATA_TTL = Duration.ofMinutes(10);
 
     @Value("${notifiers.email.subject:[Gravitee.io] %s}")
     private String subject;
@@ -151,6 +160,24 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
     @Autowired
     private ApiMetadataService apiMetadataService;
 
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    private final AlertMetadataCache alertMetadataCache = new AlertMetadataCache(
+        ALERT_METADATA_MAX_ENTRIES,
+        ALERT_METADATA_CHECK_INTERVAL,
+        ALERT_METADATA_TTL
+    );
+
+    private final AlertEventCounters alertEventCounters = new AlertEventCounters(
+        EVENT_COUNTERS_REFRESH,
+        this::searchEvents,
+        this::getLastEvent
+    );
+
     @Override
     public AlertStatusEntity getStatus() {
         AlertStatusEntity status = new AlertStatusEntity();
@@ -298,6 +325,7 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
     public List<AlertTriggerEntity> findByReferenceWithEventCounts(final AlertReferenceType referenceType, final String referenceId) {
         try {
             final List<AlertTrigger> triggers = alertTriggerRepository.findByReference(referenceType.name(), referenceId);
+            final long now = System.currentTimeMillis();
             return triggers
                 .stream()
                 .map(
@@ -306,35 +334,11 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
                         public AlertTriggerEntity apply(AlertTrigger alertTrigger) {
                             AlertTriggerEntity entity = convert(alertTrigger);
 
-                            getLastEvent(entity.getId())
-                                .ifPresent(
-                                    alertEvent -> {
-                                        entity.setLastAlertAt(alertEvent.getCreatedAt());
-                                        entity.setLastAlertMessage(alertEvent.getMessage());
-                                    }
-                                );
-
-                            final Date from = new Date(System.currentTimeMillis());
-
-                            Map<String, Integer> counters = new HashMap<>();
-                            counters.put(
-                                "5m",
-                                countEvents(entity.getId(), from.toInstant().minus(Duration.ofMinutes(5)).toEpochMilli(), from.getTime())
-                            );
-                            counters.put(
-                                "1h",
-                                countEvents(entity.getId(), from.toInstant().minus(Duration.ofHours(1)).toEpochMilli(), from.getTime())
-                            );
-                            counters.put(
-                                "1d",
-                                countEvents(entity.getId(), from.toInstant().minus(Duration.ofDays(1)).toEpochMilli(), from.getTime())
-                            );
-                            counters.put(
-                                "1M",
-                                countEvents(entity.getId(), from.toInstant().minus(Duration.ofDays(30)).toEpochMilli(), from.getTime())
-                            );
-
-                            entity.setCounters(counters);
+                            final AlertEventCounters.TriggerCounters triggerCounters = alertEventCounters.get(entity.getId(), now);
+
+                            entity.setLastAlertAt(triggerCounters.getLastAlertAt());
+                            entity.setLastAlertMessage(triggerCounters.getLastAlertMessage());
+                            entity.setCounters(triggerCounters.count());
                             return entity;
                         }
                     }
@@ -360,6 +364,7 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
             // Remove from repository
             alertTriggerRepository.delete(alertId);
             alertEventRepository.deleteAll(alertId);
+            alertEventCounters.remove(alertId);
 
             // Notify alert plugins
             disableTrigger(alert);
@@ -690,6 +695,7 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
             alertEvent.setMessage(command.getMessage());
 
             alertEventRepository.create(alertEvent);
+            alertEventCounters.add(alertEvent);
         } catch (TechnicalException ex) {
             final String message = "An error occurs while trying to create an alert event from command {}" + command;
             LOGGER.error(message, ex);
@@ -720,13 +726,41 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
                             public void accept(Map.Entry<String, String> entry) {
                                 switch (entry.getKey()) {
                                     case FIELD_API:
-                                        values.put(entry.getKey(), getAPIMetadata(entry.getValue()));
+                                        values.put(
+                                            entry.getKey(),
+                                            UNKNOWN_SERVICE.equals(entry.getValue())
+                                                ? getAPIMetadata(entry.getValue())
+                                                : alertMetadataCache.get(
+                                                    FIELD_API,
+                                                    entry.getValue(),
+                                                    () -> getApiVersion(entry.getValue()),
+                                                    () -> getAPIMetadata(entry.getValue())
+                                                )
+                                        );
                                         break;
                                     case FIELD_APPLICATION:
-                                        values.put(entry.getKey(), getApplicationMetadata(entry.getValue()));
+                                        values.put(
+                                            entry.getKey(),
+                                            UNKNOWN_SERVICE.equals(entry.getValue())
+                                                ? getApplicationMetadata(entry.getValue())
+                                                : alertMetadataCache.get(
+                                                    FIELD_APPLICATION,
+                                                    entry.getValue(),
+                                                    () -> getApplicationVersion(entry.getValue()),
+                                                    () -> getApplicationMetadata(entry.getValue())
+                                                )
+                                        );
                                         break;
                                     case FIELD_PLAN:
-                                        values.put(entry.getKey(), getPlanMetadata(entry.getValue()));
+                                        values.put(
+                                            entry.getKey(),
+                                            alertMetadataCache.get(
+                                                FIELD_PLAN,
+                                                entry.getValue(),
+                                                () -> getPlanVersion(entry.getValue()),
+                                                () -> getPlanMetadata(entry.getValue())
+                                            )
+                                        );
                                         break;
                                 }
                             }
@@ -737,6 +771,33 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
             return values;
         }
 
+        private Date getApiVersion(String api) {
+            try {
+                return apiRepository.findById(api).map(Api::getUpdatedAt).orElse(null);
+            } catch (TechnicalException te) {
+                LOGGER.warn("Unable to check the last update of API {}", api, te);
+                return null;
+            }
+        }
+
+        private Date getApplicationVersion(String application) {
+            try {
+                return applicationRepository.findById(application).map(Application::getUpdatedAt).orElse(null);
+            } catch (TechnicalException te) {
+                LOGGER.warn("Unable to check the last update of application {}", application, te);
+                return null;
+            }
+        }
+
+        private Date getPlanVersion(String plan) {
+            try {
+                return planRepository.findById(plan).map(Plan::getUpdatedAt).orElse(null);
+            } catch (TechnicalException te) {
+                LOGGER.warn("Unable to check the last update of plan {}", plan, te);
+                return null;
+            }
+        }
+
         private Map<String, Object> getAPIMetadata(String api) {
             Map<String, Object> metadata = new HashMap<>();
 
@@ -806,13 +867,21 @@ public class AlertServiceImpl extends TransactionalService implements AlertServi
         }
     }
 
-    private int countEvents(final String triggerId, final long from, final long to) {
-        return (int) alertEventRepository
-            .search(
-                new AlertEventCriteria.Builder().alert(triggerId).from(from).to(to).build(),
-                new PageableBuilder().pageNumber(0).pageSize(1).build()
-            )
-            .getTotalElements();
+    private List<AlertEvent> searchEvents(final long from, final long to) {
+        final List<AlertEvent> events = new ArrayList<>();
+        final AlertEventCriteria criteria = new AlertEventCriteria.Builder().from(from).to(to).build();
+        int pageNumber = 0;
+        List<AlertEvent> content;
+        do {
+            content =
+                alertEventRepository
+                    .search(criteria, new PageableBuilder().pageNumber(pageNumber++).pageSize(EVENT_COUNTERS_PAGE_SIZE).build())
+                    .getContent();
+            if (content != null) {
+                events.addAll(content);
+            }
+        } while (content != null && content.size() == EVENT_COUNTERS_PAGE_SIZE);
+        return events;
     }
 
     private Optional<AlertEvent> getLastEvent(final String triggerId) {
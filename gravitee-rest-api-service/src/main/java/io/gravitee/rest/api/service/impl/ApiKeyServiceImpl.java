@@ -127,12 +127,13 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
 
             // Previously generated keys should be set as revoked
             // Get previously generated keys to set their expiration date
-            Set<ApiKey> oldKeys = apiKeyRepository.findBySubscription(subscription);
-            for (ApiKey oldKey : oldKeys) {
-                if (!oldKey.equals(newApiKey) && !convert(oldKey).isExpired()) {
-                    setExpiration(expirationDate, oldKey);
-                }
-            }
+            final ApiKey createdApiKey = newApiKey;
+            List<ApiKey> oldKeys = apiKeyRepository
+                .findBySubscription(subscription)
+                .stream()
+                .filter(oldKey -> !oldKey.equals(createdApiKey) && !convert(oldKey).isExpired())
+                .collect(Collectors.toList());
+            setExpiration(expirationDate, oldKeys);
 
             // Audit
             final PlanEntity plan = planService.findById(newApiKey.getPlan());
@@ -219,22 +220,8 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
 
             checkApiKeyExpired(key);
 
-            ApiKey previousApiKey = new ApiKey(key);
-            key.setRevoked(true);
-            key.setUpdatedAt(new Date());
-            key.setRevokedAt(key.getUpdatedAt());
-
-            apiKeyRepository.update(key);
-
             final PlanEntity plan = planService.findById(key.getPlan());
-
-            // Audit
-            Map<Audit.AuditProperties, String> properties = new LinkedHashMap<>();
-            properties.put(API_KEY, key.getKey());
-            properties.put(API, plan.getApi());
-            properties.put(APPLICATION, key.getApplication());
-
-            auditService.createApiAuditLog(plan.getApi(), properties, APIKEY_REVOKED, key.getUpdatedAt(), previousApiKey, key);
+            revoke(key, plan);
 
             // notify
             if (notify) {
@@ -256,6 +243,58 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
         }
     }
 
+    @Override
+    public void revokeBySubscription(String subscription) {
+        try {
+            LOGGER.debug("Revoke API Keys of subscription {}", subscription);
+
+            Map<String, PlanEntity> plans = new HashMap<>();
+            for (ApiKey key : apiKeyRepository.findBySubscription(subscription)) {
+                if (!key.isRevoked() && !convert(key).isExpired()) {
+                    revoke(key, plans.computeIfAbsent(key.getPlan(), planService::findById));
+                }
+            }
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to revoke API Keys of subscription {}", subscription, ex);
+            throw new TechnicalManagementException("An error occurs while trying to revoke API Keys of subscription " + subscription, ex);
+        }
+    }
+
+    private void revoke(ApiKey key, PlanEntity plan) throws TechnicalException {
+        ApiKey previousApiKey = new ApiKey(key);
+        key.setRevoked(true);
+        key.setUpdatedAt(new Date());
+        key.setRevokedAt(key.getUpdatedAt());
+
+        apiKeyRepository.update(key);
+
+        // Audit
+        Map<Audit.AuditProperties, String> properties = new LinkedHashMap<>();
+        properties.put(API_KEY, key.getKey());
+        properties.put(API, plan.getApi());
+        properties.put(APPLICATION, key.getApplication());
+
+        auditService.createApiAuditLog(plan.getApi(), properties, APIKEY_REVOKED, key.getUpdatedAt(), previousApiKey, key);
+    }
+
+    @Override
+    public void expireBySubscription(String subscription, Date expireAt) {
+        try {
+            LOGGER.debug("Expire API Keys of subscription {} at {}", subscription, expireAt);
+
+            List<ApiKey> keys = apiKeyRepository
+                .findBySubscription(subscription)
+                .stream()
+                .filter(key -> !key.isRevoked() && !convert(key).isExpired())
+                .filter(key -> key.getExpireAt() == null || key.getExpireAt().after(expireAt))
+                .collect(Collectors.toList());
+            setExpiration(expireAt, keys);
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to expire API Keys of subscription {}", subscription, ex);
+            throw new TechnicalManagementException("An error occurs while trying to expire API Keys of subscription " + subscription, ex);
+        }
+    }
+
     @Override
     public ApiKeyEntity reactivate(String apiKey) {
         try {
@@ -327,6 +366,33 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
         }
     }
 
+    @Override
+    public Map<String, List<ApiKeyEntity>> findBySubscriptions(Collection<String> subscriptions) {
+        try {
+            LOGGER.debug("Find API Keys for subscriptions {}", subscriptions);
+
+            Map<String, List<ApiKeyEntity>> keysBySubscription = new HashMap<>();
+            for (String subscription : subscriptions) {
+                keysBySubscription.put(
+                    subscription,
+                    apiKeyRepository
+                        .findBySubscription(subscription)
+                        .stream()
+                        .map(ApiKeyServiceImpl::convert)
+                        .sorted((o1, o2) -> o2.getCreatedAt().compareTo(o1.getCreatedAt()))
+                        .collect(Collectors.toList())
+                );
+            }
+            return keysBySubscription;
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while finding API keys for subscriptions {}", subscriptions, ex);
+            throw new TechnicalManagementException(
+                String.format("An error occurs while finding API keys for subscriptions %s", subscriptions),
+                ex
+            );
+        }
+    }
+
     @Override
     public ApiKeyEntity findByKey(String apiKey) {
         try {
@@ -452,52 +518,69 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
     }
 
     private void setExpiration(Date expirationDate, ApiKey key) throws TechnicalException {
+        setExpiration(expirationDate, Collections.singletonList(key));
+    }
+
+    /**
+     * Set the expiration date of the given keys. Subscriptions, applications, plans and APIs shared by several keys
+     * are only retrieved once.
+     */
+    private void setExpiration(Date expirationDate, Collection<ApiKey> keys) throws TechnicalException {
         final Date now = new Date();
 
         if (now.after(expirationDate)) {
             expirationDate = now;
         }
 
-        key.setUpdatedAt(now);
-        if (!key.isRevoked()) {
-            //the expired date must be <= than the subscription end date
-            SubscriptionEntity subscription = subscriptionService.findById(key.getSubscription());
-            if (
-                subscription.getEndingAt() != null && (expirationDate == null || subscription.getEndingAt().compareTo(expirationDate) < 0)
-            ) {
-                expirationDate = subscription.getEndingAt();
-            }
+        final Map<String, SubscriptionEntity> subscriptions = new HashMap<>();
+        final Map<String, ApplicationEntity> applications = new HashMap<>();
+        final Map<String, PlanEntity> plans = new HashMap<>();
+        final Map<String, ApiModelEntity> apis = new HashMap<>();
+
+        for (ApiKey key : keys) {
+            key.setUpdatedAt(now);
+            if (!key.isRevoked()) {
+                //the expired date must be <= than the subscription end date
+                Date keyExpirationDate = expirationDate;
+                SubscriptionEntity subscription = subscriptions.computeIfAbsent(key.getSubscription(), subscriptionService::findById);
+                if (
+                    subscription.getEndingAt() != null &&
+                    (keyExpirationDate == null || subscription.getEndingAt().compareTo(keyExpirationDate) < 0)
+                ) {
+                    keyExpirationDate = subscription.getEndingAt();
+                }
 
-            ApiKey oldkey = new ApiKey(key);
-            key.setExpireAt(expirationDate);
-            key.setDaysToExpirationOnLastNotification(null);
-            apiKeyRepository.update(key);
+                ApiKey oldkey = new ApiKey(key);
+                key.setExpireAt(keyExpirationDate);
+                key.setDaysToExpirationOnLastNotification(null);
+                apiKeyRepository.update(key);
 
-            //notify
-            final ApplicationEntity application = applicationService.findById(key.getApplication());
-            final PlanEntity plan = planService.findById(key.getPlan());
-            final ApiModelEntity api = apiService.findByIdForTemplates(plan.getApi());
-            final PrimaryOwnerEntity owner = application.getPrimaryOwner();
+                //notify
+                final ApplicationEntity application = applications.computeIfAbsent(key.getApplication(), applicationService::findById);
+                final PlanEntity plan = plans.computeIfAbsent(key.getPlan(), planService::findById);
+                final ApiModelEntity api = apis.computeIfAbsent(plan.getApi(), apiService::findByIdForTemplates);
+                final PrimaryOwnerEntity owner = application.getPrimaryOwner();
 
-            NotificationParamsBuilder paramsBuilder = new NotificationParamsBuilder();
-            paramsBuilder.api(api).application(application).apikey(key).plan(plan).owner(owner);
-            if (key.getExpireAt() != null && now.before(key.getExpireAt())) {
-                paramsBuilder.expirationDate(key.getExpireAt());
-            }
+                NotificationParamsBuilder paramsBuilder = new NotificationParamsBuilder();
+                paramsBuilder.api(api).application(application).apikey(key).plan(plan).owner(owner);
+                if (key.getExpireAt() != null && now.before(key.getExpireAt())) {
+                    paramsBuilder.expirationDate(key.getExpireAt());
+                }
 
-            final Map<String, Object> params = paramsBuilder.build();
+                final Map<String, Object> params = paramsBuilder.build();
 
-            notifierService.trigger(ApiHook.APIKEY_EXPIRED, api.getId(), params);
+                notifierService.trigger(ApiHook.APIKEY_EXPIRED, api.getId(), params);
 
-            // Audit
-            Map<Audit.AuditProperties, String> properties = new LinkedHashMap<>();
-            properties.put(API_KEY, key.getKey());
-            properties.put(API, api.getId());
-            properties.put(APPLICATION, application.getId());
+                // Audit
+                Map<Audit.AuditProperties, String> properties = new LinkedHashMap<>();
+                properties.put(API_KEY, key.getKey());
+                properties.put(API, api.getId());
+                properties.put(APPLICATION, application.getId());
 
-            auditService.createApiAuditLog(plan.getApi(), properties, APIKEY_EXPIRED, key.getUpdatedAt(), oldkey, key);
-        } else {
-            apiKeyRepository.update(key);
+                auditService.createApiAuditLog(plan.getApi(), properties, APIKEY_EXPIRED, key.getUpdatedAt(), oldkey, key);
+            } else {
+                apiKeyRepository.update(key);
+            }
         }
     }
 
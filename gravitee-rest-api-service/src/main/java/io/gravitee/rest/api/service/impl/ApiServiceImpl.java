@@ -108,7 +108,7 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.xml.bind.DatatypeConverter;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -136,6 +136,11 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     private static final Pattern CORS_REGEX_PATTERN = Pattern.compile("^((\\*)|(null)|(^(([^:\\/?#]+):)?(\\/\\/([^\\/?#]*))?))$");
     private static final String[] CORS_REGEX_CHARS = new String[] { "{", "[", "(", "*" };
     private static final String URI_PATH_SEPARATOR = "/";
+    private static final String DEPLOYMENT_FINGERPRINT_PROPERTY = "deployment_fingerprint";
+    private static final ApiFieldExclusionFilter LIGHT_API_FIELDS = new ApiFieldExclusionFilter.Builder()
+        .excludeDefinition()
+        .excludePicture()
+        .build();
 
     @Autowired
     private ApiRepository apiRepository;
@@ -248,6 +253,8 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     @Value("${configuration.default-api-icon:}")
     private String defaultApiIcon;
 
+    private volatile InlinePictureEntity defaultApiPicture;
+
     private static final Pattern LOGGING_MAX_DURATION_PATTERN = Pattern.compile(
         "(?<before>.*)\\#request.timestamp\\s*\\<\\=?\\s*(?<timestamp>\\d*)l(?<after>.*)"
     );
@@ -1038,10 +1045,14 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     }
 
     private List<Api> findApisByUser(String userId, ApiQuery apiQuery, boolean portal) {
+        return findApisByUser(userId, apiQuery, portal, null);
+    }
+
+    private List<Api> findApisByUser(String userId, ApiQuery apiQuery, boolean portal, ApiFieldExclusionFilter exclusionFilter) {
         //get all public apis
         List<Api> publicApis;
         if (portal) {
-            publicApis = apiRepository.search(queryToCriteria(apiQuery).visibility(PUBLIC).build());
+            publicApis = searchApis(queryToCriteria(apiQuery).visibility(PUBLIC).build(), exclusionFilter);
         } else {
             publicApis = emptyList();
         }
@@ -1070,7 +1081,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 .toArray(String[]::new);
 
             if (userApiIds.length > 0) {
-                userApis = apiRepository.search(queryToCriteria(apiQuery).ids(userApiIds).build());
+                userApis = searchApis(queryToCriteria(apiQuery).ids(userApiIds).build(), exclusionFilter);
             }
 
             // get user groups apis
@@ -1093,7 +1104,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 .map(MembershipEntity::getReferenceId)
                 .toArray(String[]::new);
             if (groupIds.length > 0 && groupIds[0] != null) {
-                groupApis = apiRepository.search(queryToCriteria(apiQuery).groups(groupIds).build());
+                groupApis = searchApis(queryToCriteria(apiQuery).groups(groupIds).build(), exclusionFilter);
             }
 
             // get user subscribed apis, useful when an API becomes private and an app owner is not anymore in members.
@@ -1109,10 +1120,11 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                     final Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
                     if (subscriptions != null && !subscriptions.isEmpty()) {
                         subscribedApis =
-                            apiRepository.search(
+                            searchApis(
                                 queryToCriteria(apiQuery)
                                     .ids(subscriptions.stream().map(SubscriptionEntity::getApi).distinct().toArray(String[]::new))
-                                    .build()
+                                    .build(),
+                                exclusionFilter
                             );
                     }
                 }
@@ -1128,6 +1140,10 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         return allApis.stream().distinct().collect(toList());
     }
 
+    private List<Api> searchApis(ApiCriteria criteria, ApiFieldExclusionFilter exclusionFilter) {
+        return exclusionFilter == null ? apiRepository.search(criteria) : apiRepository.search(criteria, exclusionFilter);
+    }
+
     private boolean canManageApi(Map<String, char[]> permissions) {
         return permissions
             .entrySet()
@@ -1166,6 +1182,39 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         return findPublishedByUser(userId, null);
     }
 
+    @Override
+    public Map<String, Long> countPublishedByUserGroupedByCategories(String userId) {
+        final ApiQuery apiQuery = new ApiQuery();
+        apiQuery.setLifecycleStates(Arrays.asList(io.gravitee.rest.api.model.api.ApiLifecycleState.PUBLISHED));
+        return countByCategories(findApisByUser(userId, apiQuery, true, LIGHT_API_FIELDS));
+    }
+
+    @Override
+    public Map<String, Long> countByUserGroupedByCategories(String userId) {
+        return countByCategories(findApisByUser(userId, null, true, LIGHT_API_FIELDS));
+    }
+
+    @Override
+    public Map<String, Long> countAllGroupedByCategories() {
+        LOGGER.debug("Count all APIs by category for current environment {}", GraviteeContext.getCurrentEnvironment());
+        return countByCategories(
+            apiRepository.search(new ApiCriteria.Builder().environmentId(GraviteeContext.getCurrentEnvironment()).build(), LIGHT_API_FIELDS)
+        );
+    }
+
+    /**
+     * Counts are computed on the repository model, only the ids and categories of the APIs are read: there is no need to
+     * resolve primary owners nor to parse definitions to know how many APIs are in a category.
+     */
+    private Map<String, Long> countByCategories(Collection<Api> apis) {
+        final Map<String, Long> countByCategory = new HashMap<>();
+        apis
+            .stream()
+            .filter(api -> api.getCategories() != null)
+            .forEach(api -> api.getCategories().forEach(category -> countByCategory.merge(category, 1L, Long::sum)));
+        return countByCategory;
+    }
+
     private Stream<ApiEntity> filterApiByQuery(Stream<ApiEntity> apiEntityStream, ApiQuery query) {
         if (query == null) {
             return apiEntityStream;
@@ -1806,7 +1855,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     public boolean isSynchronized(String apiId) {
         try {
             // 1_ First, check the API state
-            ApiEntity api = findById(apiId);
+            final Api api = this.findApiById(apiId);
 
             Map<String, Object> properties = new HashMap<>();
             properties.put(Event.EventProperties.API_ID.getValue(), apiId);
@@ -1824,18 +1873,29 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 // According to page size, we know that we have only one element in the list
                 EventEntity lastEvent = events.getContent().get(0);
 
-                //TODO: Done only for backward compatibility with 0.x. Must be removed later (1.1.x ?)
-                boolean enabled = objectMapper.getDeserializationConfig().isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-                objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-                Api payloadEntity = objectMapper.readValue(lastEvent.getPayload(), Api.class);
-                objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, enabled);
-
-                final ApiEntity deployedApi = convert(payloadEntity);
-                // Remove policy description from sync check
-                removeDescriptionFromPolicies(api);
-                removeDescriptionFromPolicies(deployedApi);
+                final String deployedFingerprint = lastEvent.getProperties() != null
+                    ? lastEvent.getProperties().get(DEPLOYMENT_FINGERPRINT_PROPERTY)
+                    : null;
 
-                boolean sync = apiSynchronizationProcessor.processCheckSynchronization(deployedApi, api);
+                boolean sync;
+                if (deployedFingerprint != null) {
+                    sync = deployedFingerprint.equals(apiSynchronizationProcessor.computeDeploymentFingerprint(api.getDefinition()));
+                } else {
+                    // The event has been created before deployment fingerprints, compare with the deployed definition
+                    //TODO: Done only for backward compatibility with 0.x. Must be removed later (1.1.x ?)
+                    Api payloadEntity = objectMapper
+                        .readerFor(Api.class)
+                        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .readValue(lastEvent.getPayload());
+
+                    final ApiEntity apiEntity = convert(api);
+                    final ApiEntity deployedApi = convert(payloadEntity);
+                    // Remove policy description from sync check
+                    removeDescriptionFromPolicies(apiEntity);
+                    removeDescriptionFromPolicies(deployedApi);
+
+                    sync = apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiEntity);
+                }
 
                 // 2_ If API definition is synchronized, check if there is any modification for API's plans
                 // but only for published or closed plan
@@ -1919,6 +1979,12 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
             addDeploymentLabelToProperties(apiId, eventType, properties, apiDeploymentEntity);
 
+            // Keep a fingerprint of the deployed definition to check the synchronization without reading the payload
+            final String deploymentFingerprint = apiSynchronizationProcessor.computeDeploymentFingerprint(apiValue.getDefinition());
+            if (deploymentFingerprint != null) {
+                properties.put(DEPLOYMENT_FINGERPRINT_PROPERTY, deploymentFingerprint);
+            }
+
             // And create event
             eventService.create(eventType, objectMapper.writeValueAsString(apiValue), properties);
 
@@ -1999,49 +2065,46 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     @Override
     public InlinePictureEntity getPicture(String apiId) {
         Api api = this.findApiById(apiId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
         if (api.getPicture() != null) {
-            String[] parts = api.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = api.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-        } else {
-            getDefaultPicture()
-                .ifPresent(
-                    content -> {
-                        imageEntity.setType("image/png");
-                        imageEntity.setContent(content);
-                    }
-                );
+            return InlinePictures.decode(api.getPicture(), "api:" + apiId + ":picture", api.getUpdatedAt());
         }
-
+        InlinePictureEntity imageEntity = new InlinePictureEntity();
+        getDefaultPicture()
+            .ifPresent(
+                defaultPicture -> {
+                    imageEntity.setType(defaultPicture.getType());
+                    imageEntity.setContent(defaultPicture.getContent());
+                    imageEntity.setHash(defaultPicture.getHash());
+                }
+            );
         return imageEntity;
     }
 
-    private Optional<byte[]> getDefaultPicture() {
-        Optional<byte[]> content = Optional.empty();
-        if (!Strings.isNullOrEmpty(defaultApiIcon)) {
-            try {
-                content = of(IOUtils.toByteArray(new FileInputStream(defaultApiIcon)));
+    private Optional<InlinePictureEntity> getDefaultPicture() {
+        // The default icon is read from disk once, then served from memory along with its digest
+        InlinePictureEntity picture = defaultApiPicture;
+        if (picture == null && !Strings.isNullOrEmpty(defaultApiIcon)) {
+            try (FileInputStream icon = new FileInputStream(defaultApiIcon)) {
+                picture = new InlinePictureEntity();
+                picture.setType("image/png");
+                picture.setContent(IOUtils.toByteArray(icon));
+                picture.setHash(DigestUtils.sha256Hex(picture.getContent()));
+                defaultApiPicture = picture;
             } catch (IOException ioe) {
                 LOGGER.error("Default icon for API does not exist", ioe);
+                return Optional.empty();
             }
         }
-        return content;
+        return Optional.ofNullable(picture);
     }
 
     @Override
     public InlinePictureEntity getBackground(String apiId) {
         Api api = this.findApiById(apiId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
         if (api.getBackground() != null) {
-            String[] parts = api.getBackground().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = api.getBackground().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+            return InlinePictures.decode(api.getBackground(), "api:" + apiId + ":background", api.getUpdatedAt());
         }
-
-        return imageEntity;
+        return new InlinePictureEntity();
     }
 
     @Override
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.service.impl;
 
 import static io.gravitee.repository.management.model.Application.AuditEvent.*;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -56,7 +57,6 @@ import io.gravitee.rest.api.service.notification.HookScope;
 import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
-import javax.xml.bind.DatatypeConverter;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -186,34 +186,35 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         try {
             LOGGER.debug("Find applications for user {}", username);
 
+            final Map<String, Application> applications = new HashMap<>();
             //find applications where the user is a member
-            Set<String> appIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.APPLICATION)
-                .stream()
-                .map(MembershipEntity::getReferenceId)
-                .collect(toSet());
-            //find user groups
-            List<String> groupIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.GROUP)
-                .stream()
-                .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.APPLICATION))
-                .map(MembershipEntity::getReferenceId)
-                .collect(toList());
-
-            appIds.addAll(this.findByGroups(groupIds).stream().map(ApplicationListItem::getId).collect(toSet()));
+            final List<String> appIds = findApplicationIdsByMember(username);
+            if (!appIds.isEmpty()) {
+                applicationRepository
+                    .findByIds(appIds)
+                    .stream()
+                    .filter(app -> ApplicationStatus.ACTIVE.equals(app.getStatus()))
+                    .forEach(app -> applications.put(app.getId(), app));
+            }
+            //find applications of the user groups
+            final List<String> groupIds = findApplicationGroupIdsByMember(username);
+            if (!groupIds.isEmpty()) {
+                applicationRepository
+                    .findByGroups(groupIds, ApplicationStatus.ACTIVE)
+                    .forEach(app -> applications.putIfAbsent(app.getId(), app));
+            }
 
-            final Set<Application> applications = applicationRepository
-                .findByIds(new ArrayList<>(appIds))
+            final Set<Application> environmentApplications = applications
+                .values()
                 .stream()
-                .filter(app -> ApplicationStatus.ACTIVE.equals(app.getStatus()))
                 .filter(app -> app.getEnvironmentId().equals(GraviteeContext.getCurrentEnvironment()))
                 .collect(toSet());
 
-            if (applications.isEmpty()) {
+            if (environmentApplications.isEmpty()) {
                 return emptySet();
             }
 
-            return this.convertToList(applications);
+            return this.convertToList(environmentApplications);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find applications for user {}", username, ex);
             throw new TechnicalManagementException("An error occurs while trying to find applications for user " + username, ex);
@@ -229,20 +230,12 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             }
 
             //find applications where the user is a member
-            Set<String> appIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, userName, MembershipReferenceType.APPLICATION)
-                .stream()
-                .map(MembershipEntity::getReferenceId)
-                .collect(toSet());
-            //find user groups
-            List<String> groupIds = membershipService
-                .getMembershipsByMemberAndReference(MembershipMemberType.USER, userName, MembershipReferenceType.GROUP)
-                .stream()
-                .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.APPLICATION))
-                .map(MembershipEntity::getReferenceId)
-                .collect(toList());
-
-            appIds.addAll(this.findByGroups(groupIds).stream().map(ApplicationListItem::getId).collect(toSet()));
+            Set<String> appIds = new HashSet<>(findApplicationIdsByMember(userName));
+            //find applications of the user groups
+            final List<String> groupIds = findApplicationGroupIdsByMember(userName);
+            if (!groupIds.isEmpty()) {
+                applicationRepository.findByGroups(groupIds, ApplicationStatus.ACTIVE).forEach(app -> appIds.add(app.getId()));
+            }
 
             ApplicationCriteria criteria = new ApplicationCriteria.Builder()
                 .status(ApplicationStatus.valueOf(status))
@@ -261,6 +254,41 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         }
     }
 
+    private List<String> findApplicationIdsByMember(String username) {
+        return membershipService
+            .getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.APPLICATION)
+            .stream()
+            .map(MembershipEntity::getReferenceId)
+            .distinct()
+            .collect(toList());
+    }
+
+    /**
+     * Find the groups in which the user has an application role. The application roles of the organization are loaded once
+     * instead of resolving the role of each group membership.
+     */
+    private List<String> findApplicationGroupIdsByMember(String username) {
+        final Set<MembershipEntity> groupMemberships = membershipService.getMembershipsByMemberAndReference(
+            MembershipMemberType.USER,
+            username,
+            MembershipReferenceType.GROUP
+        );
+        if (groupMemberships.isEmpty()) {
+            return emptyList();
+        }
+        final Set<String> applicationRoleIds = roleService
+            .findByScope(RoleScope.APPLICATION)
+            .stream()
+            .map(RoleEntity::getId)
+            .collect(toSet());
+        return groupMemberships
+            .stream()
+            .filter(m -> m.getRoleId() != null && applicationRoleIds.contains(m.getRoleId()))
+            .map(MembershipEntity::getReferenceId)
+            .distinct()
+            .collect(toList());
+    }
+
     @Override
     public Set<ApplicationListItem> findByOrganization(String organizationId) {
         LOGGER.debug("Find applications by organization {} ", organizationId);
@@ -962,13 +990,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
                     item.setStatus(applicationEntity.getStatus());
                     item.setPicture(applicationEntity.getPicture());
                     item.setBackground(applicationEntity.getBackground());
-
-                    final Application app = applications
-                        .stream()
-                        .filter(application -> application.getId().equals(applicationEntity.getId()))
-                        .findFirst()
-                        .get();
-                    item.setSettings(getSettings(app));
+                    item.setSettings(applicationEntity.getSettings());
                     return item;
                 }
             )
@@ -1108,26 +1130,26 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
     @Override
     public InlinePictureEntity getPicture(String applicationId) {
         ApplicationEntity applicationEntity = findById(applicationId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
         if (applicationEntity.getPicture() != null) {
-            String[] parts = applicationEntity.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = applicationEntity.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+            return InlinePictures.decode(
+                applicationEntity.getPicture(),
+                "application:" + applicationId + ":picture",
+                applicationEntity.getUpdatedAt()
+            );
         }
-        return imageEntity;
+        return new InlinePictureEntity();
     }
 
     @Override
     public InlinePictureEntity getBackground(String applicationId) {
         ApplicationEntity applicationEntity = findById(applicationId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
         if (applicationEntity.getBackground() != null) {
-            String[] parts = applicationEntity.getBackground().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = applicationEntity.getBackground().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+            return InlinePictures.decode(
+                applicationEntity.getBackground(),
+                "application:" + applicationId + ":background",
+                applicationEntity.getUpdatedAt()
+            );
         }
-        return imageEntity;
+        return new InlinePictureEntity();
     }
 }
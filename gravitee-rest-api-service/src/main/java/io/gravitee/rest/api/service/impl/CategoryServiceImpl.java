@@ -38,7 +38,6 @@ import io.gravitee.rest.api.service.exceptions.DuplicateCategoryNameException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import java.util.*;
 import java.util.stream.Collectors;
-import javax.xml.bind.DatatypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -271,27 +270,23 @@ public class CategoryServiceImpl extends TransactionalService implements Categor
     @Override
     public InlinePictureEntity getPicture(String categoryId) {
         CategoryEntity categoryEntity = findById(categoryId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
         if (categoryEntity.getPicture() != null) {
-            String[] parts = categoryEntity.getPicture().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = categoryEntity.getPicture().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+            return InlinePictures.decode(categoryEntity.getPicture(), "category:" + categoryId + ":picture", categoryEntity.getUpdatedAt());
         }
-        return imageEntity;
+        return new InlinePictureEntity();
     }
 
     @Override
     public InlinePictureEntity getBackground(String categoryId) {
         CategoryEntity categoryEntity = findById(categoryId);
-        InlinePictureEntity imageEntity = new InlinePictureEntity();
         if (categoryEntity.getBackground() != null) {
-            String[] parts = categoryEntity.getBackground().split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = categoryEntity.getBackground().split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+            return InlinePictures.decode(
+                categoryEntity.getBackground(),
+                "category:" + categoryId + ":background",
+                categoryEntity.getUpdatedAt()
+            );
         }
-        return imageEntity;
+        return new InlinePictureEntity();
     }
 
     private Category convert(final NewCategoryEntity categoryEntity) {
@@ -22,34 +22,70 @@ import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.service.HttpClientService;
 import io.gravitee.rest.api.service.common.UuidString;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ConnectTimeoutException;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
+ * Outbound HTTP calls go through one pooled {@link HttpClient} per scheme and proxy usage, reused across requests.
+ * The number of in-flight requests is bounded by <code>httpClient.maxConcurrentRequests</code>: beyond it, requests
+ * wait for a slot up to <code>httpClient.queueTimeout</code>, and are rejected if none is freed in time instead of
+ * piling up in the connection pools.
+ *
  * @author Florent CHAMFROY (florent.chamfroy at graviteesource.com)
  * @author GraviteeSource Team
  */
 @Component
-public class HttpClientServiceImpl extends AbstractService implements HttpClientService {
+public class HttpClientServiceImpl extends AbstractService implements HttpClientService, InitializingBean, DisposableBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(HttpClientServiceImpl.class);
 
+    static final String METRIC_NAME = "gravitee.http.client.requests";
+
     private static final String HTTPS_SCHEME = "https";
 
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String TIMEOUT = "timeout";
+    private static final String REJECTED = "rejected";
+
     @Value("${httpClient.timeout:10000}")
     private int httpClientTimeout;
 
+    @Value("${httpClient.pool.maxSize:10}")
+    private int httpClientPoolMaxSize;
+
+    @Value("${httpClient.maxConcurrentRequests:100}")
+    private int httpClientMaxConcurrentRequests;
+
+    @Value("${httpClient.queueTimeout:10000}")
+    private long httpClientQueueTimeout;
+
     @Value("${httpClient.proxy.type:HTTP}")
     private String httpClientProxyType;
 
@@ -83,22 +119,63 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
     @Autowired
     private Vertx vertx;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> timers = new HashMap<>();
+
+    private Semaphore permits;
+
+    @Override
+    public void afterPropertiesSet() {
+        permits = new Semaphore(httpClientMaxConcurrentRequests);
+
+        final MeterRegistry registry = getMeterRegistry();
+        for (String outcome : Arrays.asList(SUCCESS, FAILURE, TIMEOUT, REJECTED)) {
+            timers.put(
+                outcome,
+                Timer.builder(METRIC_NAME).description("Duration of the outbound HTTP requests").tag("outcome", outcome).register(registry)
+            );
+        }
+        Gauge
+            .builder(METRIC_NAME + ".active", permits, p -> httpClientMaxConcurrentRequests - p.availablePermits())
+            .description("Number of outbound HTTP requests in flight")
+            .register(registry);
+        Gauge
+            .builder("gravitee.http.client.pools", httpClients, Map::size)
+            .description("Number of pooled outbound HTTP clients")
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        httpClients.values().forEach(HttpClient::close);
+        httpClients.clear();
+    }
+
     private HttpClient getHttpClient(String uriScheme, Boolean useSystemProxy) {
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uriScheme);
+        final boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uriScheme);
+        final boolean proxy = (useSystemProxy == Boolean.TRUE) || (useSystemProxy == null && this.isProxyConfigured);
+
+        return httpClients.computeIfAbsent((ssl ? "https" : "http") + (proxy ? "+proxy" : ""), key -> createHttpClient(ssl, proxy));
+    }
 
+    private HttpClient createHttpClient(boolean ssl, boolean proxy) {
         final HttpClientOptions options = new HttpClientOptions()
             .setSsl(ssl)
             .setTrustAll(true)
             .setVerifyHost(false)
-            .setMaxPoolSize(1)
-            .setKeepAlive(false)
+            .setMaxPoolSize(httpClientPoolMaxSize)
+            .setKeepAlive(true)
             .setTcpKeepAlive(false)
             .setConnectTimeout(httpClientTimeout);
 
-        if ((useSystemProxy == Boolean.TRUE) || (useSystemProxy == null && this.isProxyConfigured)) {
+        if (proxy) {
             ProxyOptions proxyOptions = new ProxyOptions();
             proxyOptions.setType(ProxyType.valueOf(httpClientProxyType));
-            if (HTTPS_SCHEME.equals(uriScheme)) {
+            if (ssl) {
                 proxyOptions.setHost(httpClientProxyHttpsHost);
                 proxyOptions.setPort(httpClientProxyHttpsPort);
                 proxyOptions.setUsername(httpClientProxyHttpsUsername);
@@ -122,121 +199,195 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
             return null;
         }
 
-        Promise<Buffer> promise = Promise.promise();
+        // The caller waits for the response anyway, so it can wait for a slot too
+        final Timer.Sample sample = Timer.start();
+        acquire(uri, sample);
 
-        URI requestUri = URI.create(uri);
-
-        final HttpClient httpClient = this.getHttpClient(requestUri.getScheme(), useSystemProxy);
+        try {
+            return send(method, uri, headers, body, useSystemProxy, sample).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalManagementException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TechnicalManagementException) {
+                throw (TechnicalManagementException) e.getCause();
+            }
+            throw new TechnicalManagementException(e.getCause().getMessage(), e.getCause());
+        }
+    }
 
-        final int port = requestUri.getPort() != -1 ? requestUri.getPort() : (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
+    @Override
+    public CompletableFuture<Buffer> requestAsync(
+        HttpMethod method,
+        String uri,
+        Map<String, String> headers,
+        String body,
+        Boolean useSystemProxy
+    ) {
+        if (uri == null || uri.isEmpty()) {
+            LOGGER.error("HttpClient configuration is empty");
+            return CompletableFuture.completedFuture(null);
+        }
 
-        RequestOptions options = new RequestOptions()
-            .setMethod(io.vertx.core.http.HttpMethod.valueOf(method.name()))
-            .setHost(requestUri.getHost())
-            .setPort(port)
-            .setURI(requestUri.getPath())
-            .setTimeout(httpClientTimeout);
+        final Timer.Sample sample = Timer.start();
 
-        //headers
-        if (headers != null) {
-            headers.forEach(options::putHeader);
+        if (permits.tryAcquire()) {
+            return send(method, uri, headers, body, useSystemProxy, sample);
         }
 
-        options.putHeader("X-Gravitee-Request-Id", UuidString.generateRandom().trim());
+        // The caller may be an event loop: the slot is waited for on a worker thread
+        final CompletableFuture<Buffer> result = new CompletableFuture<>();
+        vertx.<Void>executeBlocking(
+            promise -> {
+                acquire(uri, sample);
+                promise.complete();
+            },
+            false,
+            acquired -> {
+                if (acquired.failed()) {
+                    result.completeExceptionally(acquired.cause());
+                    return;
+                }
+                send(method, uri, headers, body, useSystemProxy, sample)
+                    .whenComplete(
+                        (buffer, throwable) -> {
+                            if (throwable != null) {
+                                result.completeExceptionally(throwable);
+                            } else {
+                                result.complete(buffer);
+                            }
+                        }
+                    );
+            }
+        );
+        return result;
+    }
 
-        if (body != null) {
-            if (!options.getHeaders().contains(HttpHeaders.CONTENT_TYPE)) {
-                options.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+    /**
+     * Waits for one of the <code>httpClient.maxConcurrentRequests</code> slots, up to <code>httpClient.queueTimeout</code>.
+     */
+    private void acquire(String uri, Timer.Sample sample) {
+        try {
+            if (permits.tryAcquire(httpClientQueueTimeout, TimeUnit.MILLISECONDS)) {
+                return;
             }
-            options.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.getBytes().length));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(sample, REJECTED);
+            throw new TechnicalManagementException(e.getMessage(), e);
         }
+        stop(sample, REJECTED);
+        throw new TechnicalManagementException(
+            "Error on url '" +
+            uri +
+            "'. Too many concurrent requests (" +
+            httpClientMaxConcurrentRequests +
+            "), none ended within " +
+            httpClientQueueTimeout +
+            "ms"
+        );
+    }
+
+    /**
+     * Sends the request once a slot is acquired, and gives the slot back when the request is over.
+     */
+    private CompletableFuture<Buffer> send(
+        HttpMethod method,
+        String uri,
+        Map<String, String> headers,
+        String body,
+        Boolean useSystemProxy,
+        Timer.Sample sample
+    ) {
+        final CompletableFuture<Buffer> result = new CompletableFuture<>();
 
-        Future<HttpClientRequest> requestFuture = httpClient.request(options);
+        try {
+            URI requestUri = URI.create(uri);
 
-        requestFuture
-            .onFailure(
-                new Handler<Throwable>() {
-                    @Override
-                    public void handle(Throwable throwable) {
-                        promise.fail(throwable);
+            final HttpClient httpClient = this.getHttpClient(requestUri.getScheme(), useSystemProxy);
 
-                        // Close client
-                        httpClient.close();
-                    }
+            final int port = requestUri.getPort() != -1 ? requestUri.getPort() : (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
+
+            RequestOptions options = new RequestOptions()
+                .setMethod(io.vertx.core.http.HttpMethod.valueOf(method.name()))
+                .setHost(requestUri.getHost())
+                .setPort(port)
+                .setURI(requestUri.getPath())
+                .setTimeout(httpClientTimeout);
+
+            //headers
+            if (headers != null) {
+                headers.forEach(options::putHeader);
+            }
+
+            options.putHeader("X-Gravitee-Request-Id", UuidString.generateRandom().trim());
+
+            if (body != null) {
+                if (!options.getHeaders().contains(HttpHeaders.CONTENT_TYPE)) {
+                    options.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
                 }
-            )
-            .onSuccess(
-                new Handler<HttpClientRequest>() {
-                    @Override
-                    public void handle(HttpClientRequest request) {
-                        request
-                            .response(
-                                new Handler<AsyncResult<HttpClientResponse>>() {
-                                    @Override
-                                    public void handle(AsyncResult<HttpClientResponse> asyncResponse) {
-                                        if (asyncResponse.failed()) {
-                                            promise.fail(asyncResponse.cause());
-
-                                            // Close client
-                                            httpClient.close();
-                                        } else {
-                                            HttpClientResponse response = asyncResponse.result();
-                                            LOGGER.debug("Web response status code : {}", response.statusCode());
-
-                                            if (response.statusCode() >= HttpStatusCode.OK_200 && response.statusCode() <= 299) {
-                                                response.bodyHandler(
-                                                    buffer -> {
-                                                        promise.complete(buffer);
-
-                                                        // Close client
-                                                        httpClient.close();
-                                                    }
-                                                );
-                                            } else {
-                                                response.bodyHandler(
-                                                    buffer ->
-                                                        promise.fail(
-                                                            new TechnicalManagementException(
-                                                                " Error on url '" +
-                                                                uri +
-                                                                "'. Status code: " +
-                                                                response.statusCode() +
-                                                                ". Message: " +
-                                                                buffer.toString(),
-                                                                null
-                                                            )
-                                                        )
-                                                );
-                                            }
-                                        }
-                                    }
-                                }
-                            )
-                            .exceptionHandler(
-                                new Handler<Throwable>() {
-                                    @Override
-                                    public void handle(Throwable throwable) {
-                                        promise.fail(throwable);
-
-                                        // Close client
-                                        httpClient.close();
+                options.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.getBytes().length));
+            }
+
+            httpClient
+                .request(options)
+                .compose(request -> body != null ? request.send(body) : request.send())
+                .compose(
+                    response -> {
+                        LOGGER.debug("Web response status code : {}", response.statusCode());
+
+                        return response
+                            .body()
+                            .compose(
+                                buffer -> {
+                                    if (response.statusCode() >= HttpStatusCode.OK_200 && response.statusCode() <= 299) {
+                                        return Future.succeededFuture(buffer);
                                     }
+                                    return Future.failedFuture(
+                                        new TechnicalManagementException(
+                                            " Error on url '" +
+                                            uri +
+                                            "'. Status code: " +
+                                            response.statusCode() +
+                                            ". Message: " +
+                                            buffer.toString(),
+                                            null
+                                        )
+                                    );
                                 }
                             );
-
-                        if (body != null) {
-                            request.end(body);
+                    }
+                )
+                .onComplete(
+                    asyncResult -> {
+                        permits.release();
+                        if (asyncResult.succeeded()) {
+                            stop(sample, SUCCESS);
+                            result.complete(asyncResult.result());
                         } else {
-                            request.end();
+                            stop(sample, isTimeout(asyncResult.cause()) ? TIMEOUT : FAILURE);
+                            result.completeExceptionally(asyncResult.cause());
                         }
                     }
-                }
-            );
-
-        try {
-            return promise.future().toCompletionStage().toCompletableFuture().get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new TechnicalManagementException(e.getMessage(), e);
+                );
+        } catch (RuntimeException e) {
+            permits.release();
+            stop(sample, FAILURE);
+            result.completeExceptionally(e);
         }
+
+        return result;
+    }
+
+    private boolean isTimeout(Throwable throwable) {
+        return throwable instanceof TimeoutException || throwable instanceof ConnectTimeoutException;
+    }
+
+    private void stop(Timer.Sample sample, String outcome) {
+        sample.stop(timers.get(outcome));
+    }
+
+    private MeterRegistry getMeterRegistry() {
+        return meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
     }
 }
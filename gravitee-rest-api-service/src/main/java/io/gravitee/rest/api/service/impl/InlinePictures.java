@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import java.util.Date;
+import java.util.concurrent.ExecutionException;
+import javax.xml.bind.DatatypeConverter;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Decode the pictures stored as data URIs (<code>data:image/png;base64,...</code>) in the repository models.
+ *
+ * The models have no column for the digest of a picture, so it is computed on decode and kept for the version of the
+ * entity the picture belongs to: a picture only changes along with the update date of its entity.
+ *
+ * @author GraviteeSource Team
+ */
+final class InlinePictures {
+
+    private static final Cache<String, String> digests = CacheBuilder.newBuilder().maximumSize(10_000).build();
+
+    private InlinePictures() {}
+
+    /**
+     * @param picture the data URI of the picture
+     * @param reference identifies the picture among all others, e.g. <code>api:{id}:picture</code>
+     * @param updatedAt the last update of the entity the picture belongs to, if any
+     */
+    static InlinePictureEntity decode(String picture, String reference, Date updatedAt) {
+        InlinePictureEntity imageEntity = new InlinePictureEntity();
+        String[] parts = picture.split(";", 2);
+        imageEntity.setType(parts[0].split(":")[1]);
+        String base64Content = picture.split(",", 2)[1];
+        imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
+        imageEntity.setHash(digest(imageEntity.getContent(), reference, updatedAt, picture.length()));
+        return imageEntity;
+    }
+
+    private static String digest(byte[] content, String reference, Date updatedAt, int length) {
+        if (reference == null || updatedAt == null) {
+            return DigestUtils.sha256Hex(content);
+        }
+        try {
+            return digests.get(reference + ':' + updatedAt.getTime() + ':' + length, () -> DigestUtils.sha256Hex(content));
+        } catch (ExecutionException e) {
+            return DigestUtils.sha256Hex(content);
+        }
+    }
+}
@@ -94,6 +94,31 @@ public class InstallationServiceImpl implements InstallationService {
         throw new InstallationNotFoundException("");
     }
 
+    @Override
+    public synchronized InstallationEntity putAdditionalInformation(String key, String value) {
+        try {
+            final Optional<Installation> optInstallation = this.installationRepository.find();
+            if (optInstallation.isPresent()) {
+                Installation installation = optInstallation.get();
+                final Map<String, String> additionalInformation = installation.getAdditionalInformation() == null
+                    ? new HashMap<>()
+                    : new HashMap<>(installation.getAdditionalInformation());
+                if (value == null) {
+                    additionalInformation.remove(key);
+                } else {
+                    additionalInformation.put(key, value);
+                }
+                installation.setAdditionalInformation(additionalInformation);
+                installation.setUpdatedAt(new Date());
+                return convert(this.installationRepository.update(installation));
+            }
+        } catch (final Exception ex) {
+            LOGGER.error("Error while updating installation : {}", ex.getMessage());
+            throw new TechnicalManagementException("Error while updating installation", ex);
+        }
+        throw new InstallationNotFoundException("");
+    }
+
     @Override
     public InstallationStatus getInstallationStatus() {
         return InstallationStatus.valueOf(getOrInitialize().getAdditionalInformation().get(COCKPIT_INSTALLATION_STATUS));
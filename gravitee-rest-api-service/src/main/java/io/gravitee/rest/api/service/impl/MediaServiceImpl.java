@@ -134,6 +134,20 @@ public class MediaServiceImpl implements MediaService {
         return mediaData.isPresent() ? convert(mediaData.get()) : null;
     }
 
+    @Override
+    public boolean exists(String hash, String api, boolean ignoreType) {
+        Optional<Media> mediaData;
+        if (api == null) {
+            mediaData = ignoreType ? mediaRepository.findByHash(hash, false) : mediaRepository.findByHashAndType(hash, "image", false);
+        } else {
+            mediaData =
+                ignoreType
+                    ? mediaRepository.findByHashAndApi(hash, api, false)
+                    : mediaRepository.findByHashAndApiAndType(hash, api, "image", false);
+        }
+        return mediaData.isPresent();
+    }
+
     @Override
     public List<MediaEntity> findAllWithoutContent(List<PageMediaEntity> pageMediaEntities) {
         return this.findAllWithoutContent(pageMediaEntities, null);
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keep the result of page content rendering (templating, OpenAPI transformation) so that it is computed only once
+ * for the same inputs. Keys must contain everything the rendering depends on.
+ *
+ * @author GraviteeSource Team
+ */
+class PageRenderingCache {
+
+    private final Logger logger = LoggerFactory.getLogger(PageRenderingCache.class);
+
+    private final String name;
+    private final Cache<String, String> renderedContents;
+    private final AtomicLong renderCount = new AtomicLong();
+    private final AtomicLong renderTime = new AtomicLong();
+
+    PageRenderingCache(String name, long maximumSize, long expireAfterWrite) {
+        this.name = name;
+        this.renderedContents =
+            CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite, TimeUnit.SECONDS).recordStats().build();
+    }
+
+    static String key(Object... parts) {
+        final StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            key.append(part).append('\u0000');
+        }
+        return DigestUtils.sha256Hex(key.toString());
+    }
+
+    String get(String key, Supplier<String> renderer) {
+        try {
+            return renderedContents.get(key, () -> render(renderer));
+        } catch (CacheLoader.InvalidCacheLoadException e) {
+            // Nothing has been rendered
+            return null;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private String render(Supplier<String> renderer) {
+        final long start = System.nanoTime();
+        try {
+            return renderer.get();
+        } finally {
+            final long duration = System.nanoTime() - start;
+            renderCount.incrementAndGet();
+            renderTime.addAndGet(duration);
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                    "Page content rendered by {} in {} ms (cache hit ratio: {})",
+                    name,
+                    TimeUnit.NANOSECONDS.toMillis(duration),
+                    String.format("%.2f", renderedContents.stats().hitRate())
+                );
+            }
+        }
+    }
+
+    CacheStats getStats() {
+        return renderedContents.stats();
+    }
+
+    long getRenderCount() {
+        return renderCount.get();
+    }
+
+    long getRenderTime(TimeUnit unit) {
+        return unit.convert(renderTime.get(), TimeUnit.NANOSECONDS);
+    }
+}
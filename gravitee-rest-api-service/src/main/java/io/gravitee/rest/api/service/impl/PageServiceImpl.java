@@ -20,6 +20,7 @@ import static io.gravitee.repository.management.model.Page.AuditEvent.*;
 import static java.util.Arrays.asList;
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -45,6 +46,7 @@ import io.gravitee.rest.api.model.descriptor.GraviteeDescriptorEntity;
 import io.gravitee.rest.api.model.descriptor.GraviteeDescriptorPageEntity;
 import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.service.*;
+import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.common.UuidString;
 import io.gravitee.rest.api.service.exceptions.*;
 import io.gravitee.rest.api.service.impl.swagger.parser.OAIParser;
@@ -63,8 +65,15 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,6 +82,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.support.CronSequenceGenerator;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -94,6 +104,10 @@ public class PageServiceImpl extends AbstractService implements PageService, App
 
     private static final String SENSITIVE_DATA_REPLACEMENT = "********";
 
+    private static final long RENDERING_CACHE_SIZE = 1000;
+
+    private static final long RENDERING_CACHE_TTL = 600;
+
     @Value("${documentation.markdown.sanitize:false}")
     private boolean markdownSanitize;
 
@@ -154,6 +168,21 @@ public class PageServiceImpl extends AbstractService implements PageService, App
     @Autowired
     private AccessControlService accessControlService;
 
+    @Value("${services.auto_fetch.workers:4}")
+    private int autoFetchWorkers;
+
+    private final Map<String, AutoFetchSchedule> autoFetchSchedules = new ConcurrentHashMap<>();
+
+    private final Map<String, Fetcher> autoFetchFetchers = new ConcurrentHashMap<>();
+
+    private final PageRenderingCache templateRenderingCache = new PageRenderingCache(
+        "templates",
+        RENDERING_CACHE_SIZE,
+        RENDERING_CACHE_TTL
+    );
+
+    private final PageRenderingCache swaggerRenderingCache = new PageRenderingCache("swagger", RENDERING_CACHE_SIZE, RENDERING_CACHE_TTL);
+
     private static Page convert(NewPageEntity newPageEntity) {
         Page page = new Page();
 
@@ -503,40 +532,56 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 pageEntity.setContent(HtmlSanitizer.sanitize(pageEntity.getContent()));
             }
         } else if (PageType.SWAGGER.name().equalsIgnoreCase(pageEntity.getType())) {
-            // If swagger page, let's try to apply transformations
-            SwaggerDescriptor<?> descriptor;
-            try {
-                descriptor = swaggerService.parse(pageEntity.getContent());
-            } catch (SwaggerDescriptorException sde) {
-                if (apiId != null) {
-                    logger.error("Parsing error for API: {}", apiId);
-                }
-                throw sde;
-            }
+            // If swagger page, let's try to apply transformations. The result only depends on the page and on the API.
+            final ApiEntity api = apiId != null ? apiService.findById(apiId) : null;
+            final String renderingKey = PageRenderingCache.key(
+                pageEntity.getId(),
+                pageEntity.getLastModificationDate(),
+                pageEntity.getContentType(),
+                pageEntity.getConfiguration() != null ? new TreeMap<>(pageEntity.getConfiguration()) : null,
+                pageEntity.getContent(),
+                apiId,
+                api != null ? api.getUpdatedAt() : null,
+                api != null && api.getEntrypoints() != null
+                    ? api.getEntrypoints().stream().map(entrypoint -> entrypoint.getTarget() + '@' + entrypoint.getHost()).collect(toList())
+                    : null
+            );
 
-            Collection<SwaggerTransformer<OAIDescriptor>> transformers = new ArrayList<>();
-            transformers.add(new PageConfigurationOAITransformer(pageEntity));
+            final String content = swaggerRenderingCache.get(renderingKey, () -> renderSwagger(pageEntity, api));
+            if (content != null) {
+                pageEntity.setContent(content);
+            }
+        }
+    }
 
-            if (apiId != null) {
-                ApiEntity api = apiService.findById(apiId);
-                transformers.add(new EntrypointsOAITransformer(pageEntity, api));
+    private String renderSwagger(PageEntity pageEntity, ApiEntity api) {
+        SwaggerDescriptor<?> descriptor;
+        try {
+            descriptor = swaggerService.parse(pageEntity.getContent());
+        } catch (SwaggerDescriptorException sde) {
+            if (api != null) {
+                logger.error("Parsing error for API: {}", api.getId());
             }
+            throw sde;
+        }
 
-            swaggerService.transform((OAIDescriptor) descriptor, transformers);
+        Collection<SwaggerTransformer<OAIDescriptor>> transformers = new ArrayList<>();
+        transformers.add(new PageConfigurationOAITransformer(pageEntity));
+
+        if (api != null) {
+            transformers.add(new EntrypointsOAITransformer(pageEntity, api));
+        }
 
+        swaggerService.transform((OAIDescriptor) descriptor, transformers);
+
+        try {
             if (pageEntity.getContentType().equalsIgnoreCase(MediaType.APPLICATION_JSON)) {
-                try {
-                    pageEntity.setContent(descriptor.toJson());
-                } catch (JsonProcessingException e) {
-                    logger.error("Unexpected error", e);
-                }
-            } else {
-                try {
-                    pageEntity.setContent(descriptor.toYaml());
-                } catch (JsonProcessingException e) {
-                    logger.error("Unexpected error", e);
-                }
+                return descriptor.toJson();
             }
+            return descriptor.toYaml();
+        } catch (JsonProcessingException e) {
+            logger.error("Unexpected error", e);
+            return null;
         }
     }
 
@@ -563,7 +608,9 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         String environmentId
     ) {
         try {
-            Stream<Page> pagesStream = pageRepository.search(queryToCriteria(query, environmentId)).stream();
+            final PageCriteria criteria = queryToCriteria(query, environmentId);
+            final List<Page> searchedPages = pageRepository.search(criteria);
+            Stream<Page> pagesStream = searchedPages.stream();
             if (!withTranslations) {
                 pagesStream = pagesStream.filter(page -> !PageType.TRANSLATION.name().equals(page.getType()));
             }
@@ -571,13 +618,31 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 pagesStream = pagesStream.filter(page -> !PageType.LINK.name().equals(page.getType()));
             }
 
-            List<PageEntity> pages = pagesStream.map(this::convert).collect(Collectors.toList());
+            final List<Page> foundPages = pagesStream.collect(Collectors.toList());
+
+            // Translations and parents of the pages found by a broad search are resolved from the pages of the reference,
+            // loaded once for the whole search. Narrow searches keep looking them up page by page.
+            final PageTree pageTree;
+            if (query == null || foundPages.isEmpty() || isNarrowSearch(query)) {
+                pageTree = null;
+            } else if (isReferenceSearch(criteria)) {
+                pageTree = new PageTree(searchedPages);
+            } else {
+                pageTree = loadPageTree(criteria.getReferenceType(), criteria.getReferenceId());
+            }
+
+            List<PageEntity> pages = foundPages.stream().map(page -> convert(page, pageTree)).collect(Collectors.toList());
 
             if (acceptedLocale == null || acceptedLocale.isEmpty()) {
                 pages.forEach(
                     p -> {
                         if (!PageType.TRANSLATION.name().equals(p.getType())) {
-                            List<PageEntity> translations = convert(getTranslations(p.getId()));
+                            List<PageEntity> translations = convert(
+                                pageTree != null && pageTree.contains(p.getId())
+                                    ? pageTree.getTranslations(p.getId())
+                                    : getTranslations(p.getId()),
+                                pageTree
+                            );
                             if (translations != null && !translations.isEmpty()) {
                                 p.setTranslations(translations);
                             }
@@ -588,7 +653,7 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 pages.forEach(
                     p -> {
                         if (!PageType.TRANSLATION.name().equals(p.getType())) {
-                            Page translation = getTranslation(p, acceptedLocale);
+                            Page translation = getTranslation(p, acceptedLocale, pageTree);
                             if (translation != null) {
                                 String translationName = translation.getName();
                                 if (translationName != null && !translationName.isEmpty()) {
@@ -613,11 +678,21 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                     .filter(
                         page -> {
                             if (page.getParentId() != null) {
-                                PageEntity parent = this.findById(page.getParentId());
+                                boolean parentPublished;
+                                String parentVisibility;
+                                if (pageTree != null && pageTree.contains(page.getParentId())) {
+                                    Page parent = pageTree.getPage(page.getParentId());
+                                    parentPublished = parent.isPublished();
+                                    parentVisibility = parent.getVisibility();
+                                } else {
+                                    PageEntity parent = this.findById(page.getParentId());
+                                    parentPublished = parent.isPublished();
+                                    parentVisibility = parent.getVisibility() != null ? parent.getVisibility().name() : null;
+                                }
                                 if (!isAuthenticated()) {
-                                    return parent.isPublished() && Visibility.PUBLIC.equals(parent.getVisibility());
+                                    return parentPublished && Visibility.PUBLIC.name().equals(parentVisibility);
                                 } else {
-                                    return parent.isPublished();
+                                    return parentPublished;
                                 }
                             }
                             return true;
@@ -633,13 +708,42 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         }
     }
 
-    private Page getTranslation(PageEntity pageToTranslate, String acceptedLocale) {
+    private boolean isNarrowSearch(PageQuery query) {
+        return query.getName() != null || query.getParent() != null || Boolean.TRUE.equals(query.getHomepage());
+    }
+
+    /**
+     * Whether the criteria select all the pages of the reference, in which case the searched pages are the page tree.
+     */
+    private boolean isReferenceSearch(PageCriteria criteria) {
+        return (
+            criteria.getName() == null &&
+            criteria.getType() == null &&
+            criteria.getHomepage() == null &&
+            criteria.getPublished() == null &&
+            criteria.getParent() == null &&
+            criteria.getRootParent() == null &&
+            criteria.getUseAutoFetch() == null &&
+            criteria.getVisibility() == null
+        );
+    }
+
+    /**
+     * Load all the pages of a reference in a single query and index them by id and by translated page.
+     */
+    private PageTree loadPageTree(String referenceType, String referenceId) throws TechnicalException {
+        return new PageTree(
+            pageRepository.search(new PageCriteria.Builder().referenceType(referenceType).referenceId(referenceId).build())
+        );
+    }
+
+    private Page getTranslation(PageEntity pageToTranslate, String acceptedLocale, PageTree pageTree) {
         if (
             PageType.LINK.name().equals(pageToTranslate.getType()) &&
             pageToTranslate.getConfiguration() != null &&
             "true".equals(pageToTranslate.getConfiguration().get(PageConfigurationKeys.LINK_INHERIT))
         ) {
-            Page relatedTranslation = getTranslation(pageToTranslate.getContent(), acceptedLocale);
+            Page relatedTranslation = getTranslation(pageToTranslate.getContent(), acceptedLocale, pageTree);
             Page linkTranslation = null;
             if (relatedTranslation != null) {
                 linkTranslation = new Page();
@@ -649,7 +753,23 @@ public class PageServiceImpl extends AbstractService implements PageService, App
             }
             return linkTranslation;
         }
-        return getTranslation(pageToTranslate.getId(), acceptedLocale);
+        return getTranslation(pageToTranslate.getId(), acceptedLocale, pageTree);
+    }
+
+    private Page getTranslation(String pageId, String acceptedLocale, PageTree pageTree) {
+        if (pageTree != null && pageTree.contains(pageId)) {
+            return pageTree
+                .getTranslations(pageId)
+                .stream()
+                .filter(t -> acceptedLocale.equalsIgnoreCase(t.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG)))
+                .findFirst()
+                .orElse(null);
+        }
+        return getTranslation(pageId, acceptedLocale);
+    }
+
+    private Page getTranslation(PageEntity pageToTranslate, String acceptedLocale) {
+        return getTranslation(pageToTranslate, acceptedLocale, null);
     }
 
     private Page getTranslation(String pageId, String acceptedLocale) {
@@ -673,26 +793,48 @@ public class PageServiceImpl extends AbstractService implements PageService, App
     public void transformWithTemplate(final PageEntity pageEntity, final String api) {
         if (pageEntity.getContent() != null) {
             final Map<String, Object> model = new HashMap<>();
+            final Object modelVersion;
             if (api == null) {
                 final List<MetadataEntity> metadataList = metadataService.findAllDefault();
+                final Map<String, String> mapMetadata = new TreeMap<>();
                 if (metadataList != null) {
-                    final Map<String, String> mapMetadata = new HashMap<>(metadataList.size());
                     metadataList.forEach(metadata -> mapMetadata.put(metadata.getKey(), metadata.getValue()));
                     model.put("metadata", mapMetadata);
                 }
+                modelVersion = mapMetadata;
             } else {
                 ApiModelEntity apiEntity = apiService.findByIdForTemplates(api, true);
                 model.put("api", apiEntity);
+                modelVersion =
+                    apiEntity == null
+                        ? null
+                        : Arrays.asList(
+                            apiEntity.getId(),
+                            apiEntity.getUpdatedAt(),
+                            apiEntity.getDeployedAt(),
+                            apiEntity.getMetadata() != null ? new TreeMap<>(apiEntity.getMetadata()) : null,
+                            apiEntity.getPrimaryOwner() != null ? apiEntity.getPrimaryOwner().getId() : null
+                        );
             }
 
             try {
-                String content =
-                    this.notificationTemplateService.resolveInlineTemplateWithParam(
-                            pageEntity.getId(),
-                            pageEntity.getContent(),
-                            model,
-                            false
-                        );
+                final String renderingKey = PageRenderingCache.key(
+                    GraviteeContext.getCurrentOrganization(),
+                    GraviteeContext.getCurrentEnvironment(),
+                    pageEntity.getId(),
+                    pageEntity.getContent(),
+                    modelVersion
+                );
+                String content = templateRenderingCache.get(
+                    renderingKey,
+                    () ->
+                        this.notificationTemplateService.resolveInlineTemplateWithParam(
+                                pageEntity.getId(),
+                                pageEntity.getContent(),
+                                model,
+                                false
+                            )
+                );
                 pageEntity.setContent(content);
             } catch (TemplateProcessingException e) {
                 if (pageEntity.getMessages() == null) {
@@ -1396,29 +1538,50 @@ public class PageServiceImpl extends AbstractService implements PageService, App
 
     private void fetchPage(final Page page) throws FetcherException {
         validateSafeSource(page);
-        Fetcher fetcher = this.getFetcher(page.getSource());
+        fetchPage(page, this.getFetcher(page.getSource()));
+    }
 
-        if (fetcher != null) {
-            try {
-                final Resource resource = fetcher.fetch();
-                page.setContent(getResourceContentAsString(resource));
-                if (resource.getMetadata() != null) {
-                    page.setMetadata(new HashMap<>(resource.getMetadata().size()));
-                    for (Map.Entry<String, Object> entry : resource.getMetadata().entrySet()) {
-                        if (!(entry.getValue() instanceof Map)) {
-                            page.getMetadata().put(entry.getKey(), String.valueOf(entry.getValue()));
-                        }
+    /**
+     * Fetch the content of the page with the given fetcher.
+     *
+     * @return <code>true</code> if the fetched content or metadata differ from the ones of the page.
+     */
+    private boolean fetchPage(final Page page, final Fetcher fetcher) throws FetcherException {
+        if (fetcher == null) {
+            return false;
+        }
+        try {
+            final Resource resource;
+            // a fetcher may be shared between pages with the same source configuration
+            synchronized (fetcher) {
+                resource = fetcher.fetch();
+            }
+            final String content = getResourceContentAsString(resource);
+            Map<String, String> metadata = null;
+            if (resource.getMetadata() != null) {
+                metadata = new HashMap<>(resource.getMetadata().size());
+                for (Map.Entry<String, Object> entry : resource.getMetadata().entrySet()) {
+                    if (!(entry.getValue() instanceof Map)) {
+                        metadata.put(entry.getKey(), String.valueOf(entry.getValue()));
                     }
                 }
-                if (fetcher.getConfiguration().isAutoFetch()) {
-                    page.setUseAutoFetch(Boolean.TRUE);
-                } else {
-                    page.setUseAutoFetch(null); // set null to remove the value not set to false
-                }
-            } catch (Exception e) {
-                logger.error(e.getMessage(), e);
-                throw new FetcherException(e.getMessage(), e);
             }
+            final Boolean useAutoFetch = fetcher.getConfiguration().isAutoFetch() ? Boolean.TRUE : null; // set null to remove the value not set to false
+
+            boolean changed =
+                !Objects.equals(page.getContent(), content) ||
+                (metadata != null && !metadata.equals(page.getMetadata())) ||
+                !Objects.equals(page.getUseAutoFetch(), useAutoFetch);
+
+            page.setContent(content);
+            if (metadata != null) {
+                page.setMetadata(metadata);
+            }
+            page.setUseAutoFetch(useAutoFetch);
+            return changed;
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new FetcherException(e.getMessage(), e);
         }
     }
 
@@ -1493,34 +1656,51 @@ public class PageServiceImpl extends AbstractService implements PageService, App
     public long execAutoFetch(String environmentId) {
         logger.debug("Auto Fetch pages");
         try {
-            List<Page> autoFetchPages = pageRepository.search(new PageCriteria.Builder().withAutoFetch().build());
-            long nbOfFetchedPages = autoFetchPages
+            final long start = System.currentTimeMillis();
+            final List<Page> autoFetchPages = pageRepository.search(new PageCriteria.Builder().withAutoFetch().build());
+
+            final Date now = new Date();
+            final Set<String> usedFetchers = new HashSet<>();
+            final List<Page> pagesToFetch = autoFetchPages
                 .stream()
                 .filter(pageListItem -> pageListItem.getSource() != null)
-                .filter(this::isFetchRequired)
-                .map(page -> executeAutoFetch(page, environmentId))
-                .flatMap(Collection::stream)
-                .count();
+                .filter(pageListItem -> isFetchRequired(pageListItem, now, usedFetchers))
+                .collect(toList());
 
-            logger.debug("{} pages fetched", nbOfFetchedPages);
-            return nbOfFetchedPages;
+            // forget about pages and fetchers which are no longer part of the auto fetch
+            autoFetchSchedules.keySet().retainAll(autoFetchPages.stream().map(Page::getId).filter(Objects::nonNull).collect(toSet()));
+            autoFetchFetchers.keySet().retainAll(usedFetchers);
+
+            final AutoFetchReport report = executeAutoFetch(pagesToFetch, environmentId);
+
+            logger.debug(
+                "{} pages fetched ({} unchanged, {} failures) over {} auto fetch pages in {} ms",
+                report.fetched.get(),
+                report.unchanged.get(),
+                report.failures.get(),
+                autoFetchPages.size(),
+                System.currentTimeMillis() - start
+            );
+            return report.fetched.get();
         } catch (TechnicalException ex) {
             logger.error("An error occurs while trying to fetch pages", ex);
             throw new TechnicalManagementException("An error occurs while trying to fetch pages", ex);
         }
     }
 
-    private boolean isFetchRequired(Page pageItem) {
+    private boolean isFetchRequired(Page pageItem, Date now, Set<String> usedFetchers) {
         boolean fetchRequired = false;
         try {
-            FetcherConfiguration configuration = getFetcher(pageItem.getSource()).getConfiguration();
-            if (configuration.isAutoFetch()) {
-                String cron = configuration.getFetchCron();
-                if (cron != null && !cron.isEmpty()) {
-                    CronSequenceGenerator cronSequenceGenerator = new CronSequenceGenerator(cron);
-                    if (pageItem.getUpdatedAt() != null) {
-                        Date nextRun = cronSequenceGenerator.next(pageItem.getUpdatedAt());
-                        fetchRequired = nextRun.before(new Date());
+            final String fetcherKey = getAutoFetchFetcherKey(pageItem.getSource());
+            final Fetcher fetcher = getAutoFetchFetcher(pageItem.getSource(), fetcherKey);
+            if (fetcher != null) {
+                usedFetchers.add(fetcherKey);
+                FetcherConfiguration configuration = fetcher.getConfiguration();
+                if (configuration.isAutoFetch()) {
+                    String cron = configuration.getFetchCron();
+                    if (cron != null && !cron.isEmpty()) {
+                        Date nextRun = getNextAutoFetchRun(pageItem, cron);
+                        fetchRequired = nextRun != null && nextRun.before(now);
                     }
                 }
             }
@@ -1532,8 +1712,99 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         return fetchRequired;
     }
 
-    private List<PageEntity> executeAutoFetch(Page page, String environmentId) {
+    /**
+     * The next run of a page is computed once from the cron expression and the last fetch (or update) date, then kept
+     * until the page is updated or fetched again.
+     */
+    private Date getNextAutoFetchRun(Page page, String cron) {
+        final AutoFetchSchedule schedule = page.getId() == null ? null : autoFetchSchedules.get(page.getId());
+        if (
+            schedule != null && schedule.cron.equals(cron) && (page.getUpdatedAt() == null || !schedule.lastRun.before(page.getUpdatedAt()))
+        ) {
+            return schedule.nextRun;
+        }
+        if (page.getUpdatedAt() == null) {
+            return null;
+        }
+        return scheduleAutoFetch(page, cron, page.getUpdatedAt()).nextRun;
+    }
+
+    private AutoFetchSchedule scheduleAutoFetch(Page page, String cron, Date lastRun) {
+        final AutoFetchSchedule previous = page.getId() == null ? null : autoFetchSchedules.get(page.getId());
+        final CronSequenceGenerator cronSequenceGenerator = previous != null && previous.cron.equals(cron)
+            ? previous.cronSequenceGenerator
+            : new CronSequenceGenerator(cron);
+        final AutoFetchSchedule schedule = new AutoFetchSchedule(cron, cronSequenceGenerator, lastRun);
+        if (page.getId() != null) {
+            autoFetchSchedules.put(page.getId(), schedule);
+        }
+        return schedule;
+    }
+
+    private String getAutoFetchFetcherKey(PageSource ps) {
+        return ps.getType() + ':' + DigestUtils.sha256Hex(ps.getConfiguration());
+    }
+
+    /**
+     * Fetchers used by the auto fetch are kept by source type and configuration hash so that they are not rebuilt
+     * through reflection for each page on each run.
+     */
+    private Fetcher getAutoFetchFetcher(PageSource ps, String fetcherKey) throws FetcherException {
+        Fetcher fetcher = autoFetchFetchers.get(fetcherKey);
+        if (fetcher == null) {
+            fetcher = getFetcher(ps);
+            if (fetcher != null) {
+                autoFetchFetchers.put(fetcherKey, fetcher);
+            }
+        }
+        return fetcher;
+    }
+
+    private AutoFetchReport executeAutoFetch(List<Page> pages, String environmentId) {
+        final AutoFetchReport report = new AutoFetchReport();
+        final int workers = Math.min(autoFetchWorkers, pages.size());
+        if (workers <= 1) {
+            pages.forEach(page -> executeAutoFetch(page, environmentId, report));
+            return report;
+        }
+
+        final String organizationId = GraviteeContext.getCurrentOrganization();
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("auto-fetch-worker-"));
+        try {
+            final List<Future<?>> futures = new ArrayList<>(pages.size());
+            for (Page page : pages) {
+                futures.add(
+                    executor.submit(
+                        () -> {
+                            GraviteeContext.setCurrentOrganization(organizationId);
+                            GraviteeContext.setCurrentEnvironment(environmentId);
+                            try {
+                                executeAutoFetch(page, environmentId, report);
+                            } finally {
+                                GraviteeContext.cleanContext();
+                            }
+                        }
+                    )
+                );
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Auto fetch has been interrupted");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("An error occurs while trying to auto fetch pages", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
+    private void executeAutoFetch(Page page, String environmentId, AutoFetchReport report) {
+        final long start = System.currentTimeMillis();
         try {
+            final Fetcher fetcher = getAutoFetchFetcher(page.getSource(), getAutoFetchFetcherKey(page.getSource()));
             if (page.getType() != null && page.getType().toString().equals("ROOT")) {
                 final ImportPageEntity pageEntity = new ImportPageEntity();
                 pageEntity.setType(PageType.valueOf(page.getType().toString()));
@@ -1544,14 +1815,43 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 pageEntity.setAccessControls(convertToEntities(page.getAccessControls()));
                 pageEntity.setLastContributor(SYSTEM_CONTRIBUTOR);
                 pageEntity.setVisibility(Visibility.valueOf(page.getVisibility()));
-                return fetchPages(page.getReferenceId(), pageEntity, environmentId);
+                // the directory import updates the configuration of its fetcher, so it can not use a shared one
+                report.fetched.addAndGet(fetchPages(page.getReferenceId(), pageEntity, environmentId).size());
+            } else if (autoFetch(page, fetcher)) {
+                report.fetched.incrementAndGet();
             } else {
-                return Arrays.asList(fetch(page, SYSTEM_CONTRIBUTOR));
+                report.unchanged.incrementAndGet();
             }
-        } catch (TechnicalException e) {
-            logger.error("An error occurs while trying to auto fetch page {}", page.getId(), e);
-            return Collections.emptyList();
+            scheduleAutoFetch(page, fetcher.getConfiguration().getFetchCron(), new Date());
+            logger.debug("Page {} auto fetched in {} ms", page.getId(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            report.failures.incrementAndGet();
+            logger.error(
+                "An error occurs while trying to auto fetch page {} (after {} ms)",
+                page.getId(),
+                System.currentTimeMillis() - start,
+                e
+            );
+        }
+    }
+
+    /**
+     * Fetch a single page on behalf of the auto fetch. Unlike a manual fetch, nothing is saved (no update, revision nor
+     * audit) when the fetched content is the same as the current one.
+     *
+     * @return <code>true</code> if the page has been updated.
+     */
+    private boolean autoFetch(Page page, Fetcher fetcher) throws TechnicalException, FetcherException {
+        Page previousPage = new Page();
+        previousPage.setContent(page.getContent());
+        previousPage.setName(page.getName());
+
+        validateSafeSource(page);
+        if (!fetchPage(page, fetcher)) {
+            return false;
         }
+        saveFetchedPage(page, previousPage, SYSTEM_CONTRIBUTOR);
+        return true;
     }
 
     @Override
@@ -2119,6 +2419,10 @@ public class PageServiceImpl extends AbstractService implements PageService, App
             throw onUpdateFail(page.getId(), e);
         }
 
+        return saveFetchedPage(page, previousPage, contributor);
+    }
+
+    private PageEntity saveFetchedPage(Page page, Page previousPage, String contributor) throws TechnicalException {
         page.setUpdatedAt(new Date());
         page.setLastContributor(contributor);
 
@@ -2176,13 +2480,21 @@ public class PageServiceImpl extends AbstractService implements PageService, App
     }
 
     private List<PageEntity> convert(List<Page> pages) {
+        return convert(pages, null);
+    }
+
+    private List<PageEntity> convert(List<Page> pages, PageTree pageTree) {
         if (pages == null) {
             return emptyList();
         }
-        return pages.stream().map(this::convert).collect(toList());
+        return pages.stream().map(page -> convert(page, pageTree)).collect(toList());
     }
 
     private PageEntity convert(Page page) {
+        return convert(page, null);
+    }
+
+    private PageEntity convert(Page page, PageTree pageTree) {
         PageEntity pageEntity;
 
         if (page.getReferenceId() != null && PageReferenceType.API.equals(page.getReferenceType())) {
@@ -2238,19 +2550,23 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         pageEntity.setParentId("".equals(page.getParentId()) ? null : page.getParentId());
         pageEntity.setMetadata(page.getMetadata());
 
-        pageEntity.setParentPath(this.computeParentPath(page, ""));
+        pageEntity.setParentPath(this.computeParentPath(page, "", pageTree));
 
         return pageEntity;
     }
 
-    private String computeParentPath(Page page, String suffix) {
+    private String computeParentPath(Page page, String suffix, PageTree pageTree) {
         final String path = suffix;
         final String parentId = page.getParentId();
         if (!StringUtils.isEmpty(parentId)) {
+            if (pageTree != null && pageTree.contains(parentId)) {
+                final Page parent = pageTree.getPage(parentId);
+                return this.computeParentPath(parent, "/" + parent.getName() + path, pageTree);
+            }
             try {
                 final Optional<Page> optParent = pageRepository.findById(parentId);
                 if (optParent.isPresent()) {
-                    return this.computeParentPath(optParent.get(), "/" + optParent.get().getName() + path);
+                    return this.computeParentPath(optParent.get(), "/" + optParent.get().getName() + path, pageTree);
                 }
             } catch (TechnicalException ex) {
                 logger.error("An error occurs while trying to find a page using its ID {}", parentId, ex);
@@ -2705,4 +3021,60 @@ public class PageServiceImpl extends AbstractService implements PageService, App
             }
         }
     }
+
+    private static class AutoFetchSchedule {
+
+        private final String cron;
+        private final CronSequenceGenerator cronSequenceGenerator;
+        private final Date lastRun;
+        private final Date nextRun;
+
+        private AutoFetchSchedule(String cron, CronSequenceGenerator cronSequenceGenerator, Date lastRun) {
+            this.cron = cron;
+            this.cronSequenceGenerator = cronSequenceGenerator;
+            this.lastRun = lastRun;
+            this.nextRun = cronSequenceGenerator.next(lastRun);
+        }
+    }
+
+    private static class AutoFetchReport {
+
+        private final AtomicLong fetched = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+    }
+
+    private static class PageTree {
+
+        private static final Comparator<Page> TRANSLATION_LANG_COMPARATOR = (p1, p2) -> {
+            String lang1 = p1.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG);
+            String lang2 = p2.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG);
+            return lang1.compareTo(lang2);
+        };
+
+        private final Map<String, Page> pagesById = new HashMap<>();
+        private final Map<String, List<Page>> translationsByPage = new HashMap<>();
+
+        PageTree(List<Page> pages) {
+            for (Page page : pages) {
+                pagesById.put(page.getId(), page);
+                if (PageType.TRANSLATION.name().equals(page.getType()) && page.getParentId() != null) {
+                    translationsByPage.computeIfAbsent(page.getParentId(), parentId -> new ArrayList<>()).add(page);
+                }
+            }
+            translationsByPage.values().forEach(translations -> translations.sort(TRANSLATION_LANG_COMPARATOR));
+        }
+
+        boolean contains(String pageId) {
+            return pageId != null && pagesById.containsKey(pageId);
+        }
+
+        Page getPage(String pageId) {
+            return pagesById.get(pageId);
+        }
+
+        List<Page> getTranslations(String pageId) {
+            return translationsByPage.getOrDefault(pageId, emptyList());
+        }
+    }
 }
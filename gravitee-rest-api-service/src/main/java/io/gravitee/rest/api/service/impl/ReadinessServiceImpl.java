@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import io.gravitee.rest.api.service.ReadinessService;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class ReadinessServiceImpl implements ReadinessService {
+
+    private final Logger logger = LoggerFactory.getLogger(ReadinessServiceImpl.class);
+
+    @Value("${services.sync.enabled:true}")
+    private boolean syncEnabled;
+
+    @Value("${services.local.enabled:false}")
+    private boolean localRegistryEnabled;
+
+    private final Set<String> pendingSubsystems = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        // Subsystems are expected from the start, so that the node is not reported ready before they begin to initialize
+        pendingSubsystems.add(UPGRADERS);
+        pendingSubsystems.add(SEARCH_INDEX);
+        pendingSubsystems.add(HTTP);
+        if (syncEnabled && !localRegistryEnabled) {
+            pendingSubsystems.add(SYNC);
+        }
+    }
+
+    @Override
+    public void ready(String subsystem) {
+        if (pendingSubsystems.remove(subsystem)) {
+            logger.info("Subsystem [{}] is ready", subsystem);
+        }
+    }
+
+    @Override
+    public Set<String> getPendingSubsystems() {
+        return Collections.unmodifiableSet(pendingSubsystems);
+    }
+}
@@ -20,6 +20,7 @@ import static io.gravitee.repository.management.model.Audit.AuditProperties.APPL
 import static io.gravitee.repository.management.model.Subscription.AuditEvent.*;
 import static java.lang.System.lineSeparator;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toList;
 
 import io.gravitee.common.data.domain.Page;
@@ -47,6 +48,8 @@ import io.gravitee.rest.api.service.notification.ApiHook;
 import io.gravitee.rest.api.service.notification.ApplicationHook;
 import io.gravitee.rest.api.service.notification.NotificationParamsBuilder;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -73,6 +76,10 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     private static final String RFC_3339_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
     private static final FastDateFormat dateFormatter = FastDateFormat.getInstance(RFC_3339_DATE_FORMAT);
     private static final char separator = ';';
+    /**
+     * Above this number of groups, counting each group with its own repository query costs more than a single search.
+     */
+    private static final int COUNT_GROUPED_BY_MAX_KEYS = 10;
 
     @Autowired
     private PlanService planService;
@@ -442,14 +449,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
                 // Update the expiration date for not yet revoked api-keys relative to this subscription
                 Date endingAt = subscription.getEndingAt();
                 if (plan.getSecurity() == PlanSecurityType.API_KEY && endingAt != null) {
-                    List<ApiKeyEntity> apiKeys = apiKeyService.findBySubscription(subscription.getId());
-                    for (ApiKeyEntity apiKey : apiKeys) {
-                        Date expireAt = apiKey.getExpireAt();
-                        if (!apiKey.isRevoked() && (expireAt == null || expireAt.compareTo(endingAt) > 0)) {
-                            apiKey.setExpireAt(endingAt);
-                            apiKeyService.update(apiKey);
-                        }
-                    }
+                    apiKeyService.expireBySubscription(subscription.getId(), endingAt);
                 }
 
                 return convert(subscription);
@@ -648,16 +648,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
                     );
 
                     // API Keys are automatically revoked
-                    List<ApiKeyEntity> apiKeys = apiKeyService.findBySubscription(subscription.getId());
-                    for (ApiKeyEntity apiKey : apiKeys) {
-                        Date expireAt = apiKey.getExpireAt();
-                        if (!apiKey.isRevoked()) {
-                            apiKey.setExpireAt(now);
-                            apiKey.setRevokedAt(now);
-                            apiKey.setRevoked(true);
-                            apiKeyService.revoke(apiKey.getKey(), false);
-                        }
-                    }
+                    apiKeyService.revokeBySubscription(subscription.getId());
 
                     return convert(subscription);
                 case PENDING:
@@ -908,27 +899,20 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
         try {
             logger.debug("Search subscriptions {}", query);
 
-            SubscriptionCriteria.Builder builder = toSubscriptionCriteriaBuilder(query);
-
-            if (query.getStatuses() != null) {
-                builder.statuses(
-                    query
-                        .getStatuses()
-                        .stream()
-                        .map(subscriptionStatus -> Subscription.Status.valueOf(subscriptionStatus.name()))
-                        .collect(Collectors.toSet())
-                );
-            }
-
-            Stream<SubscriptionEntity> subscriptionsStream = subscriptionRepository.search(builder.build()).stream().map(this::convert);
+            Stream<SubscriptionEntity> subscriptionsStream = subscriptionRepository
+                .search(toSubscriptionCriteria(query))
+                .stream()
+                .map(this::convert);
             if (query.getApiKey() != null && !query.getApiKey().isEmpty()) {
+                // an API key belongs to a single subscription, resolve it once instead of looking up the keys of each subscription
+                final String apiKeySubscription;
+                try {
+                    apiKeySubscription = apiKeyService.findByKey(query.getApiKey()).getSubscription();
+                } catch (ApiKeyNotFoundException ex) {
+                    return emptyList();
+                }
                 subscriptionsStream =
-                    subscriptionsStream.filter(
-                        subscriptionEntity -> {
-                            final List<ApiKeyEntity> apiKeys = apiKeyService.findBySubscription(subscriptionEntity.getId());
-                            return apiKeys.stream().anyMatch(apiKeyEntity -> apiKeyEntity.getKey().equals(query.getApiKey()));
-                        }
-                    );
+                    subscriptionsStream.filter(subscriptionEntity -> subscriptionEntity.getId().equals(apiKeySubscription));
             }
             return subscriptionsStream.collect(toList());
         } catch (TechnicalException ex) {
@@ -1001,6 +985,118 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
         }
     }
 
+    @Override
+    public Map<String, Long> countGroupedByApi(SubscriptionQuery query) {
+        return countGroupedBy(query, query.getApis(), (builder, api) -> builder.apis(Collections.singleton(api)), Subscription::getApi);
+    }
+
+    @Override
+    public Map<String, Long> countGroupedByApplication(SubscriptionQuery query) {
+        return countGroupedBy(
+            query,
+            query.getApplications(),
+            (builder, application) -> builder.applications(Collections.singleton(application)),
+            Subscription::getApplication
+        );
+    }
+
+    @Override
+    public Map<String, Long> countGroupedByPlan(SubscriptionQuery query) {
+        return countGroupedBy(
+            query,
+            query.getPlans(),
+            (builder, plan) -> builder.plans(Collections.singleton(plan)),
+            Subscription::getPlan
+        );
+    }
+
+    @Override
+    public Map<SubscriptionStatus, Long> countGroupedByStatus(SubscriptionQuery query) {
+        // statuses only known by the API (as RESUMED) are never persisted
+        Collection<SubscriptionStatus> statuses = query.getStatuses() == null
+            ? Arrays.stream(Subscription.Status.values()).map(status -> SubscriptionStatus.valueOf(status.name())).collect(toList())
+            : query.getStatuses();
+        return countGroupedBy(
+            query,
+            statuses,
+            (builder, status) -> builder.statuses(Collections.singleton(Subscription.Status.valueOf(status.name()))),
+            subscription -> SubscriptionStatus.valueOf(subscription.getStatus().name())
+        );
+    }
+
+    /**
+     * When a few keys to group on are known, each group is counted by the repository from the total of a single element page.
+     * Otherwise, matching subscriptions are searched once and grouped as returned by the repository, without being converted.
+     */
+    private <K> Map<K, Long> countGroupedBy(
+        SubscriptionQuery query,
+        Collection<K> keys,
+        BiConsumer<SubscriptionCriteria.Builder, K> restriction,
+        Function<Subscription, K> classifier
+    ) {
+        final Set<K> distinctKeys = keys == null ? null : new LinkedHashSet<>(keys);
+        try {
+            logger.debug("Count subscriptions {} grouped by {}", query, distinctKeys);
+
+            final boolean byApiKey = query.getApiKey() != null && !query.getApiKey().isEmpty();
+            if (distinctKeys == null || distinctKeys.size() > COUNT_GROUPED_BY_MAX_KEYS || byApiKey) {
+                Stream<Subscription> subscriptions = subscriptionRepository.search(toSubscriptionCriteria(query)).stream();
+                if (byApiKey) {
+                    final String apiKeySubscription;
+                    try {
+                        apiKeySubscription = apiKeyService.findByKey(query.getApiKey()).getSubscription();
+                    } catch (ApiKeyNotFoundException ex) {
+                        return emptyMap();
+                    }
+                    subscriptions = subscriptions.filter(subscription -> subscription.getId().equals(apiKeySubscription));
+                }
+                return subscriptions.collect(Collectors.groupingBy(classifier, Collectors.counting()));
+            }
+
+            final io.gravitee.repository.management.api.search.Pageable singleElementPage = new PageableBuilder()
+                .pageNumber(0)
+                .pageSize(1)
+                .build();
+            Map<K, Long> counts = new HashMap<>();
+            for (K key : distinctKeys) {
+                SubscriptionCriteria.Builder builder = toSubscriptionCriteriaBuilder(query);
+                if (query.getStatuses() != null) {
+                    builder.statuses(
+                        query
+                            .getStatuses()
+                            .stream()
+                            .map(subscriptionStatus -> Subscription.Status.valueOf(subscriptionStatus.name()))
+                            .collect(Collectors.toSet())
+                    );
+                }
+                restriction.accept(builder, key);
+
+                long count = subscriptionRepository.search(builder.build(), singleElementPage).getTotalElements();
+                if (count > 0) {
+                    counts.put(key, count);
+                }
+            }
+            return counts;
+        } catch (TechnicalException ex) {
+            logger.error("An error occurs while trying to count subscriptions: {}", query, ex);
+            throw new TechnicalManagementException(String.format("An error occurs while trying to count subscriptions: %s", query), ex);
+        }
+    }
+
+    private SubscriptionCriteria toSubscriptionCriteria(SubscriptionQuery query) {
+        SubscriptionCriteria.Builder builder = toSubscriptionCriteriaBuilder(query);
+        if (query.getStatuses() != null) {
+            builder.statuses(
+                query
+                    .getStatuses()
+                    .stream()
+                    .map(subscriptionStatus -> Subscription.Status.valueOf(subscriptionStatus.name()))
+                    .collect(Collectors.toSet())
+            );
+        }
+        return builder.build();
+    }
+
     private SubscriptionCriteria.Builder toSubscriptionCriteriaBuilder(SubscriptionQuery query) {
         return new SubscriptionCriteria.Builder()
             .apis(query.getApis())
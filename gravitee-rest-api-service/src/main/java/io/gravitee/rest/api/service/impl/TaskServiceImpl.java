@@ -107,7 +107,8 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
             // search for PENDING user registration
             final Page<UserEntity> pendingUsers = userService.search(
                 new UserCriteria.Builder().statuses(UserStatus.PENDING).build(),
-                new PageableImpl(1, NUMBER_OF_PENDING_USERS_TO_SEARCH)
+                new PageableImpl(1, NUMBER_OF_PENDING_USERS_TO_SEARCH),
+                false
             );
             if (pendingUsers.getContent() != null && !pendingUsers.getContent().isEmpty()) {
                 tasks.addAll(pendingUsers.getContent().stream().map(this::convert).collect(toList()));
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.rest.api.model.PictureEntity;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keep the decoded assets (logos, favicon, background image) of the enabled theme of each environment, so that serving
+ * them to the portal does not read, parse and decode the theme on each request.
+ *
+ * The assets of an environment are used as is for a short period, then they are reused only if the enabled theme has
+ * not changed since they have been decoded. This lets other nodes of a cluster see a theme update after at most the
+ * check interval, while the node updating the theme invalidates its assets immediately.
+ *
+ * @author GraviteeSource Team
+ */
+class ThemeAssetCache {
+
+    private final Cache<String, CachedAssets> assets;
+    private final long checkInterval;
+
+    ThemeAssetCache(long maximumSize, Duration checkInterval) {
+        this.checkInterval = checkInterval.toMillis();
+        this.assets = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Get an asset of the enabled theme of an environment.
+     *
+     * @param environment the environment of the theme
+     * @param asset the name of the asset
+     * @param version gives a value changing each time the enabled theme of the environment changes
+     * @param loader decodes the asset from the enabled theme, may return <code>null</code> if the theme has no such asset
+     * @return the asset, or <code>null</code> if the theme has no such asset
+     */
+    PictureEntity get(String environment, String asset, Supplier<String> version, Supplier<PictureEntity> loader) {
+        final long now = System.currentTimeMillis();
+
+        CachedAssets cached = assets.getIfPresent(environment);
+        if (cached == null || now - cached.checkedAt >= checkInterval) {
+            final String currentVersion = version.get();
+            if (cached == null || !Objects.equals(cached.version, currentVersion)) {
+                cached = new CachedAssets(currentVersion, now);
+                assets.put(environment, cached);
+            } else {
+                cached.checkedAt = now;
+            }
+        }
+
+        return cached.pictures.computeIfAbsent(asset, name -> Optional.ofNullable(loader.get())).orElse(null);
+    }
+
+    void invalidate(String environment) {
+        assets.invalidate(environment);
+    }
+
+    private static class CachedAssets {
+
+        private final String version;
+        private final Map<String, Optional<PictureEntity>> pictures = new ConcurrentHashMap<>();
+        private volatile long checkedAt;
+
+        private CachedAssets(String version, long checkedAt) {
+            this.version = version;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
@@ -39,10 +39,11 @@ import io.gravitee.rest.api.service.exceptions.ThemeNotFoundException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.activation.MimetypesFileTypeMap;
-import javax.xml.bind.DatatypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,6 +61,8 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
     private static final ThemeDefinitionMapper MAPPER = new ThemeDefinitionMapper();
     private static final String DEFAULT_THEME_PATH = "/definition.json";
     private static final String DEFAULT_THEME_ID = "default";
+    private static final long ASSET_CACHE_MAX_ENVIRONMENTS = 1000;
+    private static final Duration ASSET_CACHE_CHECK_INTERVAL = Duration.ofSeconds(10);
 
     @Autowired
     private ThemeRepository themeRepository;
@@ -70,6 +73,8 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
     @Value("${portal.themes.path:${gravitee.home}/themes}")
     private String themesPath;
 
+    private final ThemeAssetCache themeAssetCache = new ThemeAssetCache(ASSET_CACHE_MAX_ENVIRONMENTS, ASSET_CACHE_CHECK_INTERVAL);
+
     @Override
     public Set<ThemeEntity> findAll() {
         try {
@@ -122,6 +127,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
             }
 
             Theme theme = themeRepository.create(convert(themeEntity));
+            themeAssetCache.invalidate(GraviteeContext.getCurrentEnvironment());
 
             auditService.createEnvironmentAuditLog(
                 Collections.singletonMap(THEME, theme.getId()),
@@ -186,6 +192,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
                 }
 
                 final ThemeEntity savedTheme = convert(themeRepository.update(theme));
+                themeAssetCache.invalidate(GraviteeContext.getCurrentEnvironment());
                 auditService.createEnvironmentAuditLog(
                     Collections.singletonMap(THEME, theme.getId()),
                     THEME_UPDATED,
@@ -218,6 +225,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
             Optional<Theme> themeOptional = themeRepository.findById(themeId);
             if (themeOptional.isPresent()) {
                 themeRepository.delete(themeId);
+                themeAssetCache.invalidate(GraviteeContext.getCurrentEnvironment());
                 auditService.createEnvironmentAuditLog(
                     Collections.singletonMap(THEME, themeId),
                     THEME_DELETED,
@@ -285,6 +293,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
                                 themeUpdate.setDefinition(MAPPER.writeValueAsString(mergeDefinition));
                                 theme.setUpdatedAt(new Date());
                                 this.themeRepository.update(themeUpdate);
+                                themeAssetCache.invalidate(GraviteeContext.getCurrentEnvironment());
                                 auditService.createEnvironmentAuditLog(
                                     Collections.singletonMap(THEME, theme.getId()),
                                     THEME_UPDATED,
@@ -316,10 +325,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
     @Override
     public PictureEntity getFavicon(String themeId) {
         try {
-            final String favicon = findEnabled().getFavicon();
-            if (favicon != null) {
-                return convertToPicture(favicon);
-            }
+            return getAsset("favicon", ThemeEntity::getFavicon);
         } catch (Exception ex) {
             LOGGER.warn("Unable to get favicon picture theme for id[{}]", themeId);
         }
@@ -375,6 +381,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
             LOGGER.debug("Reset to default theme by ID: {}", themeId);
             final ThemeEntity previousTheme = findEnabled();
             themeRepository.delete(DEFAULT_THEME_ID);
+            themeAssetCache.invalidate(GraviteeContext.getCurrentEnvironment());
             auditService.createEnvironmentAuditLog(Collections.singletonMap(THEME, themeId), THEME_RESET, new Date(), previousTheme, null);
             return findEnabled();
         } catch (Exception ex) {
@@ -387,10 +394,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
     @Override
     public PictureEntity getLogo(String themeId) {
         try {
-            final String logo = findEnabled().getLogo();
-            if (logo != null) {
-                return convertToPicture(logo);
-            }
+            return getAsset("logo", ThemeEntity::getLogo);
         } catch (Exception ex) {
             LOGGER.warn("Unable to get logo picture theme for id[{}]", themeId);
         }
@@ -400,10 +404,7 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
     @Override
     public PictureEntity getOptionalLogo(String themeId) {
         try {
-            final String optionalLogo = findEnabled().getOptionalLogo();
-            if (optionalLogo != null) {
-                return convertToPicture(optionalLogo);
-            }
+            return getAsset("optionalLogo", ThemeEntity::getOptionalLogo);
         } catch (Exception ex) {
             LOGGER.warn("Unable to get optional logo theme for id[{}]", themeId);
         }
@@ -413,26 +414,50 @@ public class ThemeServiceImpl extends AbstractService implements ThemeService {
     @Override
     public PictureEntity getBackgroundImage(String themeId) {
         try {
-            final String backgroundImage = findEnabled().getBackgroundImage();
-            if (backgroundImage != null) {
-                return convertToPicture(backgroundImage);
-            }
+            return getAsset("backgroundImage", ThemeEntity::getBackgroundImage);
         } catch (Exception ex) {
             LOGGER.warn("Unable to get background image theme for id[{}]", themeId);
         }
         return null;
     }
 
+    private PictureEntity getAsset(String asset, Function<ThemeEntity, String> extractor) {
+        return themeAssetCache.get(
+            GraviteeContext.getCurrentEnvironment(),
+            asset,
+            this::getEnabledThemeVersion,
+            () -> {
+                final String picture = extractor.apply(findEnabled());
+                return picture == null ? null : convertToPicture(picture);
+            }
+        );
+    }
+
+    /**
+     * Identify the enabled theme of the current environment and its last update without converting it.
+     */
+    private String getEnabledThemeVersion() {
+        try {
+            return themeRepository
+                .findByReferenceIdAndReferenceType(GraviteeContext.getCurrentEnvironment(), ThemeReferenceType.ENVIRONMENT.name())
+                .stream()
+                .filter(Theme::isEnabled)
+                .findFirst()
+                .map(theme -> theme.getId() + ':' + (theme.getUpdatedAt() == null ? 0 : theme.getUpdatedAt().getTime()))
+                .orElse(DEFAULT_THEME_ID);
+        } catch (TechnicalException ex) {
+            final String error = "An error occurs while trying to find the enabled theme";
+            LOGGER.error(error, ex);
+            throw new TechnicalManagementException(error, ex);
+        }
+    }
+
     private PictureEntity convertToPicture(String picture) {
         if (picture.matches("^(http|https)://.*$")) {
             return new UrlPictureEntity(picture);
         } else {
-            InlinePictureEntity imageEntity = new InlinePictureEntity();
-            String[] parts = picture.split(";", 2);
-            imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = picture.split(",", 2)[1];
-            imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-            return imageEntity;
+            // theme assets are already kept for each version of the enabled theme
+            return InlinePictures.decode(picture, null, null);
         }
     }
 
@@ -66,6 +66,29 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
         }
     }
 
+    @Override
+    public Map<String, Integer> countByUsers(final Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            LOGGER.debug("Count tokens for {} users", userIds.size());
+            // the repository has no multi-reference lookup, the users are those of a page so the queries are bounded by its size
+            final Map<String, Integer> counts = new HashMap<>();
+            for (String userId : new LinkedHashSet<>(userIds)) {
+                final int count = tokenRepository.findByReference(TokenReferenceType.USER.name(), userId).size();
+                if (count > 0) {
+                    counts.put(userId, count);
+                }
+            }
+            return counts;
+        } catch (TechnicalException ex) {
+            final String error = "An error occurs while trying to count tokens";
+            LOGGER.error(error, ex);
+            throw new TechnicalManagementException(error, ex);
+        }
+    }
+
     @Override
     public TokenEntity create(NewTokenEntity newToken) {
         try {
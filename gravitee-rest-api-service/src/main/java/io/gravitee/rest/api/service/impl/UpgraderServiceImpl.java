@@ -15,14 +15,27 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import static io.gravitee.rest.api.service.InstallationService.UPGRADER_VERSION_PREFIX;
+
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.rest.api.service.InitializerService;
+import io.gravitee.rest.api.service.InstallationService;
+import io.gravitee.rest.api.service.ReadinessService;
 import io.gravitee.rest.api.service.Upgrader;
-import java.util.Comparator;
-import java.util.Map;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -36,6 +49,15 @@ public class UpgraderServiceImpl extends AbstractService<UpgraderServiceImpl> im
      */
     private final Logger logger = LoggerFactory.getLogger(UpgraderServiceImpl.class);
 
+    @Value("${services.upgrader.workers:4}")
+    private int workers;
+
+    @Autowired
+    private InstallationService installationService;
+
+    @Autowired
+    private ReadinessService readinessService;
+
     @Override
     protected String name() {
         return "Upgrader service";
@@ -45,16 +67,98 @@ public class UpgraderServiceImpl extends AbstractService<UpgraderServiceImpl> im
     protected void doStart() throws Exception {
         super.doStart();
 
-        Map<String, Upgrader> upgraderBeans = applicationContext.getBeansOfType(Upgrader.class);
-        upgraderBeans
+        final List<Upgrader> upgraders = applicationContext
+            .getBeansOfType(Upgrader.class)
             .values()
             .stream()
             .sorted(Comparator.comparing(Upgrader::getOrder))
-            .forEach(
-                upgrader -> {
-                    logger.info("Running upgrader {}", upgrader.getClass().getName());
-                    upgrader.upgrade();
-                }
-            );
+            .collect(Collectors.toList());
+        final Map<String, String> appliedVersions = installationService.getOrInitialize().getAdditionalInformation();
+
+        final long start = System.currentTimeMillis();
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("upgrader-"));
+        try {
+            final Map<Upgrader, CompletableFuture<Void>> upgrades = new LinkedHashMap<>();
+            upgraders.forEach(upgrader -> schedule(upgrader, upgraders, upgrades, new HashSet<>(), appliedVersions, executor));
+            CompletableFuture.allOf(upgrades.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ce) {
+            throw ce.getCause() instanceof Exception ? (Exception) ce.getCause() : ce;
+        } finally {
+            executor.shutdown();
+        }
+        logger.info("{} upgraders run in {} ms", upgraders.size(), System.currentTimeMillis() - start);
+        readinessService.ready(ReadinessService.UPGRADERS);
+    }
+
+    /**
+     * An upgrader is started as soon as the upgraders it depends on are completed. If one of them failed, it is not run
+     * and the failure is propagated to the startup.
+     */
+    private CompletableFuture<Void> schedule(
+        Upgrader upgrader,
+        List<Upgrader> upgraders,
+        Map<Upgrader, CompletableFuture<Void>> upgrades,
+        Set<Upgrader> scheduling,
+        Map<String, String> appliedVersions,
+        ExecutorService executor
+    ) {
+        final CompletableFuture<Void> scheduled = upgrades.get(upgrader);
+        if (scheduled != null) {
+            return scheduled;
+        }
+        if (!scheduling.add(upgrader)) {
+            throw new IllegalStateException("Cyclic dependency found on upgrader " + getName(upgrader));
+        }
+
+        final CompletableFuture<?>[] dependencies = getDependencies(upgrader, upgraders)
+            .stream()
+            .map(dependency -> schedule(dependency, upgraders, upgrades, scheduling, appliedVersions, executor))
+            .toArray(CompletableFuture[]::new);
+        final CompletableFuture<Void> upgrade = CompletableFuture
+            .allOf(dependencies)
+            .thenRunAsync(() -> upgrade(upgrader, appliedVersions), executor);
+
+        upgrades.put(upgrader, upgrade);
+        return upgrade;
+    }
+
+    private List<Upgrader> getDependencies(Upgrader upgrader, List<Upgrader> upgraders) {
+        final Set<Class<? extends Upgrader>> dependencies = upgrader.getDependencies();
+        if (dependencies == null) {
+            return upgraders.stream().filter(other -> other.getOrder() < upgrader.getOrder()).collect(Collectors.toList());
+        }
+        final List<Upgrader> resolved = upgraders
+            .stream()
+            .filter(other -> dependencies.contains(ClassUtils.getUserClass(other)))
+            .collect(Collectors.toList());
+        if (resolved.size() < dependencies.size()) {
+            logger.warn("Some dependencies of upgrader {} are not available: {}", getName(upgrader), dependencies);
+        }
+        return resolved;
+    }
+
+    private void upgrade(Upgrader upgrader, Map<String, String> appliedVersions) {
+        final String name = getName(upgrader);
+        final String version = upgrader.getVersion();
+        if (version != null && version.equals(appliedVersions.get(UPGRADER_VERSION_PREFIX + name))) {
+            logger.info("Upgrader {} already applied in version {}", name, version);
+            return;
+        }
+
+        logger.info("Running upgrader {}", upgrader.getClass().getName());
+        final long start = System.currentTimeMillis();
+        try {
+            final boolean upgraded = upgrader.upgrade();
+            if (upgraded && version != null) {
+                installationService.putAdditionalInformation(UPGRADER_VERSION_PREFIX + name, version);
+            }
+            logger.info("Upgrader {} {} in {} ms", name, upgraded ? "done" : "not completed", System.currentTimeMillis() - start);
+        } finally {
+            GraviteeContext.cleanContext();
+        }
+    }
+
+    private static String getName(Upgrader upgrader) {
+        return ClassUtils.getUserClass(upgrader).getSimpleName();
     }
 }
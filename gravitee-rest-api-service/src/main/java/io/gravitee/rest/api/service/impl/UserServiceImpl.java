@@ -78,7 +78,6 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
-import javax.xml.bind.DatatypeConverter;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -620,12 +619,7 @@ public class UserServiceImpl extends AbstractService implements UserService, Ini
                 return new UrlPictureEntity(picture);
             } else {
                 try {
-                    InlinePictureEntity imageEntity = new InlinePictureEntity();
-                    String[] parts = picture.split(";", 2);
-                    imageEntity.setType(parts[0].split(":")[1]);
-                    String base64Content = picture.split(",", 2)[1];
-                    imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
-                    return imageEntity;
+                    return InlinePictures.decode(picture, "user:" + id + ":picture", user.getUpdatedAt());
                 } catch (Exception ex) {
                     LOGGER.warn("Unable to get user picture for id[{}]", id);
                 }
@@ -1119,39 +1113,52 @@ public class UserServiceImpl extends AbstractService implements UserService, Ini
     }
 
     private void populateUserFlags(final List<UserEntity> users) {
+        if (users == null || users.isEmpty()) {
+            return;
+        }
         RoleEntity apiPORole = roleService.findPrimaryOwnerRoleByOrganization(GraviteeContext.getCurrentOrganization(), RoleScope.API);
         RoleEntity applicationPORole = roleService.findPrimaryOwnerRoleByOrganization(
             GraviteeContext.getCurrentOrganization(),
             RoleScope.APPLICATION
         );
 
+        final List<String> userIds = users.stream().map(UserEntity::getId).collect(toList());
+        final Set<String> primaryOwners = new HashSet<>();
+        primaryOwners.addAll(findMembersWithRole(userIds, MembershipReferenceType.API, apiPORole));
+        primaryOwners.addAll(findMembersWithRole(userIds, MembershipReferenceType.APPLICATION, applicationPORole));
+        final Map<String, Integer> nbTokensByUser = tokenService.countByUsers(userIds);
+
         users.forEach(
             user -> {
-                final boolean apiPO = !membershipService
-                    .getMembershipsByMemberAndReferenceAndRole(
-                        MembershipMemberType.USER,
-                        user.getId(),
-                        MembershipReferenceType.API,
-                        apiPORole.getId()
-                    )
-                    .isEmpty();
-                final boolean appPO = !membershipService
-                    .getMembershipsByMemberAndReferenceAndRole(
-                        MembershipMemberType.USER,
-                        user.getId(),
-                        MembershipReferenceType.APPLICATION,
-                        applicationPORole.getId()
-                    )
-                    .isEmpty();
-
-                user.setPrimaryOwner(apiPO || appPO);
-                user.setNbActiveTokens(tokenService.findByUser(user.getId()).size());
+                user.setPrimaryOwner(primaryOwners.contains(user.getId()));
+                user.setNbActiveTokens(nbTokensByUser.getOrDefault(user.getId(), 0));
             }
         );
     }
 
+    private Set<String> findMembersWithRole(
+        final List<String> userIds,
+        final MembershipReferenceType referenceType,
+        final RoleEntity role
+    ) {
+        if (role == null) {
+            return Collections.emptySet();
+        }
+        return membershipService
+            .getMembershipsByMembersAndReference(MembershipMemberType.USER, userIds, referenceType)
+            .stream()
+            .filter(membership -> role.getId().equals(membership.getRoleId()))
+            .map(MembershipEntity::getMemberId)
+            .collect(toSet());
+    }
+
     @Override
     public Page<UserEntity> search(UserCriteria criteria, Pageable pageable) {
+        return search(criteria, pageable, true);
+    }
+
+    @Override
+    public Page<UserEntity> search(UserCriteria criteria, Pageable pageable, boolean withFlags) {
         try {
             LOGGER.debug("search users");
             UserCriteria.Builder builder = new UserCriteria.Builder()
@@ -1169,7 +1176,9 @@ public class UserServiceImpl extends AbstractService implements UserService, Ini
 
             List<UserEntity> entities = users.getContent().stream().map(u -> convert(u, false)).collect(toList());
 
-            populateUserFlags(entities);
+            if (withFlags) {
+                populateUserFlags(entities);
+            }
 
             return new Page<>(entities, users.getPageNumber() + 1, (int) users.getPageElements(), users.getTotalElements());
         } catch (TechnicalException ex) {
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.alert;
+
+import io.gravitee.repository.management.model.AlertEvent;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Event counters of the alert triggers, used to display the number of alerts raised by each trigger over the last
+ * 5 minutes, hour, day and month without querying the events of each trigger for each window on every listing.
+ *
+ * The creation dates of the events of the last month are kept in memory for all the triggers, so that the windows roll
+ * without reloading anything. They are loaded once with a search of the last month events, then completed with the
+ * events stored since the previous search, at most once per refresh delay, to take into account the events stored by
+ * other nodes. Events stored by this node are counted as soon as they are stored.
+ *
+ * @author GraviteeSource Team
+ */
+public class AlertEventCounters {
+
+    public static final Map<String, Duration> WINDOWS;
+
+    public static final Duration HISTORY = Duration.ofDays(30);
+
+    /**
+     * Events are searched again a bit before the previous search, to catch those stored late by other nodes.
+     */
+    private static final Duration SEARCH_OVERLAP = Duration.ofMinutes(1);
+
+    static {
+        Map<String, Duration> windows = new LinkedHashMap<>();
+        windows.put("5m", Duration.ofMinutes(5));
+        windows.put("1h", Duration.ofHours(1));
+        windows.put("1d", Duration.ofDays(1));
+        windows.put("1M", HISTORY);
+        WINDOWS = Collections.unmodifiableMap(windows);
+    }
+
+    private final Duration refreshDelay;
+    private final BiFunction<Long, Long, List<AlertEvent>> eventsSearch;
+    private final Function<String, Optional<AlertEvent>> lastEventSearch;
+    private final Map<String, TriggerEvents> triggers = new HashMap<>();
+    private long searchedAt;
+
+    /**
+     * @param refreshDelay the delay after which the events stored since the previous search are searched
+     * @param eventsSearch the search of the events of all the triggers created between two dates
+     * @param lastEventSearch the search of the last event of a trigger, used for the triggers without event in the last month
+     */
+    public AlertEventCounters(
+        Duration refreshDelay,
+        BiFunction<Long, Long, List<AlertEvent>> eventsSearch,
+        Function<String, Optional<AlertEvent>> lastEventSearch
+    ) {
+        this.refreshDelay = refreshDelay;
+        this.eventsSearch = eventsSearch;
+        this.lastEventSearch = lastEventSearch;
+    }
+
+    /**
+     * Get the counters of a trigger as of the given date.
+     */
+    public synchronized TriggerCounters get(String triggerId, long now) {
+        if (searchedAt == 0 || now - searchedAt >= refreshDelay.toMillis()) {
+            refresh(now);
+        }
+        TriggerEvents triggerEvents = triggers.get(triggerId);
+        if (triggerEvents == null) {
+            triggerEvents = new TriggerEvents();
+            lastEventSearch.apply(triggerId).ifPresent(triggerEvents::add);
+            triggers.put(triggerId, triggerEvents);
+        }
+        return triggerEvents.count(now);
+    }
+
+    /**
+     * Count a new event for its trigger. Nothing is done if the events have not been searched yet.
+     */
+    public synchronized void add(AlertEvent event) {
+        if (searchedAt != 0 && event.getCreatedAt() != null) {
+            triggers.computeIfAbsent(event.getAlert(), triggerId -> new TriggerEvents()).add(event);
+        }
+    }
+
+    public synchronized void remove(String triggerId) {
+        triggers.remove(triggerId);
+    }
+
+    private void refresh(long now) {
+        final long from = searchedAt == 0 ? now - HISTORY.toMillis() : searchedAt - SEARCH_OVERLAP.toMillis();
+        eventsSearch.apply(from, now).stream().filter(event -> event.getCreatedAt() != null).forEach(this::addSearched);
+        triggers.values().forEach(triggerEvents -> triggerEvents.prune(now - HISTORY.toMillis()));
+        searchedAt = now;
+    }
+
+    private void addSearched(AlertEvent event) {
+        triggers.computeIfAbsent(event.getAlert(), triggerId -> new TriggerEvents()).add(event);
+    }
+
+    private static class TriggerEvents {
+
+        private final Map<String, Long> createdAt = new HashMap<>();
+        private Date lastAlertAt;
+        private String lastAlertMessage;
+
+        void add(AlertEvent event) {
+            createdAt.put(event.getId(), event.getCreatedAt().getTime());
+            if (lastAlertAt == null || !lastAlertAt.after(event.getCreatedAt())) {
+                lastAlertAt = event.getCreatedAt();
+                lastAlertMessage = event.getMessage();
+            }
+        }
+
+        void prune(long before) {
+            createdAt.values().removeIf(time -> time < before);
+        }
+
+        TriggerCounters count(long now) {
+            final Map<String, Integer> counts = new HashMap<>();
+            WINDOWS.forEach(
+                (window, duration) -> {
+                    final long from = now - duration.toMillis();
+                    counts.put(window, (int) createdAt.values().stream().filter(time -> time >= from && time <= now).count());
+                }
+            );
+            return new TriggerCounters(counts, lastAlertAt, lastAlertMessage);
+        }
+    }
+
+    public static class TriggerCounters {
+
+        private final Map<String, Integer> counts;
+        private final Date lastAlertAt;
+        private final String lastAlertMessage;
+
+        TriggerCounters(Map<String, Integer> counts, Date lastAlertAt, String lastAlertMessage) {
+            this.counts = counts;
+            this.lastAlertAt = lastAlertAt;
+            this.lastAlertMessage = lastAlertMessage;
+        }
+
+        /**
+         * The number of events of each window.
+         */
+        public Map<String, Integer> count() {
+            return new HashMap<>(counts);
+        }
+
+        public Date getLastAlertAt() {
+            return lastAlertAt;
+        }
+
+        public String getLastAlertMessage() {
+            return lastAlertMessage;
+        }
+    }
+}
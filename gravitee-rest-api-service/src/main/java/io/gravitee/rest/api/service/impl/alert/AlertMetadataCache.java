@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.alert;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keep the metadata of the APIs, applications and plans sent to the alert engine to resolve the properties of an
+ * alert, so that they are not built again for each alert.
+ *
+ * A cached metadata is used as is for a short period, then it is reused only if the entity has not been updated
+ * since it has been built.
+ *
+ * @author GraviteeSource Team
+ */
+public class AlertMetadataCache {
+
+    private final Cache<String, CachedMetadata> metadata;
+    private final long checkInterval;
+
+    public AlertMetadataCache(long maximumSize, Duration checkInterval, Duration timeToLive) {
+        this.checkInterval = checkInterval.toMillis();
+        this.metadata =
+            CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS).build();
+    }
+
+    /**
+     * Get the metadata of an entity.
+     *
+     * @param type the type of the entity (api, application, plan)
+     * @param id the id of the entity
+     * @param version gives the last update date of the entity, or <code>null</code> if it does not exist
+     * @param loader builds the metadata of the entity
+     * @return a copy of the metadata
+     */
+    public Map<String, Object> get(String type, String id, Supplier<Date> version, Supplier<Map<String, Object>> loader) {
+        final String key = type + ':' + id;
+        final long now = System.currentTimeMillis();
+
+        CachedMetadata cached = metadata.getIfPresent(key);
+        if (cached != null && now - cached.checkedAt < checkInterval) {
+            return new HashMap<>(cached.metadata);
+        }
+
+        final Date currentVersion = version.get();
+        if (cached != null && Objects.equals(cached.version, currentVersion)) {
+            cached.checkedAt = now;
+            return new HashMap<>(cached.metadata);
+        }
+
+        final Map<String, Object> entityMetadata = loader.get();
+        metadata.put(key, new CachedMetadata(currentVersion, entityMetadata, now));
+        return new HashMap<>(entityMetadata);
+    }
+
+    private static class CachedMetadata {
+
+        private final Date version;
+        private final Map<String, Object> metadata;
+        private volatile long checkedAt;
+
+        private CachedMetadata(Date version, Map<String, Object> metadata, long checkedAt) {
+            this.version = version;
+            this.metadata = Collections.unmodifiableMap(new HashMap<>(metadata));
+            this.checkedAt = checkedAt;
+        }
+    }
+}
@@ -31,7 +31,6 @@ import io.gravitee.rest.api.service.TopApiService;
 import io.gravitee.rest.api.service.filtering.FilteringService;
 import io.gravitee.rest.api.service.impl.AbstractService;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -72,26 +71,22 @@ public class FilteringServiceImpl extends AbstractService implements FilteringSe
             return new FilteredEntities<>(Collections.emptyList(), new HashMap<>());
         }
 
-        Function<SubscriptionEntity, String> getItemFunction;
+        //count subscriptions of the items
+        SubscriptionQuery subscriptionQuery = new SubscriptionQuery();
+        subscriptionQuery.setStatuses(Arrays.asList(SubscriptionStatus.ACCEPTED, SubscriptionStatus.PAUSED));
+        List<String> itemIds = items.stream().map(FilterableItem::getId).collect(Collectors.toList());
+
+        Map<String, Long> subscribedItemsWithCount;
         if (items.toArray()[0] instanceof ApiEntity) {
-            getItemFunction = (SubscriptionEntity sub) -> sub.getApi();
+            subscriptionQuery.setApis(itemIds);
+            subscribedItemsWithCount = subscriptionService.countGroupedByApi(subscriptionQuery);
         } else if (items.toArray()[0] instanceof ApplicationListItem) {
-            getItemFunction = (SubscriptionEntity sub) -> sub.getApplication();
+            subscriptionQuery.setApplications(itemIds);
+            subscribedItemsWithCount = subscriptionService.countGroupedByApplication(subscriptionQuery);
         } else {
             throw new IllegalStateException("Only ApiEntity and ApplicationListItem are allowed");
         }
 
-        //find all subscribed items
-        SubscriptionQuery subscriptionQuery = new SubscriptionQuery();
-        subscriptionQuery.setApis(items.stream().map(FilterableItem::getId).collect(Collectors.toList()));
-        subscriptionQuery.setStatuses(Arrays.asList(SubscriptionStatus.ACCEPTED, SubscriptionStatus.PAUSED));
-
-        // group by items
-        Map<String, Long> subscribedItemsWithCount = subscriptionService
-            .search(subscriptionQuery)
-            .stream()
-            .collect(Collectors.groupingBy(getItemFunction, Collectors.counting()));
-
         // link an item with its nb of subscriptions
         Map<FilterableItem, Long> itemsWithCount = new HashMap<>();
         Map<String, Map<String, Object>> itemsMetadata = new HashMap<>();
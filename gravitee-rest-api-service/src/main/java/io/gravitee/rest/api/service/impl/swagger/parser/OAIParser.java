@@ -25,6 +25,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +36,8 @@ import org.slf4j.LoggerFactory;
  */
 public class OAIParser extends AbstractDescriptorParser<OAIDescriptor> {
 
+    private static final Pattern SWAGGER_V1_PATTERN = Pattern.compile("[\"']?swaggerVersion[\"']?\\s*:");
+
     private final Logger logger = LoggerFactory.getLogger(OAIParser.class);
 
     static {
@@ -44,24 +47,25 @@ public class OAIParser extends AbstractDescriptorParser<OAIDescriptor> {
     public OAIDescriptor parse(String content, ParseOptions options) {
         OpenAPIParser parser = new OpenAPIParser();
         SwaggerParseResult parseResult;
-        String path = content;
-        File temp = null;
-        if (!isLocationUrl(content)) {
+        if (isLocationUrl(content)) {
+            parseResult = parser.readLocation(content, null, options);
+        } else if (!isSwaggerV1(content)) {
+            // OpenAPI v3 and Swagger v2 descriptors are parsed in memory
+            parseResult = parser.readContents(content, null, options);
+        } else {
             // Swagger v1 supports only a URL to read swagger: create temporary file for Swagger parser
-            temp = createTempFile(content);
-            path = temp.getAbsolutePath();
-        }
-
-        parseResult = parser.readLocation(path, null, options);
-
-        if (temp != null) {
-            temp.delete();
+            parseResult = null;
+            File temp = createTempFile(content);
+            if (temp != null) {
+                parseResult = parser.readLocation(temp.getAbsolutePath(), null, options);
+                temp.delete();
+            }
         }
 
         /* Hack due to swagger v1 converting issue
          * See https://github.com/swagger-api/swagger-parser/issues/1451
          */
-        if (parseResult.getMessages() != null) {
+        if (parseResult != null && parseResult.getMessages() != null) {
             final List<String> filteredMessages = parseResult
                 .getMessages()
                 .stream()
@@ -70,7 +74,7 @@ public class OAIParser extends AbstractDescriptorParser<OAIDescriptor> {
             parseResult.setMessages(filteredMessages);
         }
 
-        if (parseResult.getOpenAPI() == null) {
+        if (parseResult == null || parseResult.getOpenAPI() == null) {
             throw new SwaggerDescriptorException("Malformed descriptor");
         }
 
@@ -84,6 +88,10 @@ public class OAIParser extends AbstractDescriptorParser<OAIDescriptor> {
         return parse(content, null);
     }
 
+    private boolean isSwaggerV1(String content) {
+        return SWAGGER_V1_PATTERN.matcher(content).find();
+    }
+
     private File createTempFile(String content) {
         File temp = null;
         String fileName = "gio_swagger_" + System.currentTimeMillis();
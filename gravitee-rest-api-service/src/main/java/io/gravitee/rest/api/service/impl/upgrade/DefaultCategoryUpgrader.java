@@ -88,6 +88,7 @@ public class DefaultCategoryUpgrader implements Upgrader, Ordered {
             }
         } catch (TechnicalException e) {
             logger.error("Error while upgrading categories : {}", e);
+            return false;
         }
         return true;
     }
@@ -96,4 +97,9 @@ public class DefaultCategoryUpgrader implements Upgrader, Ordered {
     public int getOrder() {
         return 200;
     }
+
+    @Override
+    public String getVersion() {
+        return "1";
+    }
 }
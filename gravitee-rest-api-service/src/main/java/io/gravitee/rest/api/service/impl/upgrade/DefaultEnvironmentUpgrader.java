@@ -18,6 +18,8 @@ package io.gravitee.rest.api.service.impl.upgrade;
 import io.gravitee.rest.api.service.EnvironmentService;
 import io.gravitee.rest.api.service.Upgrader;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import java.util.Collections;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,4 +55,9 @@ public class DefaultEnvironmentUpgrader implements Upgrader, Ordered {
     public int getOrder() {
         return 100;
     }
+
+    @Override
+    public Set<Class<? extends Upgrader>> getDependencies() {
+        return Collections.singleton(DefaultOrganizationUpgrader.class);
+    }
 }
@@ -15,11 +15,13 @@
  */
 package io.gravitee.rest.api.service.impl.upgrade;
 
+import static io.gravitee.rest.api.service.InstallationService.UPGRADER_CHECKPOINT_PREFIX;
+
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.management.api.search.builder.PageableBuilder;
 import io.gravitee.rest.api.model.PageEntity;
-import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.service.InstallationService;
 import io.gravitee.rest.api.service.PageRevisionService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.Upgrader;
@@ -41,32 +43,52 @@ public class DefaultPageRevisionUpgrader implements Upgrader, Ordered {
      */
     private final Logger logger = LoggerFactory.getLogger(DefaultPageRevisionUpgrader.class);
 
+    private static final int BATCH_SIZE = 100;
+
+    private static final String CHECKPOINT = UPGRADER_CHECKPOINT_PREFIX + "DefaultPageRevisionUpgrader";
+
     @Autowired
     private PageService pageService;
 
     @Autowired
     private PageRevisionService pageRevisionService;
 
+    @Autowired
+    private InstallationService installationService;
+
     @Override
     public boolean upgrade() {
-        if (hasNoRevisions()) {
+        final String checkpoint = installationService.getOrInitialize().getAdditionalInformation().get(CHECKPOINT);
+        int pageNumber;
+        if (checkpoint != null) {
+            pageNumber = Integer.parseInt(checkpoint);
+            logger.info("Resume the creation of default page revisions from batch {}.", pageNumber);
+        } else if (hasNoRevisions()) {
             logger.info("No page revisions found. Create a default revision based on pages.");
-            final int pageSize = 100;
-            int pageNumber = 0;
-            Page<PageEntity> pagesSubSet = null;
-            do {
-                Pageable pageable = new PageableImpl(pageNumber, pageSize);
-                pagesSubSet = pageService.findAll(pageable);
-                if (!pagesSubSet.getContent().isEmpty()) {
-                    pagesSubSet
-                        .getContent()
-                        .stream()
-                        .filter(entity -> pageService.shouldHaveRevision(entity.getType()))
-                        .forEach(entity -> pageRevisionService.create(convert(entity)));
-                    ++pageNumber;
-                }
-            } while (!pagesSubSet.getContent().isEmpty());
+            pageNumber = 0;
+            // Once the first revision is created, only the checkpoint tells an interrupted upgrade from a completed one
+            installationService.putAdditionalInformation(CHECKPOINT, Integer.toString(pageNumber));
+        } else {
+            return true;
         }
+
+        // The batch in progress when the upgrade has been interrupted may have been partially processed
+        boolean resumed = checkpoint != null;
+        Page<PageEntity> pagesSubSet;
+        do {
+            final boolean skipRevisedPages = resumed;
+            pagesSubSet = pageService.findAll(new PageableImpl(pageNumber, BATCH_SIZE));
+            pagesSubSet
+                .getContent()
+                .stream()
+                .filter(entity -> pageService.shouldHaveRevision(entity.getType()))
+                .filter(entity -> !skipRevisedPages || !pageRevisionService.findLastByPageId(entity.getId()).isPresent())
+                .forEach(entity -> pageRevisionService.create(convert(entity)));
+            installationService.putAdditionalInformation(CHECKPOINT, Integer.toString(++pageNumber));
+            resumed = false;
+        } while (!pagesSubSet.getContent().isEmpty());
+
+        installationService.putAdditionalInformation(CHECKPOINT, null);
         return true;
     }
 
@@ -93,4 +115,9 @@ public class DefaultPageRevisionUpgrader implements Upgrader, Ordered {
     public int getOrder() {
         return 200;
     }
+
+    @Override
+    public String getVersion() {
+        return "1";
+    }
 }
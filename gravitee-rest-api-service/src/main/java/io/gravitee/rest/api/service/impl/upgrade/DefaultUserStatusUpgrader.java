@@ -18,9 +18,12 @@ package io.gravitee.rest.api.service.impl.upgrade;
 import io.gravitee.repository.management.api.search.UserCriteria;
 import io.gravitee.repository.management.model.UserStatus;
 import io.gravitee.rest.api.model.UpdateUserEntity;
+import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.service.Upgrader;
 import io.gravitee.rest.api.service.UserService;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,6 +42,8 @@ public class DefaultUserStatusUpgrader implements Upgrader, Ordered {
      */
     private final Logger logger = LoggerFactory.getLogger(DefaultUserStatusUpgrader.class);
 
+    private static final int BATCH_SIZE = 100;
+
     @Autowired
     private UserService userService;
 
@@ -47,16 +52,20 @@ public class DefaultUserStatusUpgrader implements Upgrader, Ordered {
         // Initialize default user status
         UpdateUserEntity updateUserEntity = new UpdateUserEntity();
         updateUserEntity.setStatus(UserStatus.ACTIVE.name());
-        userService
-            .search(new UserCriteria.Builder().noStatus().build(), new PageableImpl(1, Integer.MAX_VALUE))
-            .getContent()
-            .forEach(
-                userEntity -> {
-                    if (userEntity.getStatus() == null) {
-                        userService.update(userEntity.getId(), updateUserEntity);
-                    }
-                }
-            );
+
+        // Updated users leave the search results: the first batch is read until no user is left without status
+        final UserCriteria noStatusCriteria = new UserCriteria.Builder().noStatus().build();
+        List<UserEntity> users;
+        do {
+            users =
+                userService
+                    .search(noStatusCriteria, new PageableImpl(1, BATCH_SIZE), false)
+                    .getContent()
+                    .stream()
+                    .filter(userEntity -> userEntity.getStatus() == null)
+                    .collect(Collectors.toList());
+            users.forEach(userEntity -> userService.update(userEntity.getId(), updateUserEntity));
+        } while (users.size() == BATCH_SIZE);
 
         return true;
     }
@@ -65,4 +74,9 @@ public class DefaultUserStatusUpgrader implements Upgrader, Ordered {
     public int getOrder() {
         return 200;
     }
+
+    @Override
+    public String getVersion() {
+        return "1";
+    }
 }
@@ -27,6 +27,8 @@ import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.search.SearchEngineService;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +43,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class SearchIndexUpgrader implements Upgrader, Ordered {
 
+    private static final int USERS_BATCH_SIZE = 500;
+
     @Autowired
     private ApiService apiService;
 
@@ -59,6 +63,9 @@ public class SearchIndexUpgrader implements Upgrader, Ordered {
     @Autowired
     private EnvironmentService environmentService;
 
+    @Autowired
+    private ReadinessService readinessService;
+
     @Override
     public boolean upgrade() {
         try {
@@ -105,11 +112,13 @@ public class SearchIndexUpgrader implements Upgrader, Ordered {
                                     );
 
                                     // Index users
-                                    Page<UserEntity> users = userService.search(
-                                        new UserCriteria.Builder().statuses(UserStatus.ACTIVE).build(),
-                                        new PageableImpl(1, Integer.MAX_VALUE)
-                                    );
-                                    users.getContent().forEach(userEntity -> searchEngineService.index(userEntity, true));
+                                    final UserCriteria activeCriteria = new UserCriteria.Builder().statuses(UserStatus.ACTIVE).build();
+                                    int pageNumber = 1;
+                                    Page<UserEntity> users;
+                                    do {
+                                        users = userService.search(activeCriteria, new PageableImpl(pageNumber++, USERS_BATCH_SIZE), false);
+                                        users.getContent().forEach(userEntity -> searchEngineService.index(userEntity, true));
+                                    } while (users.getContent().size() == USERS_BATCH_SIZE);
                                 }
                             )
                 );
@@ -117,11 +126,23 @@ public class SearchIndexUpgrader implements Upgrader, Ordered {
             GraviteeContext.cleanContext();
         }
 
+        readinessService.ready(ReadinessService.SEARCH_INDEX);
         return true;
     }
 
     @Override
     public int getOrder() {
-        return 250;
+        return 500;
+    }
+
+    /**
+     * The index is rebuilt at every startup from the APIs, pages and active users: it does not have to wait for the
+     * other upgraders, and none of them waits for it.
+     */
+    @Override
+    public Set<Class<? extends Upgrader>> getDependencies() {
+        return new HashSet<>(
+            Arrays.asList(DefaultOrganizationUpgrader.class, DefaultEnvironmentUpgrader.class, DefaultUserStatusUpgrader.class)
+        );
     }
 }
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times the runs of the scheduled services (sync, subscriptions, auto fetch, search indexer...) as the
+ * <code>gravitee.scheduler.runs</code> timer, tagged by job and outcome.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ScheduledJobMetrics {
+
+    static final String METRIC_NAME = "gravitee.scheduler.runs";
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    public ScheduledJobMetrics() {}
+
+    ScheduledJobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Wraps a scheduled task so that each of its runs is timed under the given job name.
+     */
+    public Runnable timed(String job, Runnable task) {
+        return () -> {
+            final Timer.Sample sample = Timer.start();
+            String outcome = "failure";
+            try {
+                task.run();
+                outcome = "success";
+            } finally {
+                sample.stop(
+                    Timer
+                        .builder(METRIC_NAME)
+                        .description("Duration of the scheduled job runs")
+                        .tag("job", job)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry != null ? meterRegistry : Metrics.globalRegistry)
+                );
+            }
+        };
+    }
+}
@@ -15,12 +15,18 @@
  */
 package io.gravitee.rest.api.service.processor;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.gravitee.rest.api.model.DeploymentRequired;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,27 +39,51 @@ import org.springframework.stereotype.Component;
 @Component
 public class ApiSynchronizationProcessor {
 
+    private static final List<Field> DEPLOYMENT_REQUIRED_FIELDS;
+
+    static {
+        List<Field> fields = new ArrayList<>();
+        for (Field f : ApiEntity.class.getDeclaredFields()) {
+            if (f.getAnnotation(DeploymentRequired.class) != null) {
+                f.setAccessible(true);
+                fields.add(f);
+            }
+        }
+        DEPLOYMENT_REQUIRED_FIELDS = Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Keys of the stored API definition matching the {@link DeploymentRequired} fields of {@link ApiEntity}.
+     */
+    private static final List<String> DEPLOYMENT_REQUIRED_DEFINITION_FIELDS = Arrays.asList(
+        "gravitee",
+        "flow_mode",
+        "proxy",
+        "paths",
+        "flows",
+        "plans",
+        "services",
+        "resources",
+        "properties",
+        "tags",
+        "path_mappings",
+        "response_templates"
+    );
+
     private final Logger LOGGER = LoggerFactory.getLogger(ApiSynchronizationProcessor.class);
 
     @Autowired
     private ObjectMapper objectMapper;
 
     public boolean processCheckSynchronization(ApiEntity deployedApi, ApiEntity apiToDeploy) {
-        Class<ApiEntity> cl = ApiEntity.class;
         List<Object> requiredFieldsDeployedApi = new ArrayList<Object>();
         List<Object> requiredFieldsApiToDeploy = new ArrayList<Object>();
-        for (Field f : cl.getDeclaredFields()) {
-            if (f.getAnnotation(DeploymentRequired.class) != null) {
-                boolean previousAccessibleState = f.isAccessible();
-                f.setAccessible(true);
-                try {
-                    requiredFieldsDeployedApi.add(f.get(deployedApi));
-                    requiredFieldsApiToDeploy.add(f.get(apiToDeploy));
-                } catch (Exception e) {
-                    LOGGER.error("Error access API required deployment fields", e);
-                } finally {
-                    f.setAccessible(previousAccessibleState);
-                }
+        for (Field f : DEPLOYMENT_REQUIRED_FIELDS) {
+            try {
+                requiredFieldsDeployedApi.add(f.get(deployedApi));
+                requiredFieldsApiToDeploy.add(f.get(apiToDeploy));
+            } catch (Exception e) {
+                LOGGER.error("Error access API required deployment fields", e);
             }
         }
 
@@ -67,4 +97,66 @@ public class ApiSynchronizationProcessor {
             return false;
         }
     }
+
+    /**
+     * Compute a hash of the parts of a stored API definition which require a deployment when they change. The hash is
+     * computed from the JSON of the definition as stored, keys sorted, so it does not depend on the way the definition
+     * classes are serialized. Policy descriptions are not part of the hash.
+     *
+     * @param definition the API definition, as stored in the repository
+     * @return the fingerprint of the definition, or <code>null</code> if it can not be computed.
+     */
+    public String computeDeploymentFingerprint(String definition) {
+        if (definition == null) {
+            return null;
+        }
+        try {
+            JsonNode definitionNode = objectMapper.readTree(definition);
+            ObjectNode requiredFields = objectMapper.createObjectNode();
+            DEPLOYMENT_REQUIRED_DEFINITION_FIELDS.forEach(
+                field -> {
+                    JsonNode value = definitionNode.get(field);
+                    if (value != null && !value.isNull()) {
+                        requiredFields.set(field, value);
+                    }
+                }
+            );
+
+            JsonNode paths = requiredFields.get("paths");
+            if (paths != null) {
+                paths.forEach(
+                    rules ->
+                        rules.forEach(
+                            rule -> {
+                                if (rule instanceof ObjectNode) {
+                                    ((ObjectNode) rule).remove("description");
+                                }
+                            }
+                        )
+                );
+            }
+
+            return DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(sortFields(requiredFields)));
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error while computing API deployment fingerprint", e);
+            return null;
+        }
+    }
+
+    private JsonNode sortFields(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode sorted = objectMapper.createObjectNode();
+            List<String> fields = new ArrayList<>();
+            node.fieldNames().forEachRemaining(fields::add);
+            Collections.sort(fields);
+            fields.forEach(field -> sorted.set(field, sortFields(node.get(field))));
+            return sorted;
+        }
+        if (node.isArray()) {
+            ArrayNode sorted = objectMapper.createArrayNode();
+            node.forEach(element -> sorted.add(sortFields(element)));
+            return sorted;
+        }
+        return node;
+    }
 }
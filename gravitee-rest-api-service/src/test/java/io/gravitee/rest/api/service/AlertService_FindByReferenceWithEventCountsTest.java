@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.alert.api.trigger.Trigger;
+import io.gravitee.alert.api.trigger.command.AlertNotificationCommand;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.AlertEventRepository;
+import io.gravitee.repository.management.api.AlertTriggerRepository;
+import io.gravitee.repository.management.api.search.AlertEventCriteria;
+import io.gravitee.repository.management.api.search.Pageable;
+import io.gravitee.repository.management.model.AlertEvent;
+import io.gravitee.repository.management.model.AlertTrigger;
+import io.gravitee.rest.api.model.alert.AlertReferenceType;
+import io.gravitee.rest.api.model.alert.AlertTriggerEntity;
+import io.gravitee.rest.api.service.impl.AlertServiceImpl;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AlertService_FindByReferenceWithEventCountsTest {
+
+    private static final String API_ID = "my-api";
+
+    @InjectMocks
+    private AlertServiceImpl alertService = new AlertServiceImpl();
+
+    @Mock
+    private AlertTriggerRepository alertTriggerRepository;
+
+    @Mock
+    private AlertEventRepository alertEventRepository;
+
+    @Mock
+    private ObjectMapper mapper;
+
+    private final List<AlertEvent> events = new ArrayList<>();
+
+    private long now;
+
+    @Before
+    public void setUp() {
+        now = System.currentTimeMillis();
+        when(alertEventRepository.search(any(AlertEventCriteria.class), any(Pageable.class)))
+            .thenAnswer(invocation -> search(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    @Test
+    public void shouldCountEvents() throws Exception {
+        mockTriggers(1);
+        event("trigger-0", Duration.ofMinutes(1), "last alert");
+        event("trigger-0", Duration.ofMinutes(30), "alert");
+        event("trigger-0", Duration.ofHours(5), "alert");
+        event("trigger-0", Duration.ofDays(10), "alert");
+        event("trigger-0", Duration.ofDays(60), "old alert");
+
+        final List<AlertTriggerEntity> triggers = alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID);
+
+        assertEquals(1, triggers.size());
+        final AlertTriggerEntity trigger = triggers.get(0);
+        assertEquals("last alert", trigger.getLastAlertMessage());
+        assertEquals(Integer.valueOf(1), trigger.getCounters().get("5m"));
+        assertEquals(Integer.valueOf(2), trigger.getCounters().get("1h"));
+        assertEquals(Integer.valueOf(3), trigger.getCounters().get("1d"));
+        assertEquals(Integer.valueOf(4), trigger.getCounters().get("1M"));
+    }
+
+    @Test
+    public void shouldFindLastEventOutsideOfCountedWindows() throws Exception {
+        mockTriggers(1);
+        event("trigger-0", Duration.ofDays(60), "old alert");
+
+        final AlertTriggerEntity trigger = alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID).get(0);
+
+        assertEquals("old alert", trigger.getLastAlertMessage());
+        assertEquals(Integer.valueOf(0), trigger.getCounters().get("1M"));
+    }
+
+    @Test
+    public void shouldNotQueryEventsOnceCountersAreLoaded_10Triggers() throws Exception {
+        shouldNotQueryEventsOnceCountersAreLoaded(10);
+    }
+
+    @Test
+    public void shouldNotQueryEventsOnceCountersAreLoaded_200Triggers() throws Exception {
+        shouldNotQueryEventsOnceCountersAreLoaded(200);
+    }
+
+    private void shouldNotQueryEventsOnceCountersAreLoaded(int count) throws Exception {
+        mockTriggers(count);
+        for (int i = 0; i < count; i++) {
+            event("trigger-" + i, Duration.ofMinutes(i), "alert");
+        }
+
+        alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID);
+        // The events of the last month of all the triggers are loaded with a single search, the last events come with them
+        verify(alertEventRepository, times(1)).search(argThat(criteria -> criteria.getAlert() == null), any());
+        verifyNoMoreInteractions(alertEventRepository);
+
+        clearInvocations(alertTriggerRepository);
+        clearInvocations(alertEventRepository);
+        final List<AlertTriggerEntity> triggers = alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID);
+
+        assertEquals(count, triggers.size());
+        verify(alertTriggerRepository, times(1)).findByReference(any(), any());
+        verifyNoMoreInteractions(alertTriggerRepository);
+        verifyZeroInteractions(alertEventRepository);
+    }
+
+    @Test
+    public void shouldCountStoredEvents() throws Exception {
+        mockTriggers(1);
+        event("trigger-0", Duration.ofHours(2), "alert");
+
+        AlertTriggerEntity trigger = alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID).get(0);
+        assertEquals(Integer.valueOf(0), trigger.getCounters().get("5m"));
+
+        final AlertNotificationCommand command = new AlertNotificationCommand("trigger-0", System.currentTimeMillis());
+        command.setMessage("new alert");
+        ReflectionTestUtils.invokeMethod(alertService, "handleAlertNotificationCommand", command);
+        verify(alertEventRepository).create(any());
+
+        trigger = alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID).get(0);
+        assertEquals("new alert", trigger.getLastAlertMessage());
+        assertEquals(Integer.valueOf(1), trigger.getCounters().get("5m"));
+        assertEquals(Integer.valueOf(2), trigger.getCounters().get("1d"));
+        verify(alertEventRepository, times(1)).search(any(), any());
+    }
+
+    @Test
+    public void shouldCountEventsStoredByOtherNodesOnRefresh() throws Exception {
+        mockTriggers(2);
+        event("trigger-0", Duration.ofHours(2), "alert");
+
+        AlertTriggerEntity trigger = alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID).get(0);
+        assertEquals(Integer.valueOf(1), trigger.getCounters().get("1d"));
+
+        event("trigger-0", Duration.ofSeconds(1), "other node alert");
+        event("trigger-1", Duration.ofSeconds(1), "other node alert");
+        final Object counters = ReflectionTestUtils.getField(alertService, "alertEventCounters");
+        final long searchedAt = (long) ReflectionTestUtils.getField(counters, "searchedAt");
+        ReflectionTestUtils.setField(counters, "searchedAt", searchedAt - Duration.ofSeconds(30).toMillis());
+        clearInvocations(alertEventRepository);
+
+        final List<AlertTriggerEntity> triggers = alertService.findByReferenceWithEventCounts(AlertReferenceType.API, API_ID);
+
+        assertEquals("other node alert", triggers.get(0).getLastAlertMessage());
+        assertEquals(Integer.valueOf(1), triggers.get(0).getCounters().get("5m"));
+        assertEquals(Integer.valueOf(2), triggers.get(0).getCounters().get("1d"));
+        assertEquals(Integer.valueOf(1), triggers.get(1).getCounters().get("5m"));
+        // Only the events stored since the previous search are searched, once for all the triggers
+        verify(alertEventRepository, times(1))
+            .search(argThat(criteria -> criteria.getAlert() == null && criteria.getFrom() > now - Duration.ofHours(1).toMillis()), any());
+        verifyNoMoreInteractions(alertEventRepository);
+    }
+
+    private void mockTriggers(int count) throws Exception {
+        List<AlertTrigger> alertTriggers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AlertTrigger alertTrigger = new AlertTrigger();
+            alertTrigger.setId("trigger-" + i);
+            alertTrigger.setDefinition("definition-" + i);
+            alertTrigger.setReferenceType(AlertReferenceType.API.name());
+            alertTrigger.setReferenceId(API_ID);
+            alertTriggers.add(alertTrigger);
+
+            Trigger trigger = mock(Trigger.class);
+            lenient().when(trigger.getId()).thenReturn(alertTrigger.getId());
+            lenient().when(trigger.getName()).thenReturn("Trigger " + i);
+            when(mapper.readValue(eq(alertTrigger.getDefinition()), eq(Trigger.class))).thenReturn(trigger);
+        }
+        when(alertTriggerRepository.findByReference(AlertReferenceType.API.name(), API_ID)).thenReturn(alertTriggers);
+    }
+
+    private void event(String triggerId, Duration age, String message) {
+        AlertEvent event = new AlertEvent();
+        event.setId(UUID.randomUUID().toString());
+        event.setAlert(triggerId);
+        event.setCreatedAt(new Date(now - age.toMillis()));
+        event.setMessage(message);
+        events.add(event);
+    }
+
+    private Page<AlertEvent> search(AlertEventCriteria criteria, Pageable pageable) {
+        final List<AlertEvent> matching = events
+            .stream()
+            .filter(event -> criteria.getAlert() == null || event.getAlert().equals(criteria.getAlert()))
+            .filter(event -> criteria.getFrom() == 0 || event.getCreatedAt().getTime() >= criteria.getFrom())
+            .filter(event -> criteria.getTo() == 0 || event.getCreatedAt().getTime() <= criteria.getTo())
+            .sorted(Comparator.comparing(AlertEvent::getCreatedAt).reversed())
+            .collect(Collectors.toList());
+        final List<AlertEvent> content = matching
+            .stream()
+            .skip((long) pageable.pageNumber() * pageable.pageSize())
+            .limit(pageable.pageSize())
+            .collect(Collectors.toList());
+        return new Page<>(content, pageable.pageNumber(), content.size(), matching.size());
+    }
+}
@@ -0,0 +1,232 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.gravitee.alert.api.trigger.TriggerProvider;
+import io.gravitee.alert.api.trigger.command.ResolvePropertyCommand;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Application;
+import io.gravitee.repository.management.model.Plan;
+import io.gravitee.rest.api.model.ApiMetadataEntity;
+import io.gravitee.rest.api.model.ApplicationEntity;
+import io.gravitee.rest.api.model.PlanEntity;
+import io.gravitee.rest.api.model.PrimaryOwnerEntity;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.impl.AlertServiceImpl;
+import io.gravitee.rest.api.service.impl.alert.AlertMetadataCache;
+import io.gravitee.rest.api.service.jackson.filter.ApiPermissionFilter;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AlertService_ResolvePropertyCommandTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AlertService_ResolvePropertyCommandTest.class);
+
+    private static final String API_ID = "my-api";
+    private static final String APPLICATION_ID = "my-application";
+    private static final String PLAN_ID = "my-plan";
+
+    @InjectMocks
+    private AlertServiceImpl alertService = new AlertServiceImpl();
+
+    @Mock
+    private TriggerProvider triggerProvider;
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private ApiMetadataService apiMetadataService;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private PlanService planService;
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Spy
+    private ObjectMapper mapper = new GraviteeMapper();
+
+    private LocalAlertEngine alertEngine;
+
+    private final Api api = new Api();
+
+    @Before
+    public void setUp() throws Exception {
+        mapper.setFilterProvider(new SimpleFilterProvider(Collections.singletonMap("apiMembershipTypeFilter", new ApiPermissionFilter())));
+
+        api.setId(API_ID);
+        api.setUpdatedAt(new Date(1000));
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+
+        ApiEntity apiEntity = new ApiEntity();
+        apiEntity.setId(API_ID);
+        apiEntity.setName("My API");
+        apiEntity.setProxy(new Proxy());
+        UserEntity owner = new UserEntity();
+        owner.setId("owner");
+        owner.setEmail("owner@gravitee.io");
+        apiEntity.setPrimaryOwner(new PrimaryOwnerEntity(owner));
+        when(apiService.findById(API_ID)).thenReturn(apiEntity);
+
+        ApiMetadataEntity metadata = new ApiMetadataEntity();
+        metadata.setKey("team");
+        metadata.setValue("gravitee");
+        when(apiMetadataService.findAllByApi(API_ID)).thenReturn(Collections.singletonList(metadata));
+
+        Application application = new Application();
+        application.setUpdatedAt(new Date(1000));
+        when(applicationRepository.findById(APPLICATION_ID)).thenReturn(Optional.of(application));
+        ApplicationEntity applicationEntity = new ApplicationEntity();
+        applicationEntity.setId(APPLICATION_ID);
+        applicationEntity.setName("My application");
+        when(applicationService.findById(APPLICATION_ID)).thenReturn(applicationEntity);
+
+        Plan plan = new Plan();
+        plan.setUpdatedAt(new Date(1000));
+        when(planRepository.findById(PLAN_ID)).thenReturn(Optional.of(plan));
+        PlanEntity planEntity = new PlanEntity();
+        planEntity.setId(PLAN_ID);
+        planEntity.setName("My plan");
+        when(planService.findById(PLAN_ID)).thenReturn(planEntity);
+
+        alertService.afterPropertiesSet();
+        alertEngine = new LocalAlertEngine(triggerProvider);
+    }
+
+    @Test
+    public void shouldResolveProperties() {
+        final Map<String, Map<String, Object>> properties = alertEngine.resolve(API_ID, APPLICATION_ID, PLAN_ID);
+
+        assertEquals("My API", properties.get("api").get("name"));
+        assertEquals(API_ID, properties.get("api").get("id"));
+        assertEquals(Collections.singletonMap("team", "gravitee"), properties.get("api").get("metadata"));
+        assertEquals("owner@gravitee.io", ((Map) properties.get("api").get("primaryOwner")).get("email"));
+        assertFalse(properties.get("api").containsKey("proxy"));
+        assertEquals("My application", properties.get("application").get("name"));
+        assertEquals("My plan", properties.get("plan").get("name"));
+    }
+
+    @Test
+    public void shouldResolvePropertiesOnce_AlertStorm() throws Exception {
+        final int commands = 10_000;
+        final long start = System.nanoTime();
+        for (int i = 0; i < commands; i++) {
+            assertEquals("My API", alertEngine.resolve(API_ID, APPLICATION_ID, PLAN_ID).get("api").get("name"));
+        }
+        final long duration = System.nanoTime() - start;
+        LOGGER.info(
+            "{} property commands resolved in {} ms ({} commands/s)",
+            commands,
+            TimeUnit.NANOSECONDS.toMillis(duration),
+            commands * TimeUnit.SECONDS.toNanos(1) / Math.max(duration, 1)
+        );
+
+        verify(apiService, times(1)).findById(API_ID);
+        verify(apiMetadataService, times(1)).findAllByApi(API_ID);
+        verify(applicationService, times(1)).findById(APPLICATION_ID);
+        verify(planService, times(1)).findById(PLAN_ID);
+        verify(apiRepository, atMost(2)).findById(API_ID);
+    }
+
+    @Test
+    public void shouldResolvePropertiesAgain_ApiUpdated() throws Exception {
+        ReflectionTestUtils.setField(
+            alertService,
+            "alertMetadataCache",
+            new AlertMetadataCache(100, Duration.ZERO, Duration.ofMinutes(10))
+        );
+
+        alertEngine.resolve(API_ID, APPLICATION_ID, PLAN_ID);
+        alertEngine.resolve(API_ID, APPLICATION_ID, PLAN_ID);
+        verify(apiService, times(1)).findById(API_ID);
+
+        api.setUpdatedAt(new Date(2000));
+        alertEngine.resolve(API_ID, APPLICATION_ID, PLAN_ID);
+
+        verify(apiService, times(2)).findById(API_ID);
+        verify(applicationService, times(1)).findById(APPLICATION_ID);
+        verify(planService, times(1)).findById(PLAN_ID);
+    }
+
+    /**
+     * Stand-in for the alert engine connector: sends property resolution commands to the registered listener.
+     */
+    private static class LocalAlertEngine {
+
+        private final TriggerProvider.OnCommandResultListener listener;
+
+        LocalAlertEngine(TriggerProvider triggerProvider) {
+            ArgumentCaptor<TriggerProvider.Listener> listeners = ArgumentCaptor.forClass(TriggerProvider.Listener.class);
+            verify(triggerProvider, atLeastOnce()).addListener(listeners.capture());
+            this.listener =
+                (TriggerProvider.OnCommandResultListener) listeners
+                    .getAllValues()
+                    .stream()
+                    .filter(l -> l instanceof TriggerProvider.OnCommandResultListener)
+                    .findFirst()
+                    .get();
+        }
+
+        Map<String, Map<String, Object>> resolve(String api, String application, String plan) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put("api", api);
+            properties.put("application", application);
+            properties.put("plan", plan);
+
+            final List<Map<String, Map<String, Object>>> result = new ArrayList<>();
+            listener.doOnCommand(new ResolvePropertyCommand(properties), value -> result.add((Map<String, Map<String, Object>>) value));
+            return result.get(0);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiKeyRepository;
+import io.gravitee.repository.management.model.ApiKey;
+import io.gravitee.rest.api.model.*;
+import io.gravitee.rest.api.service.impl.ApiKeyServiceImpl;
+import io.gravitee.rest.api.service.notification.ApiHook;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiKeyService_BulkTest {
+
+    private static final String API_ID = "my-api";
+    private static final String APPLICATION_ID = "my-application";
+    private static final String PLAN_ID = "my-plan";
+    private static final String SUBSCRIPTION_ID = "my-subscription";
+
+    @InjectMocks
+    private ApiKeyService apiKeyService = new ApiKeyServiceImpl();
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    @Mock
+    private SubscriptionService subscriptionService;
+
+    @Mock
+    private PlanService planService;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private NotifierService notifierService;
+
+    @Test
+    public void shouldRevokeActiveKeysBySubscription() throws TechnicalException {
+        ApiKey active1 = apiKey("active-1");
+        ApiKey active2 = apiKey("active-2");
+        ApiKey revoked = apiKey("revoked");
+        revoked.setRevoked(true);
+        ApiKey expired = apiKey("expired");
+        expired.setExpireAt(Date.from(new Date().toInstant().minus(1, ChronoUnit.DAYS)));
+        when(apiKeyRepository.findBySubscription(SUBSCRIPTION_ID))
+            .thenReturn(new HashSet<>(Arrays.asList(active1, active2, revoked, expired)));
+        PlanEntity plan = new PlanEntity();
+        plan.setApi(API_ID);
+        when(planService.findById(PLAN_ID)).thenReturn(plan);
+
+        apiKeyService.revokeBySubscription(SUBSCRIPTION_ID);
+
+        assertTrue(active1.isRevoked());
+        assertNotNull(active1.getRevokedAt());
+        assertTrue(active2.isRevoked());
+        verify(apiKeyRepository).update(active1);
+        verify(apiKeyRepository).update(active2);
+        verify(apiKeyRepository, never()).update(revoked);
+        verify(apiKeyRepository, never()).update(expired);
+        verify(apiKeyRepository, never()).findById(any());
+        verify(planService, times(1)).findById(PLAN_ID);
+        verify(auditService, times(2)).createApiAuditLog(eq(API_ID), any(), eq(ApiKey.AuditEvent.APIKEY_REVOKED), any(), any(), any());
+        verify(notifierService, never()).trigger(any(ApiHook.class), any(), any());
+    }
+
+    @Test
+    public void shouldExpireActiveKeysBySubscription() throws TechnicalException {
+        final Date expireAt = Date.from(new Date().toInstant().plus(1, ChronoUnit.DAYS));
+        ApiKey neverExpiring = apiKey("never-expiring");
+        ApiKey expiringLater = apiKey("expiring-later");
+        expiringLater.setExpireAt(Date.from(expireAt.toInstant().plus(1, ChronoUnit.DAYS)));
+        ApiKey expiringBefore = apiKey("expiring-before");
+        expiringBefore.setExpireAt(Date.from(expireAt.toInstant().minus(1, ChronoUnit.HOURS)));
+        ApiKey revoked = apiKey("revoked");
+        revoked.setRevoked(true);
+        ApiKey expired = apiKey("expired");
+        expired.setExpireAt(Date.from(new Date().toInstant().minus(1, ChronoUnit.DAYS)));
+        when(apiKeyRepository.findBySubscription(SUBSCRIPTION_ID))
+            .thenReturn(new HashSet<>(Arrays.asList(neverExpiring, expiringLater, expiringBefore, revoked, expired)));
+
+        SubscriptionEntity subscription = new SubscriptionEntity();
+        subscription.setId(SUBSCRIPTION_ID);
+        when(subscriptionService.findById(SUBSCRIPTION_ID)).thenReturn(subscription);
+        ApplicationEntity application = new ApplicationEntity();
+        application.setId(APPLICATION_ID);
+        when(applicationService.findById(APPLICATION_ID)).thenReturn(application);
+        PlanEntity plan = new PlanEntity();
+        plan.setId(PLAN_ID);
+        plan.setApi(API_ID);
+        when(planService.findById(PLAN_ID)).thenReturn(plan);
+        ApiModelEntity api = new ApiModelEntity();
+        api.setId(API_ID);
+        when(apiService.findByIdForTemplates(API_ID)).thenReturn(api);
+
+        apiKeyService.expireBySubscription(SUBSCRIPTION_ID, expireAt);
+
+        assertEquals(expireAt, neverExpiring.getExpireAt());
+        assertEquals(expireAt, expiringLater.getExpireAt());
+        verify(apiKeyRepository).update(neverExpiring);
+        verify(apiKeyRepository).update(expiringLater);
+        verify(apiKeyRepository, never()).update(expiringBefore);
+        verify(apiKeyRepository, never()).update(revoked);
+        verify(apiKeyRepository, never()).update(expired);
+        verify(subscriptionService, times(1)).findById(SUBSCRIPTION_ID);
+        verify(applicationService, times(1)).findById(APPLICATION_ID);
+        verify(planService, times(1)).findById(PLAN_ID);
+        verify(apiService, times(1)).findByIdForTemplates(API_ID);
+        verify(notifierService, times(2)).trigger(eq(ApiHook.APIKEY_EXPIRED), eq(API_ID), any());
+    }
+
+    @Test
+    public void shouldFindBySubscriptionsWithOneRepositoryCallBySubscription() throws TechnicalException {
+        final int subscriptionsCount = 50;
+        List<String> subscriptions = new ArrayList<>();
+        for (int i = 0; i < subscriptionsCount; i++) {
+            String subscription = "subscription-" + i;
+            subscriptions.add(subscription);
+            ApiKey older = apiKey("older-" + i);
+            older.setSubscription(subscription);
+            older.setCreatedAt(Date.from(new Date().toInstant().minus(1, ChronoUnit.DAYS)));
+            ApiKey newer = apiKey("newer-" + i);
+            newer.setSubscription(subscription);
+            when(apiKeyRepository.findBySubscription(subscription)).thenReturn(new HashSet<>(Arrays.asList(older, newer)));
+        }
+
+        Map<String, List<ApiKeyEntity>> keysBySubscription = apiKeyService.findBySubscriptions(subscriptions);
+
+        assertEquals(subscriptionsCount, keysBySubscription.size());
+        List<ApiKeyEntity> keys = keysBySubscription.get("subscription-7");
+        assertEquals(2, keys.size());
+        assertEquals("newer-7", keys.get(0).getKey());
+        assertEquals("older-7", keys.get(1).getKey());
+        verify(apiKeyRepository, times(subscriptionsCount)).findBySubscription(any());
+        verifyNoMoreInteractions(apiKeyRepository);
+        verifyNoInteractions(subscriptionService);
+    }
+
+    private ApiKey apiKey(String key) {
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKey(key);
+        apiKey.setSubscription(SUBSCRIPTION_ID);
+        apiKey.setApplication(APPLICATION_ID);
+        apiKey.setPlan(PLAN_ID);
+        apiKey.setCreatedAt(new Date());
+        return apiKey;
+    }
+}
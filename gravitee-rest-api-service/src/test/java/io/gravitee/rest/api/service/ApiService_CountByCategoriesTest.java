@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.ApiLifecycleState;
+import io.gravitee.repository.management.model.Visibility;
+import io.gravitee.rest.api.model.*;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import java.util.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_CountByCategoriesTest {
+
+    private static final String USER_NAME = "myUser";
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Test
+    public void shouldCountPublishedPublicApisByCategory() {
+        when(
+            apiRepository.search(
+                argThat(
+                    (ApiCriteria criteria) ->
+                        criteria != null &&
+                        Visibility.PUBLIC.equals(criteria.getVisibility()) &&
+                        criteria.getLifecycleStates().contains(ApiLifecycleState.PUBLISHED)
+                ),
+                any(ApiFieldExclusionFilter.class)
+            )
+        )
+            .thenReturn(Arrays.asList(api("api1", "cat1", "cat2"), api("api2", "cat2"), api("api3")));
+
+        final Map<String, Long> counts = apiService.countPublishedByUserGroupedByCategories(null);
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(1), counts.get("cat1"));
+        assertEquals(Long.valueOf(2), counts.get("cat2"));
+        verify(apiRepository, never()).search(any(ApiCriteria.class));
+        verifyZeroInteractions(membershipService, applicationService);
+    }
+
+    @Test
+    public void shouldCountUserApisOnceByCategory() {
+        final Api publicApi = api("public", "cat1");
+        final Api memberApi = api("member", "cat1", "cat2");
+
+        when(
+            apiRepository.search(
+                argThat((ApiCriteria criteria) -> criteria != null && criteria.getVisibility() != null),
+                any(ApiFieldExclusionFilter.class)
+            )
+        )
+            .thenReturn(Collections.singletonList(publicApi));
+        when(
+            apiRepository.search(
+                argThat((ApiCriteria criteria) -> criteria != null && criteria.getIds() != null && criteria.getIds().contains("member")),
+                any(ApiFieldExclusionFilter.class)
+            )
+        )
+            .thenReturn(Arrays.asList(memberApi, publicApi));
+
+        MembershipEntity membership = new MembershipEntity();
+        membership.setReferenceId("member");
+        membership.setReferenceType(MembershipReferenceType.API);
+        membership.setRoleId("API_USER");
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API))
+            .thenReturn(Collections.singleton(membership));
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.GROUP))
+            .thenReturn(Collections.emptySet());
+        when(applicationService.findByUser(USER_NAME)).thenReturn(Collections.emptySet());
+
+        final Map<String, Long> counts = apiService.countByUserGroupedByCategories(USER_NAME);
+
+        assertEquals(Long.valueOf(2), counts.get("cat1"));
+        assertEquals(Long.valueOf(1), counts.get("cat2"));
+        verify(apiRepository, never()).search(any(ApiCriteria.class));
+    }
+
+    @Test
+    public void shouldCountAllApisByCategory() {
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class)))
+            .thenReturn(Arrays.asList(api("api1", "cat1"), api("api2", "cat1"), api("api3", "cat3")));
+
+        final Map<String, Long> counts = apiService.countAllGroupedByCategories();
+
+        assertEquals(Long.valueOf(2), counts.get("cat1"));
+        assertEquals(Long.valueOf(1), counts.get("cat3"));
+        verify(apiRepository, never()).search(any(ApiCriteria.class));
+        verifyZeroInteractions(roleService);
+    }
+
+    private Api api(String id, String... categories) {
+        Api api = new Api();
+        api.setId(id);
+        api.setCategories(categories.length == 0 ? null : new HashSet<>(Arrays.asList(categories)));
+        return api;
+    }
+}
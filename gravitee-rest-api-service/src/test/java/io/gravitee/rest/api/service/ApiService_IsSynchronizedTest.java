@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.definition.model.DefinitionVersion;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.VirtualHost;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.rest.api.model.*;
+import io.gravitee.rest.api.model.api.ApiDeploymentEntity;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import io.gravitee.rest.api.service.processor.ApiSynchronizationProcessor;
+import java.util.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_IsSynchronizedTest {
+
+    private static final String API_ID = "id-api";
+    private static final String DEPLOYMENT_FINGERPRINT = "deployment_fingerprint";
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private PlanService planService;
+
+    @Mock
+    private ParameterService parameterService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Spy
+    private ObjectMapper objectMapper = new GraviteeMapper();
+
+    private final ApiSynchronizationProcessor apiSynchronizationProcessor = new ApiSynchronizationProcessor();
+
+    private final Date deployedAt = new Date();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(apiSynchronizationProcessor, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(apiService, "apiSynchronizationProcessor", apiSynchronizationProcessor);
+    }
+
+    @Test
+    public void shouldBeSynchronizedWithSameFingerprint() throws Exception {
+        final Api api = mockApi("/echo");
+        mockLastEvent(apiSynchronizationProcessor.computeDeploymentFingerprint(api.getDefinition()));
+        when(planService.findByApi(API_ID)).thenReturn(Collections.emptySet());
+
+        assertTrue(apiService.isSynchronized(API_ID));
+
+        // The fingerprint is checked without converting the API nor reading the deployed payload
+        verify(parameterService, never()).findAsBoolean(any(), any(), any());
+        verify(objectMapper, never()).readerFor(Api.class);
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWithDifferentFingerprint() throws Exception {
+        mockApi("/echo");
+        mockLastEvent(apiSynchronizationProcessor.computeDeploymentFingerprint(definition("/echo-v2")));
+
+        assertFalse(apiService.isSynchronized(API_ID));
+        verify(planService, never()).findByApi(any());
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWithPlanToRedeploy() throws Exception {
+        final Api api = mockApi("/echo");
+        mockLastEvent(apiSynchronizationProcessor.computeDeploymentFingerprint(api.getDefinition()));
+        PlanEntity plan = new PlanEntity();
+        plan.setStatus(PlanStatus.PUBLISHED);
+        plan.setNeedRedeployAt(new Date(deployedAt.getTime() + 1000));
+        when(planService.findByApi(API_ID)).thenReturn(Collections.singleton(plan));
+
+        assertFalse(apiService.isSynchronized(API_ID));
+    }
+
+    @Test
+    public void shouldStoreDeploymentFingerprint() throws Exception {
+        final Api api = mockApi("/echo");
+        when(apiRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        RoleEntity poRole = new RoleEntity();
+        poRole.setId("po-role");
+        when(roleService.findPrimaryOwnerRoleByOrganization(any(), eq(RoleScope.API))).thenReturn(poRole);
+        MemberEntity po = new MemberEntity();
+        po.setId("po");
+        po.setReferenceId(API_ID);
+        when(membershipService.getMembersByReferencesAndRole(any(), any(), eq("po-role"))).thenReturn(Collections.singleton(po));
+
+        apiService.deploy(API_ID, "user", EventType.PUBLISH_API, new ApiDeploymentEntity());
+
+        ArgumentCaptor<Map<String, String>> properties = ArgumentCaptor.forClass(Map.class);
+        verify(eventService).create(eq(EventType.PUBLISH_API), anyString(), properties.capture());
+        assertEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(api.getDefinition()),
+            properties.getValue().get(DEPLOYMENT_FINGERPRINT)
+        );
+    }
+
+    private Api mockApi(String contextPath) throws Exception {
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setEnvironmentId(GraviteeContext.getCurrentEnvironment());
+        api.setDeployedAt(deployedAt);
+        api.setDefinition(definition(contextPath));
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+        return api;
+    }
+
+    private void mockLastEvent(String fingerprint) {
+        EventEntity event = new EventEntity();
+        event.setType(EventType.PUBLISH_API);
+        event.setProperties(Collections.singletonMap(DEPLOYMENT_FINGERPRINT, fingerprint));
+        when(eventService.search(any(), anyMap(), anyLong(), anyLong(), anyInt(), anyInt()))
+            .thenReturn(new Page<>(Collections.singletonList(event), 0, 1, 1));
+    }
+
+    private String definition(String contextPath) throws Exception {
+        io.gravitee.definition.model.Api definition = new io.gravitee.definition.model.Api();
+        definition.setId(API_ID);
+        definition.setDefinitionVersion(DefinitionVersion.V2);
+        Proxy proxy = new Proxy();
+        proxy.setVirtualHosts(Collections.singletonList(new VirtualHost(contextPath)));
+        definition.setProxy(proxy);
+        return objectMapper.writeValueAsString(definition);
+    }
+}
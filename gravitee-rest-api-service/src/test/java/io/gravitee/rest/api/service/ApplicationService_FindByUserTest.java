@@ -133,8 +133,8 @@ public class ApplicationService_FindByUserTest {
     public void shouldFindByUserAndGroup() throws Exception {
         GraviteeContext.setCurrentEnvironment("envId");
         when(appMembership.getReferenceId()).thenReturn(APPLICATION_ID);
-        when(groupAppMembership.getReferenceId()).thenReturn(GROUP_APPLICATION_ID);
-        when(groupAppMembership.getRoleId()).thenReturn("APPLICATION_PRIMARY_OWNER");
+        when(groupAppMembership.getReferenceId()).thenReturn(GROUP_ID);
+        when(groupAppMembership.getRoleId()).thenReturn("APPLICATION_USER");
 
         when(application.getId()).thenReturn(APPLICATION_ID);
         when(application.getStatus()).thenReturn(ApplicationStatus.ACTIVE);
@@ -152,11 +152,13 @@ public class ApplicationService_FindByUserTest {
             .thenReturn(Collections.singleton(groupAppMembership));
 
         RoleEntity role = mock(RoleEntity.class);
-        when(role.getScope()).thenReturn(RoleScope.APPLICATION);
         when(roleService.findPrimaryOwnerRoleByOrganization(any(), any())).thenReturn(role);
-        when(roleService.findById(any())).thenReturn(role);
+        when(role.getId()).thenReturn("APPLICATION_USER");
+        when(roleService.findByScope(RoleScope.APPLICATION)).thenReturn(Collections.singletonList(role));
 
-        when(applicationRepository.findByIds(any())).thenReturn(new HashSet(Arrays.asList(application, groupApplication)));
+        when(applicationRepository.findByIds(Collections.singletonList(APPLICATION_ID))).thenReturn(Collections.singleton(application));
+        when(applicationRepository.findByGroups(Collections.singletonList(GROUP_ID), ApplicationStatus.ACTIVE))
+            .thenReturn(Collections.singleton(groupApplication));
 
         MembershipEntity poApp = new MembershipEntity();
         poApp.setId("poApp-id");
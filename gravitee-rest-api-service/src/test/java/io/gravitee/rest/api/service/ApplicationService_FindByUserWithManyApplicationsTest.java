@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.model.Application;
+import io.gravitee.repository.management.model.ApplicationStatus;
+import io.gravitee.repository.management.model.ApplicationType;
+import io.gravitee.rest.api.model.*;
+import io.gravitee.rest.api.model.application.ApplicationListItem;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.impl.ApplicationServiceImpl;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApplicationService_FindByUserWithManyApplicationsTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationService_FindByUserWithManyApplicationsTest.class);
+
+    private static final String USERNAME = "user";
+    private static final String ENVIRONMENT = "DEFAULT";
+    private static final int APPLICATIONS = 5_000;
+    private static final int GROUPS = 50;
+
+    @InjectMocks
+    private ApplicationServiceImpl applicationService = new ApplicationServiceImpl();
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private UserService userService;
+
+    @Before
+    public void setUp() throws Exception {
+        GraviteeContext.setCurrentEnvironment(ENVIRONMENT);
+
+        final List<Application> applications = IntStream.range(0, APPLICATIONS).mapToObj(this::application).collect(Collectors.toList());
+        final List<Application> memberApplications = applications.subList(0, APPLICATIONS / 2);
+        final List<Application> groupApplications = applications.subList(APPLICATIONS / 4, APPLICATIONS);
+
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USERNAME, MembershipReferenceType.APPLICATION))
+            .thenReturn(
+                memberApplications
+                    .stream()
+                    .map(app -> membership(app.getId(), MembershipReferenceType.APPLICATION, "APPLICATION_OWNER"))
+                    .collect(Collectors.toSet())
+            );
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USERNAME, MembershipReferenceType.GROUP))
+            .thenReturn(
+                IntStream
+                    .range(0, GROUPS)
+                    .mapToObj(i -> membership("group-" + i, MembershipReferenceType.GROUP, i % 2 == 0 ? "APPLICATION_USER" : "API_USER"))
+                    .collect(Collectors.toSet())
+            );
+        when(roleService.findByScope(RoleScope.APPLICATION)).thenReturn(Arrays.asList(role("APPLICATION_OWNER"), role("APPLICATION_USER")));
+        when(roleService.findPrimaryOwnerRoleByOrganization(any(), eq(RoleScope.APPLICATION)))
+            .thenReturn(role("APPLICATION_PRIMARY_OWNER"));
+
+        when(applicationRepository.findByIds(anyList())).thenReturn(new HashSet<>(memberApplications));
+        when(applicationRepository.findByGroups(anyList(), eq(ApplicationStatus.ACTIVE))).thenReturn(new HashSet<>(groupApplications));
+
+        when(
+            membershipService.getMembershipsByReferencesAndRole(
+                eq(MembershipReferenceType.APPLICATION),
+                anyList(),
+                eq("APPLICATION_PRIMARY_OWNER")
+            )
+        )
+            .thenAnswer(
+                invocation ->
+                    ((List<String>) invocation.getArgument(1)).stream()
+                        .map(id -> poMembership(id, "owner-" + (id.hashCode() & 0xf)))
+                        .collect(Collectors.toSet())
+            );
+        when(userService.findByIds(anyList()))
+            .thenAnswer(
+                invocation ->
+                    ((List<String>) invocation.getArgument(0)).stream()
+                        .distinct()
+                        .map(
+                            id -> {
+                                UserEntity user = new UserEntity();
+                                user.setId(id);
+                                return user;
+                            }
+                        )
+                        .collect(Collectors.toSet())
+            );
+    }
+
+    @After
+    public void tearDown() {
+        GraviteeContext.cleanContext();
+    }
+
+    @Test
+    public void shouldFindByUserWithManyApplications() throws Exception {
+        final long start = System.nanoTime();
+        final Set<ApplicationListItem> applications = applicationService.findByUser(USERNAME);
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        LOGGER.info("Found {} applications for user in {} ms", applications.size(), elapsed);
+
+        assertEquals(APPLICATIONS, applications.size());
+        applications.forEach(
+            item -> {
+                assertEquals(ApplicationType.SIMPLE.name(), item.getType());
+                assertEquals("client-" + item.getId(), item.getSettings().getApp().getClientId());
+            }
+        );
+        verify(roleService, times(1)).findByScope(RoleScope.APPLICATION);
+        verify(roleService, never()).findById(any());
+        verify(applicationRepository, times(1)).findByIds(anyList());
+        verify(applicationRepository, times(1)).findByGroups(argThat(groups -> groups.size() == GROUPS / 2), eq(ApplicationStatus.ACTIVE));
+        verify(userService, times(1)).findByIds(anyList());
+    }
+
+    private Application application(int index) {
+        Application application = new Application();
+        application.setId("app-" + index);
+        application.setName("Application " + index);
+        application.setEnvironmentId(ENVIRONMENT);
+        application.setStatus(ApplicationStatus.ACTIVE);
+        application.setType(ApplicationType.SIMPLE);
+        application.setMetadata(Collections.singletonMap("client_id", "client-app-" + index));
+        return application;
+    }
+
+    private MembershipEntity membership(String referenceId, MembershipReferenceType referenceType, String roleId) {
+        MembershipEntity membership = new MembershipEntity();
+        membership.setId(referenceId + "-" + USERNAME);
+        membership.setMemberId(USERNAME);
+        membership.setMemberType(MembershipMemberType.USER);
+        membership.setReferenceId(referenceId);
+        membership.setReferenceType(referenceType);
+        membership.setRoleId(roleId);
+        return membership;
+    }
+
+    private MembershipEntity poMembership(String applicationId, String userId) {
+        MembershipEntity membership = membership(applicationId, MembershipReferenceType.APPLICATION, "APPLICATION_PRIMARY_OWNER");
+        membership.setId(applicationId + "-po");
+        membership.setMemberId(userId);
+        return membership;
+    }
+
+    private RoleEntity role(String id) {
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+        role.setScope(RoleScope.APPLICATION);
+        return role;
+    }
+}
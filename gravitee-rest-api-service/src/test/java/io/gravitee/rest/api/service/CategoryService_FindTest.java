@@ -24,9 +24,13 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.CategoryRepository;
 import io.gravitee.repository.management.model.Category;
 import io.gravitee.rest.api.model.CategoryEntity;
+import io.gravitee.rest.api.model.InlinePictureEntity;
 import io.gravitee.rest.api.service.impl.CategoryServiceImpl;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -82,4 +86,18 @@ public class CategoryService_FindTest {
         assertEquals("CreatedAt", new Date(9876543210L), list.get(0).getCreatedAt());
         verify(mockCategoryRepository, times(1)).findAllByEnvironment(any());
     }
+
+    @Test
+    public void shouldGetPictureWithContentDigest() throws TechnicalException {
+        Category category = new Category();
+        category.setId("category-id");
+        category.setPicture("data:image/png;base64," + Base64.getEncoder().encodeToString("picture".getBytes()));
+        when(mockCategoryRepository.findById("category-id")).thenReturn(Optional.of(category));
+
+        InlinePictureEntity picture = categoryService.getPicture("category-id");
+
+        assertEquals("image/png", picture.getType());
+        assertArrayEquals("picture".getBytes(), picture.getContent());
+        assertEquals(DigestUtils.sha256Hex("picture".getBytes()), picture.getHash());
+    }
 }
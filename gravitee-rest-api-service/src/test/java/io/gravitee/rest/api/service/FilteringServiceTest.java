@@ -234,22 +234,10 @@ public class FilteringServiceTest {
 
     @Test
     public void shouldGetTrendingsApi() {
-        SubscriptionEntity subA1 = new SubscriptionEntity();
-        subA1.setApplication("A");
-        subA1.setApi("1");
-        SubscriptionEntity subA2 = new SubscriptionEntity();
-        subA2.setApplication("A");
-        subA2.setApi("2");
-        SubscriptionEntity subB1 = new SubscriptionEntity();
-        subB1.setApplication("B");
-        subB1.setApi("1");
-        SubscriptionEntity subC4 = new SubscriptionEntity();
-        subC4.setApplication("C");
-        subC4.setApi("4");
-        SubscriptionEntity subC8 = new SubscriptionEntity();
-        subC8.setApplication("C");
-        subC8.setApi("8");
-        doReturn(Arrays.asList(subC8, subA2, subB1, subC4, subA1)).when(subscriptionService).search(any());
+        Map<String, Long> subscriptionsByApi = new HashMap<>();
+        subscriptionsByApi.put("1", 2L);
+        subscriptionsByApi.put("4", 1L);
+        doReturn(subscriptionsByApi).when(subscriptionService).countGroupedByApi(any());
 
         FilteredEntities<ApiEntity> apiEntityFilteredEntities = filteringService.filterApis(
             mockApis,
@@ -306,17 +294,10 @@ public class FilteringServiceTest {
 
         Set<FilterableItem> mockApplications = new HashSet<>(Arrays.asList(applicationListItem1, applicationListItem2));
 
-        SubscriptionEntity subA1 = new SubscriptionEntity();
-        subA1.setApplication("A");
-        SubscriptionEntity subA2 = new SubscriptionEntity();
-        subA2.setApplication("A");
-        SubscriptionEntity subB1 = new SubscriptionEntity();
-        subB1.setApplication("B");
-        SubscriptionEntity subB2 = new SubscriptionEntity();
-        subB2.setApplication("B");
-        SubscriptionEntity subB3 = new SubscriptionEntity();
-        subB3.setApplication("B");
-        doReturn(Arrays.asList(subA1, subA2, subB1, subB2, subB3)).when(subscriptionService).search(any());
+        Map<String, Long> subscriptionsByApplication = new HashMap<>();
+        subscriptionsByApplication.put("A", 2L);
+        subscriptionsByApplication.put("B", 3L);
+        doReturn(subscriptionsByApplication).when(subscriptionService).countGroupedByApplication(any());
 
         FilteredEntities<FilterableItem> applicationListItemFilteredEntities = filteringService.getEntitiesOrderByNumberOfSubscriptions(
             mockApplications,
@@ -355,29 +336,14 @@ public class FilteringServiceTest {
             Arrays.asList(applicationListItem1, applicationListItem2, applicationListItem3, applicationListItem4)
         );
 
-        SubscriptionEntity subA1 = new SubscriptionEntity();
-        subA1.setApplication("A");
-        SubscriptionEntity subA2 = new SubscriptionEntity();
-        subA2.setApplication("A");
-        SubscriptionEntity subB1 = new SubscriptionEntity();
-        subB1.setApplication("B");
-        SubscriptionEntity subB2 = new SubscriptionEntity();
-        subB2.setApplication("B");
-        SubscriptionEntity subB3 = new SubscriptionEntity();
-        subB3.setApplication("B");
-        SubscriptionEntity subC1 = new SubscriptionEntity();
-        subC1.setApplication("C");
-        SubscriptionEntity subC2 = new SubscriptionEntity();
-        subC2.setApplication("C");
-        SubscriptionEntity subC3 = new SubscriptionEntity();
-        subC3.setApplication("C");
-        SubscriptionEntity subD1 = new SubscriptionEntity();
-        subD1.setApplication("D");
-        SubscriptionEntity subD2 = new SubscriptionEntity();
-        subD2.setApplication("D");
-        doReturn(Arrays.asList(subA1, subA2, subB1, subB2, subB3, subC1, subC2, subC3, subD1, subD2))
+        Map<String, Long> subscriptionsByApplication = new HashMap<>();
+        subscriptionsByApplication.put("A", 2L);
+        subscriptionsByApplication.put("B", 3L);
+        subscriptionsByApplication.put("C", 3L);
+        subscriptionsByApplication.put("D", 2L);
+        doReturn(subscriptionsByApplication)
             .when(subscriptionService)
-            .search(any());
+            .countGroupedByApplication(argThat(query -> query.getApis() == null && query.getApplications().size() == 4));
 
         FilteredEntities<FilterableItem> applicationListItemFilteredEntities = filteringService.getEntitiesOrderByNumberOfSubscriptions(
             mockApplications,
@@ -0,0 +1,184 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.HttpClientServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class HttpClientServiceTest {
+
+    private static final String METRIC_NAME = "gravitee.http.client.requests";
+    private static final int REQUESTS = 10;
+
+    private Vertx vertx;
+    private HttpServer server;
+    private SimpleMeterRegistry registry;
+    private HttpClientServiceImpl httpClientService;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Before
+    public void init() throws Exception {
+        vertx = Vertx.vertx();
+        server =
+            vertx
+                .createHttpServer()
+                .connectionHandler(connection -> connections.incrementAndGet())
+                .requestHandler(
+                    request -> {
+                        switch (request.path()) {
+                            case "/slow":
+                                // Never answers, to hold the request in flight
+                                break;
+                            case "/error":
+                                request.response().setStatusCode(500).end("boom");
+                                break;
+                            default:
+                                request.body(body -> request.response().end("echo:" + body.result()));
+                        }
+                    }
+                )
+                .listen(0)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+
+        registry = new SimpleMeterRegistry();
+        httpClientService = new HttpClientServiceImpl();
+        ReflectionTestUtils.setField(httpClientService, "vertx", vertx);
+        ReflectionTestUtils.setField(httpClientService, "meterRegistry", registry);
+        ReflectionTestUtils.setField(httpClientService, "httpClientTimeout", 500);
+        ReflectionTestUtils.setField(httpClientService, "httpClientPoolMaxSize", 10);
+        ReflectionTestUtils.setField(httpClientService, "httpClientMaxConcurrentRequests", 1);
+        ReflectionTestUtils.setField(httpClientService, "httpClientQueueTimeout", 2000L);
+        httpClientService.afterPropertiesSet();
+    }
+
+    @After
+    public void tearDown() {
+        httpClientService.destroy();
+        vertx.close();
+    }
+
+    @Test
+    public void shouldReuseConnectionAcrossRequests() {
+        for (int i = 0; i < REQUESTS; i++) {
+            Buffer buffer = httpClientService.request(HttpMethod.POST, url("/echo"), Collections.emptyMap(), "body" + i, false);
+            assertEquals("echo:body" + i, buffer.toString());
+        }
+
+        assertTrue("Connections must be reused", connections.get() < REQUESTS);
+        assertEquals(REQUESTS, registry.get(METRIC_NAME).tag("outcome", "success").timer().count());
+        assertEquals(0, registry.get(METRIC_NAME + ".active").gauge().value(), 0);
+    }
+
+    @Test
+    public void shouldFailOnErrorStatus() {
+        try {
+            httpClientService.request(HttpMethod.GET, url("/error"), null, null, false);
+            fail("A non 2xx response must fail the request");
+        } catch (TechnicalManagementException tme) {
+            assertTrue(tme.getMessage().contains("Status code: 500. Message: boom"));
+        }
+
+        assertEquals(1, registry.get(METRIC_NAME).tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    public void shouldWaitForSlotBeyondConcurrencyLimit() throws Exception {
+        CompletableFuture<Buffer> slow = httpClientService.requestAsync(HttpMethod.GET, url("/slow"), null, null, false);
+
+        // Waits until the slow request times out and gives its slot back
+        assertEquals("echo:", httpClientService.request(HttpMethod.GET, url("/echo"), null, null, false).toString());
+
+        try {
+            slow.get(5, TimeUnit.SECONDS);
+            fail("The request must time out");
+        } catch (ExecutionException e) {
+            assertEquals(1, registry.get(METRIC_NAME).tag("outcome", "timeout").timer().count());
+        }
+        assertEquals(0, registry.get(METRIC_NAME).tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    public void shouldWaitForSlotWithoutBlockingAsyncCaller() throws Exception {
+        httpClientService.requestAsync(HttpMethod.GET, url("/slow"), null, null, false);
+
+        CompletableFuture<Buffer> queued = httpClientService.requestAsync(HttpMethod.GET, url("/echo"), null, null, false);
+        assertFalse(queued.isDone());
+
+        assertEquals("echo:", queued.get(5, TimeUnit.SECONDS).toString());
+        assertEquals(1, registry.get(METRIC_NAME).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    public void shouldRejectRequestsIfNoSlotIsFreedInTime() throws Exception {
+        ReflectionTestUtils.setField(httpClientService, "httpClientQueueTimeout", 100L);
+        CompletableFuture<Buffer> slow = httpClientService.requestAsync(HttpMethod.GET, url("/slow"), null, null, false);
+
+        try {
+            httpClientService.request(HttpMethod.GET, url("/echo"), null, null, false);
+            fail("The request must be rejected while the limit is reached");
+        } catch (TechnicalManagementException tme) {
+            assertTrue(tme.getMessage().contains("Too many concurrent requests (1)"));
+        }
+        assertEquals(1, registry.get(METRIC_NAME).tag("outcome", "rejected").timer().count());
+
+        try {
+            slow.get(5, TimeUnit.SECONDS);
+            fail("The request must time out");
+        } catch (ExecutionException e) {
+            assertEquals(1, registry.get(METRIC_NAME).tag("outcome", "timeout").timer().count());
+        }
+
+        // The slot is given back once the slow request is over
+        assertEquals("echo:", httpClientService.request(HttpMethod.GET, url("/echo"), null, null, false).toString());
+    }
+
+    @Test
+    public void shouldRegisterOneTimerPerOutcome() {
+        assertEquals(4, registry.get(METRIC_NAME).timers().size());
+
+        httpClientService.request(HttpMethod.GET, url("/echo"), null, null, false);
+        httpClientService.request(HttpMethod.GET, url("/echo"), null, null, false);
+
+        assertEquals(4, registry.get(METRIC_NAME).timers().size());
+        assertEquals(2, registry.get(METRIC_NAME).tag("outcome", "success").timer().count());
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.actualPort() + path;
+    }
+}
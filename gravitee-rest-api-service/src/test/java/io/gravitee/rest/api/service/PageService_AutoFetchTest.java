@@ -36,6 +36,7 @@ import io.gravitee.rest.api.service.spring.ImportConfiguration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
 import org.junit.Test;
@@ -45,6 +46,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
@@ -68,6 +70,9 @@ public class PageService_AutoFetchTest {
     @Mock
     private SearchEngineService searchEngineService;
 
+    @Mock
+    private PageRevisionService pageRevisionService;
+
     @Mock
     private PluginManager<FetcherPlugin> fetcherPluginManager;
 
@@ -237,4 +242,83 @@ public class PageService_AutoFetchTest {
         pageService.execAutoFetch(GraviteeContext.getCurrentEnvironment());
         verify(pageRepository, times(6)).update(any());
     }
+
+    @Test
+    public void shouldNotUpdate_SourcePage_AutoFetch_UnchangedContent() throws Exception {
+        Page page = autoFetchPage("page1", "Sample\n");
+        when(pageRepository.search(any())).thenReturn(Arrays.asList(page));
+        mockSinglePageFetcher();
+
+        long pages = pageService.execAutoFetch(GraviteeContext.getCurrentEnvironment());
+        assertEquals(0, pages);
+
+        verify(pageRepository, times(0)).update(any());
+        verifyZeroInteractions(auditService);
+    }
+
+    @Test
+    public void shouldReuseFetcherAndSchedule_SourcePage_AutoFetch() throws Exception {
+        Page page1 = autoFetchPage("page1", "Sample\n");
+        Page page2 = autoFetchPage("page2", "Sample\n");
+        when(pageRepository.search(any())).thenReturn(Arrays.asList(page1, page2));
+        mockSinglePageFetcher();
+
+        pageService.execAutoFetch(GraviteeContext.getCurrentEnvironment());
+        pageService.execAutoFetch(GraviteeContext.getCurrentEnvironment());
+
+        // both pages share the same source configuration
+        verify(fetcherConfigurationFactory, times(1)).create(eq(PageService_MockSinglePageFetcherConfiguration.class), anyString());
+        verify(pageRepository, times(0)).update(any());
+    }
+
+    @Test
+    public void shouldFetch_SourcePages_AutoFetch_InParallel() throws Exception {
+        ReflectionTestUtils.setField(pageService, "autoFetchWorkers", 4);
+        Page page1 = autoFetchPage("page1", "Old content");
+        Page page2 = autoFetchPage("page2", "Old content");
+        Page page3 = autoFetchPage("page3", "Sample\n");
+        when(pageRepository.search(any())).thenReturn(Arrays.asList(page1, page2, page3));
+        when(pageRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        mockSinglePageFetcher();
+
+        long pages = pageService.execAutoFetch(GraviteeContext.getCurrentEnvironment());
+        assertEquals(2, pages);
+
+        verify(pageRepository, times(1)).update(page1);
+        verify(pageRepository, times(1)).update(page2);
+        verify(pageRepository, times(0)).update(page3);
+        verify(pageRevisionService, times(2)).create(any());
+    }
+
+    private Page autoFetchPage(String id, String content) {
+        PageSource pageSource = new PageSource();
+        pageSource.setType("type");
+        pageSource.setConfiguration("{\"autoFetch\": true, \"fetchCron\" : \"* * * * * *\"}");
+
+        Page page = new Page();
+        page.setId(id);
+        page.setReferenceType(PageReferenceType.ENVIRONMENT);
+        page.setReferenceId("envId");
+        page.setType(PageType.MARKDOWN.name());
+        page.setVisibility("PUBLIC");
+        page.setSource(pageSource);
+        page.setContent(content);
+        page.setMetadata(Collections.emptyMap());
+        page.setUseAutoFetch(Boolean.TRUE);
+        page.setUpdatedAt(new Date(Instant.now().minus(2, ChronoUnit.SECONDS).toEpochMilli()));
+        return page;
+    }
+
+    private void mockSinglePageFetcher() {
+        PageService_MockSinglePageFetcherConfiguration.forceCronValue("* * * * * *");
+        FetcherPlugin fetcherPlugin = mock(FetcherPlugin.class);
+        when(fetcherPlugin.clazz()).thenReturn("io.gravitee.rest.api.service.PageService_ImportSimplePageMockFetcher");
+        when(fetcherPlugin.configuration()).thenReturn(PageService_MockSinglePageFetcherConfiguration.class);
+        when(fetcherPluginManager.get(any())).thenReturn(fetcherPlugin);
+        when(fetcherPlugin.fetcher()).thenReturn(PageService_ImportSimplePageMockFetcher.class);
+        when(fetcherConfigurationFactory.create(eq(PageService_MockSinglePageFetcherConfiguration.class), anyString()))
+            .thenReturn(new PageService_MockSinglePageFetcherConfiguration());
+        AutowireCapableBeanFactory mockAutowireCapableBeanFactory = mock(AutowireCapableBeanFactory.class);
+        when(applicationContext.getAutowireCapableBeanFactory()).thenReturn(mockAutowireCapableBeanFactory);
+    }
 }
@@ -307,6 +307,7 @@ public class PageService_DeleteTest {
         configuration.put(PageConfigurationKeys.TRANSLATION_LANG, "EN");
         when(translation.getConfiguration()).thenReturn(configuration);
         when(translation.getType()).thenReturn(PageType.TRANSLATION.toString());
+        when(translation.getParentId()).thenReturn(PAGE_ID);
         when(translation.getReferenceType()).thenReturn(PageReferenceType.ENVIRONMENT);
         when(translation.getReferenceId()).thenReturn(refId);
         when(translation.getVisibility()).thenReturn("PUBLIC");
@@ -314,7 +315,7 @@ public class PageService_DeleteTest {
             .thenReturn(Arrays.asList(translation));
 
         when(pageRepository.search(new PageCriteria.Builder().referenceType(PageReferenceType.API.name()).referenceId("apiId").build()))
-            .thenReturn(Arrays.asList(folder, child, childPage, page));
+            .thenReturn(Arrays.asList(folder, child, childPage, page, translation));
 
         pageService.deleteAllByApi("apiId", GraviteeContext.getCurrentEnvironment());
 
@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.PageRepository;
+import io.gravitee.repository.management.api.search.PageCriteria;
+import io.gravitee.repository.management.model.Page;
+import io.gravitee.repository.management.model.PageReferenceType;
+import io.gravitee.rest.api.idp.api.authentication.UserDetails;
+import io.gravitee.rest.api.model.PageConfigurationKeys;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.model.Visibility;
+import io.gravitee.rest.api.model.documentation.PageQuery;
+import io.gravitee.rest.api.service.impl.PageServiceImpl;
+import java.util.*;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_SearchTest {
+
+    private static final String API_ID = "my-api";
+    private static final String ENVIRONMENT_ID = "DEFAULT";
+    private static final List<String> LANGUAGES = Arrays.asList("de", "en", "es", "fr");
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private PageRevisionService pageRevisionService;
+
+    private final List<Page> pages = new ArrayList<>();
+
+    @Before
+    public void setUp() throws TechnicalException {
+        // 20 folders containing 280 pages, each page being translated in 4 languages
+        for (int i = 0; i < 20; i++) {
+            Page folder = page("folder-" + i, PageType.FOLDER, null, new Date(1000));
+            folder.setPublished(i % 2 == 0);
+            pages.add(folder);
+        }
+        for (int i = 0; i < 280; i++) {
+            String pageId = "page-" + i;
+            pages.add(page(pageId, PageType.MARKDOWN, "folder-" + (i % 20), new Date(1000)));
+            for (String lang : LANGUAGES) {
+                Page translation = page(pageId + "-" + lang, PageType.TRANSLATION, pageId, new Date(1000));
+                translation.setName(pageId + " (" + lang + ")");
+                translation.setConfiguration(Collections.singletonMap(PageConfigurationKeys.TRANSLATION_LANG, lang));
+                pages.add(translation);
+            }
+        }
+
+        when(pageRepository.search(any(PageCriteria.class))).thenAnswer(invocation -> search(invocation.getArgument(0)));
+    }
+
+    @After
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void shouldSearchWithTranslationsInBulk() throws TechnicalException {
+        final List<PageEntity> result = pageService.search(new PageQuery.Builder().api(API_ID).build(), ENVIRONMENT_ID);
+
+        // Pages of unpublished folders are removed
+        assertEquals(160, result.size());
+        assertFalse(result.stream().anyMatch(p -> "page-21".equals(p.getId())));
+        final PageEntity page = result.stream().filter(p -> "page-20".equals(p.getId())).findFirst().get();
+        assertEquals("/folder-0", page.getParentPath());
+        assertEquals(
+            Arrays.asList("page-20-de", "page-20-en", "page-20-es", "page-20-fr"),
+            page.getTranslations().stream().map(PageEntity::getId).collect(Collectors.toList())
+        );
+
+        // One query for the public pages, one query for all the pages of the API
+        verify(pageRepository, times(2)).search(any());
+        verify(pageRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldUseSearchedPagesAsPageTree() throws TechnicalException {
+        SecurityContextHolder
+            .getContext()
+            .setAuthentication(new UsernamePasswordAuthenticationToken(new UserDetails("user", "", Collections.emptyList()), null));
+
+        final List<PageEntity> result = pageService.search(new PageQuery.Builder().api(API_ID).build(), ENVIRONMENT_ID);
+
+        assertEquals(300, result.size());
+        assertEquals(4, result.stream().filter(p -> "page-20".equals(p.getId())).findFirst().get().getTranslations().size());
+
+        // The searched pages are all the pages of the API, they are used as the page tree
+        verify(pageRepository, times(1)).search(any());
+        verify(pageRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldSearchWithAcceptedLocaleInBulk() throws TechnicalException {
+        final List<PageEntity> result = pageService.search(new PageQuery.Builder().api(API_ID).build(), "FR", ENVIRONMENT_ID);
+
+        assertEquals(160, result.size());
+        assertEquals("page-20 (fr)", result.stream().filter(p -> "page-20".equals(p.getId())).findFirst().get().getName());
+        assertFalse(result.stream().anyMatch(p -> "page-21".equals(p.getId())));
+
+        verify(pageRepository, times(2)).search(any());
+        verify(pageRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldLoadPageTreeForFilteredSearch() throws TechnicalException {
+        final List<PageEntity> result = pageService.search(
+            new PageQuery.Builder().api(API_ID).type(PageType.MARKDOWN).build(),
+            "fr",
+            ENVIRONMENT_ID
+        );
+
+        assertEquals(140, result.size());
+        assertEquals("page-20 (fr)", result.stream().filter(p -> "page-20".equals(p.getId())).findFirst().get().getName());
+
+        // One query for the searched pages, one query for the pages of the API
+        verify(pageRepository, times(2)).search(any());
+        verify(pageRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldNotLoadPageTreeForNarrowSearch() throws TechnicalException {
+        final Page folder = pages.get(0);
+        when(pageRepository.findById("folder-0")).thenReturn(Optional.of(folder));
+        when(pageRepository.findById("page-20"))
+            .thenReturn(Optional.of(pages.stream().filter(p -> "page-20".equals(p.getId())).findFirst().get()));
+
+        final List<PageEntity> result = pageService.search(
+            new PageQuery.Builder().api(API_ID).parent("page-20").build(),
+            true,
+            ENVIRONMENT_ID
+        );
+
+        assertEquals(4, result.size());
+        assertEquals("/folder-0/page-20", result.get(0).getParentPath());
+
+        // The pages of the API are not loaded, the parents are looked up one by one
+        verify(pageRepository, never()).search(argThat(criteria -> criteria.getParent() == null));
+        verify(pageRepository, atLeastOnce()).findById("folder-0");
+    }
+
+    private List<Page> search(PageCriteria criteria) {
+        return pages
+            .stream()
+            .filter(p -> criteria.getReferenceId() == null || criteria.getReferenceId().equals(p.getReferenceId()))
+            .filter(p -> criteria.getType() == null || criteria.getType().equals(p.getType()))
+            .filter(p -> criteria.getParent() == null || criteria.getParent().equals(p.getParentId()))
+            .filter(p -> criteria.getPublished() == null || criteria.getPublished() == p.isPublished())
+            .filter(p -> criteria.getVisibility() == null || criteria.getVisibility().equals(p.getVisibility()))
+            .collect(Collectors.toList());
+    }
+
+    private static Page page(String id, PageType type, String parentId, Date updatedAt) {
+        Page page = new Page();
+        page.setId(id);
+        page.setName(id);
+        page.setType(type.name());
+        page.setParentId(parentId);
+        page.setReferenceType(PageReferenceType.API);
+        page.setReferenceId(API_ID);
+        page.setPublished(true);
+        page.setVisibility(Visibility.PUBLIC.name());
+        page.setUpdatedAt(updatedAt);
+        return page;
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.http.MediaType;
+import io.gravitee.rest.api.model.MetadataEntity;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.service.impl.PageServiceImpl;
+import io.gravitee.rest.api.service.impl.swagger.parser.OAIParser;
+import io.gravitee.rest.api.service.notification.NotificationTemplateService;
+import java.util.Collections;
+import java.util.Date;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_TransformTest {
+
+    private static final String PAGE_ID = "my-page";
+    private static final String SWAGGER_CONTENT =
+        "{\"openapi\":\"3.0.0\",\"info\":{\"title\":\"Echo\",\"version\":\"1.0\"},\"paths\":{\"/echo\":{\"get\":{\"responses\":{\"200\":{\"description\":\"OK\"}}}}}}";
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Mock
+    private SwaggerService swaggerService;
+
+    @Mock
+    private NotificationTemplateService notificationTemplateService;
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Before
+    public void setUp() {
+        lenient().when(swaggerService.parse(anyString())).thenAnswer(invocation -> new OAIParser().parse(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void shouldRenderSwaggerOnce() {
+        final PageEntity page = swaggerPage(SWAGGER_CONTENT, new Date(1000));
+        pageService.transformSwagger(page);
+        final PageEntity samePage = swaggerPage(SWAGGER_CONTENT, new Date(1000));
+        pageService.transformSwagger(samePage);
+
+        assertTrue(page.getContent().contains("/echo"));
+        assertEquals(page.getContent(), samePage.getContent());
+        verify(swaggerService, times(1)).parse(anyString());
+    }
+
+    @Test
+    public void shouldRenderSwaggerAgain_PageUpdated() {
+        pageService.transformSwagger(swaggerPage(SWAGGER_CONTENT, new Date(1000)));
+
+        final PageEntity updatedPage = swaggerPage(SWAGGER_CONTENT.replace("/echo", "/echo-v2"), new Date(2000));
+        pageService.transformSwagger(updatedPage);
+
+        assertTrue(updatedPage.getContent().contains("/echo-v2"));
+        verify(swaggerService, times(2)).parse(anyString());
+    }
+
+    @Test
+    public void shouldRenderTemplateOnce() {
+        when(metadataService.findAllDefault()).thenReturn(Collections.singletonList(metadata("email", "support@gravitee.io")));
+        when(notificationTemplateService.resolveInlineTemplateWithParam(eq(PAGE_ID), eq("${metadata['email']}"), any(), eq(false)))
+            .thenReturn("support@gravitee.io");
+
+        final PageEntity page = markdownPage("${metadata['email']}");
+        pageService.transformWithTemplate(page, null);
+        final PageEntity samePage = markdownPage("${metadata['email']}");
+        pageService.transformWithTemplate(samePage, null);
+
+        assertEquals("support@gravitee.io", page.getContent());
+        assertEquals("support@gravitee.io", samePage.getContent());
+        verify(notificationTemplateService, times(1)).resolveInlineTemplateWithParam(anyString(), anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    public void shouldRenderTemplateAgain_MetadataUpdated() {
+        when(metadataService.findAllDefault())
+            .thenReturn(Collections.singletonList(metadata("email", "support@gravitee.io")))
+            .thenReturn(Collections.singletonList(metadata("email", "contact@gravitee.io")));
+        when(notificationTemplateService.resolveInlineTemplateWithParam(eq(PAGE_ID), eq("${metadata['email']}"), any(), eq(false)))
+            .thenReturn("support@gravitee.io")
+            .thenReturn("contact@gravitee.io");
+
+        final PageEntity page = markdownPage("${metadata['email']}");
+        pageService.transformWithTemplate(page, null);
+        final PageEntity samePage = markdownPage("${metadata['email']}");
+        pageService.transformWithTemplate(samePage, null);
+
+        assertEquals("support@gravitee.io", page.getContent());
+        assertEquals("contact@gravitee.io", samePage.getContent());
+        verify(notificationTemplateService, times(2)).resolveInlineTemplateWithParam(anyString(), anyString(), any(), anyBoolean());
+    }
+
+    private static PageEntity swaggerPage(String content, Date updatedAt) {
+        PageEntity page = new PageEntity();
+        page.setId(PAGE_ID);
+        page.setType(PageType.SWAGGER.name());
+        page.setContentType(MediaType.APPLICATION_JSON);
+        page.setContent(content);
+        page.setLastModificationDate(updatedAt);
+        return page;
+    }
+
+    private static PageEntity markdownPage(String content) {
+        PageEntity page = new PageEntity();
+        page.setId(PAGE_ID);
+        page.setType(PageType.MARKDOWN.name());
+        page.setContent(content);
+        return page;
+    }
+
+    private static MetadataEntity metadata(String key, String value) {
+        MetadataEntity metadata = new MetadataEntity();
+        metadata.setKey(key);
+        metadata.setValue(value);
+        return metadata;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.gravitee.rest.api.service.impl.ReadinessServiceImpl;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ReadinessServiceTest {
+
+    private final ReadinessServiceImpl readinessService = new ReadinessServiceImpl();
+
+    @Test
+    public void shouldWaitForAllSubsystems() {
+        ReflectionTestUtils.setField(readinessService, "syncEnabled", true);
+        readinessService.init();
+
+        assertEquals(
+            new HashSet<>(
+                Arrays.asList(ReadinessService.UPGRADERS, ReadinessService.SEARCH_INDEX, ReadinessService.HTTP, ReadinessService.SYNC)
+            ),
+            readinessService.getPendingSubsystems()
+        );
+
+        readinessService.ready(ReadinessService.UPGRADERS);
+        readinessService.ready(ReadinessService.SEARCH_INDEX);
+        readinessService.ready(ReadinessService.HTTP);
+        readinessService.ready(ReadinessService.SYNC);
+
+        assertTrue(readinessService.getPendingSubsystems().isEmpty());
+    }
+
+    @Test
+    public void shouldNotWaitForSyncInLocalRegistryMode() {
+        ReflectionTestUtils.setField(readinessService, "syncEnabled", true);
+        ReflectionTestUtils.setField(readinessService, "localRegistryEnabled", true);
+        readinessService.init();
+
+        assertEquals(
+            new HashSet<>(Arrays.asList(ReadinessService.UPGRADERS, ReadinessService.SEARCH_INDEX, ReadinessService.HTTP)),
+            readinessService.getPendingSubsystems()
+        );
+    }
+}
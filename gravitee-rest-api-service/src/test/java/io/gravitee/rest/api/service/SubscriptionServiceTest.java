@@ -35,13 +35,16 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationSettings;
 import io.gravitee.rest.api.model.application.OAuthClientSettings;
+import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.service.exceptions.*;
 import io.gravitee.rest.api.service.impl.SubscriptionServiceImpl;
 import io.gravitee.rest.api.service.notification.ApiHook;
 import io.gravitee.rest.api.service.notification.ApplicationHook;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import org.junit.AfterClass;
 import org.junit.Test;
@@ -678,9 +681,6 @@ public class SubscriptionServiceTest {
         // Stub
         when(subscriptionRepository.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
         when(subscriptionRepository.update(any())).thenAnswer(returnsFirstArg());
-        when(apiKeyService.findBySubscription(SUBSCRIPTION_ID)).thenReturn(singletonList(apiKeyEntity));
-        when(apiKeyEntity.isRevoked()).thenReturn(false);
-        when(apiKeyEntity.getExpireAt()).thenReturn(null);
         when(planService.findById(PLAN_ID)).thenReturn(plan);
         when(plan.getApi()).thenReturn(API_ID);
         when(plan.getSecurity()).thenReturn(PlanSecurityType.API_KEY);
@@ -690,74 +690,46 @@ public class SubscriptionServiceTest {
 
         // Verify
         verify(subscriptionRepository, times(1)).update(subscription);
-        verify(apiKeyService, times(1)).findBySubscription(SUBSCRIPTION_ID);
-        verify(apiKeyService, times(1)).update(apiKeyEntity);
+        verify(apiKeyService, times(1)).expireBySubscription(SUBSCRIPTION_ID, updatedSubscription.getEndingAt());
+        verify(apiKeyService, never()).findBySubscription(SUBSCRIPTION_ID);
+        verify(apiKeyService, never()).update(any());
     }
 
     @Test
-    public void shouldUpdateSubscriptionWithEndingDateButRevokedApiKey() throws Exception {
-        UpdateSubscriptionEntity updatedSubscription = new UpdateSubscriptionEntity();
-        updatedSubscription.setId(SUBSCRIPTION_ID);
-        updatedSubscription.setEndingAt(new Date());
-
-        // subscription object is not a mock since its state is updated by the call to subscriptionService.create()
-        Subscription subscription = new Subscription();
-        subscription.setId(SUBSCRIPTION_ID);
-        subscription.setApplication(APPLICATION_ID);
-        subscription.setPlan(PLAN_ID);
-        subscription.setStatus(Subscription.Status.ACCEPTED);
-        subscription.setEndingAt(updatedSubscription.getEndingAt());
-
-        // Stub
-        when(subscriptionRepository.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
-        when(subscriptionRepository.update(subscription)).thenAnswer(returnsFirstArg());
-        when(apiKeyService.findBySubscription(SUBSCRIPTION_ID)).thenReturn(singletonList(apiKeyEntity));
-        when(apiKeyEntity.isRevoked()).thenReturn(true);
-        when(apiKeyEntity.getExpireAt()).thenReturn(null);
-        when(planService.findById(PLAN_ID)).thenReturn(plan);
-        when(plan.getApi()).thenReturn(API_ID);
-        when(plan.getSecurity()).thenReturn(PlanSecurityType.API_KEY);
-
-        // Run
-        subscriptionService.update(updatedSubscription);
-
-        // Verify
-        verify(subscriptionRepository, times(1)).update(subscription);
-        verify(apiKeyService, times(1)).findBySubscription(SUBSCRIPTION_ID);
-        verify(apiKeyService, never()).update(apiKeyEntity);
+    public void shouldSearchByApiKeyResolvingKeyOnce() throws Exception {
+        final int subscriptionsCount = 500;
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < subscriptionsCount; i++) {
+            Subscription subscription = new Subscription();
+            subscription.setId("subscription-" + i);
+            subscription.setApplication(APPLICATION_ID);
+            subscription.setStatus(Subscription.Status.ACCEPTED);
+            subscriptions.add(subscription);
+        }
+        when(subscriptionRepository.search(any(SubscriptionCriteria.class))).thenReturn(subscriptions);
+        when(apiKeyService.findByKey("my-key")).thenReturn(apiKeyEntity);
+        when(apiKeyEntity.getSubscription()).thenReturn("subscription-42");
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApplication(APPLICATION_ID);
+        query.setApiKey("my-key");
+        Collection<SubscriptionEntity> result = subscriptionService.search(query);
+
+        assertEquals(1, result.size());
+        assertEquals("subscription-42", result.iterator().next().getId());
+        verify(apiKeyService, times(1)).findByKey("my-key");
+        verify(apiKeyService, never()).findBySubscription(any());
     }
 
     @Test
-    public void shouldUpdateSubscriptionWithEndingDateButExpiredApiKey() throws Exception {
-        UpdateSubscriptionEntity updatedSubscription = new UpdateSubscriptionEntity();
-        updatedSubscription.setId(SUBSCRIPTION_ID);
-        updatedSubscription.setEndingAt(new Date());
+    public void shouldSearchByUnknownApiKey() throws Exception {
+        when(subscriptionRepository.search(any(SubscriptionCriteria.class))).thenReturn(singletonList(new Subscription()));
+        when(apiKeyService.findByKey("unknown")).thenThrow(new ApiKeyNotFoundException());
 
-        // subscription object is not a mock since its state is updated by the call to subscriptionService.create()
-        Subscription subscription = new Subscription();
-        subscription.setId(SUBSCRIPTION_ID);
-        subscription.setApplication(APPLICATION_ID);
-        subscription.setPlan(PLAN_ID);
-        subscription.setStatus(Subscription.Status.ACCEPTED);
-        subscription.setEndingAt(updatedSubscription.getEndingAt());
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApiKey("unknown");
 
-        // Stub
-        when(subscriptionRepository.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
-        when(subscriptionRepository.update(subscription)).thenAnswer(returnsFirstArg());
-        when(apiKeyService.findBySubscription(SUBSCRIPTION_ID)).thenReturn(singletonList(apiKeyEntity));
-        when(apiKeyEntity.isRevoked()).thenReturn(false);
-        when(apiKeyEntity.getExpireAt()).thenReturn(new Date(updatedSubscription.getEndingAt().getTime() + 10000));
-        when(planService.findById(PLAN_ID)).thenReturn(plan);
-        when(plan.getApi()).thenReturn(API_ID);
-        when(plan.getSecurity()).thenReturn(PlanSecurityType.API_KEY);
-
-        // Run
-        subscriptionService.update(updatedSubscription);
-
-        // Verify
-        verify(subscriptionRepository, times(1)).update(subscription);
-        verify(apiKeyService, times(1)).findBySubscription(SUBSCRIPTION_ID);
-        verify(apiKeyService, times(1)).update(apiKeyEntity);
+        assertTrue(subscriptionService.search(query).isEmpty());
     }
 
     @Test(expected = SubscriptionNotFoundException.class)
@@ -779,14 +751,9 @@ public class SubscriptionServiceTest {
         subscription.setPlan(PLAN_ID);
         subscription.setApplication(APPLICATION_ID);
 
-        final ApiKeyEntity apiKey = new ApiKeyEntity();
-        apiKey.setKey("api-key");
-        apiKey.setRevoked(false);
-
         when(plan.getApi()).thenReturn(API_ID);
         when(subscriptionRepository.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
         when(subscriptionRepository.update(subscription)).thenReturn(subscription);
-        when(apiKeyService.findBySubscription(SUBSCRIPTION_ID)).thenReturn(singletonList(apiKey));
         when(apiService.findByIdForTemplates(API_ID)).thenReturn(apiModelEntity);
         when(planService.findById(PLAN_ID)).thenReturn(plan);
         when(applicationService.findById(APPLICATION_ID)).thenReturn(application);
@@ -794,7 +761,8 @@ public class SubscriptionServiceTest {
 
         subscriptionService.close(SUBSCRIPTION_ID);
 
-        verify(apiKeyService).revoke("api-key", false);
+        verify(apiKeyService).revokeBySubscription(SUBSCRIPTION_ID);
+        verify(apiKeyService, never()).findBySubscription(SUBSCRIPTION_ID);
         verify(notifierService).trigger(eq(ApiHook.SUBSCRIPTION_CLOSED), anyString(), anyMap());
         verify(notifierService).trigger(eq(ApplicationHook.SUBSCRIPTION_CLOSED), nullable(String.class), anyMap());
     }
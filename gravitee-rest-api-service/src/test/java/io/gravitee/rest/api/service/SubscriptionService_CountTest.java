@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.SubscriptionRepository;
+import io.gravitee.repository.management.api.search.SubscriptionCriteria;
+import io.gravitee.repository.management.model.Subscription;
+import io.gravitee.rest.api.model.SubscriptionStatus;
+import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
+import io.gravitee.rest.api.service.impl.SubscriptionServiceImpl;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SubscriptionService_CountTest {
+
+    @InjectMocks
+    private SubscriptionService subscriptionService = new SubscriptionServiceImpl();
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Test
+    public void shouldCountGroupedByApiWithoutLoadingSubscriptions() throws TechnicalException {
+        mockCount(criteria -> criteria.getApis().equals(Collections.singleton("api-1")), 12);
+        mockCount(criteria -> criteria.getApis().equals(Collections.singleton("api-2")), 0);
+        mockCount(criteria -> criteria.getApis().equals(Collections.singleton("api-3")), 3);
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApis(asList("api-1", "api-2", "api-3"));
+        query.setStatuses(asList(SubscriptionStatus.ACCEPTED, SubscriptionStatus.PAUSED));
+
+        Map<String, Long> counts = subscriptionService.countGroupedByApi(query);
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(12), counts.get("api-1"));
+        assertFalse(counts.containsKey("api-2"));
+        assertEquals(Long.valueOf(3), counts.get("api-3"));
+        verify(subscriptionRepository, never()).search(any(SubscriptionCriteria.class));
+        verify(subscriptionRepository, times(3))
+            .search(
+                argThat(
+                    (SubscriptionCriteria criteria) ->
+                        criteria.getStatuses().size() == 2 && criteria.getStatuses().contains(Subscription.Status.PAUSED)
+                ),
+                any()
+            );
+    }
+
+    @Test
+    public void shouldCountGroupedByApplication() throws TechnicalException {
+        mockCount(criteria -> criteria.getApis() == null && criteria.getApplications().equals(Collections.singleton("app-1")), 5);
+        mockCount(criteria -> criteria.getApis() == null && criteria.getApplications().equals(Collections.singleton("app-2")), 1);
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApplications(asList("app-1", "app-2"));
+
+        Map<String, Long> counts = subscriptionService.countGroupedByApplication(query);
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(5), counts.get("app-1"));
+        assertEquals(Long.valueOf(1), counts.get("app-2"));
+    }
+
+    @Test
+    public void shouldCountGroupedByStatus() throws TechnicalException {
+        mockCount(criteria -> criteria.getStatuses().equals(Collections.singleton(Subscription.Status.ACCEPTED)), 7);
+        mockCount(criteria -> !criteria.getStatuses().equals(Collections.singleton(Subscription.Status.ACCEPTED)), 0);
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApi("api-1");
+
+        Map<SubscriptionStatus, Long> counts = subscriptionService.countGroupedByStatus(query);
+
+        assertEquals(Collections.singletonMap(SubscriptionStatus.ACCEPTED, 7L), counts);
+        verify(subscriptionRepository, times(Subscription.Status.values().length)).search(any(), any());
+    }
+
+    @Test
+    public void shouldCountGroupedByPlanFromSearchWhenPlansAreUnknown() throws TechnicalException {
+        when(subscriptionRepository.search(argThat((SubscriptionCriteria criteria) -> criteria.getApis().contains("api-1"))))
+            .thenReturn(asList(subscription("plan-1"), subscription("plan-2"), subscription("plan-1")));
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApi("api-1");
+
+        Map<String, Long> counts = subscriptionService.countGroupedByPlan(query);
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2), counts.get("plan-1"));
+        assertEquals(Long.valueOf(1), counts.get("plan-2"));
+        verify(subscriptionRepository, never()).search(any(), any());
+    }
+
+    @Test
+    public void shouldCountGroupedByApiWithSingleSearchAboveKeysLimit() throws TechnicalException {
+        List<String> apis = IntStream.range(0, 50).mapToObj(i -> "api-" + i).collect(Collectors.toList());
+        when(subscriptionRepository.search(argThat((SubscriptionCriteria criteria) -> criteria.getApis().size() == 50)))
+            .thenReturn(asList(subscription("api-1", "plan-1"), subscription("api-1", "plan-2"), subscription("api-7", "plan-3")));
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApis(apis);
+
+        Map<String, Long> counts = subscriptionService.countGroupedByApi(query);
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2), counts.get("api-1"));
+        assertEquals(Long.valueOf(1), counts.get("api-7"));
+        verify(subscriptionRepository, times(1)).search(any(SubscriptionCriteria.class));
+        verify(subscriptionRepository, never()).search(any(), any());
+    }
+
+    @Test
+    public void shouldCountGroupedByApplicationAboveKeysLimitWithoutConvertingSubscriptions() throws TechnicalException {
+        List<String> applications = IntStream.range(0, 12).mapToObj(i -> "app-" + i).collect(Collectors.toList());
+        Subscription first = mock(Subscription.class);
+        Subscription second = mock(Subscription.class);
+        Subscription third = mock(Subscription.class);
+        when(first.getApplication()).thenReturn("app-3");
+        when(second.getApplication()).thenReturn("app-11");
+        when(third.getApplication()).thenReturn("app-3");
+        when(
+            subscriptionRepository.search(
+                argThat(
+                    (SubscriptionCriteria criteria) ->
+                        criteria.getApplications().size() == 12 &&
+                        criteria.getStatuses().equals(Collections.singleton(Subscription.Status.ACCEPTED))
+                )
+            )
+        )
+            .thenReturn(asList(first, second, third));
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApplications(applications);
+        query.setStatuses(Collections.singleton(SubscriptionStatus.ACCEPTED));
+
+        Map<String, Long> counts = subscriptionService.countGroupedByApplication(query);
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2), counts.get("app-3"));
+        assertEquals(Long.valueOf(1), counts.get("app-11"));
+        verify(subscriptionRepository, times(1)).search(any(SubscriptionCriteria.class));
+        verify(subscriptionRepository, never()).search(any(), any());
+        // only the grouping key is read, subscriptions are not converted to entities
+        for (Subscription subscription : asList(first, second, third)) {
+            verify(subscription).getApplication();
+            verifyNoMoreInteractions(subscription);
+        }
+    }
+
+    private void mockCount(ArgumentMatcher<SubscriptionCriteria> criteria, long count) throws TechnicalException {
+        when(subscriptionRepository.search(argThat(c -> c != null && criteria.matches(c)), any()))
+            .thenReturn(new Page<>(Collections.emptyList(), 0, 0, count));
+    }
+
+    private Subscription subscription(String plan) {
+        return subscription("api-1", plan);
+    }
+
+    private Subscription subscription(String api, String plan) {
+        Subscription subscription = new Subscription();
+        subscription.setApi(api);
+        subscription.setPlan(plan);
+        subscription.setStatus(Subscription.Status.ACCEPTED);
+        return subscription;
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.rest.api.service;
 
 import static java.util.Collections.emptyList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -121,7 +122,7 @@ public class TaskServiceTest {
         memberships.add(m2);
         when(membershipService.getMembershipsByMemberAndReference(any(), any(), any())).thenReturn(memberships);
 
-        when(userService.search(any(UserCriteria.class), any())).thenReturn(new Page<>(emptyList(), 1, 0, 0));
+        when(userService.search(any(UserCriteria.class), any(), eq(false))).thenReturn(new Page<>(emptyList(), 1, 0, 0));
 
         taskService.findAll("user");
 
@@ -45,6 +45,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -625,4 +626,47 @@ public class ThemeServiceTest {
         assertNotNull(logo);
         assertTrue(logo instanceof InlinePictureEntity);
     }
+
+    @Test
+    public void shouldDecodeAssetsOnce() throws TechnicalException {
+        final Theme theme = mock(Theme.class);
+        when(theme.getId()).thenReturn(THEME_ID);
+        when(theme.getName()).thenReturn("NAME");
+        when(theme.isEnabled()).thenReturn(true);
+        when(theme.getUpdatedAt()).thenReturn(new Date());
+        when(theme.getDefinition()).thenReturn(themeServiceImpl.getDefaultDefinition());
+        when(theme.getLogo()).thenReturn(themeServiceImpl.getDefaultLogo());
+        when(themeRepository.findByReferenceIdAndReferenceType(GraviteeContext.getCurrentEnvironment(), ENVIRONMENT.name()))
+            .thenReturn(singleton(theme));
+
+        PictureEntity logo = themeService.getLogo(THEME_ID);
+        for (int i = 0; i < 10; i++) {
+            assertSame(logo, themeService.getLogo(THEME_ID));
+        }
+
+        assertTrue(logo instanceof InlinePictureEntity);
+        InlinePictureEntity inlineLogo = (InlinePictureEntity) logo;
+        assertEquals(DigestUtils.sha256Hex(inlineLogo.getContent()), inlineLogo.getHash());
+        // one read to identify the enabled theme, one to decode the logo
+        verify(themeRepository, times(2)).findByReferenceIdAndReferenceType(GraviteeContext.getCurrentEnvironment(), ENVIRONMENT.name());
+    }
+
+    @Test
+    public void shouldDecodeAssetsAgainAfterDelete() throws TechnicalException {
+        final Theme theme = mock(Theme.class);
+        when(theme.getId()).thenReturn(THEME_ID);
+        when(theme.getName()).thenReturn("NAME");
+        when(theme.isEnabled()).thenReturn(true);
+        when(theme.getDefinition()).thenReturn(themeServiceImpl.getDefaultDefinition());
+        when(theme.getLogo()).thenReturn(themeServiceImpl.getDefaultLogo());
+        when(themeRepository.findByReferenceIdAndReferenceType(GraviteeContext.getCurrentEnvironment(), ENVIRONMENT.name()))
+            .thenReturn(singleton(theme));
+        when(themeRepository.findById(THEME_ID)).thenReturn(of(theme));
+
+        PictureEntity logo = themeService.getLogo(THEME_ID);
+        themeService.delete(THEME_ID);
+
+        assertNotSame(logo, themeService.getLogo(THEME_ID));
+        verify(themeRepository, times(4)).findByReferenceIdAndReferenceType(GraviteeContext.getCurrentEnvironment(), ENVIRONMENT.name());
+    }
 }
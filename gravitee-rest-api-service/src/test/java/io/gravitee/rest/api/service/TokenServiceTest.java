@@ -41,6 +41,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Test;
@@ -172,6 +173,20 @@ public class TokenServiceTest {
         assertEquals("2", tokens.get(1).getId());
     }
 
+    @Test
+    public void shouldCountByUsers() throws TechnicalException {
+        final Token token2 = new Token();
+        token2.setId("2");
+        when(tokenRepository.findByReference(USER.name(), USER_ID)).thenReturn(asList(token, token2));
+        when(tokenRepository.findByReference(USER.name(), "user-without-token")).thenReturn(Collections.emptyList());
+
+        final Map<String, Integer> counts = tokenService.countByUsers(asList(USER_ID, "user-without-token", USER_ID));
+
+        assertEquals(Collections.singletonMap(USER_ID, 2), counts);
+        verify(tokenRepository, times(1)).findByReference(USER.name(), USER_ID);
+        verify(tokenRepository, never()).findAll();
+    }
+
     @Test
     public void shouldFindByToken() throws TechnicalException {
         when(tokenRepository.findAll()).thenReturn(newHashSet(token));
@@ -0,0 +1,223 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.rest.api.model.InstallationEntity;
+import io.gravitee.rest.api.service.impl.UpgraderServiceImpl;
+import java.util.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UpgraderServiceTest {
+
+    @InjectMocks
+    private UpgraderServiceImpl upgraderService = new UpgraderServiceImpl();
+
+    @Mock
+    private InstallationService installationService;
+
+    @Mock
+    private ReadinessService readinessService;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<String, String> additionalInformation = new HashMap<>();
+
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(upgraderService, "workers", 4);
+        upgraderService.setApplicationContext(applicationContext);
+        InstallationEntity installation = new InstallationEntity();
+        installation.setAdditionalInformation(additionalInformation);
+        when(installationService.getOrInitialize()).thenReturn(installation);
+    }
+
+    @Test
+    public void shouldRunUpgradersAfterTheirDependencies() throws Exception {
+        mockUpgraders(new FirstUpgrader(), new SecondUpgrader(), new ThirdUpgrader(), new IndependentUpgrader());
+
+        upgraderService.start();
+
+        assertEquals(4, completed.size());
+        assertTrue(completed.indexOf("first") < completed.indexOf("second"));
+        assertTrue(completed.indexOf("first") < completed.indexOf("third"));
+        assertTrue(completed.indexOf("second") < completed.indexOf("third"));
+        verify(installationService, never()).putAdditionalInformation(any(), any());
+        verify(readinessService).ready(ReadinessService.UPGRADERS);
+    }
+
+    @Test
+    public void shouldRecordAppliedVersion() throws Exception {
+        mockUpgraders(new VersionedUpgrader());
+
+        upgraderService.start();
+
+        assertEquals(Collections.singletonList("versioned"), completed);
+        verify(installationService).putAdditionalInformation("UPGRADER_VERSION_VersionedUpgrader", "2");
+    }
+
+    @Test
+    public void shouldSkipAppliedVersion() throws Exception {
+        additionalInformation.put("UPGRADER_VERSION_VersionedUpgrader", "2");
+        mockUpgraders(new VersionedUpgrader(), new SecondUpgrader());
+
+        upgraderService.start();
+
+        assertEquals(Collections.singletonList("second"), completed);
+        verify(installationService, never()).putAdditionalInformation(any(), any());
+    }
+
+    @Test
+    public void shouldRunUpgraderAgainIfVersionChanged() throws Exception {
+        additionalInformation.put("UPGRADER_VERSION_VersionedUpgrader", "1");
+        mockUpgraders(new VersionedUpgrader());
+
+        upgraderService.start();
+
+        assertEquals(Collections.singletonList("versioned"), completed);
+        verify(installationService).putAdditionalInformation("UPGRADER_VERSION_VersionedUpgrader", "2");
+    }
+
+    @Test
+    public void shouldNotRunDependentsOfFailedUpgrader() {
+        mockUpgraders(new FailingUpgrader(), new SecondUpgrader(), new ThirdUpgrader());
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> upgraderService.start());
+
+        assertEquals("failure", exception.getMessage());
+        assertFalse(completed.contains("second"));
+        assertFalse(completed.contains("third"));
+        verify(readinessService, never()).ready(any());
+    }
+
+    private void mockUpgraders(Upgrader... upgraders) {
+        Map<String, Upgrader> beans = new LinkedHashMap<>();
+        Arrays.stream(upgraders).forEach(upgrader -> beans.put(upgrader.getClass().getName(), upgrader));
+        when(applicationContext.getBeansOfType(Upgrader.class)).thenReturn(beans);
+    }
+
+    private abstract class TestUpgrader implements Upgrader {
+
+        private final String name;
+        private final int order;
+
+        TestUpgrader(String name, int order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        @Override
+        public boolean upgrade() {
+            completed.add(name);
+            return true;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+
+    private class FirstUpgrader extends TestUpgrader {
+
+        FirstUpgrader() {
+            super("first", 100);
+        }
+
+        @Override
+        public boolean upgrade() {
+            try {
+                // Leaves time to the upgraders which would not wait for this one
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.upgrade();
+        }
+    }
+
+    private class SecondUpgrader extends TestUpgrader {
+
+        SecondUpgrader() {
+            super("second", 200);
+        }
+    }
+
+    private class ThirdUpgrader extends TestUpgrader {
+
+        ThirdUpgrader() {
+            super("third", 200);
+        }
+
+        @Override
+        public Set<Class<? extends Upgrader>> getDependencies() {
+            return Collections.singleton(SecondUpgrader.class);
+        }
+    }
+
+    private class IndependentUpgrader extends TestUpgrader {
+
+        IndependentUpgrader() {
+            super("independent", 300);
+        }
+
+        @Override
+        public Set<Class<? extends Upgrader>> getDependencies() {
+            return Collections.emptySet();
+        }
+    }
+
+    private class VersionedUpgrader extends TestUpgrader {
+
+        VersionedUpgrader() {
+            super("versioned", 100);
+        }
+
+        @Override
+        public String getVersion() {
+            return "2";
+        }
+    }
+
+    private class FailingUpgrader extends TestUpgrader {
+
+        FailingUpgrader() {
+            super("failing", 100);
+        }
+
+        @Override
+        public boolean upgrade() {
+            throw new IllegalStateException("failure");
+        }
+    }
+}
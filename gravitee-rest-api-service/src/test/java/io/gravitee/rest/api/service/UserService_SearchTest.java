@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.UserRepository;
+import io.gravitee.repository.management.api.search.UserCriteria;
+import io.gravitee.repository.management.model.User;
+import io.gravitee.repository.management.model.UserStatus;
+import io.gravitee.rest.api.model.MembershipEntity;
+import io.gravitee.rest.api.model.MembershipMemberType;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.RoleEntity;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.service.impl.UserServiceImpl;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UserService_SearchTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    @InjectMocks
+    private UserServiceImpl userService = new UserServiceImpl();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private TokenService tokenService;
+
+    private List<User> users;
+
+    @Before
+    public void setUp() throws Exception {
+        users =
+            IntStream
+                .range(0, PAGE_SIZE)
+                .mapToObj(
+                    i -> {
+                        User user = new User();
+                        user.setId("user-" + i);
+                        user.setStatus(UserStatus.ACTIVE);
+                        return user;
+                    }
+                )
+                .collect(Collectors.toList());
+
+        when(userRepository.search(any(UserCriteria.class), any())).thenReturn(new Page<>(users, 0, PAGE_SIZE, PAGE_SIZE * 10));
+    }
+
+    @Test
+    public void shouldPopulateFlagsWithBulkQueries() {
+        RoleEntity apiPORole = role("API_PRIMARY_OWNER");
+        RoleEntity appPORole = role("APPLICATION_PRIMARY_OWNER");
+        when(roleService.findPrimaryOwnerRoleByOrganization(any(), eq(RoleScope.API))).thenReturn(apiPORole);
+        when(roleService.findPrimaryOwnerRoleByOrganization(any(), eq(RoleScope.APPLICATION))).thenReturn(appPORole);
+
+        when(
+            membershipService.getMembershipsByMembersAndReference(eq(MembershipMemberType.USER), anyList(), eq(MembershipReferenceType.API))
+        )
+            .thenReturn(new HashSet<>(Arrays.asList(membership("user-1", "API_PRIMARY_OWNER"), membership("user-2", "API_OWNER"))));
+        when(
+            membershipService.getMembershipsByMembersAndReference(
+                eq(MembershipMemberType.USER),
+                anyList(),
+                eq(MembershipReferenceType.APPLICATION)
+            )
+        )
+            .thenReturn(Collections.singleton(membership("user-3", "APPLICATION_PRIMARY_OWNER")));
+        when(tokenService.countByUsers(anyCollection())).thenReturn(Collections.singletonMap("user-4", 2));
+
+        final Page<UserEntity> page = userService.search(new UserCriteria.Builder().build(), new PageableImpl(1, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        final Map<String, UserEntity> byId = page.getContent().stream().collect(Collectors.toMap(UserEntity::getId, u -> u));
+        assertTrue(byId.get("user-1").isPrimaryOwner());
+        assertFalse(byId.get("user-2").isPrimaryOwner());
+        assertTrue(byId.get("user-3").isPrimaryOwner());
+        assertFalse(byId.get("user-4").isPrimaryOwner());
+        assertEquals(2, byId.get("user-4").getNbActiveTokens());
+        assertEquals(0, byId.get("user-1").getNbActiveTokens());
+
+        verify(membershipService, times(2)).getMembershipsByMembersAndReference(any(), anyList(), any());
+        verify(membershipService, never()).getMembershipsByMemberAndReferenceAndRole(any(), any(), any(), any());
+        verify(tokenService, times(1)).countByUsers(anyCollection());
+        verify(tokenService, never()).findByUser(any());
+    }
+
+    @Test
+    public void shouldSkipFlags() {
+        final Page<UserEntity> page = userService.search(new UserCriteria.Builder().build(), new PageableImpl(1, PAGE_SIZE), false);
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        verifyZeroInteractions(roleService, membershipService, tokenService);
+    }
+
+    private RoleEntity role(String id) {
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+        return role;
+    }
+
+    private MembershipEntity membership(String memberId, String roleId) {
+        MembershipEntity membership = new MembershipEntity();
+        membership.setMemberId(memberId);
+        membership.setRoleId(roleId);
+        membership.setId(memberId + "-" + roleId);
+        return membership;
+    }
+}
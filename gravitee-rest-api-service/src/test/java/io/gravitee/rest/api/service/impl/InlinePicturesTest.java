@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class InlinePicturesTest {
+
+    @Test
+    public void shouldDecodeDataUri() {
+        InlinePictureEntity picture = InlinePictures.decode(dataUri("content"), "api:decode:picture", new Date(1));
+
+        assertEquals("image/png", picture.getType());
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), picture.getContent());
+        assertEquals(DigestUtils.sha256Hex("content"), picture.getHash());
+    }
+
+    @Test
+    public void shouldKeepDigestForTheSameEntityVersion() {
+        Date updatedAt = new Date(1);
+        String digest = InlinePictures.decode(dataUri("content-1"), "api:version:picture", updatedAt).getHash();
+
+        // content of the same length for the same version is considered as unchanged
+        assertEquals(digest, InlinePictures.decode(dataUri("content-2"), "api:version:picture", updatedAt).getHash());
+        assertNotEquals(digest, InlinePictures.decode(dataUri("content-2"), "api:version:picture", new Date(2)).getHash());
+        assertNotEquals(digest, InlinePictures.decode(dataUri("content-2"), "api:other:picture", updatedAt).getHash());
+    }
+
+    @Test
+    public void shouldComputeDigestWithoutEntityVersion() {
+        assertEquals(DigestUtils.sha256Hex("content"), InlinePictures.decode(dataUri("content"), null, null).getHash());
+    }
+
+    private String dataUri(String content) {
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
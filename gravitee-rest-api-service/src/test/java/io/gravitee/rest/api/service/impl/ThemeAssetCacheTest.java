@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import static org.junit.Assert.*;
+
+import io.gravitee.rest.api.model.InlinePictureEntity;
+import io.gravitee.rest.api.model.PictureEntity;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ThemeAssetCacheTest {
+
+    private final AtomicInteger versionChecks = new AtomicInteger();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicReference<String> version = new AtomicReference<>("theme:1");
+
+    @Test
+    public void shouldNotCheckVersionDuringCheckInterval() {
+        ThemeAssetCache cache = new ThemeAssetCache(10, Duration.ofMinutes(1));
+
+        PictureEntity first = get(cache, "DEFAULT", "logo");
+        version.set("theme:2");
+        PictureEntity second = get(cache, "DEFAULT", "logo");
+
+        assertSame(first, second);
+        assertEquals(1, versionChecks.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldReloadWhenVersionChanges() {
+        ThemeAssetCache cache = new ThemeAssetCache(10, Duration.ZERO);
+
+        PictureEntity first = get(cache, "DEFAULT", "logo");
+        PictureEntity unchanged = get(cache, "DEFAULT", "logo");
+        version.set("theme:2");
+        PictureEntity changed = get(cache, "DEFAULT", "logo");
+
+        assertSame(first, unchanged);
+        assertNotSame(first, changed);
+        assertEquals(3, versionChecks.get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldKeepMissingAssetsAndEnvironmentsApart() {
+        ThemeAssetCache cache = new ThemeAssetCache(10, Duration.ofMinutes(1));
+
+        assertNull(cache.get("DEFAULT", "backgroundImage", this::version, () -> load(null)));
+        assertNull(cache.get("DEFAULT", "backgroundImage", this::version, () -> load(null)));
+        get(cache, "DEFAULT", "logo");
+        get(cache, "OTHER", "logo");
+
+        assertEquals(2, versionChecks.get());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void shouldReloadAfterInvalidation() {
+        ThemeAssetCache cache = new ThemeAssetCache(10, Duration.ofMinutes(1));
+
+        PictureEntity first = get(cache, "DEFAULT", "logo");
+        cache.invalidate("DEFAULT");
+        PictureEntity second = get(cache, "DEFAULT", "logo");
+
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+    }
+
+    private PictureEntity get(ThemeAssetCache cache, String environment, String asset) {
+        return cache.get(environment, asset, this::version, () -> load(new InlinePictureEntity()));
+    }
+
+    private String version() {
+        versionChecks.incrementAndGet();
+        return version.get();
+    }
+
+    private PictureEntity load(PictureEntity picture) {
+        loads.incrementAndGet();
+        return picture;
+    }
+}
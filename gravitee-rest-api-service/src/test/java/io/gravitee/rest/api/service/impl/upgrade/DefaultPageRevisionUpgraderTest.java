@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.upgrade;
+
+import static io.gravitee.rest.api.service.InstallationService.UPGRADER_CHECKPOINT_PREFIX;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.rest.api.model.InstallationEntity;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageRevisionEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.model.common.Pageable;
+import io.gravitee.rest.api.service.InstallationService;
+import io.gravitee.rest.api.service.PageRevisionService;
+import io.gravitee.rest.api.service.PageService;
+import java.util.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultPageRevisionUpgraderTest {
+
+    private static final String CHECKPOINT = UPGRADER_CHECKPOINT_PREFIX + "DefaultPageRevisionUpgrader";
+
+    @InjectMocks
+    private DefaultPageRevisionUpgrader upgrader = new DefaultPageRevisionUpgrader();
+
+    @Mock
+    private PageService pageService;
+
+    @Mock
+    private PageRevisionService pageRevisionService;
+
+    @Mock
+    private InstallationService installationService;
+
+    private final Map<String, String> additionalInformation = new HashMap<>();
+
+    @Before
+    public void init() {
+        InstallationEntity installation = new InstallationEntity();
+        installation.setAdditionalInformation(additionalInformation);
+        when(installationService.getOrInitialize()).thenReturn(installation);
+        lenient().when(pageService.shouldHaveRevision(PageType.MARKDOWN.name())).thenReturn(true);
+    }
+
+    @Test
+    public void shouldCreateRevisionsByBatch() {
+        when(pageRevisionService.findAll(any())).thenReturn(new Page<>(Collections.emptyList(), 0, 0, 0));
+        mockPages(0, page("page-1"), page("page-2"));
+        mockPages(1, page("page-3"));
+        mockPages(2);
+
+        assertTrue(upgrader.upgrade());
+
+        InOrder inOrder = inOrder(installationService, pageRevisionService);
+        inOrder.verify(installationService).putAdditionalInformation(CHECKPOINT, "0");
+        inOrder.verify(pageRevisionService, times(2)).create(any());
+        inOrder.verify(installationService).putAdditionalInformation(CHECKPOINT, "1");
+        inOrder.verify(pageRevisionService).create(argThat(page -> "page-3".equals(page.getId())));
+        inOrder.verify(installationService).putAdditionalInformation(CHECKPOINT, "2");
+        inOrder.verify(installationService).putAdditionalInformation(CHECKPOINT, "3");
+        inOrder.verify(installationService).putAdditionalInformation(eq(CHECKPOINT), isNull());
+        verify(pageRevisionService, never()).findLastByPageId(any());
+    }
+
+    @Test
+    public void shouldResumeFirstBatchFromCheckpoint() {
+        // Interrupted during the first batch: some revisions exist, but the checkpoint is still there
+        additionalInformation.put(CHECKPOINT, "0");
+        mockPages(0, page("page-1"), page("page-2"));
+        mockPages(1);
+        when(pageRevisionService.findLastByPageId("page-1")).thenReturn(Optional.of(new PageRevisionEntity()));
+        when(pageRevisionService.findLastByPageId("page-2")).thenReturn(Optional.empty());
+
+        assertTrue(upgrader.upgrade());
+
+        verify(pageRevisionService, never()).findAll(any());
+        verify(pageRevisionService).create(argThat(page -> "page-2".equals(page.getId())));
+        verify(pageRevisionService, times(1)).create(any());
+        verify(installationService).putAdditionalInformation(eq(CHECKPOINT), isNull());
+    }
+
+    @Test
+    public void shouldOnlySkipRevisedPagesOfTheResumedBatch() {
+        additionalInformation.put(CHECKPOINT, "1");
+        mockPages(1, page("page-3"));
+        mockPages(2, page("page-4"));
+        mockPages(3);
+        when(pageRevisionService.findLastByPageId("page-3")).thenReturn(Optional.empty());
+
+        assertTrue(upgrader.upgrade());
+
+        verify(pageService, never()).findAll(argThat(pageable -> pageable.getPageNumber() == 0));
+        verify(pageRevisionService, times(1)).findLastByPageId(any());
+        verify(pageRevisionService, times(2)).create(any());
+    }
+
+    @Test
+    public void shouldNotCreateRevisionsIfSomeExist() {
+        when(pageRevisionService.findAll(any())).thenReturn(new Page<>(Collections.singletonList(new PageRevisionEntity()), 0, 1, 1));
+
+        assertTrue(upgrader.upgrade());
+
+        verify(pageService, never()).findAll(any(Pageable.class));
+        verify(installationService, never()).putAdditionalInformation(any(), any());
+    }
+
+    private void mockPages(int pageNumber, PageEntity... pages) {
+        when(pageService.findAll(argThat((Pageable pageable) -> pageable != null && pageable.getPageNumber() == pageNumber)))
+            .thenReturn(new Page<>(Arrays.asList(pages), pageNumber, pages.length, pages.length));
+    }
+
+    private PageEntity page(String id) {
+        PageEntity page = new PageEntity();
+        page.setId(id);
+        page.setType(PageType.MARKDOWN.name());
+        return page;
+    }
+}
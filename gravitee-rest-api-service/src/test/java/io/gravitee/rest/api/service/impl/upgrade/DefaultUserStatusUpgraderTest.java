@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl.upgrade;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.search.UserCriteria;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.service.UserService;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultUserStatusUpgraderTest {
+
+    @InjectMocks
+    private DefaultUserStatusUpgrader upgrader = new DefaultUserStatusUpgrader();
+
+    @Mock
+    private UserService userService;
+
+    @Test
+    public void shouldUpdateUsersByBatchUntilNoneIsLeft() {
+        when(userService.search(any(UserCriteria.class), any(), eq(false)))
+            .thenReturn(users("first-", 100))
+            .thenReturn(users("second-", 3));
+
+        assertTrue(upgrader.upgrade());
+
+        // Updated users leave the results, so the first page is read each time
+        verify(userService, times(2)).search(any(UserCriteria.class), argThat(pageable -> pageable.getPageNumber() == 1), eq(false));
+        verify(userService, times(103)).update(any(), argThat(user -> "ACTIVE".equals(user.getStatus())));
+    }
+
+    @Test
+    public void shouldStopWhenBatchIsNotFull() {
+        Page<UserEntity> users = users("user-", 3);
+        users.getContent().get(0).setStatus("ACTIVE");
+        when(userService.search(any(UserCriteria.class), any(), eq(false))).thenReturn(users);
+
+        assertTrue(upgrader.upgrade());
+
+        verify(userService, times(1)).search(any(UserCriteria.class), any(), eq(false));
+        verify(userService, never()).update(eq("user-0"), any());
+        verify(userService, times(2)).update(any(), any());
+    }
+
+    @Test
+    public void shouldNotUpdateWithoutUsers() {
+        when(userService.search(any(UserCriteria.class), any(), eq(false))).thenReturn(new Page<>(Collections.emptyList(), 1, 0, 0));
+
+        assertTrue(upgrader.upgrade());
+
+        verify(userService, never()).update(any(), any());
+    }
+
+    private Page<UserEntity> users(String prefix, int count) {
+        List<UserEntity> users = IntStream
+            .range(0, count)
+            .mapToObj(
+                i -> {
+                    UserEntity user = new UserEntity();
+                    user.setId(prefix + i);
+                    return user;
+                }
+            )
+            .collect(Collectors.toList());
+        return new Page<>(users, 1, count, count);
+    }
+}
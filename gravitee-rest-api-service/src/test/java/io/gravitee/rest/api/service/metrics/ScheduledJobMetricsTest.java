@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.metrics;
+
+import static org.junit.Assert.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ScheduledJobMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ScheduledJobMetrics scheduledJobMetrics;
+
+    @Before
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        scheduledJobMetrics = new ScheduledJobMetrics(registry);
+    }
+
+    @Test
+    public void shouldTimeSuccessfulRuns() {
+        Runnable task = scheduledJobMetrics.timed("sync", () -> {});
+
+        task.run();
+        task.run();
+
+        Timer timer = registry.get(ScheduledJobMetrics.METRIC_NAME).tag("job", "sync").tag("outcome", "success").timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    public void shouldTimeFailedRuns() {
+        Runnable task = scheduledJobMetrics.timed(
+            "sync",
+            () -> {
+                throw new IllegalStateException();
+            }
+        );
+
+        try {
+            task.run();
+            fail("The failure of the task must be propagated");
+        } catch (IllegalStateException ise) {
+            // expected
+        }
+
+        Timer timer = registry.get(ScheduledJobMetrics.METRIC_NAME).tag("job", "sync").tag("outcome", "failure").timer();
+        assertEquals(1, timer.count());
+    }
+}
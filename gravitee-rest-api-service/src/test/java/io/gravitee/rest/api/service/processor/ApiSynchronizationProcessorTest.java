@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.processor;
+
+import static org.junit.Assert.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.definition.model.Api;
+import io.gravitee.definition.model.DefinitionVersion;
+import io.gravitee.definition.model.Policy;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.Rule;
+import io.gravitee.definition.model.VirtualHost;
+import java.util.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ApiSynchronizationProcessorTest {
+
+    private final ApiSynchronizationProcessor apiSynchronizationProcessor = new ApiSynchronizationProcessor();
+
+    private final ObjectMapper objectMapper = new GraviteeMapper();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(apiSynchronizationProcessor, "objectMapper", objectMapper);
+    }
+
+    @Test
+    public void shouldHaveSameFingerprint_SameApi() throws Exception {
+        String deployedApi = definition(api("/echo", "my rule"));
+        String apiToDeploy = definition(api("/echo", "my rule"));
+
+        assertNotNull(apiSynchronizationProcessor.computeDeploymentFingerprint(deployedApi));
+        assertEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(deployedApi),
+            apiSynchronizationProcessor.computeDeploymentFingerprint(apiToDeploy)
+        );
+    }
+
+    @Test
+    public void shouldHaveSameFingerprint_OnlyNonDeploymentFieldsChanged() throws Exception {
+        Api deployedApi = api("/echo", "my rule");
+        Api apiToDeploy = api("/echo", "my rule");
+        apiToDeploy.setName("another name");
+        apiToDeploy.setVersion("2");
+
+        assertEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(deployedApi)),
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(apiToDeploy))
+        );
+    }
+
+    @Test
+    public void shouldHaveSameFingerprint_OnlyFieldOrderChanged() throws Exception {
+        String deployedApi = definition(api("/echo", "my rule"));
+
+        ObjectNode reordered = objectMapper.createObjectNode();
+        List<String> fields = new ArrayList<>();
+        objectMapper.readTree(deployedApi).fieldNames().forEachRemaining(fields::add);
+        Collections.reverse(fields);
+        fields.forEach(field -> reordered.set(field, ((ObjectNode) readTree(deployedApi)).get(field)));
+
+        assertEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(deployedApi),
+            apiSynchronizationProcessor.computeDeploymentFingerprint(objectMapper.writeValueAsString(reordered))
+        );
+    }
+
+    @Test
+    public void shouldHaveSameFingerprint_OnlyPolicyDescriptionChanged() throws Exception {
+        assertEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(api("/echo", "my rule"))),
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(api("/echo", "my updated rule")))
+        );
+    }
+
+    @Test
+    public void shouldHaveDifferentFingerprint_ProxyChanged() throws Exception {
+        assertNotEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(api("/echo", "my rule"))),
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(api("/echo-v2", "my rule")))
+        );
+    }
+
+    @Test
+    public void shouldHaveDifferentFingerprint_TagsChanged() throws Exception {
+        Api deployedApi = api("/echo", "my rule");
+        Api apiToDeploy = api("/echo", "my rule");
+        apiToDeploy.setTags(Collections.singleton("internal"));
+
+        assertNotEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(deployedApi)),
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(apiToDeploy))
+        );
+    }
+
+    @Test
+    public void shouldHaveDifferentFingerprint_PolicyConfigurationChanged() throws Exception {
+        Api deployedApi = api("/echo", "my rule");
+        Api apiToDeploy = api("/echo", "my rule");
+        apiToDeploy.getPaths().get("/").get(0).getPolicy().setConfiguration("{\"limit\":20}");
+
+        assertNotEquals(
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(deployedApi)),
+            apiSynchronizationProcessor.computeDeploymentFingerprint(definition(apiToDeploy))
+        );
+    }
+
+    @Test
+    public void shouldNotHaveFingerprintWithoutDefinition() {
+        assertNull(apiSynchronizationProcessor.computeDeploymentFingerprint(null));
+    }
+
+    private String definition(Api api) throws Exception {
+        return objectMapper.writeValueAsString(api);
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Api api(String contextPath, String ruleDescription) {
+        Api api = new Api();
+        api.setId("api-id");
+        api.setName("my api");
+        api.setVersion("1");
+        api.setDefinitionVersion(DefinitionVersion.V1);
+
+        Proxy proxy = new Proxy();
+        proxy.setVirtualHosts(Collections.singletonList(new VirtualHost(contextPath)));
+        api.setProxy(proxy);
+
+        Policy policy = new Policy();
+        policy.setName("rate-limit");
+        policy.setConfiguration("{\"limit\":10}");
+        Rule rule = new Rule();
+        rule.setPolicy(policy);
+        rule.setDescription(ruleDescription);
+        Map<String, List<Rule>> paths = new HashMap<>();
+        paths.put("/", new ArrayList<>(Collections.singletonList(rule)));
+        api.setPaths(paths);
+
+        return api;
+    }
+}
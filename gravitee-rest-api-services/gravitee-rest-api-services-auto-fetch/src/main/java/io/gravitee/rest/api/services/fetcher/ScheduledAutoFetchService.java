@@ -18,6 +18,7 @@ package io.gravitee.rest.api.services.fetcher;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.metrics.ScheduledJobMetrics;
 import io.gravitee.rest.api.services.fetcher.spring.AutoFetchConfiguration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicLong;
@@ -38,6 +39,9 @@ public class ScheduledAutoFetchService extends AbstractService implements Runnab
     @Autowired
     private TaskScheduler scheduler;
 
+    @Autowired
+    private ScheduledJobMetrics scheduledJobMetrics;
+
     @Autowired
     private AutoFetchConfiguration configuration;
 
@@ -56,7 +60,7 @@ public class ScheduledAutoFetchService extends AbstractService implements Runnab
         if (configuration.isEnabled()) {
             super.doStart();
             LOGGER.info("Auto Fetch service has been initialized with cron [{}]", configuration.getCronTrigger());
-            scheduler.schedule(this, new CronTrigger(configuration.getCronTrigger()));
+            scheduler.schedule(scheduledJobMetrics.timed("auto_fetch", this), new CronTrigger(configuration.getCronTrigger()));
         } else {
             LOGGER.warn("Auto Fetch service has been disabled");
         }
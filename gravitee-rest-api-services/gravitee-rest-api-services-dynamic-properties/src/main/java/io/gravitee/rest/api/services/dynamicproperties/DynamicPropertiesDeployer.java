@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import io.gravitee.rest.api.model.EventType;
+import io.gravitee.rest.api.model.api.ApiDeploymentEntity;
+import io.gravitee.rest.api.service.ApiService;
+import io.vertx.core.Vertx;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Deploy the APIs updated by the dynamic properties pollers.
+ *
+ * Deployments are not done right away but are collected during a short delay so that APIs changing at the same time
+ * are deployed together, and an API updated several times during that delay is deployed only once.
+ *
+ * Each pending API comes with the update date the poller left it with. If the API has been updated by someone else in
+ * the meantime, it is not deployed, to not publish these changes along with the dynamic properties.
+ *
+ * @author GraviteeSource Team
+ */
+public class DynamicPropertiesDeployer {
+
+    private static final String DEPLOYMENT_LABEL = "Dynamic properties sync";
+    private static final String DEPLOYMENT_USER = "dynamic-property-updater";
+
+    private final Logger logger = LoggerFactory.getLogger(DynamicPropertiesDeployer.class);
+
+    private final Vertx vertx;
+    private final ApiService apiService;
+    private final long delay;
+
+    private final Map<String, Date> pendingApis = new HashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public DynamicPropertiesDeployer(Vertx vertx, ApiService apiService, long delay) {
+        this.vertx = vertx;
+        this.apiService = apiService;
+        this.delay = delay;
+    }
+
+    public void deploy(String apiId, Date updatedAt) {
+        synchronized (pendingApis) {
+            pendingApis.put(apiId, updatedAt);
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            vertx.setTimer(
+                Math.max(delay, 1),
+                timerId ->
+                    vertx.executeBlocking(
+                        promise -> {
+                            flush();
+                            promise.complete();
+                        },
+                        false,
+                        null
+                    )
+            );
+        }
+    }
+
+    /**
+     * Whether a deployment of the API is already waiting, for the API as it was left at the given update date.
+     */
+    public boolean isPending(String apiId, Date updatedAt) {
+        synchronized (pendingApis) {
+            return pendingApis.containsKey(apiId) && Objects.equals(pendingApis.get(apiId), updatedAt);
+        }
+    }
+
+    void flush() {
+        flushScheduled.set(false);
+
+        final Map<String, Date> apis;
+        synchronized (pendingApis) {
+            apis = new HashMap<>(pendingApis);
+            pendingApis.clear();
+        }
+        if (apis.isEmpty()) {
+            return;
+        }
+
+        final long start = System.currentTimeMillis();
+        int deployed = 0;
+        try {
+            DynamicPropertyUpdater.authenticateAsAdmin();
+            for (Map.Entry<String, Date> api : apis.entrySet()) {
+                final String apiId = api.getKey();
+                try {
+                    if (!Objects.equals(apiService.findById(apiId).getUpdatedAt(), api.getValue())) {
+                        logger.debug("[{}] API updated since its dynamic properties changed, skipping deployment", apiId);
+                        continue;
+                    }
+                    ApiDeploymentEntity deployEntity = new ApiDeploymentEntity();
+                    deployEntity.setDeploymentLabel(DEPLOYMENT_LABEL);
+                    apiService.deploy(apiId, DEPLOYMENT_USER, EventType.PUBLISH_API, deployEntity);
+                    deployed++;
+                } catch (RuntimeException e) {
+                    logger.error("[{}] Unexpected error while deploying dynamic properties", apiId, e);
+                }
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        logger.debug("{} APIs deployed over {} in {} ms", deployed, apis.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -28,11 +28,12 @@ import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.event.ApiEvent;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpProvider;
 import io.vertx.core.Vertx;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 /**
  * @author Alexandre FARIA (lusoalex on github.com)
@@ -56,7 +57,15 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     @Autowired
     private Node node;
 
-    private final Map<ApiEntity, CronHandler> handlers = new HashMap<>();
+    @Value("${services.dynamic_properties.deploy_delay:1000}")
+    private long deployDelay;
+
+    /**
+     * Handlers by API id, updated from both the event manager and the updaters.
+     */
+    private final Map<String, CronHandler> handlers = new ConcurrentHashMap<>();
+
+    private DynamicPropertiesDeployer deployer;
 
     @Override
     protected String name() {
@@ -67,12 +76,16 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     protected void doStart() throws Exception {
         super.doStart();
 
+        deployer = new DynamicPropertiesDeployer(vertx, apiService, deployDelay);
         eventManager.subscribeForEvents(this, ApiEvent.class);
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+
+        handlers.values().forEach(CronHandler::cancel);
+        handlers.clear();
     }
 
     @Override
@@ -106,13 +119,17 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
 
                     updater.setProvider(provider);
                     updater.setApiService(apiService);
+                    updater.setDeployer(deployer);
                     logger.info("Add a scheduled task to poll dynamic properties each {}", dynamicPropertyService.getSchedule());
 
                     // Force the first refresh, and then run it periodically
                     updater.handle(null);
                     CronHandler cronHandler = new CronHandler(vertx, dynamicPropertyService.getSchedule());
                     cronHandler.schedule(updater);
-                    handlers.put(api, cronHandler);
+                    CronHandler previousHandler = handlers.put(api.getId(), cronHandler);
+                    if (previousHandler != null) {
+                        previousHandler.cancel();
+                    }
                 }
             } else {
                 logger.info("Dynamic properties service is disabled for: {} [{}]", api.getName(), api.getVersion());
@@ -121,7 +138,7 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     }
 
     private void stopDynamicProperties(ApiEntity api) {
-        CronHandler handler = handlers.remove(api);
+        CronHandler handler = handlers.remove(api.getId());
         if (handler != null) {
             logger.info("Stop Dynamic properties service for API id[{}] name[{}]", api.getId(), api.getName());
             handler.cancel();
@@ -18,8 +18,6 @@ package io.gravitee.rest.api.services.dynamicproperties;
 import io.gravitee.definition.model.Properties;
 import io.gravitee.definition.model.Property;
 import io.gravitee.rest.api.idp.api.authentication.UserDetails;
-import io.gravitee.rest.api.model.EventType;
-import io.gravitee.rest.api.model.api.ApiDeploymentEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
@@ -28,6 +26,7 @@ import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
 import io.vertx.core.Handler;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,12 +47,24 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     private ApiEntity api;
     private Provider provider;
     private ApiService apiService;
+    private DynamicPropertiesDeployer deployer;
+
+    /**
+     * Dynamic properties (key / value) as they were returned by the last successfully applied poll.
+     */
+    private volatile Map<String, String> lastAppliedProperties;
+
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong unchangedPolls = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastPollDuration;
 
     public DynamicPropertyUpdater(final ApiEntity api) {
         this.api = api;
     }
 
-    private void authenticateAsAdmin() {
+    static void authenticateAsAdmin() {
         SecurityContextHolder.setContext(
             new SecurityContext() {
                 @Override
@@ -103,26 +114,64 @@ public class DynamicPropertyUpdater implements Handler<Long> {
     @Override
     public void handle(Long event) {
         logger.debug("Running dynamic-properties poller for {}", api);
-        authenticateAsAdmin();
+        final long start = System.currentTimeMillis();
+        polls.incrementAndGet();
 
         provider
             .get()
             .whenComplete(
                 (dynamicProperties, throwable) -> {
-                    if (throwable != null) {
-                        logger.error(
-                            "[{}] Unexpected error while getting dynamic properties from provider: {}",
+                    try {
+                        if (throwable != null) {
+                            failures.incrementAndGet();
+                            logger.error(
+                                "[{}] Unexpected error while getting dynamic properties from provider: {}",
+                                api.getId(),
+                                provider.name(),
+                                throwable
+                            );
+                        } else if (dynamicProperties != null) {
+                            handle(dynamicProperties);
+                        }
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                        logger.error("[{}] Unexpected error while updating dynamic properties", api.getId(), e);
+                    } finally {
+                        lastPollDuration = System.currentTimeMillis() - start;
+                        logger.debug(
+                            "[{}] Dynamic properties polled in {} ms (polls: {}, unchanged: {}, updates: {}, failures: {})",
                             api.getId(),
-                            provider.name(),
-                            throwable
+                            lastPollDuration,
+                            polls.get(),
+                            unchangedPolls.get(),
+                            updates.get(),
+                            failures.get()
                         );
-                    } else if (dynamicProperties != null) {
-                        update(dynamicProperties);
                     }
                 }
             );
     }
 
+    private void handle(Collection<DynamicProperty> dynamicProperties) {
+        final Map<String, String> fetchedProperties = new TreeMap<>();
+        dynamicProperties.forEach(property -> fetchedProperties.put(property.getKey(), property.getValue()));
+
+        // Nothing to do if the provider returns the same properties as the ones already applied
+        if (fetchedProperties.equals(lastAppliedProperties)) {
+            unchangedPolls.incrementAndGet();
+            return;
+        }
+
+        try {
+            authenticateAsAdmin();
+            update(dynamicProperties);
+            lastAppliedProperties = fetchedProperties;
+        } finally {
+            // The poller runs on shared worker threads which must not keep the admin authentication
+            SecurityContextHolder.clearContext();
+        }
+    }
+
     private void update(Collection<DynamicProperty> dynamicProperties) {
         // Get latest changes
         ApiEntity latestApi = apiService.findById(api.getId());
@@ -165,18 +214,18 @@ public class DynamicPropertyUpdater implements Handler<Long> {
             }
             latestApi.setProperties(apiProperties);
 
-            boolean isSync = apiService.isSynchronized(api.getId());
+            // An API waiting for the deployment of its previous dynamic properties is out of sync because of them only
+            boolean isSync = deployer.isPending(latestApi.getId(), latestApi.getUpdatedAt()) || apiService.isSynchronized(api.getId());
 
             // Update API
-            apiService.update(latestApi.getId(), ApiService.convert(latestApi));
+            ApiEntity updatedApi = apiService.update(latestApi.getId(), ApiService.convert(latestApi));
+            updates.incrementAndGet();
 
             // Do not deploy if there are manual changes to push
             if (isSync) {
                 // Publish API only in case of changes
                 if (!updatedProperties.containsAll(properties) || !properties.containsAll(updatedProperties)) {
-                    ApiDeploymentEntity deployEntity = new ApiDeploymentEntity();
-                    deployEntity.setDeploymentLabel("Dynamic properties sync");
-                    apiService.deploy(latestApi.getId(), "dynamic-property-updater", EventType.PUBLISH_API, deployEntity);
+                    deployer.deploy(latestApi.getId(), updatedApi.getUpdatedAt());
                 }
             }
         }
@@ -186,6 +235,30 @@ public class DynamicPropertyUpdater implements Handler<Long> {
         this.apiService = apiService;
     }
 
+    public void setDeployer(DynamicPropertiesDeployer deployer) {
+        this.deployer = deployer;
+    }
+
+    public long getPolls() {
+        return polls.get();
+    }
+
+    public long getUnchangedPolls() {
+        return unchangedPolls.get();
+    }
+
+    public long getUpdates() {
+        return updates.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getLastPollDuration() {
+        return lastPollDuration;
+    }
+
     public void setProvider(Provider provider) {
         this.provider = provider;
     }
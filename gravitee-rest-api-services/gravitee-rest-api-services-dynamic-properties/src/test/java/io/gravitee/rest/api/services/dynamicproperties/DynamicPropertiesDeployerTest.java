@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import io.gravitee.rest.api.model.EventType;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.ApiService;
+import io.vertx.core.Vertx;
+import java.util.Date;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DynamicPropertiesDeployerTest {
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private ApiService apiService;
+
+    private DynamicPropertiesDeployer deployer;
+
+    private final Date updatedAt = new Date();
+
+    @Before
+    public void setUp() {
+        deployer = new DynamicPropertiesDeployer(vertx, apiService, 1000);
+    }
+
+    @Test
+    public void shouldDeployEachApiOnce() {
+        mockApi("api-1", updatedAt);
+        mockApi("api-2", updatedAt);
+
+        deployer.deploy("api-1", updatedAt);
+        deployer.deploy("api-2", updatedAt);
+        deployer.deploy("api-1", updatedAt);
+
+        verifyZeroInteractions(apiService);
+        // a single flush is scheduled for the whole batch
+        verify(vertx, times(1)).setTimer(anyLong(), any());
+
+        deployer.flush();
+
+        verify(apiService, times(1)).deploy(eq("api-1"), any(), eq(EventType.PUBLISH_API), any());
+        verify(apiService, times(1)).deploy(eq("api-2"), any(), eq(EventType.PUBLISH_API), any());
+    }
+
+    @Test
+    public void shouldScheduleNewFlushAfterFlush() {
+        mockApi("api-1", updatedAt);
+
+        deployer.deploy("api-1", updatedAt);
+        deployer.flush();
+        deployer.deploy("api-1", updatedAt);
+
+        verify(vertx, times(2)).setTimer(anyLong(), any());
+        verify(apiService, times(1)).deploy(eq("api-1"), any(), eq(EventType.PUBLISH_API), any());
+    }
+
+    @Test
+    public void shouldNotDeployApiUpdatedSinceItsDynamicProperties() {
+        mockApi("api-1", new Date(updatedAt.getTime() + 500));
+
+        deployer.deploy("api-1", updatedAt);
+        assertTrue(deployer.isPending("api-1", updatedAt));
+        deployer.flush();
+
+        assertFalse(deployer.isPending("api-1", updatedAt));
+        verify(apiService, never()).deploy(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldClearAuthenticationAfterFlush() {
+        mockApi("api-1", updatedAt);
+
+        deployer.deploy("api-1", updatedAt);
+        deployer.flush();
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private void mockApi(String apiId, Date updatedAt) {
+        ApiEntity api = new ApiEntity();
+        api.setId(apiId);
+        api.setUpdatedAt(updatedAt);
+        when(apiService.findById(apiId)).thenReturn(api);
+    }
+}
@@ -15,18 +15,29 @@
  */
 package io.gravitee.rest.api.services.dynamicproperties;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.services.dynamicproperties.DynamicPropertyUpdater;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import io.gravitee.rest.api.services.dynamicproperties.provider.Provider;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -42,6 +53,12 @@ public class DynamicPropertyUpdaterTest {
     @Mock
     private Provider provider;
 
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private DynamicPropertiesDeployer deployer;
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
@@ -82,4 +99,83 @@ public class DynamicPropertyUpdaterTest {
 
         poller.handle(1L);
     }
+
+    @Test
+    public void shouldNotUpdateUnchangedProperties() {
+        when(apiEntity.getId()).thenReturn("api-id");
+        ApiEntity latestApi = new ApiEntity();
+        latestApi.setId("api-id");
+        when(apiService.findById("api-id")).thenReturn(latestApi);
+        when(apiService.isSynchronized("api-id")).thenReturn(true);
+        final Date updatedAt = new Date();
+        when(apiService.update(eq("api-id"), any()))
+            .thenAnswer(
+                invocation -> {
+                    ApiEntity updatedApi = new ApiEntity();
+                    updatedApi.setId("api-id");
+                    updatedApi.setUpdatedAt(updatedAt);
+                    return updatedApi;
+                }
+            );
+        poller.setApiService(apiService);
+        poller.setDeployer(deployer);
+
+        when(provider.get())
+            .thenAnswer(
+                invocation ->
+                    CompletableFuture.completedFuture(
+                        (Collection<DynamicProperty>) Collections.singletonList(new DynamicProperty("my-key", "my-value"))
+                    )
+            );
+
+        poller.handle(1L);
+        poller.handle(2L);
+        poller.handle(3L);
+
+        verify(apiService, times(1)).findById("api-id");
+        verify(apiService, times(1)).update(eq("api-id"), any());
+        verify(deployer, times(1)).deploy("api-id", updatedAt);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(3, poller.getPolls());
+        assertEquals(2, poller.getUnchangedPolls());
+        assertEquals(1, poller.getUpdates());
+        assertEquals(0, poller.getFailures());
+    }
+
+    @Test
+    public void shouldUpdateChangedProperties() {
+        when(apiEntity.getId()).thenReturn("api-id");
+        when(apiService.findById("api-id"))
+            .thenAnswer(
+                invocation -> {
+                    ApiEntity latestApi = new ApiEntity();
+                    latestApi.setId("api-id");
+                    return latestApi;
+                }
+            );
+        when(apiService.isSynchronized("api-id")).thenReturn(false);
+        when(apiService.update(eq("api-id"), any())).thenReturn(new ApiEntity());
+        poller.setApiService(apiService);
+        poller.setDeployer(deployer);
+
+        when(provider.get())
+            .thenReturn(
+                CompletableFuture.completedFuture(
+                    (Collection<DynamicProperty>) Collections.singletonList(new DynamicProperty("my-key", "my-value"))
+                )
+            )
+            .thenReturn(
+                CompletableFuture.completedFuture(
+                    (Collection<DynamicProperty>) Collections.singletonList(new DynamicProperty("my-key", "my-other-value"))
+                )
+            );
+
+        poller.handle(1L);
+        poller.handle(2L);
+
+        verify(apiService, times(2)).update(eq("api-id"), any());
+        verify(deployer, times(0)).deploy(any(), any());
+        assertEquals(0, poller.getUnchangedPolls());
+        assertEquals(2, poller.getUpdates());
+    }
 }
@@ -23,6 +23,7 @@ import io.gravitee.rest.api.model.command.CommandQuery;
 import io.gravitee.rest.api.model.command.CommandSearchIndexerEntity;
 import io.gravitee.rest.api.model.command.CommandTags;
 import io.gravitee.rest.api.service.CommandService;
+import io.gravitee.rest.api.service.metrics.ScheduledJobMetrics;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import java.io.IOException;
 import java.time.Instant;
@@ -50,6 +51,9 @@ public class ScheduledSearchIndexerService extends AbstractService implements Ru
     @Autowired
     private TaskScheduler scheduler;
 
+    @Autowired
+    private ScheduledJobMetrics scheduledJobMetrics;
+
     @Value("${services.search_indexer.cron:*/5 * * * * *}")
     private String cronTrigger;
 
@@ -76,7 +80,7 @@ public class ScheduledSearchIndexerService extends AbstractService implements Ru
         if (enabled) {
             super.doStart();
             logger.info("Search Indexer service has been initialized with cron [{}]", cronTrigger);
-            scheduler.schedule(this, new CronTrigger(cronTrigger));
+            scheduler.schedule(scheduledJobMetrics.timed("search_indexer", this), new CronTrigger(cronTrigger));
         } else {
             logger.warn("Search Indexer service has been disabled");
         }
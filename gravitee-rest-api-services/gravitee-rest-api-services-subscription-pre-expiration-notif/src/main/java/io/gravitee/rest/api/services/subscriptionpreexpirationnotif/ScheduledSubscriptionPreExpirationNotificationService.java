@@ -24,6 +24,7 @@ import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.builder.EmailNotificationBuilder;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.metrics.ScheduledJobMetrics;
 import io.gravitee.rest.api.service.notification.NotificationParamsBuilder;
 import java.time.Duration;
 import java.time.Instant;
@@ -66,6 +67,9 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
     @Autowired
     private TaskScheduler scheduler;
 
+    @Autowired
+    private ScheduledJobMetrics scheduledJobMetrics;
+
     @Value("#{'${services.subscription.pre-expiration-notification-schedule:90,45,30}'.split(',')}")
     private List<Integer> configPreExpirationNotificationSchedule;
 
@@ -91,7 +95,7 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
             notificationDays = getCleanedNotificationDays(configPreExpirationNotificationSchedule);
 
             logger.info("Subscription Pre Expiration Notification service has been initialized with cron [{}]", cronTrigger);
-            scheduler.schedule(this, new CronTrigger(cronTrigger));
+            scheduler.schedule(scheduledJobMetrics.timed("subscription_pre_expiration_notification", this), new CronTrigger(cronTrigger));
         } else {
             logger.warn("Subscription Pre Expiration Notification service has been disabled");
         }
@@ -24,6 +24,7 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.SubscriptionService;
+import io.gravitee.rest.api.service.metrics.ScheduledJobMetrics;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
@@ -48,6 +49,9 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
     @Autowired
     private TaskScheduler scheduler;
 
+    @Autowired
+    private ScheduledJobMetrics scheduledJobMetrics;
+
     @Value("${services.subscriptions.cron:*/5 * * * * *}")
     private String cronTrigger;
 
@@ -72,7 +76,7 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
         if (enabled) {
             super.doStart();
             logger.info("Subscriptions Refresher service has been initialized with cron [{}]", cronTrigger);
-            scheduler.schedule(this, new CronTrigger(cronTrigger));
+            scheduler.schedule(scheduledJobMetrics.timed("subscriptions", this), new CronTrigger(cronTrigger));
         } else {
             logger.warn("Subscriptions Refresher service has been disabled");
         }
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.services.sync;
 
 import io.gravitee.common.service.AbstractService;
+import io.gravitee.rest.api.service.metrics.ScheduledJobMetrics;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
@@ -39,6 +40,9 @@ public class ScheduledSyncService extends AbstractService implements Runnable {
     @Autowired
     private TaskScheduler scheduler;
 
+    @Autowired
+    private ScheduledJobMetrics scheduledJobMetrics;
+
     @Value("${services.sync.cron:*/5 * * * * *}")
     private String cronTrigger;
 
@@ -61,7 +65,7 @@ public class ScheduledSyncService extends AbstractService implements Runnable {
                 logger.info("Sync service has been initialized with cron [{}]", cronTrigger);
                 // Sync must start only when doStart() is invoked, that's the reason why we are not
                 // using @Scheduled annotation on doSync() method.
-                scheduler.schedule(this, new CronTrigger(cronTrigger));
+                scheduler.schedule(scheduledJobMetrics.timed("sync", this), new CronTrigger(cronTrigger));
             } else {
                 logger.warn("Sync service has been disabled");
             }
@@ -33,6 +33,7 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.EnvironmentService;
 import io.gravitee.rest.api.service.MembershipService;
+import io.gravitee.rest.api.service.ReadinessService;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import java.io.IOException;
@@ -92,6 +93,9 @@ public class SyncManager {
     @Autowired
     private ApiService apiService;
 
+    @Autowired
+    private ReadinessService readinessService;
+
     private final AtomicLong counter = new AtomicLong(0);
 
     private long lastRefreshAt = -1;
@@ -101,20 +105,29 @@ public class SyncManager {
         logger.debug("Refreshing state...");
 
         long nextLastRefreshAt = System.currentTimeMillis();
+        boolean synchronizedState = true;
 
         try {
             synchronizeApis(nextLastRefreshAt);
         } catch (Exception ex) {
+            synchronizedState = false;
             logger.error("An error occurs while synchronizing APIs", ex);
         }
 
         try {
             synchronizeDictionaries(nextLastRefreshAt);
         } catch (Exception ex) {
+            synchronizedState = false;
             logger.error("An error occurs while synchronizing dictionaries", ex);
         }
 
-        lastRefreshAt = nextLastRefreshAt;
+        // The initial load is done again until it succeeds: the next ones only look at the latest events
+        if (lastRefreshAt != -1 || synchronizedState) {
+            if (lastRefreshAt == -1) {
+                readinessService.ready(ReadinessService.SYNC);
+            }
+            lastRefreshAt = nextLastRefreshAt;
+        }
         logger.debug("Synchronization #{} ended at {}", counter.get(), Instant.now());
     }
 
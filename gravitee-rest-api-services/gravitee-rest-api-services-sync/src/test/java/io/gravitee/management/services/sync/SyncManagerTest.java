@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.sync;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.DictionaryRepository;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.rest.api.service.ReadinessService;
+import io.gravitee.rest.api.services.sync.SyncManager;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SyncManagerTest {
+
+    @InjectMocks
+    private SyncManager syncManager = new SyncManager();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ReadinessService readinessService;
+
+    @Test
+    public void shouldRetryInitialLoadUntilItSucceeds() throws Exception {
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class)))
+            .thenThrow(new IllegalStateException("repository down"))
+            .thenReturn(Collections.emptyList());
+        when(dictionaryRepository.findAll()).thenReturn(Collections.emptySet());
+
+        syncManager.refresh();
+
+        verify(readinessService, never()).ready(any());
+
+        // The initial load is done again instead of only looking at the latest events
+        syncManager.refresh();
+
+        verify(apiRepository, times(2)).search(isNull(), any(ApiFieldExclusionFilter.class));
+        verify(dictionaryRepository, times(2)).findAll();
+        verify(eventRepository, never()).search(any(EventCriteria.class));
+        verify(readinessService, times(1)).ready(ReadinessService.SYNC);
+    }
+
+    @Test
+    public void shouldOnlyLookAtLatestEventsOnceLoaded() throws Exception {
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.emptyList());
+        when(dictionaryRepository.findAll()).thenReturn(Collections.emptySet());
+        when(eventRepository.search(any(EventCriteria.class))).thenReturn(Collections.emptyList());
+
+        syncManager.refresh();
+        syncManager.refresh();
+
+        verify(apiRepository, times(1)).search(isNull(), any(ApiFieldExclusionFilter.class));
+        verify(dictionaryRepository, times(1)).findAll();
+        // Latest API and dictionary events
+        verify(eventRepository, times(2)).search(any(EventCriteria.class));
+        verify(readinessService, times(1)).ready(ReadinessService.SYNC);
+    }
+
+    @Test
+    public void shouldStayReadyIfLatestEventsFail() throws Exception {
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.emptyList());
+        when(dictionaryRepository.findAll()).thenReturn(Collections.emptySet());
+        when(eventRepository.search(any(EventCriteria.class))).thenThrow(new IllegalStateException("repository down"));
+
+        syncManager.refresh();
+        syncManager.refresh();
+
+        // A failure after the initial load only delays the next events, the node stays ready
+        verify(apiRepository, times(1)).search(isNull(), any(ApiFieldExclusionFilter.class));
+        verify(readinessService, times(1)).ready(ReadinessService.SYNC);
+    }
+}
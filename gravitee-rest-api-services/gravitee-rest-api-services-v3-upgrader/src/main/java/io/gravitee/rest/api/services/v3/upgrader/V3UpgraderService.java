@@ -15,12 +15,15 @@
  */
 package io.gravitee.rest.api.services.v3.upgrader;
 
+import static io.gravitee.rest.api.service.InstallationService.UPGRADER_VERSION_PREFIX;
+
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.IdentityProviderRepository;
 import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.*;
+import io.gravitee.rest.api.service.InstallationService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.common.UuidString;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
@@ -43,6 +46,8 @@ public class V3UpgraderService extends AbstractService {
      */
     private final Logger logger = LoggerFactory.getLogger(V3UpgraderService.class);
 
+    private static final String VERSION = "1";
+
     @Autowired
     private IdentityProviderRepository identityProviderRepository;
 
@@ -52,6 +57,9 @@ public class V3UpgraderService extends AbstractService {
     @Autowired
     private MembershipRepository membershipRepository;
 
+    @Autowired
+    private InstallationService installationService;
+
     @Value("${services.v3-upgrader.enabled:true}")
     private boolean enabled;
 
@@ -65,8 +73,16 @@ public class V3UpgraderService extends AbstractService {
         if (enabled) {
             super.doStart();
             logger.info("v3 Upgrader service is enabled");
+            final String versionKey = UPGRADER_VERSION_PREFIX + V3UpgraderService.class.getSimpleName();
+            if (VERSION.equals(installationService.getOrInitialize().getAdditionalInformation().get(versionKey))) {
+                logger.info("v3 upgrade already applied");
+                return;
+            }
+            final long start = System.currentTimeMillis();
             convertIDPRoleMapping();
             moveIdpPermission();
+            installationService.putAdditionalInformation(versionKey, VERSION);
+            logger.info("v3 upgrade done in {} ms", System.currentTimeMillis() - start);
         } else {
             logger.info("v3 Upgrader service has been disabled");
         }
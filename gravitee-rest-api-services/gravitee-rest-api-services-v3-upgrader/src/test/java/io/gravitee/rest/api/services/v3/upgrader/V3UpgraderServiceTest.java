@@ -21,11 +21,14 @@ import static org.mockito.Mockito.*;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.IdentityProviderRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.IdentityProvider;
 import io.gravitee.repository.management.model.Role;
 import io.gravitee.repository.management.model.RoleReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
+import io.gravitee.rest.api.model.InstallationEntity;
+import io.gravitee.rest.api.service.InstallationService;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +39,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -53,6 +57,12 @@ public class V3UpgraderServiceTest {
     @Mock
     RoleRepository roleRepository;
 
+    @Mock
+    MembershipRepository membershipRepository;
+
+    @Mock
+    InstallationService installationService;
+
     @Test
     public void shouldUpdateIdentityProvidersWithOrganizationRole() throws TechnicalException {
         String[] roles = { "1:ADMIN", "2:USER" };
@@ -157,4 +167,31 @@ public class V3UpgraderServiceTest {
         verify(roleRepository, never()).findByScopeAndNameAndReferenceIdAndReferenceType(any(), any(), any(), any());
         verify(identityProviderRepository, never()).update(any());
     }
+
+    @Test
+    public void shouldRecordUpgrade() throws Exception {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        InstallationEntity installation = new InstallationEntity();
+        installation.setAdditionalInformation(new HashMap<>());
+        when(installationService.getOrInitialize()).thenReturn(installation);
+
+        service.doStart();
+
+        verify(identityProviderRepository).findAll();
+        verify(roleRepository).findByScopeAndReferenceIdAndReferenceType(any(), any(), any());
+        verify(installationService).putAdditionalInformation("UPGRADER_VERSION_V3UpgraderService", "1");
+    }
+
+    @Test
+    public void shouldNotUpgradeIfAlreadyApplied() throws Exception {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        InstallationEntity installation = new InstallationEntity();
+        installation.setAdditionalInformation(Collections.singletonMap("UPGRADER_VERSION_V3UpgraderService", "1"));
+        when(installationService.getOrInitialize()).thenReturn(installation);
+
+        service.doStart();
+
+        verifyNoInteractions(identityProviderRepository, roleRepository, membershipRepository);
+        verify(installationService, never()).putAdditionalInformation(any(), any());
+    }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.standalone.healthcheck;
+
+import io.gravitee.node.api.healthcheck.Probe;
+import io.gravitee.node.api.healthcheck.Result;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.rest.api.service.ReadinessService;
+import io.vertx.core.Vertx;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Probe used to check that the Management API is ready to serve requests: its upgraders ran, its search index is built,
+ * the sync service loaded the deployed APIs, its HTTP server is started and its management repository answers.
+ *
+ * The {@link GraviteeApisProbe} only checks that the node is alive. The repository is checked in the background, one
+ * check at a time, and the probe answers from the last known status so that a slow repository does not slow it down.
+ *
+ * It is not visible by default, so that <code>/_node/health</code> stays a liveness check that does not fail during
+ * the startup. Readiness is checked with <code>/_node/health?probes=gravitee-apis-readiness</code>.
+ *
+ * @author GraviteeSource Team
+ */
+public class GraviteeApisReadinessProbe implements Probe {
+
+    @Autowired
+    private ReadinessService readinessService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private Vertx vertx;
+
+    private volatile Result repositoryStatus = Result.notReady();
+
+    private final AtomicBoolean checkingRepository = new AtomicBoolean();
+
+    @Override
+    public String id() {
+        return "gravitee-apis-readiness";
+    }
+
+    @Override
+    public boolean isVisibleByDefault() {
+        return false;
+    }
+
+    @Override
+    public CompletionStage<Result> check() {
+        checkRepository();
+
+        final Set<String> pendingSubsystems = readinessService.getPendingSubsystems();
+        if (!pendingSubsystems.isEmpty()) {
+            return CompletableFuture.completedFuture(Result.unhealthy("Waiting for " + String.join(", ", pendingSubsystems)));
+        }
+        return CompletableFuture.completedFuture(repositoryStatus);
+    }
+
+    private void checkRepository() {
+        if (!checkingRepository.compareAndSet(false, true)) {
+            return;
+        }
+
+        vertx.<Result>executeBlocking(
+            promise -> {
+                // Search for an event to check repository connection
+                try {
+                    final long now = System.currentTimeMillis();
+                    eventRepository.search(new EventCriteria.Builder().from(now).to(now).build());
+                    promise.complete(Result.healthy());
+                } catch (Exception ex) {
+                    promise.complete(Result.unhealthy(ex));
+                }
+            },
+            false,
+            result -> {
+                repositoryStatus = result.succeeded() ? result.result() : Result.unhealthy(result.cause());
+                checkingRepository.set(false);
+            }
+        );
+    }
+}
@@ -20,6 +20,7 @@ import io.gravitee.rest.api.management.rest.resource.GraviteeManagementApplicati
 import io.gravitee.rest.api.management.security.SecurityManagementConfiguration;
 import io.gravitee.rest.api.portal.rest.resource.GraviteePortalApplication;
 import io.gravitee.rest.api.portal.security.SecurityPortalConfiguration;
+import io.gravitee.rest.api.service.ReadinessService;
 import io.gravitee.rest.api.standalone.jetty.handler.NoContentOutputErrorHandler;
 import java.util.ArrayList;
 import java.util.EnumSet;
@@ -28,6 +29,7 @@ import javax.servlet.DispatcherType;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
@@ -53,6 +55,12 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
     @Autowired
     private Server server;
 
+    @Autowired
+    private JettyConfiguration jettyConfiguration;
+
+    @Autowired
+    private ReadinessService readinessService;
+
     private ApplicationContext applicationContext;
 
     @Value("${http.api.management.enabled:true}")
@@ -107,6 +115,7 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
 
         // start the server
         server.start();
+        readinessService.ready(ReadinessService.HTTP);
     }
 
     protected ServletContextHandler configureAPI(
@@ -135,9 +144,22 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
             "/*",
             EnumSet.allOf(DispatcherType.class)
         );
+
+        if (jettyConfiguration.isCompressionEnabled()) {
+            childContext.setGzipHandler(gzipHandler());
+        }
         return childContext;
     }
 
+    private GzipHandler gzipHandler() {
+        GzipHandler gzipHandler = new GzipHandler();
+        gzipHandler.setMinGzipSize(jettyConfiguration.getCompressionMinSize());
+        gzipHandler.setCompressionLevel(jettyConfiguration.getCompressionLevel());
+        gzipHandler.setIncludedMimeTypes(jettyConfiguration.getCompressionMimeTypes());
+        gzipHandler.setIncludedMethods(jettyConfiguration.getCompressionMethods());
+        return gzipHandler;
+    }
+
     @Override
     protected void doStop() throws Exception {
         server.stop();
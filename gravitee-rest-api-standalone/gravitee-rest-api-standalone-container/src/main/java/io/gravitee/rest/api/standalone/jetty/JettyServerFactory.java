@@ -15,12 +15,19 @@
  */
 package io.gravitee.rest.api.standalone.jetty;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jetty.JettyConnectionMetrics;
+import io.micrometer.core.instrument.binder.jetty.JettyServerThreadPoolMetrics;
 import java.lang.management.ManagementFactory;
-import java.util.concurrent.ArrayBlockingQueue;
-import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
 import org.eclipse.jetty.jmx.MBeanContainer;
 import org.eclipse.jetty.server.*;
 import org.eclipse.jetty.server.handler.StatisticsHandler;
+import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.springframework.beans.factory.FactoryBean;
@@ -38,6 +45,9 @@ public class JettyServerFactory implements FactoryBean<Server> {
     @Autowired
     private JettyConfiguration jettyConfiguration;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public Server getObject() throws Exception {
         // Setup ThreadPool
@@ -45,7 +55,11 @@ public class JettyServerFactory implements FactoryBean<Server> {
             jettyConfiguration.getPoolMaxThreads(),
             jettyConfiguration.getPoolMinThreads(),
             jettyConfiguration.getPoolIdleTimeout(),
-            new ArrayBlockingQueue<Runnable>(jettyConfiguration.getPoolQueueSize())
+            new BlockingArrayQueue<>(
+                jettyConfiguration.getPoolMinThreads(),
+                jettyConfiguration.getPoolMinThreads(),
+                jettyConfiguration.getPoolQueueSize()
+            )
         );
         threadPool.setName("gravitee-listener");
 
@@ -99,21 +113,61 @@ public class JettyServerFactory implements FactoryBean<Server> {
             HttpConfiguration httpsConfig = new HttpConfiguration(httpConfig);
             httpsConfig.addCustomizer(new SecureRequestCustomizer());
 
-            ServerConnector https = new ServerConnector(
-                server,
-                new SslConnectionFactory(sslContextFactory, HttpVersion.HTTP_1_1.asString()),
-                new HttpConnectionFactory(httpsConfig)
-            );
+            HttpConnectionFactory http1 = new HttpConnectionFactory(httpsConfig);
+            ServerConnector https;
+
+            if (jettyConfiguration.isHttp2Enabled()) {
+                // HTTP/2 is negotiated through ALPN, HTTP/1.1 remaining the protocol of the clients which do not support it
+                sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+                ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
+                alpn.setDefaultProtocol(http1.getProtocol());
+
+                https =
+                    new ServerConnector(
+                        server,
+                        jettyConfiguration.getAcceptors(),
+                        jettyConfiguration.getSelectors(),
+                        new SslConnectionFactory(sslContextFactory, alpn.getProtocol()),
+                        alpn,
+                        new HTTP2ServerConnectionFactory(httpsConfig),
+                        http1
+                    );
+            } else {
+                https =
+                    new ServerConnector(
+                        server,
+                        jettyConfiguration.getAcceptors(),
+                        jettyConfiguration.getSelectors(),
+                        new SslConnectionFactory(sslContextFactory, http1.getProtocol()),
+                        http1
+                    );
+            }
             https.setHost(jettyConfiguration.getHttpHost());
             https.setPort(jettyConfiguration.getHttpPort());
+            https.setIdleTimeout(jettyConfiguration.getIdleTimeout());
             server.addConnector(https);
         } else {
-            ServerConnector http = new ServerConnector(
-                server,
-                jettyConfiguration.getAcceptors(),
-                jettyConfiguration.getSelectors(),
-                new HttpConnectionFactory(httpConfig)
-            );
+            ServerConnector http;
+
+            if (jettyConfiguration.isHttp2Enabled()) {
+                // h2c, either upgraded from HTTP/1.1 or with prior knowledge
+                http =
+                    new ServerConnector(
+                        server,
+                        jettyConfiguration.getAcceptors(),
+                        jettyConfiguration.getSelectors(),
+                        new HttpConnectionFactory(httpConfig),
+                        new HTTP2CServerConnectionFactory(httpConfig)
+                    );
+            } else {
+                http =
+                    new ServerConnector(
+                        server,
+                        jettyConfiguration.getAcceptors(),
+                        jettyConfiguration.getSelectors(),
+                        new HttpConnectionFactory(httpConfig)
+                    );
+            }
             http.setHost(jettyConfiguration.getHttpHost());
             http.setPort(jettyConfiguration.getHttpPort());
             http.setIdleTimeout(jettyConfiguration.getIdleTimeout());
@@ -121,6 +175,10 @@ public class JettyServerFactory implements FactoryBean<Server> {
             server.addConnector(http);
         }
 
+        // Expose the thread pool saturation and the connections as metrics
+        new JettyServerThreadPoolMetrics(threadPool, Tags.empty()).bindTo(meterRegistry);
+        JettyConnectionMetrics.addToAllConnectors(server, meterRegistry);
+
         // Setup Jetty statistics
         if (jettyConfiguration.isStatisticsEnabled()) {
             StatisticsHandler stats = new StatisticsHandler();
@@ -24,8 +24,12 @@ import io.gravitee.rest.api.standalone.jetty.JettyConfiguration;
 import io.gravitee.rest.api.standalone.jetty.JettyEmbeddedContainer;
 import io.gravitee.rest.api.standalone.jetty.JettyServerFactory;
 import io.gravitee.rest.api.standalone.node.GraviteeApisNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Import;
 
 /**
@@ -41,6 +45,21 @@ public class StandaloneConfiguration {
         return new NodeFactory(GraviteeApisNode.class);
     }
 
+    /**
+     * When <code>services.metrics.enabled</code> is set, Vert.x is created with a Prometheus registry, scraped by the node
+     * management API on <code>/_node/metrics/prometheus</code>. It is added to the global registry so that every meter
+     * of the REST APIs, repositories and services is exposed there. The registry is only available once Vert.x is created.
+     */
+    @Bean
+    @DependsOn("vertxFactory")
+    public MeterRegistry meterRegistry() {
+        MeterRegistry registry = BackendRegistries.getDefaultNow();
+        if (registry != null) {
+            Metrics.addRegistry(registry);
+        }
+        return Metrics.globalRegistry;
+    }
+
     @Bean
     public JettyConfiguration jettyConfiguration() {
         return new JettyConfiguration();
@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.standalone.healthcheck;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.gravitee.node.api.healthcheck.Result;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.rest.api.service.ReadinessService;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GraviteeApisReadinessProbeTest {
+
+    @InjectMocks
+    private GraviteeApisReadinessProbe probe = new GraviteeApisReadinessProbe();
+
+    @Mock
+    private ReadinessService readinessService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private Vertx vertx;
+
+    @Before
+    public void init() {
+        when(readinessService.getPendingSubsystems()).thenReturn(Collections.emptySet());
+    }
+
+    @Test
+    public void shouldNotBeVisibleByDefault() {
+        assertFalse(probe.isVisibleByDefault());
+    }
+
+    @Test
+    public void shouldWaitForPendingSubsystems() throws Exception {
+        when(readinessService.getPendingSubsystems()).thenReturn(Collections.singleton(ReadinessService.SYNC));
+
+        final Result result = check();
+
+        assertFalse(result.isHealthy());
+        assertTrue(result.getMessage().contains(ReadinessService.SYNC));
+    }
+
+    @Test
+    public void shouldAnswerFromCachedRepositoryStatus() throws Exception {
+        // No repository check has completed yet
+        assertFalse(check().isHealthy());
+        assertFalse(check().isHealthy());
+        // The second check does not start another repository check while the first one is running
+        verify(vertx, times(1)).executeBlocking(any(), eq(false), any());
+
+        completeRepositoryCheck();
+
+        assertTrue(check().isHealthy());
+        verify(eventRepository, times(1)).search(any());
+        verify(vertx, times(2)).executeBlocking(any(), eq(false), any());
+    }
+
+    @Test
+    public void shouldReportRepositoryFailure() throws Exception {
+        when(eventRepository.search(any())).thenThrow(new IllegalStateException("repository down"));
+        check();
+
+        completeRepositoryCheck();
+
+        final Result result = check();
+        assertFalse(result.isHealthy());
+        assertTrue(result.getMessage().contains("repository down"));
+    }
+
+    private Result check() throws Exception {
+        return probe.check().toCompletableFuture().get();
+    }
+
+    /**
+     * Runs the last repository check submitted to the worker pool, and hands its result back to the probe.
+     */
+    @SuppressWarnings("unchecked")
+    private void completeRepositoryCheck() {
+        final ArgumentCaptor<Handler<Promise<Result>>> blockingCode = ArgumentCaptor.forClass(Handler.class);
+        final ArgumentCaptor<Handler<AsyncResult<Result>>> resultHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx, atLeastOnce()).executeBlocking(blockingCode.capture(), eq(false), resultHandler.capture());
+
+        final Promise<Result> promise = Promise.promise();
+        blockingCode.getValue().handle(promise);
+        resultHandler.getValue().handle(promise.future());
+    }
+}